@@ -0,0 +1,47 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and latency of {@link AdvertisementParser#parse} over {@link AdvertisementCorpus}.
+ */
+@State(Scope.Thread)
+public class AdvertisementParserBenchmark {
+
+  @Param({"IBEACON", "EDDYSTONE", "MANUFACTURER_HEAVY", "VENDOR_128", "MALFORMED"})
+  public AdvertisementCorpus corpus;
+
+  private byte[] data;
+
+  @Setup
+  public void setup() {
+    data = corpus.data;
+  }
+
+  @Benchmark
+  public Object parse() {
+    try {
+      return AdvertisementParser.parse(data);
+    } catch (RuntimeException e) {
+      // Malformed packets surface as exceptions; their cost is part of what we measure.
+      return e;
+    }
+  }
+
+  @Benchmark
+  public byte[] parseAndEncode() {
+    try {
+      return AdvertisementParser.parse(data).toByteArray();
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+}
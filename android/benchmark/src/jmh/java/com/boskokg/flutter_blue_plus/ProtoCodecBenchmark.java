@@ -0,0 +1,83 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+/**
+ * Cost of the messages sent over the method channel on the scan and notification paths.
+ */
+@State(Scope.Thread)
+public class ProtoCodecBenchmark {
+
+  private static final UUID SERVICE = UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb");
+  private static final UUID CHARACTERISTIC = UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb");
+
+  private Protos.ScanResult scanResult;
+  private byte[] scanResultBytes;
+  private byte[] notificationValue;
+  private int properties;
+
+  @Setup
+  public void setup() {
+    scanResult = Protos.ScanResult.newBuilder()
+        .setDevice(Protos.BluetoothDevice.newBuilder()
+            .setRemoteAddress(DeviceIds.pack("C4:7C:8D:6A:12:F0"))
+            .setName("Thermo-Hygrometer 0042")
+            .setType(Protos.BluetoothDevice.Type.LE))
+        .setAdvertisementData(AdvertisementParser.parse(AdvertisementCorpus.MANUFACTURER_HEAVY.data))
+        .setRssi(-67)
+        .build();
+    scanResultBytes = scanResult.toByteArray();
+    notificationValue = new byte[] {0x16, 0x48, 0x03, 0x2A, 0x03};
+    properties = 0x3A; // read, write, notify, indicate
+  }
+
+  @Benchmark
+  public byte[] encodeScanResult() {
+    return scanResult.toByteArray();
+  }
+
+  @Benchmark
+  public Protos.ScanResult decodeScanResult() throws InvalidProtocolBufferException {
+    return Protos.ScanResult.parseFrom(scanResultBytes);
+  }
+
+  @Benchmark
+  public byte[] encodeCharacteristicChanged() {
+    Protos.OnCharacteristicChanged.Builder p = Protos.OnCharacteristicChanged.newBuilder();
+    p.setRemoteAddress(DeviceIds.pack("C4:7C:8D:6A:12:F0"));
+    p.setCharacteristic(Protos.BluetoothCharacteristic.newBuilder()
+        .setRemoteAddress(DeviceIds.pack("C4:7C:8D:6A:12:F0"))
+        .setUuid(CHARACTERISTIC.toString())
+        .setServiceUuid(SERVICE.toString())
+        .setProperties(ProtoMaker.from(properties))
+        .setValue(ByteString.copyFrom(notificationValue)));
+    return p.build().toByteArray();
+  }
+
+  @Benchmark
+  public Protos.CharacteristicProperties characteristicProperties() {
+    return ProtoMaker.from(properties);
+  }
+
+  @Benchmark
+  public String uuidToString() {
+    return CHARACTERISTIC.toString();
+  }
+
+  @Benchmark
+  public UUID uuidFromShort() {
+    return UUID.fromString(String.format("%08x-0000-1000-8000-00805f9b34fb", 0x2A37L));
+  }
+}
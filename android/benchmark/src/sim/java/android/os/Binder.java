@@ -0,0 +1,30 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package android.os;
+
+/**
+ * Desktop stand-in for the framework binder. The real one reaches into native code from its
+ * static initializer, which runs as soon as a framework class with an AIDL callback stub (e.g.
+ * {@code BluetoothDevice}) is loaded. Only the constructor path of those stubs is covered.
+ */
+public abstract class Binder implements IBinder {
+  private IInterface mOwner;
+  private String mDescriptor;
+
+  public Binder() {}
+
+  public Binder(String descriptor) {
+    mDescriptor = descriptor;
+  }
+
+  public void attachInterface(IInterface owner, String descriptor) {
+    mOwner = owner;
+    mDescriptor = descriptor;
+  }
+
+  public IInterface queryLocalInterface(String descriptor) {
+    return descriptor != null && descriptor.equals(mDescriptor) ? mOwner : null;
+  }
+}
@@ -0,0 +1,33 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package android.os;
+
+/**
+ * Desktop stand-in for the framework build info, which is read from native system properties.
+ * The simulated API level defaults to 33 and can be changed with {@code -Dsim.sdk=N}.
+ */
+public class Build {
+
+  public static class VERSION {
+    public static final int SDK_INT = Integer.getInteger("sim.sdk", 33);
+  }
+
+  public static class VERSION_CODES {
+    public static final int KITKAT = 19;
+    public static final int LOLLIPOP = 21;
+    public static final int LOLLIPOP_MR1 = 22;
+    public static final int M = 23;
+    public static final int N = 24;
+    public static final int N_MR1 = 25;
+    public static final int O = 26;
+    public static final int O_MR1 = 27;
+    public static final int P = 28;
+    public static final int Q = 29;
+    public static final int R = 30;
+    public static final int S = 31;
+    public static final int S_V2 = 32;
+    public static final int TIRAMISU = 33;
+  }
+}
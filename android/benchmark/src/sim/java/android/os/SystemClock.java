@@ -0,0 +1,25 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package android.os;
+
+/**
+ * Desktop stand-in for the framework clocks, which are native. All of them run off
+ * {@link System#nanoTime()}, so they are monotonic but start at an arbitrary origin.
+ */
+public final class SystemClock {
+  private SystemClock() {}
+
+  public static long elapsedRealtimeNanos() {
+    return System.nanoTime();
+  }
+
+  public static long elapsedRealtime() {
+    return System.nanoTime() / 1000000;
+  }
+
+  public static long uptimeMillis() {
+    return System.nanoTime() / 1000000;
+  }
+}
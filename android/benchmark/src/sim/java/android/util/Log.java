@@ -0,0 +1,57 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package android.util;
+
+/**
+ * Desktop stand-in for the framework logger, whose real implementation is native. Shadows the
+ * android-all copy because source set output comes first on the simulation classpath.
+ */
+public final class Log {
+  public static final int VERBOSE = 2;
+  public static final int DEBUG = 3;
+  public static final int INFO = 4;
+  public static final int WARN = 5;
+  public static final int ERROR = 6;
+  public static final int ASSERT = 7;
+
+  // Framework chatter (e.g. "BT not enabled") would drown the report, so only warnings and up print.
+  private static final int MIN_LEVEL = WARN;
+
+  private Log() {}
+
+  public static int v(String tag, String msg) { return println(VERBOSE, tag, msg); }
+  public static int v(String tag, String msg, Throwable tr) { return println(VERBOSE, tag, msg + '\n' + getStackTraceString(tr)); }
+  public static int d(String tag, String msg) { return println(DEBUG, tag, msg); }
+  public static int d(String tag, String msg, Throwable tr) { return println(DEBUG, tag, msg + '\n' + getStackTraceString(tr)); }
+  public static int i(String tag, String msg) { return println(INFO, tag, msg); }
+  public static int i(String tag, String msg, Throwable tr) { return println(INFO, tag, msg + '\n' + getStackTraceString(tr)); }
+  public static int w(String tag, String msg) { return println(WARN, tag, msg); }
+  public static int w(String tag, String msg, Throwable tr) { return println(WARN, tag, msg + '\n' + getStackTraceString(tr)); }
+  public static int w(String tag, Throwable tr) { return println(WARN, tag, getStackTraceString(tr)); }
+  public static int e(String tag, String msg) { return println(ERROR, tag, msg); }
+  public static int e(String tag, String msg, Throwable tr) { return println(ERROR, tag, msg + '\n' + getStackTraceString(tr)); }
+  public static int wtf(String tag, String msg) { return println(ASSERT, tag, msg); }
+
+  public static boolean isLoggable(String tag, int level) {
+    return level >= MIN_LEVEL;
+  }
+
+  public static String getStackTraceString(Throwable tr) {
+    if (tr == null) {
+      return "";
+    }
+    java.io.StringWriter sw = new java.io.StringWriter();
+    tr.printStackTrace(new java.io.PrintWriter(sw));
+    return sw.toString();
+  }
+
+  public static int println(int priority, String tag, String msg) {
+    if (priority < MIN_LEVEL || "BluetoothDevice".equals(tag)) {
+      return 0;
+    }
+    System.err.println(tag + ": " + msg);
+    return msg.length();
+  }
+}
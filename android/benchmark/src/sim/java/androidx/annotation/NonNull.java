@@ -0,0 +1,8 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package androidx.annotation;
+
+/** Desktop stand-in for androidx, covering only what the plugin touches. */
+public @interface NonNull {}
@@ -0,0 +1,12 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package androidx.core.app;
+
+import android.app.Activity;
+
+/** Desktop stand-in for androidx, covering only what the plugin touches. */
+public class ActivityCompat {
+  public static void requestPermissions(Activity activity, String[] permissions, int requestCode) {}
+}
@@ -0,0 +1,15 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package androidx.core.content;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+
+/** Desktop stand-in for androidx, covering only what the plugin touches. */
+public class ContextCompat {
+  public static int checkSelfPermission(Context context, String permission) {
+    return PackageManager.PERMISSION_GRANTED;
+  }
+}
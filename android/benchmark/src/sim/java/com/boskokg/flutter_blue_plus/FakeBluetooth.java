@@ -0,0 +1,90 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattDescriptor;
+import android.bluetooth.BluetoothGattService;
+import android.bluetooth.le.ScanRecord;
+import android.bluetooth.le.ScanResult;
+
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Fake peripherals for the simulation. Service trees are built with the real framework classes
+ * (they are plain Java). {@link BluetoothDevice} and {@link BluetoothGatt} construct binder
+ * proxies, so they are allocated without running a constructor and only the fields behind the
+ * getters the plugin calls are filled in. With no Bluetooth service bound, {@code getName()} and
+ * {@code getType()} fall through to their "not enabled" defaults, like a device whose name was
+ * never resolved.
+ */
+class FakeBluetooth {
+
+  private static final UUID CCCD = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
+  private static final Objenesis objenesis = new ObjenesisStd();
+
+  static String address(int index) {
+    return String.format(Locale.US, "C4:7C:8D:%02X:%02X:%02X", (index >> 16) & 0xFF, (index >> 8) & 0xFF, index & 0xFF);
+  }
+
+  static BluetoothDevice device(int index) {
+    BluetoothDevice device = objenesis.newInstance(BluetoothDevice.class);
+    set(BluetoothDevice.class, device, "mAddress", address(index));
+    return device;
+  }
+
+  /** A Lollipop scan result, with the record parsed the way the Bluetooth stack does. */
+  static ScanResult scanResult(BluetoothDevice device, byte[] record, int rssi) {
+    return new ScanResult(device, ScanRecord.parseFromBytes(record), rssi, System.nanoTime());
+  }
+
+  /** A connected peripheral exposing one primary service with {@code count} notifying characteristics. */
+  static final class Peripheral {
+    final BluetoothDevice device;
+    final BluetoothGatt gatt;
+    final List<BluetoothGattCharacteristic> characteristics = new ArrayList<>();
+
+    Peripheral(int index, int count) {
+      device = device(index);
+      BluetoothGattService service = new BluetoothGattService(
+          UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb"), BluetoothGattService.SERVICE_TYPE_PRIMARY);
+      set(BluetoothGattService.class, service, "mDevice", device);
+      for (int i = 0; i < count; i++) {
+        BluetoothGattCharacteristic c = new BluetoothGattCharacteristic(
+            UUID.fromString(String.format(Locale.US, "%08x-0000-1000-8000-00805f9b34fb", 0x2A37 + i)),
+            BluetoothGattCharacteristic.PROPERTY_NOTIFY | BluetoothGattCharacteristic.PROPERTY_READ,
+            BluetoothGattCharacteristic.PERMISSION_READ);
+        c.addDescriptor(new BluetoothGattDescriptor(CCCD,
+            BluetoothGattDescriptor.PERMISSION_READ | BluetoothGattDescriptor.PERMISSION_WRITE));
+        service.addCharacteristic(c);
+        characteristics.add(c);
+      }
+      List<BluetoothGattService> services = new ArrayList<>();
+      services.add(service);
+      gatt = objenesis.newInstance(BluetoothGatt.class);
+      set(BluetoothGatt.class, gatt, "mDevice", device);
+      set(BluetoothGatt.class, gatt, "mServices", services);
+    }
+  }
+
+  private static void set(Class<?> type, Object target, String name, Object value) {
+    try {
+      Field f = type.getDeclaredField(name);
+      f.setAccessible(true);
+      f.set(target, value);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("cannot fake " + type.getSimpleName() + "." + name, e);
+    }
+  }
+}
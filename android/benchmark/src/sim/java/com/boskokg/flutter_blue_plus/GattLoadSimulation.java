@@ -0,0 +1,276 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGattCallback;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.le.ScanCallback;
+import android.bluetooth.le.ScanResult;
+import android.bluetooth.le.ScanSettings;
+import android.os.Build;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Replays scan results and characteristic notifications through the plugin's real callbacks
+ * ({@code getScanCallback18()} / {@code getScanCallback21()} and {@code mGattCallback}) on a desktop JVM and reports
+ * dispatch latency, main-thread queue depth and channel traffic.
+ *
+ * <pre>
+ *   gradle -p android/benchmark simulate -PsimArgs="--scan-rate 5000 --notify-rate 2000 --seconds 10"
+ * </pre>
+ *
+ * Options:
+ * <ul>
+ *   <li>{@code --scan-rate N} scan results per second (default 2000)</li>
+ *   <li>{@code --notify-rate N} notifications per second (default 2000)</li>
+ *   <li>{@code --devices N} distinct advertisers (default 200)</li>
+ *   <li>{@code --peripherals N} connected peripherals sending notifications (default 8)</li>
+ *   <li>{@code --characteristics N} notifying characteristics per peripheral (default 4)</li>
+ *   <li>{@code --binder-threads N} producer threads standing in for binder threads (default 2)</li>
+ *   <li>{@code --seconds N} run time (default 10)</li>
+ *   <li>{@code --dedup} keep allowDuplicates=false, as a scan without it would</li>
+ *   <li>{@code --trace} enable tracing while replaying and write the Chrome trace to
+ *       {@code build/sim-trace.json}</li>
+ *   <li>{@code --scan-api 18|21} scan callback to drive (default 21); the 21 path delivers
+ *       pre-parsed {@code ScanResult}s, so record parsing happens on the producer thread</li>
+ *   <li>{@code --bulk-channel task-queue|main|off} how scan results and notifications reach Dart:
+ *       the bulk event channel on a background task queue (default), the bulk event channel
+ *       through the main thread as on engines without task queues, or the method channel</li>
+ * </ul>
+ *
+ * The framework level comes from {@code -PsimSdk} (default 33); from 33 notifications use the
+ * value-carrying {@code onCharacteristicChanged} overload.
+ *
+ * Framework classes run from android-all with a handful of stand-ins for their native parts
+ * (see {@code android.util.Log}, {@code android.os.Binder}), so compare runs against each
+ * other rather than against a phone.
+ */
+public class GattLoadSimulation {
+
+  public static void main(String[] args) throws Exception {
+    Options o = Options.parse(args);
+
+    LatencyRecorder latency = new LatencyRecorder(4_000_000);
+    SimulatedMainThread mainThread = new SimulatedMainThread();
+    SimulatedMessenger messenger = new SimulatedMessenger(mainThread, latency, o.bulkChannel.equals("task-queue"));
+
+    FlutterBluePlusPlugin plugin = new FlutterBluePlusPlugin();
+    plugin.mainThreadExecutor = mainThread;
+    setField(plugin, "channel", new MethodChannel(messenger, "flutter_blue_plus/methods"));
+    // No radio here: results are injected straight into the scan callbacks below.
+    ScanSessions scanSessions = new ScanSessions(new ScanSessions.Scanner() {
+      @Override
+      public void start(Protos.ScanSettings settings) {}
+
+      @Override
+      public void stop() {}
+    }, null, plugin.metrics);
+    scanSessions.start(Protos.ScanSettings.newBuilder().setSessionId(1).setAllowDuplicates(!o.dedup).build());
+    setField(plugin, "scanSessions", scanSessions);
+    TraceLog trace = (TraceLog) getField(plugin, "trace");
+    trace.setEnabled(o.trace);
+    SpanTracer spans = (SpanTracer) getField(plugin, "spans");
+    spans.setEnabled(o.trace);
+    if (!o.bulkChannel.equals("off")) {
+      setField(plugin, "events", new BulkEventChannel(messenger, "flutter_blue_plus/events", mainThread, plugin.metrics, spans));
+    }
+
+    Method m = FlutterBluePlusPlugin.class.getDeclaredMethod("getScanCallback18");
+    m.setAccessible(true);
+    BluetoothAdapter.LeScanCallback scanCallback18 = (BluetoothAdapter.LeScanCallback) m.invoke(plugin);
+    m = FlutterBluePlusPlugin.class.getDeclaredMethod("getScanCallback21");
+    m.setAccessible(true);
+    ScanCallback scanCallback21 = (ScanCallback) m.invoke(plugin);
+    Field f = FlutterBluePlusPlugin.class.getDeclaredField("mGattCallback");
+    f.setAccessible(true);
+    BluetoothGattCallback gattCallback = (BluetoothGattCallback) f.get(plugin);
+
+    BluetoothDevice[] advertisers = new BluetoothDevice[o.scanDevices];
+    for (int i = 0; i < advertisers.length; i++) {
+      advertisers[i] = FakeBluetooth.device(i);
+    }
+    FakeBluetooth.Peripheral[] peripherals = new FakeBluetooth.Peripheral[o.peripherals];
+    for (int i = 0; i < peripherals.length; i++) {
+      peripherals[i] = new FakeBluetooth.Peripheral(0x100000 + i, o.characteristics);
+    }
+    AdvertisementCorpus[] corpus = AdvertisementCorpus.values();
+
+    long[] sent = new long[2];
+    long startNanos = System.nanoTime();
+    long endNanos = startNanos + o.seconds * 1_000_000_000L;
+    List<Thread> producers = new ArrayList<>();
+    for (int t = 0; t < o.binderThreads; t++) {
+      final int thread = t;
+      Thread p = new Thread(() -> {
+        long scanInterval = o.scanRate > 0 ? 1_000_000_000L * o.binderThreads / o.scanRate : Long.MAX_VALUE;
+        long notifyInterval = o.notifyRate > 0 ? 1_000_000_000L * o.binderThreads / o.notifyRate : Long.MAX_VALUE;
+        long nextScan = o.scanRate > 0 ? startNanos : Long.MAX_VALUE;
+        long nextNotify = o.notifyRate > 0 ? startNanos : Long.MAX_VALUE;
+        long scans = 0;
+        long notifications = 0;
+        byte[] value = new byte[8];
+        while (true) {
+          long now = System.nanoTime();
+          if (now >= endNanos) {
+            break;
+          }
+          if (now >= nextScan) {
+            int i = (int) ((scans * o.binderThreads + thread) % advertisers.length);
+            byte[] record = corpus[i % (corpus.length - 1)].data; // skip MALFORMED, it would throw
+            int rssi = -40 - (i % 50);
+            if (o.scanApi >= 21) {
+              ScanResult result = FakeBluetooth.scanResult(advertisers[i], record, rssi);
+              SimulatedMainThread.enter();
+              scanCallback21.onScanResult(ScanSettings.CALLBACK_TYPE_ALL_MATCHES, result);
+            } else {
+              SimulatedMainThread.enter();
+              scanCallback18.onLeScan(advertisers[i], rssi, record);
+            }
+            scans++;
+            nextScan += scanInterval;
+          } else if (now >= nextNotify) {
+            FakeBluetooth.Peripheral peripheral = peripherals[(int) (notifications % peripherals.length)];
+            BluetoothGattCharacteristic c = peripheral.characteristics.get(
+                (int) ((notifications / peripherals.length) % peripheral.characteristics.size()));
+            value[0] = (byte) notifications;
+            if (Build.VERSION.SDK_INT >= 33) {
+              // Like the API 33 stack: a fresh array per notification, handed over to the callback.
+              SimulatedMainThread.enter();
+              gattCallback.onCharacteristicChanged(peripheral.gatt, c, value.clone());
+            } else {
+              synchronized (c) {
+                c.setValue(value);
+                SimulatedMainThread.enter();
+                gattCallback.onCharacteristicChanged(peripheral.gatt, c);
+              }
+            }
+            notifications++;
+            nextNotify += notifyInterval;
+          } else {
+            LockSupport.parkNanos(Math.min(nextScan, nextNotify) - now);
+          }
+        }
+        synchronized (sent) {
+          sent[0] += scans;
+          sent[1] += notifications;
+        }
+      }, "sim-binder-" + t);
+      producers.add(p);
+      p.start();
+    }
+    for (Thread p : producers) {
+      p.join();
+    }
+    long produceNanos = System.nanoTime() - startNanos;
+    // Wait for the encoder pipeline and the bulk channel to go quiet as well as the main thread.
+    boolean drained;
+    long delivered;
+    do {
+      delivered = messenger.messages();
+      drained = mainThread.drain(30_000);
+      Thread.sleep(100);
+    } while (drained && messenger.messages() != delivered);
+    long totalNanos = System.nanoTime() - startNanos;
+    mainThread.quit();
+
+    double seconds = produceNanos / 1e9;
+    double[] p = latency.percentilesMicros(50, 90, 99, 99.9, 100);
+    System.out.println();
+    System.out.println(String.format(Locale.US, "scan results sent      %10d  (%.0f/s)", sent[0], sent[0] / seconds));
+    System.out.println(String.format(Locale.US, "notifications sent     %10d  (%.0f/s)", sent[1], sent[1] / seconds));
+    System.out.println(String.format(Locale.US, "messages delivered     %10d  (%.0f/s, drained=%b, %.1fs total)",
+        messenger.messages(), messenger.messages() / (totalNanos / 1e9), drained, totalNanos / 1e9));
+    System.out.println(String.format(Locale.US, "channel bytes          %10d", messenger.bytes()));
+    if (!o.bulkChannel.equals("off")) {
+      System.out.println(String.format(Locale.US, "bulk event batches     %10d  (%s)", messenger.batches(), o.bulkChannel));
+    }
+    for (Map.Entry<String, long[]> e : messenger.perMethod().entrySet()) {
+      System.out.println(String.format(Locale.US, "  %-40s %8d msgs %10d bytes", e.getKey(), e.getValue()[0], e.getValue()[1]));
+    }
+    if (latency.count() > 0) {
+      System.out.println(String.format(Locale.US, "dispatch latency (us)  p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f",
+          p[0], p[1], p[2], p[3], p[4]));
+    }
+    System.out.println(String.format(Locale.US, "main queue depth       max=%d mean=%.1f",
+        mainThread.maxDepth(), mainThread.meanDepth()));
+    Protos.MetricsSnapshot metrics = plugin.metrics.snapshot();
+    System.out.println(String.format(Locale.US, "plugin metrics         scans=%d dropped(dup)=%d dispatch lag p50=%dus p99=%dus, %d notifying characteristics",
+        metrics.getScanResults(), metrics.getScanResultsDroppedDuplicate(),
+        metrics.getDispatchLag().getP50Us(), metrics.getDispatchLag().getP99Us(), metrics.getNotificationRatesCount()));
+    if (o.trace) {
+      Protos.TraceDump dump = trace.dump();
+      System.out.println(String.format(Locale.US, "trace log              %d events held, %d overwritten",
+          dump.getEventsCount(), dump.getOverwritten()));
+      String json = spans.toChromeJson();
+      java.nio.file.Files.write(java.nio.file.Paths.get("build", "sim-trace.json"),
+          json.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+      System.out.println(String.format(Locale.US, "chrome trace           build/sim-trace.json (%d bytes)", json.length()));
+    }
+    System.exit(0);
+  }
+
+  private static Object getField(Object target, String name) throws Exception {
+    Field f = target.getClass().getDeclaredField(name);
+    f.setAccessible(true);
+    return f.get(target);
+  }
+
+  private static void setField(Object target, String name, Object value) throws Exception {
+    Field f = target.getClass().getDeclaredField(name);
+    f.setAccessible(true);
+    f.set(target, value);
+  }
+
+  private static final class Options {
+    int scanRate = 2000;
+    int notifyRate = 2000;
+    int scanDevices = 200;
+    int peripherals = 8;
+    int characteristics = 4;
+    int binderThreads = 2;
+    int seconds = 10;
+    boolean dedup = false;
+    int scanApi = 21;
+    boolean trace = false;
+    String bulkChannel = "task-queue";
+
+    static Options parse(String[] args) {
+      Options o = new Options();
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "--scan-rate": o.scanRate = Integer.parseInt(args[++i]); break;
+          case "--notify-rate": o.notifyRate = Integer.parseInt(args[++i]); break;
+          case "--devices": o.scanDevices = Integer.parseInt(args[++i]); break;
+          case "--peripherals": o.peripherals = Integer.parseInt(args[++i]); break;
+          case "--characteristics": o.characteristics = Integer.parseInt(args[++i]); break;
+          case "--binder-threads": o.binderThreads = Integer.parseInt(args[++i]); break;
+          case "--seconds": o.seconds = Integer.parseInt(args[++i]); break;
+          case "--dedup": o.dedup = true; break;
+          case "--trace": o.trace = true; break;
+          case "--scan-api": o.scanApi = Integer.parseInt(args[++i]); break;
+          case "--bulk-channel":
+            o.bulkChannel = args[++i];
+            if (!o.bulkChannel.matches("task-queue|main|off")) {
+              throw new IllegalArgumentException("--bulk-channel must be task-queue, main or off");
+            }
+            break;
+          default: throw new IllegalArgumentException("unknown option " + args[i]);
+        }
+      }
+      return o;
+    }
+  }
+}
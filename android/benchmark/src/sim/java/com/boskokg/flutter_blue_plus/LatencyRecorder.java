@@ -0,0 +1,52 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.util.Arrays;
+
+/**
+ * Keeps up to a fixed number of nanosecond samples for percentile reporting.
+ */
+class LatencyRecorder {
+
+  private final long[] samples;
+  private int count;
+  private long dropped;
+
+  LatencyRecorder(int capacity) {
+    samples = new long[capacity];
+  }
+
+  synchronized void record(long nanos) {
+    if (count < samples.length) {
+      samples[count++] = nanos;
+    } else {
+      dropped++;
+    }
+  }
+
+  synchronized int count() {
+    return count;
+  }
+
+  synchronized long dropped() {
+    return dropped;
+  }
+
+  /** Returns the given percentiles (0..100) in microseconds. */
+  synchronized double[] percentilesMicros(double... percentiles) {
+    double[] ret = new double[percentiles.length];
+    if (count == 0) {
+      return ret;
+    }
+    long[] sorted = Arrays.copyOf(samples, count);
+    Arrays.sort(sorted);
+    for (int i = 0; i < percentiles.length; i++) {
+      int index = (int) Math.min(count - 1, Math.ceil(percentiles[i] / 100.0 * count) - 1);
+      ret[i] = sorted[Math.max(0, index)] / 1000.0;
+    }
+    return ret;
+  }
+}
@@ -0,0 +1,120 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in for the Android main Looper: a single thread draining a FIFO of posted runnables.
+ *
+ * <p>Producers call {@link #enter()} right before invoking a plugin callback. Anything the
+ * callback posts carries that timestamp, so the messenger can measure callback-to-delivery
+ * latency on the consuming side.
+ */
+class SimulatedMainThread implements Executor {
+
+  private static final ThreadLocal<long[]> callbackEntry = new ThreadLocal<long[]>() {
+    @Override
+    protected long[] initialValue() {
+      return new long[1];
+    }
+  };
+
+  private final LinkedBlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  private volatile int maxDepth;
+  private long depthSamples;
+  private long depthTotal;
+  private long currentEntry;
+
+  SimulatedMainThread() {
+    thread = new Thread(this::loop, "sim-main");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Marks the start of a callback on the calling (binder) thread. */
+  static void enter() {
+    callbackEntry.get()[0] = System.nanoTime();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    long entry = callbackEntry.get()[0];
+    int d = depth.incrementAndGet();
+    if (d > maxDepth) {
+      maxDepth = d;
+    }
+    queue.add(new Task(command, entry != 0 ? entry : System.nanoTime()));
+  }
+
+  /** Callback entry timestamp of the task currently running on this thread. */
+  long currentEntry() {
+    return currentEntry;
+  }
+
+  int maxDepth() {
+    return maxDepth;
+  }
+
+  double meanDepth() {
+    return depthSamples == 0 ? 0 : (double) depthTotal / depthSamples;
+  }
+
+  /** Blocks until everything posted so far has run, or the timeout elapses. */
+  boolean drain(long timeoutMs) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    while (depth.get() > 0) {
+      if (System.currentTimeMillis() > deadline) {
+        return false;
+      }
+      Thread.sleep(5);
+    }
+    return true;
+  }
+
+  void quit() {
+    running = false;
+    thread.interrupt();
+  }
+
+  private void loop() {
+    while (running) {
+      Task task;
+      try {
+        task = queue.poll(100, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        return;
+      }
+      if (task == null) {
+        continue;
+      }
+      depthTotal += depth.get();
+      depthSamples++;
+      currentEntry = task.entry;
+      try {
+        task.runnable.run();
+      } finally {
+        depth.decrementAndGet();
+      }
+    }
+  }
+
+  private static final class Task {
+    final Runnable runnable;
+    final long entry;
+
+    Task(Runnable runnable, long entry) {
+      this.runnable = runnable;
+      this.entry = entry;
+    }
+  }
+}
@@ -0,0 +1,137 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Plays the Dart side of the method channel: counts messages and bytes per method and records
+ * the latency from callback entry to delivery on the simulated main thread.
+ *
+ * <p>It also pulls the bulk event channel the way {@code FlutterBluePlus._pullEvents} does,
+ * counting each event in a batch under its method name. With {@code taskQueue} set, pulls are
+ * handled on a background thread, as on engines that support background task queues; otherwise
+ * they go through the simulated main thread. Bulk events are not in the dispatch latency, which
+ * only covers the method channel; the plugin's own dispatch lag covers both.
+ */
+class SimulatedMessenger implements BinaryMessenger {
+
+  private final SimulatedMainThread mainThread;
+  private final LatencyRecorder latency;
+  private final Map<String, long[]> perMethod = new TreeMap<>();
+  private long messages;
+  private long bytes;
+  private long batches;
+
+  private final boolean taskQueue;
+  private final ExecutorService taskQueueThread = Executors.newSingleThreadExecutor(r -> {
+    Thread t = new Thread(r, "sim-task-queue");
+    t.setDaemon(true);
+    return t;
+  });
+
+  SimulatedMessenger(SimulatedMainThread mainThread, LatencyRecorder latency, boolean taskQueue) {
+    this.mainThread = mainThread;
+    this.latency = latency;
+    this.taskQueue = taskQueue;
+  }
+
+  @Override
+  public TaskQueue makeBackgroundTaskQueue(TaskQueueOptions options) {
+    if (!taskQueue) {
+      return BinaryMessenger.super.makeBackgroundTaskQueue(options);
+    }
+    return new TaskQueue() {};
+  }
+
+  @Override
+  public void setMessageHandler(String channel, BinaryMessageHandler handler, TaskQueue queue) {
+    if (handler != null) {
+      pull(channel, handler, queue != null);
+    }
+  }
+
+  private void pull(final String channel, final BinaryMessageHandler handler, final boolean background) {
+    Runnable task = () -> handler.onMessage(null, reply -> {
+      receiveBatch(channel, reply);
+      pull(channel, handler, background);
+    });
+    if (background) {
+      taskQueueThread.execute(task);
+    } else {
+      mainThread.execute(task);
+    }
+  }
+
+  private void receiveBatch(String channel, ByteBuffer batch) {
+    batch = batch.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    synchronized (perMethod) {
+      batches++;
+      while (batch.remaining() >= 5) {
+        byte type = batch.get();
+        int length = batch.getInt();
+        batch.position(batch.position() + length);
+        String method = type == BulkEventChannel.SCAN_RESULT ? "ScanResult" : "OnCharacteristicChanged";
+        long[] stats = perMethod.get(channel + "/" + method);
+        if (stats == null) {
+          stats = new long[2];
+          perMethod.put(channel + "/" + method, stats);
+        }
+        stats[0]++;
+        stats[1] += length;
+        messages++;
+        bytes += length;
+      }
+    }
+  }
+
+  @Override
+  public void send(String channel, ByteBuffer message) {
+    latency.record(System.nanoTime() - mainThread.currentEntry());
+    int size = message == null ? 0 : message.remaining();
+    synchronized (perMethod) {
+      long[] stats = perMethod.get(channel);
+      if (stats == null) {
+        stats = new long[2];
+        perMethod.put(channel, stats);
+      }
+      stats[0]++;
+      stats[1] += size;
+      messages++;
+      bytes += size;
+    }
+  }
+
+  long messages() {
+    synchronized (perMethod) {
+      return messages;
+    }
+  }
+
+  long batches() {
+    synchronized (perMethod) {
+      return batches;
+    }
+  }
+
+  long bytes() {
+    synchronized (perMethod) {
+      return bytes;
+    }
+  }
+
+  Map<String, long[]> perMethod() {
+    synchronized (perMethod) {
+      return new TreeMap<>(perMethod);
+    }
+  }
+}
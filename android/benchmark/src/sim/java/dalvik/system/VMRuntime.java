@@ -0,0 +1,25 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package dalvik.system;
+
+import java.lang.reflect.Array;
+
+/**
+ * Desktop stand-in for the ART runtime hooks that framework collections ({@code SparseArray},
+ * {@code ArrayMap}) allocate their backing arrays through.
+ */
+public final class VMRuntime {
+  private static final VMRuntime THE_ONE = new VMRuntime();
+
+  private VMRuntime() {}
+
+  public static VMRuntime getRuntime() {
+    return THE_ONE;
+  }
+
+  public Object newUnpaddedArray(Class<?> componentType, int minLength) {
+    return Array.newInstance(componentType, minLength);
+  }
+}
@@ -0,0 +1,34 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.embedding.engine.plugins;
+
+import android.content.Context;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public interface FlutterPlugin {
+  void onAttachedToEngine(FlutterPluginBinding binding);
+
+  void onDetachedFromEngine(FlutterPluginBinding binding);
+
+  class FlutterPluginBinding {
+    private final Context context;
+    private final BinaryMessenger messenger;
+
+    public FlutterPluginBinding(Context context, BinaryMessenger messenger) {
+      this.context = context;
+      this.messenger = messenger;
+    }
+
+    public Context getApplicationContext() {
+      return context;
+    }
+
+    public BinaryMessenger getBinaryMessenger() {
+      return messenger;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.embedding.engine.plugins.activity;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public interface ActivityAware {
+  void onAttachedToActivity(ActivityPluginBinding binding);
+
+  void onDetachedFromActivityForConfigChanges();
+
+  void onReattachedToActivityForConfigChanges(ActivityPluginBinding binding);
+
+  void onDetachedFromActivity();
+}
@@ -0,0 +1,18 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.embedding.engine.plugins.activity;
+
+import android.app.Activity;
+
+import io.flutter.plugin.common.PluginRegistry;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public interface ActivityPluginBinding {
+  Activity getActivity();
+
+  void addRequestPermissionsResultListener(PluginRegistry.RequestPermissionsResultListener listener);
+
+  void removeRequestPermissionsResultListener(PluginRegistry.RequestPermissionsResultListener listener);
+}
@@ -0,0 +1,42 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public final class BasicMessageChannel<T> {
+  private final BinaryMessenger messenger;
+  private final String name;
+  private final MessageCodec<T> codec;
+  private final BinaryMessenger.TaskQueue taskQueue;
+
+  public BasicMessageChannel(BinaryMessenger messenger, String name, MessageCodec<T> codec) {
+    this(messenger, name, codec, null);
+  }
+
+  public BasicMessageChannel(BinaryMessenger messenger, String name, MessageCodec<T> codec,
+      BinaryMessenger.TaskQueue taskQueue) {
+    this.messenger = messenger;
+    this.name = name;
+    this.codec = codec;
+    this.taskQueue = taskQueue;
+  }
+
+  public void setMessageHandler(final MessageHandler<T> handler) {
+    if (handler == null) {
+      messenger.setMessageHandler(name, null, taskQueue);
+      return;
+    }
+    messenger.setMessageHandler(name, (message, reply) -> handler.onMessage(
+        codec.decodeMessage(message), r -> reply.reply(codec.encodeMessage(r))), taskQueue);
+  }
+
+  public interface MessageHandler<T> {
+    void onMessage(T message, Reply<T> reply);
+  }
+
+  public interface Reply<T> {
+    void reply(T reply);
+  }
+}
@@ -0,0 +1,24 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+import java.nio.ByteBuffer;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public final class BinaryCodec implements MessageCodec<ByteBuffer> {
+  public static final BinaryCodec INSTANCE = new BinaryCodec();
+
+  private BinaryCodec() {}
+
+  @Override
+  public ByteBuffer encodeMessage(ByteBuffer message) {
+    return message;
+  }
+
+  @Override
+  public ByteBuffer decodeMessage(ByteBuffer message) {
+    return message;
+  }
+}
@@ -0,0 +1,38 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+import java.nio.ByteBuffer;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public interface BinaryMessenger {
+  interface TaskQueue {}
+
+  class TaskQueueOptions {
+    public TaskQueueOptions setIsSerial(boolean isSerial) {
+      return this;
+    }
+  }
+
+  default TaskQueue makeBackgroundTaskQueue() {
+    return makeBackgroundTaskQueue(new TaskQueueOptions());
+  }
+
+  default TaskQueue makeBackgroundTaskQueue(TaskQueueOptions options) {
+    throw new UnsupportedOperationException("makeBackgroundTaskQueue not supported");
+  }
+
+  void send(String channel, ByteBuffer message);
+
+  default void setMessageHandler(String channel, BinaryMessageHandler handler, TaskQueue taskQueue) {}
+
+  interface BinaryMessageHandler {
+    void onMessage(ByteBuffer message, BinaryReply reply);
+  }
+
+  interface BinaryReply {
+    void reply(ByteBuffer reply);
+  }
+}
@@ -0,0 +1,26 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public final class EventChannel {
+  public EventChannel(BinaryMessenger messenger, String name) {}
+
+  public void setStreamHandler(StreamHandler handler) {}
+
+  public interface StreamHandler {
+    void onListen(Object arguments, EventSink events);
+
+    void onCancel(Object arguments);
+  }
+
+  public interface EventSink {
+    void success(Object event);
+
+    void error(String errorCode, String errorMessage, Object errorDetails);
+
+    void endOfStream();
+  }
+}
@@ -0,0 +1,14 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+import java.nio.ByteBuffer;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public interface MessageCodec<T> {
+  ByteBuffer encodeMessage(T message);
+
+  T decodeMessage(ByteBuffer message);
+}
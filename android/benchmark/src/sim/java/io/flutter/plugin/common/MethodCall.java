@@ -0,0 +1,21 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public final class MethodCall {
+  public final String method;
+  public final Object arguments;
+
+  public MethodCall(String method, Object arguments) {
+    this.method = method;
+    this.arguments = arguments;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T arguments() {
+    return (T) arguments;
+  }
+}
@@ -0,0 +1,44 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Desktop stand-in for the Flutter embedding, covering only what the plugin touches.
+ *
+ * <p>Outgoing calls are handed to the messenger as {@code <channel>/<method>} with the raw
+ * argument bytes, so the harness can account for them per method.
+ */
+public class MethodChannel {
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  private final BinaryMessenger messenger;
+  private final String name;
+
+  public MethodChannel(BinaryMessenger messenger, String name) {
+    this.messenger = messenger;
+    this.name = name;
+  }
+
+  public void setMethodCallHandler(MethodCallHandler handler) {}
+
+  public void invokeMethod(String method, Object arguments) {
+    ByteBuffer message = arguments instanceof byte[] ? ByteBuffer.wrap((byte[]) arguments) : EMPTY;
+    messenger.send(name + "/" + method, message);
+  }
+
+  public interface MethodCallHandler {
+    void onMethodCall(MethodCall call, Result result);
+  }
+
+  public interface Result {
+    void success(Object result);
+
+    void error(String errorCode, String errorMessage, Object errorDetails);
+
+    void notImplemented();
+  }
+}
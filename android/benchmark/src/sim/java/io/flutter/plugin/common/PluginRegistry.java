@@ -0,0 +1,12 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package io.flutter.plugin.common;
+
+/** Desktop stand-in for the Flutter embedding, covering only what the plugin touches. */
+public interface PluginRegistry {
+  interface RequestPermissionsResultListener {
+    boolean onRequestPermissionsResult(int requestCode, String[] permissions, int[] grantResults);
+  }
+}
@@ -30,107 +30,180 @@ package com.boskokg.flutter_blue_plus;
 import com.google.protobuf.ByteString;
 import com.boskokg.flutter_blue_plus.Protos.AdvertisementData;
 
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.util.UUID;
+import java.nio.charset.Charset;
 
 /**
- * Parser of Bluetooth Advertisement packets.
+ * Parser of Bluetooth Advertisement packets, used for both scan APIs.
+ *
+ * Works on the raw bytes rather than the {@code ScanRecord} getters, which build a
+ * {@code SparseArray}, an {@code ArrayMap} and a {@code ParcelUuid} per entry on every call.
+ * UUIDs are formatted straight from the packet and data is copied once, into the
+ * {@link ByteString}.
  */
 class AdvertisementParser {
 
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  // The Bluetooth base UUID after its first 8 digits, which 16 and 32 bit UUIDs replace.
+  private static final String BASE_UUID_SUFFIX = "-0000-1000-8000-00805f9b34fb";
+
+  static AdvertisementData parse(byte[] rawData) {
+    AdvertisementData.Builder ret = AdvertisementData.newBuilder();
+    parse(rawData, ret);
+    return ret.build();
+  }
+
   /**
-   * Parses packet data into {@link AdvertisementData} structure.
+   * Parses packet data into {@code ret}.
+   *
+   * Does not throw: a malformed packet stops the parse and sets {@code parse_error}, keeping the
+   * fields read up to there.
    *
-   * @param rawData The scan record data.
-   * @return An AdvertisementData proto object.
-   * @throws ArrayIndexOutOfBoundsException if the input is truncated.
+   * @param data The scan record data.
+   * @param ret The builder to fill in.
    */
-  static AdvertisementData parse(byte[] rawData) {
-    ByteBuffer data = ByteBuffer.wrap(rawData).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
-    AdvertisementData.Builder ret = AdvertisementData.newBuilder();
-    boolean seenLongLocalName = false;
-    do {
-      int length = data.get() & 0xFF;
+  static void parse(byte[] data, AdvertisementData.Builder ret) {
+    boolean seenCompleteName = false;
+    int pos = 0;
+    while (pos < data.length) {
+      int length = data[pos] & 0xFF;
       if (length == 0) {
-        break;
+        break; // Zero padding after the last structure.
       }
-      if (length > data.remaining()) {
-        throw new ArrayIndexOutOfBoundsException("Not enough data.");
+      int end = pos + 1 + length;
+      if (end > data.length) {
+        ret.setParseError(AdvertisementData.ParseError.TRUNCATED);
+        return;
       }
+      int type = data[pos + 1] & 0xFF;
+      int start = pos + 2;
+      int size = end - start;
+      pos = end;
 
-      int type = data.get() & 0xFF;
-      length--;
-
+      boolean ok = true;
       switch (type) {
-        case 0x08: // Short local name.
-        case 0x09: { // Long local name.
-          if (seenLongLocalName) {
-            // Prefer the long name over the short.
-            data.position(data.position() + length);
-            break;
-          }
-          byte[] name = new byte[length];
-          data.get(name);
-          try {
-            ret.setLocalName(new String(name, "UTF-8"));
-          } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
+        case 0x01: // Flags.
+          ok = size >= 1;
+          if (ok) {
+            ret.setConnectable((data[start] & 0x02) != 0);
           }
-          if (type == 0x09) {
-            seenLongLocalName = true;
+          break;
+        case 0x02: // Incomplete list of 16 bit service UUIDs.
+        case 0x03: // Complete list of 16 bit service UUIDs.
+          ok = addServiceUuids(data, start, size, 2, ret);
+          break;
+        case 0x04: // Incomplete list of 32 bit service UUIDs.
+        case 0x05: // Complete list of 32 bit service UUIDs.
+          ok = addServiceUuids(data, start, size, 4, ret);
+          break;
+        case 0x06: // Incomplete list of 128 bit service UUIDs.
+        case 0x07: // Complete list of 128 bit service UUIDs.
+          ok = addServiceUuids(data, start, size, 16, ret);
+          break;
+        case 0x08: // Short local name.
+        case 0x09: // Complete local name.
+          if (type == 0x08 && seenCompleteName) {
+            break; // Prefer the complete name over the short.
           }
+          ret.setLocalName(new String(data, start, size, UTF_8));
+          seenCompleteName |= type == 0x09;
           break;
-        }
-        case 0x0A: { // Power level.
-          ret.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(data.get()));
+        case 0x0A: // Power level.
+          ok = size >= 1;
+          if (ok) {
+            ret.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(data[start]));
+          }
           break;
-        }
         case 0x16: // Service Data with 16 bit UUID.
         case 0x20: // Service Data with 32 bit UUID.
         case 0x21: { // Service Data with 128 bit UUID.
-          UUID uuid;
-          int remainingDataLength = 0;
-          if (type == 0x16 || type == 0x20) {
-            long uuidValue;
-            if (type == 0x16) {
-              uuidValue = data.getShort() & 0xFFFF;
-              remainingDataLength = length - 2;
-            } else {
-              uuidValue = data.getInt() & 0xFFFFFFFF;
-              remainingDataLength = length - 4;
-            }
-            uuid = UUID.fromString(String.format("%08x-0000-1000-8000-00805f9b34fb", uuidValue));
-          } else {
-            long msb = data.getLong();
-            long lsb = data.getLong();
-            uuid = new UUID(msb, lsb);
-            remainingDataLength = length - 16;
+          int width = type == 0x16 ? 2 : type == 0x20 ? 4 : 16;
+          ok = size >= width;
+          if (ok) {
+            ret.putServiceData(uuid(data, start, width), ByteString.copyFrom(data, start + width, size - width));
           }
-          byte[] remainingData = new byte[remainingDataLength];
-          data.get(remainingData);
-          ret.putServiceData(uuid.toString(), ByteString.copyFrom(remainingData));
           break;
         }
-        case 0xFF: {// Manufacturer specific data.
-          if(length < 2) {
-            throw new ArrayIndexOutOfBoundsException("Not enough data for Manufacturer specific data.");
+        case 0x19: // Appearance.
+          ok = size >= 2;
+          if (ok) {
+            ret.setAppearance(uint16(data, start));
           }
-          int manufacturerId = data.getShort();
-          if((length - 2) > 0) {
-            byte[] msd = new byte[length - 2];
-            data.get(msd);
-            ret.putManufacturerData(manufacturerId, ByteString.copyFrom(msd));
+          break;
+        case 0x24: // URI, the first byte is a scheme code.
+          ok = size >= 1;
+          if (ok) {
+            int scheme = data[start] & 0xFF;
+            ret.setUriScheme(scheme);
+            ret.setUri(uriScheme(scheme) + new String(data, start + 1, size - 1, UTF_8));
           }
           break;
-        }
-        default: {
-          data.position(data.position() + length);
+        case 0xFF: // Manufacturer specific data.
+          ok = size >= 2;
+          if (ok) {
+            ret.putManufacturerData(uint16(data, start), ByteString.copyFrom(data, start + 2, size - 2));
+          }
+          break;
+        default:
           break;
+      }
+      if (!ok) {
+        ret.setParseError(AdvertisementData.ParseError.BAD_LENGTH);
+        return;
+      }
+    }
+  }
+
+  private static boolean addServiceUuids(byte[] data, int start, int size, int width, AdvertisementData.Builder ret) {
+    if (size % width != 0) {
+      return false;
+    }
+    for (int i = start; i < start + size; i += width) {
+      ret.addServiceUuids(uuid(data, i, width));
+    }
+    return true;
+  }
+
+  private static int uint16(byte[] data, int offset) {
+    return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+  }
+
+  // Little endian on the air, formatted as UUID.toString() would.
+  private static String uuid(byte[] data, int offset, int width) {
+    char[] s = new char[36];
+    if (width == 16) {
+      int c = 0;
+      for (int i = 15; i >= 0; i--) {
+        if (c == 8 || c == 13 || c == 18 || c == 23) {
+          s[c++] = '-';
         }
+        int b = data[offset + i] & 0xFF;
+        s[c++] = HEX[b >>> 4];
+        s[c++] = HEX[b & 0xF];
       }
-    } while (true);
-    return ret.build();
+    } else {
+      int value = uint16(data, offset);
+      if (width == 4) {
+        value |= uint16(data, offset + 2) << 16;
+      }
+      for (int i = 0; i < 8; i++) {
+        s[i] = HEX[(value >>> (28 - 4 * i)) & 0xF];
+      }
+      BASE_UUID_SUFFIX.getChars(0, BASE_UUID_SUFFIX.length(), s, 8);
+    }
+    return new String(s);
+  }
+
+  // The common entries of the Bluetooth URI scheme name string mapping; others are left to the
+  // caller through uri_scheme.
+  private static String uriScheme(int code) {
+    switch (code) {
+      case 0x16:
+        return "http:";
+      case 0x17:
+        return "https:";
+      default:
+        return "";
+    }
   }
 }
@@ -0,0 +1,153 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+/**
+ * One {@code executeBatch} call: what became of each command, and the single reply.
+ *
+ * Every command is handed to the same method its single call uses, with a {@link Result} that
+ * records into its slot instead of replying; once the commands of every device involved have
+ * run, the slots are sent back as one {@link Protos.BatchResponse}.
+ *
+ * A command whose GATT callback does not come within the batch's timeout fails, and so do the
+ * device's commands after it, which are not issued; the other devices carry on.
+ */
+class BatchRun {
+
+  static final long DEFAULT_TIMEOUT_MS = 10000;
+
+  /** The GATT operation a device waits on before its next command is issued. */
+  static final class Step {
+    final Metrics.GattOp op;
+    final Runnable next;
+    // Set once the command's BluetoothGatt call is about to go out, and cleared if it failed; a
+    // command that issued nothing moves the batch on at once.
+    volatile boolean issued;
+
+    Step(Metrics.GattOp op, Runnable next) {
+      this.op = op;
+      this.next = next;
+    }
+  }
+
+  final List<Protos.BatchCommand> commands;
+  final long timeoutMs;
+  private final Protos.BatchResult[] results; // Guarded by this
+  private final AtomicInteger devicesLeft;
+  private final Result reply;
+
+  BatchRun(List<Protos.BatchCommand> commands, long timeoutMs, int devices, Result reply) {
+    this.commands = commands;
+    this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
+    this.results = new Protos.BatchResult[commands.size()];
+    this.devicesLeft = new AtomicInteger(devices);
+    this.reply = reply;
+    if(devices == 0) {
+      finish();
+    }
+  }
+
+  /** Where command i reports to. Only the first report counts. */
+  Result resultOf(final int i) {
+    return new Result() {
+      @Override
+      public void success(Object o) {
+        record(i, Protos.BatchResult.newBuilder().setSuccess(true).build());
+      }
+
+      @Override
+      public void error(String errorCode, String errorMessage, Object errorDetails) {
+        Protos.BatchResult.Builder r = Protos.BatchResult.newBuilder().setErrorCode(errorCode);
+        if(errorMessage != null) {
+          r.setErrorMessage(errorMessage);
+        }
+        record(i, r.build());
+      }
+
+      @Override
+      public void notImplemented() {
+        record(i, Protos.BatchResult.newBuilder().setErrorCode("notImplemented").build());
+      }
+    };
+  }
+
+  /** Called once per device after its last command; the last one sends the reply. */
+  void deviceDone() {
+    if(devicesLeft.decrementAndGet() == 0) {
+      finish();
+    }
+  }
+
+  /**
+   * Command {@code device.get(failed)} was issued but its callback did not come in time: it and
+   * the device's commands after it fail, and the device is done.
+   */
+  void timedOut(List<Integer> device, int failed) {
+    synchronized(this) {
+      results[device.get(failed)] = Protos.BatchResult.newBuilder()
+          .setErrorCode("batch_timeout")
+          .setErrorMessage("no callback within " + timeoutMs + "ms")
+          .build();
+      for(int k = failed + 1; k < device.size(); k++) {
+        record(device.get(k), Protos.BatchResult.newBuilder()
+            .setErrorCode("batch_aborted")
+            .setErrorMessage("an earlier command of the device timed out")
+            .build());
+      }
+    }
+    deviceDone();
+  }
+
+  private synchronized void record(int i, Protos.BatchResult result) {
+    if(results[i] == null) {
+      results[i] = result;
+    }
+  }
+
+  private void finish() {
+    Protos.BatchResponse.Builder p = Protos.BatchResponse.newBuilder();
+    synchronized(this) {
+      for(Protos.BatchResult r : results) {
+        p.addResults(r != null
+            ? r
+            : Protos.BatchResult.newBuilder().setErrorCode("batch_error").setErrorMessage("empty command").build());
+      }
+    }
+    reply.success(p.build().toByteArray());
+  }
+
+  static String remoteId(Protos.BatchCommand c) {
+    switch(c.getCommandCase()) {
+      case READ_CHARACTERISTIC: return c.getReadCharacteristic().getRemoteId();
+      case READ_DESCRIPTOR: return c.getReadDescriptor().getRemoteId();
+      case WRITE_CHARACTERISTIC: return c.getWriteCharacteristic().getRemoteId();
+      case WRITE_DESCRIPTOR: return c.getWriteDescriptor().getRemoteId();
+      case SET_NOTIFICATION: return c.getSetNotification().getRemoteId();
+      case REQUEST_MTU: return c.getRequestMtu().getRemoteId();
+      case DISCOVER_SERVICES: return c.getDiscoverServices();
+      case READ_RSSI: return c.getReadRssi();
+      default: return null;
+    }
+  }
+
+  static Metrics.GattOp op(Protos.BatchCommand c) {
+    switch(c.getCommandCase()) {
+      case READ_CHARACTERISTIC: return Metrics.GattOp.READ_CHARACTERISTIC;
+      case READ_DESCRIPTOR: return Metrics.GattOp.READ_DESCRIPTOR;
+      case WRITE_CHARACTERISTIC: return Metrics.GattOp.WRITE_CHARACTERISTIC;
+      case WRITE_DESCRIPTOR: return Metrics.GattOp.WRITE_DESCRIPTOR;
+      case SET_NOTIFICATION: return Metrics.GattOp.SET_NOTIFICATION;
+      case REQUEST_MTU: return Metrics.GattOp.REQUEST_MTU;
+      case DISCOVER_SERVICES: return Metrics.GattOp.DISCOVER_SERVICES;
+      case READ_RSSI: return Metrics.GattOp.READ_RSSI;
+      default: return null;
+    }
+  }
+}
@@ -0,0 +1,338 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryCodec;
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Binary channel for the high-volume streams, scan results and notifications, so they stay out
+ * of the method channel's path through the platform thread.
+ *
+ * Dart pulls: it sends an empty message and the reply carries every event queued since the
+ * previous pull, as {@code [u8 type][u32 little-endian length][payload]} records. Where the
+ * engine supports {@link BinaryMessenger#makeBackgroundTaskQueue()}, pulls are handled and
+ * answered off the platform thread. Otherwise pulls land on the platform thread and a waiting
+ * pull is answered by a single posted task, so a burst of events costs one platform message.
+ *
+ * Events are queued as protos and serialized straight into the reply's direct buffer, which the
+ * engine hands on without another copy. A value wrapped by the API 33 callbacks is therefore
+ * copied exactly once on its way to Dart.
+ *
+ * Events keep their order within a stream, but not across streams or relative to method channel
+ * messages. Until Dart has pulled once, {@link #offer} declines and the caller uses the method
+ * channel.
+ *
+ * Flow control: a pull may carry a {@code [u32 little-endian]} batch limit per stream, the most
+ * events of it Dart takes in that batch (0 for no limit); the rest stay queued for the next pull.
+ * This caps the work of one batch rather than granting credits: Dart pulls again only once it has
+ * dispatched a batch, so a balance would always be refilled to the same limit. Each stream's queue
+ * is bounded in events and in bytes by its {@link Protos.EventFlowControl}: drop the oldest event,
+ * drop the new one, or conflate to the latest event per device or characteristic.
+ */
+class BulkEventChannel implements BasicMessageChannel.MessageHandler<ByteBuffer> {
+
+  static final byte SCAN_RESULT = 0;
+  static final byte CHARACTERISTIC_CHANGED = 1;
+  private static final int STREAMS = 2;
+
+  private static final String TAG = "FlutterBluePlugin";
+  static final int MAX_PENDING = 8192;
+  static final int MAX_PENDING_BYTES = 1 << 20;
+  private static final int HEADER_SIZE = 5;
+
+  private final BasicMessageChannel<ByteBuffer> channel;
+  private final boolean background;
+  private final Executor mainThreadExecutor;
+  private final Metrics metrics;
+  private final SpanTracer spans;
+
+  // Guarded by this.
+  private final Stream[] streams = {new Stream(), new Stream()};
+  private BasicMessageChannel.Reply<ByteBuffer> waiting;
+  private final int[] waitingBatchLimits = new int[STREAMS];
+  private boolean flushPosted;
+
+  private volatile boolean attached;
+
+  BulkEventChannel(BinaryMessenger messenger, String name, Executor mainThreadExecutor, Metrics metrics, SpanTracer spans) {
+    BinaryMessenger.TaskQueue taskQueue = null;
+    try {
+      taskQueue = messenger.makeBackgroundTaskQueue();
+    } catch (UnsupportedOperationException e) {
+      Log.d(TAG, "background task queues not supported, bulk events go through the platform thread");
+    }
+    this.background = taskQueue != null;
+    this.channel = taskQueue != null
+        ? new BasicMessageChannel<>(messenger, name, BinaryCodec.INSTANCE, taskQueue)
+        : new BasicMessageChannel<>(messenger, name, BinaryCodec.INSTANCE);
+    this.mainThreadExecutor = mainThreadExecutor;
+    this.metrics = metrics;
+    this.spans = spans;
+    channel.setMessageHandler(this);
+  }
+
+  void close() {
+    channel.setMessageHandler(null);
+    attached = false;
+    BasicMessageChannel.Reply<ByteBuffer> reply;
+    synchronized (this) {
+      for (Stream stream : streams) {
+        stream.clear();
+      }
+      reply = waiting;
+      waiting = null;
+    }
+    if (reply != null) {
+      reply.reply(ByteBuffer.allocateDirect(0));
+    }
+  }
+
+  synchronized void configure(Protos.EventFlowControl p) {
+    if (p.getStream() >= STREAMS) {
+      throw new IllegalArgumentException("unknown event stream " + p.getStream());
+    }
+    Stream stream = streams[p.getStream()];
+    stream.overflow = p.getOverflow();
+    stream.capacity = p.getCapacity() > 0 ? p.getCapacity() : MAX_PENDING;
+    stream.maxBytes = p.getMaxBytes() > 0 ? p.getMaxBytes() : MAX_PENDING_BYTES;
+    // What is queued under the old policy is dropped.
+    metrics.eventsDropped.addAndGet(stream.events.size());
+    stream.clear();
+  }
+
+  /**
+   * Queues an encoded event for the next pull. Returns false if Dart is not pulling, in which
+   * case nothing was queued.
+   *
+   * @param key What the event is about, for conflation: the device of a scan result or the
+   *     characteristic of a notification.
+   */
+  boolean offer(byte type, Object key, MessageLite message, long span) {
+    if (!attached) {
+      return false;
+    }
+    BasicMessageChannel.Reply<ByteBuffer> reply = null;
+    ByteBuffer batch = null;
+    synchronized (this) {
+      if (!streams[type].add(type, key, message, span)) {
+        return true;
+      }
+      if (waiting == null) {
+        return true;
+      }
+      if (background) {
+        reply = waiting;
+        waiting = null;
+        batch = drainLocked();
+      } else if (!flushPosted) {
+        flushPosted = true;
+        mainThreadExecutor.execute(this::flush);
+      }
+    }
+    if (reply != null) {
+      reply.reply(batch);
+    }
+    return true;
+  }
+
+  @Override
+  public void onMessage(ByteBuffer message, BasicMessageChannel.Reply<ByteBuffer> reply) {
+    attached = true;
+    BasicMessageChannel.Reply<ByteBuffer> stale;
+    ByteBuffer batch = null;
+    synchronized (this) {
+      stale = waiting;
+      waiting = null;
+      for (int i = 0; i < STREAMS; i++) {
+        // A pull without limits, as from before they existed, takes everything.
+        waitingBatchLimits[i] = message != null && message.remaining() >= 4 * STREAMS
+            ? message.order(ByteOrder.LITTLE_ENDIAN).getInt(message.position() + 4 * i)
+            : 0;
+      }
+      if (isEmptyLocked()) {
+        waiting = reply;
+      } else {
+        batch = drainLocked();
+      }
+    }
+    if (stale != null) {
+      stale.reply(ByteBuffer.allocateDirect(0));
+    }
+    if (batch != null) {
+      reply.reply(batch);
+    }
+  }
+
+  // Platform thread, fallback mode only.
+  private void flush() {
+    BasicMessageChannel.Reply<ByteBuffer> reply;
+    ByteBuffer batch;
+    synchronized (this) {
+      flushPosted = false;
+      if (waiting == null || isEmptyLocked()) {
+        return;
+      }
+      reply = waiting;
+      waiting = null;
+      batch = drainLocked();
+    }
+    reply.reply(batch);
+  }
+
+  private boolean isEmptyLocked() {
+    for (Stream stream : streams) {
+      if (!stream.events.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Takes up to the waiting pull's batch limit from each stream.
+  private ByteBuffer drainLocked() {
+    List<Event> drained = new ArrayList<>();
+    int bytes = 0;
+    for (int i = 0; i < STREAMS; i++) {
+      int limit = waitingBatchLimits[i] > 0 ? waitingBatchLimits[i] : Integer.MAX_VALUE;
+      Event e;
+      while (limit-- > 0 && (e = streams[i].poll()) != null) {
+        drained.add(e);
+        bytes += e.size + HEADER_SIZE;
+      }
+    }
+    // Replies must be direct buffers.
+    ByteBuffer batch = ByteBuffer.allocateDirect(bytes);
+    CodedOutputStream out = CodedOutputStream.newInstance(batch);
+    long now = SystemClock.elapsedRealtimeNanos();
+    try {
+      for (Event e : drained) {
+        out.write(e.type);
+        out.writeFixed32NoTag(e.size); // Little-endian, as the record header wants.
+        e.message.writeTo(out);
+        metrics.dispatchLag.record((now - e.queuedNanos) / 1000);
+        spans.delivered(e.span);
+      }
+      out.flush();
+    } catch (IOException ex) {
+      // Sized up front, so running out of space means a message changed under us.
+      throw new IllegalStateException("bulk event batch overflow", ex);
+    }
+    metrics.channelMessages.addAndGet(drained.size());
+    metrics.channelBytes.addAndGet(bytes);
+    metrics.eventBatches.incrementAndGet();
+    batch.flip();
+    return batch;
+  }
+
+  /**
+   * The queue of one stream, bounded in events and in bytes (records with their headers) by its
+   * overflow policy. A single event larger than the byte bound is still queued on its own.
+   * Guarded by the channel.
+   */
+  private final class Stream {
+    Protos.EventFlowControl.Overflow overflow = Protos.EventFlowControl.Overflow.DROP_OLDEST;
+    int capacity = MAX_PENDING;
+    int maxBytes = MAX_PENDING_BYTES;
+    final ArrayDeque<Event> events = new ArrayDeque<>();
+    int bytes;
+    // The queued event per key, when conflating.
+    final HashMap<Object, Event> latest = new HashMap<>();
+
+    /** Returns false if the event was not queued as a new one, i.e. dropped or conflated. */
+    boolean add(byte type, Object key, MessageLite message, long span) {
+      if (overflow == Protos.EventFlowControl.Overflow.CONFLATE) {
+        Event queued = latest.get(key);
+        if (queued != null) {
+          bytes -= queued.size;
+          queued.replace(message, span); // Keeps its place in the queue
+          bytes += queued.size;
+          metrics.eventsConflated.incrementAndGet();
+          // A bigger value may push the queue over its byte bound; the oldest others go.
+          while (queuedBytes() > maxBytes && events.peek() != queued) {
+            poll();
+            metrics.eventsDropped.incrementAndGet();
+          }
+          return false;
+        }
+      }
+      int size = message.getSerializedSize() + HEADER_SIZE;
+      while (!events.isEmpty() && (events.size() >= capacity || queuedBytes() + size > maxBytes)) {
+        if (overflow == Protos.EventFlowControl.Overflow.BUFFER) {
+          metrics.eventsDropped.incrementAndGet();
+          return false;
+        }
+        poll();
+        metrics.eventsDropped.incrementAndGet();
+      }
+      Event e = new Event(type, key, message, span, SystemClock.elapsedRealtimeNanos());
+      events.add(e);
+      bytes += e.size;
+      if (overflow == Protos.EventFlowControl.Overflow.CONFLATE) {
+        latest.put(key, e);
+      }
+      return true;
+    }
+
+    int queuedBytes() {
+      return bytes + HEADER_SIZE * events.size();
+    }
+
+    Event poll() {
+      Event e = events.poll();
+      if (e != null) {
+        bytes -= e.size;
+        if (!latest.isEmpty()) {
+          latest.remove(e.key);
+        }
+      }
+      return e;
+    }
+
+    void clear() {
+      events.clear();
+      latest.clear();
+      bytes = 0;
+    }
+  }
+
+  private static final class Event {
+    final byte type;
+    final Object key;
+    MessageLite message;
+    int size;
+    long span;
+    final long queuedNanos;
+
+    Event(byte type, Object key, MessageLite message, long span, long queuedNanos) {
+      this.type = type;
+      this.key = key;
+      this.queuedNanos = queuedNanos;
+      replace(message, span);
+    }
+
+    void replace(MessageLite message, long span) {
+      this.message = message;
+      this.size = message.getSerializedSize();
+      this.span = span;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothProfile;
+
+/**
+ * The connection state of each device the plugin has a client for, kept in its
+ * {@link FlutterBluePlusPlugin.BluetoothDeviceCache} so connect, disconnect and deviceState
+ * need no binder call.
+ *
+ * A state is only taken from the callback of the cache's current client; a client it replaced
+ * may still report. The system is asked about devices without a cache, and about every cached
+ * device when the adapter comes back on. When the adapter goes off, every device is
+ * disconnected, since the callbacks do not always say so.
+ */
+class ConnectionStates {
+
+  /** The system's view, {@code BluetoothManager.getConnectionState} for GATT. */
+  interface System {
+    int getConnectionState(BluetoothDevice device);
+  }
+
+  private final System system;
+
+  ConnectionStates(System system) {
+    this.system = system;
+  }
+
+  /** From onConnectionStateChange. Returns false if gatt is not the cache's current client. */
+  boolean changed(FlutterBluePlusPlugin.BluetoothDeviceCache cache, BluetoothGatt gatt, int newState) {
+    if (cache == null || cache.gatt != gatt) {
+      return false;
+    }
+    cache.connectionState = newState;
+    return true;
+  }
+
+  boolean isConnected(FlutterBluePlusPlugin.BluetoothDeviceCache cache) {
+    return cache != null && cache.connectionState == BluetoothProfile.STATE_CONNECTED;
+  }
+
+  /** The state of device, whose cache may be null. */
+  int get(FlutterBluePlusPlugin.BluetoothDeviceCache cache, BluetoothDevice device) {
+    return cache != null ? cache.connectionState : system.getConnectionState(device);
+  }
+
+  void adapterStateChanged(Iterable<FlutterBluePlusPlugin.BluetoothDeviceCache> caches, boolean on) {
+    for (FlutterBluePlusPlugin.BluetoothDeviceCache cache : caches) {
+      cache.connectionState = on
+          ? system.getConnectionState(cache.gatt.getDevice())
+          : BluetoothProfile.STATE_DISCONNECTED;
+    }
+  }
+}
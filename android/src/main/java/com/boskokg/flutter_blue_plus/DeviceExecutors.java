@@ -0,0 +1,58 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+
+/**
+ * Sharded pool of {@link HandlerThread}s that per-device work is confined to.
+ *
+ * A device always maps to the same shard, so its GATT calls, its {@code BluetoothDeviceCache}
+ * and, on API 26+ where {@code connectGatt} takes a {@link Handler}, its callbacks are only ever
+ * touched from one thread. Different shards run in parallel. Threads are started on first use
+ * and stopped by {@link #quit()}; a later call starts them again.
+ *
+ * Below API 26 {@code connectGatt} takes no Handler and the callbacks run on binder threads, so
+ * there only the method calls are confined to the shard; the callbacks stick to thread-safe
+ * state and post the rest here.
+ */
+class DeviceExecutors {
+
+  private final Handler[] handlers;
+  private final HandlerThread[] threads;
+
+  DeviceExecutors() {
+    int shards = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    handlers = new Handler[shards];
+    threads = new HandlerThread[shards];
+  }
+
+  /** The handler of the shard that owns {@code address}. */
+  synchronized Handler handler(String address) {
+    int shard = (address.hashCode() & Integer.MAX_VALUE) % handlers.length;
+    if (handlers[shard] == null) {
+      threads[shard] = new HandlerThread("flutter_blue_plus-gatt-" + shard);
+      threads[shard].start();
+      handlers[shard] = new Handler(threads[shard].getLooper());
+    }
+    return handlers[shard];
+  }
+
+  void execute(String address, Runnable task) {
+    handler(address).post(task);
+  }
+
+  /** Lets queued work finish, then stops the threads. */
+  synchronized void quit() {
+    for (int i = 0; i < threads.length; i++) {
+      if (threads[i] != null) {
+        threads[i].quitSafely();
+        threads[i] = null;
+        handlers[i] = null;
+      }
+    }
+  }
+}
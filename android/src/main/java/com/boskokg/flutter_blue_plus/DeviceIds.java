@@ -0,0 +1,78 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact device identity.
+ *
+ * A Bluetooth address is 48 bits. The high volume messages (scan results, notifications and the
+ * characteristics and descriptors in them) carry it packed into a {@code fixed64}, 9 bytes on
+ * the wire and no string encoding, instead of the 17 character {@code remote_id}; Dart turns it
+ * back into the same string.
+ *
+ * Also caches the {@link BluetoothDevice} of each address method calls name, so they do not go
+ * through {@link BluetoothAdapter#getRemoteDevice(String)} every time.
+ */
+class DeviceIds {
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+  private static final int MAX_CACHED = 256;
+
+  private final ConcurrentHashMap<String, BluetoothDevice> devices = new ConcurrentHashMap<>();
+
+  /** Packs an address of the form {@code 00:11:22:AA:BB:CC}, as returned by {@code getAddress()}. */
+  static long pack(String address) {
+    if (address == null || address.length() != 17) {
+      throw new IllegalArgumentException(address + " is not a valid Bluetooth address");
+    }
+    long packed = 0;
+    for (int i = 0; i < 17; i += 3) {
+      packed = (packed << 8) | (digit(address, i) << 4) | digit(address, i + 1);
+    }
+    return packed;
+  }
+
+  static String unpack(long packed) {
+    char[] s = new char[17];
+    for (int i = 0; i < 6; i++) {
+      int b = (int) (packed >>> (40 - 8 * i)) & 0xff;
+      s[i * 3] = HEX[b >>> 4];
+      s[i * 3 + 1] = HEX[b & 0xf];
+      if (i < 5) {
+        s[i * 3 + 2] = ':';
+      }
+    }
+    return new String(s);
+  }
+
+  private static long digit(String address, int index) {
+    int d = Character.digit(address.charAt(index), 16);
+    if (d < 0) {
+      throw new IllegalArgumentException(address + " is not a valid Bluetooth address");
+    }
+    return d;
+  }
+
+  BluetoothDevice device(BluetoothAdapter adapter, String address) {
+    BluetoothDevice device = devices.get(address);
+    if (device == null) {
+      device = adapter.getRemoteDevice(address);
+      if (devices.size() >= MAX_CACHED) {
+        devices.clear();
+      }
+      devices.put(address, device);
+    }
+    return device;
+  }
+
+  void clear() {
+    devices.clear();
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothDevice;
+import android.os.SystemClock;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of {@link Protos.BluetoothDevice}s by address.
+ *
+ * {@code getName()} and {@code getType()} are binder calls into the Bluetooth service, which at
+ * thousands of scan results per second add up. Entries are built once and reused until the
+ * device's name changes ({@link #invalidate}, from {@code ACTION_NAME_CHANGED}) or they are
+ * older than {@link #TTL_MS}, which also picks up a type the stack only learns later.
+ *
+ * Each entry comes in two forms: with {@code remote_id} for the replies to method calls, and
+ * with the address packed (see {@link DeviceIds}) for scan results.
+ */
+class DeviceProtos {
+
+  static final int CAPACITY = 512;
+  static final long TTL_MS = 60000;
+
+  // Guarded by itself; access order, so the eldest entry is the least recently used.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(64, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+      return size() > CAPACITY;
+    }
+  };
+
+  Protos.BluetoothDevice get(BluetoothDevice device) {
+    return get(device, SystemClock.elapsedRealtime());
+  }
+
+  Protos.BluetoothDevice get(BluetoothDevice device, long now) {
+    return entry(device, now).proto;
+  }
+
+  Protos.BluetoothDevice packed(BluetoothDevice device) {
+    return packed(device, SystemClock.elapsedRealtime());
+  }
+
+  Protos.BluetoothDevice packed(BluetoothDevice device, long now) {
+    return entry(device, now).packed;
+  }
+
+  private Entry entry(BluetoothDevice device, long now) {
+    String address = device.getAddress();
+    synchronized (entries) {
+      Entry e = entries.get(address);
+      if (e != null && now - e.createdMs < TTL_MS) {
+        return e;
+      }
+    }
+    // The binder calls happen outside the lock; a concurrent miss just builds it twice.
+    Protos.BluetoothDevice p = ProtoMaker.from(device);
+    Entry e = new Entry(p, ProtoMaker.packed(p), now);
+    synchronized (entries) {
+      entries.put(address, e);
+    }
+    return e;
+  }
+
+  void invalidate(String address) {
+    synchronized (entries) {
+      entries.remove(address);
+    }
+  }
+
+  void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private static final class Entry {
+    final Protos.BluetoothDevice proto;
+    final Protos.BluetoothDevice packed;
+    final long createdMs;
+
+    Entry(Protos.BluetoothDevice proto, Protos.BluetoothDevice packed, long createdMs) {
+      this.proto = proto;
+      this.packed = packed;
+      this.createdMs = createdMs;
+    }
+  }
+}
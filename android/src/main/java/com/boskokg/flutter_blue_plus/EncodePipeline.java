@@ -0,0 +1,119 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small worker pool that encodes GATT callbacks off the binder threads.
+ *
+ * Work is grouped into lanes, one per device. A lane runs its tasks one at a time in submission
+ * order, so messages for a device reach Dart in callback order, while different devices are
+ * encoded in parallel. A lane holds at most {@link #LANE_CAPACITY} pending tasks; past that the
+ * submitting binder thread waits, which is no worse than encoding inline as it used to.
+ */
+class EncodePipeline {
+
+  private static final String TAG = "FlutterBluePlugin";
+  static final int LANE_CAPACITY = 256;
+  // Tasks a lane runs before going to the back of the pool queue, so one chatty device cannot
+  // starve the others.
+  private static final int LANE_BATCH = 32;
+
+  private final ThreadPoolExecutor workers;
+  private final Map<String, Lane> lanes = new HashMap<>();
+
+  EncodePipeline() {
+    int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+    workers = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+          private final AtomicInteger count = new AtomicInteger();
+
+          @Override
+          public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "flutter_blue_plus-encode-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+          }
+        });
+    workers.allowCoreThreadTimeOut(true);
+  }
+
+  void execute(String key, Runnable task) {
+    Lane lane;
+    synchronized (lanes) {
+      boolean interrupted = false;
+      while (true) {
+        // Looked up again after each wait: a lane that drained meanwhile is gone from the map,
+        // and a task added to it would run alongside the key's next lane.
+        lane = lanes.get(key);
+        if (lane == null) {
+          lane = new Lane(key);
+          lanes.put(key, lane);
+        }
+        if (!lane.running || lane.queue.size() < LANE_CAPACITY) {
+          break;
+        }
+        try {
+          lanes.wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      lane.queue.add(task);
+      if (lane.running) {
+        return;
+      }
+      lane.running = true;
+    }
+    workers.execute(lane);
+  }
+
+  private final class Lane implements Runnable {
+    final String key;
+    final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    boolean running; // Guarded by lanes; true while scheduled on or running in the pool.
+
+    Lane(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public void run() {
+      for (int i = 0; i < LANE_BATCH; i++) {
+        Runnable task;
+        synchronized (lanes) {
+          task = queue.poll();
+          if (task == null) {
+            running = false;
+            lanes.remove(key);
+            return;
+          }
+          if (queue.size() == LANE_CAPACITY - 1) {
+            lanes.notifyAll();
+          }
+        }
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          Log.e(TAG, "failed to encode callback for " + key, e);
+        }
+      }
+      workers.execute(this);
+    }
+  }
+}
@@ -30,18 +30,30 @@ import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.ParcelUuid;
+import android.os.SystemClock;
 import android.util.Log;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.MessageLite;
 import com.google.protobuf.InvalidProtocolBufferException;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 import androidx.annotation.NonNull;
 import androidx.core.app.ActivityCompat;
@@ -68,8 +80,10 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   private Context context;
   private MethodChannel channel;
   private static final String NAMESPACE = "flutter_blue_plus";
+  private static final long CLOSE_TIMEOUT_MS = 3000;
 
   private EventChannel stateChannel;
+  private volatile BulkEventChannel events;
   private BluetoothManager mBluetoothManager;
   private BluetoothAdapter mBluetoothAdapter;
 
@@ -77,8 +91,9 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   private ActivityPluginBinding activityBinding;
 
   static final private UUID CCCD_ID = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
-  private final Map<String, BluetoothDeviceCache> mDevices = new HashMap<>();
-  private LogLevel logLevel = LogLevel.EMERGENCY;
+  // Entries are only added and removed on the device's DeviceExecutors shard.
+  private final Map<String, BluetoothDeviceCache> mDevices = new ConcurrentHashMap<>();
+  private volatile LogLevel logLevel = LogLevel.EMERGENCY;
 
   private interface OperationOnPermission {
     void op(boolean granted, String permission);
@@ -87,8 +102,25 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   private int lastEventId = 1452;
   private final Map<Integer, OperationOnPermission> operationsOnPermission = new HashMap<>();
 
-  private final ArrayList<String> macDeviceScanned = new ArrayList<>();
-  private boolean allowDuplicates = false;
+  // Created in setup, so the restart timer can use the main looper.
+  private volatile ScanSessions scanSessions;
+
+  // Posts channel messages onto the platform thread. Replaced by the desktop simulation harness.
+  Executor mainThreadExecutor;
+
+  final Metrics metrics = new Metrics();
+  private final TraceLog trace = new TraceLog();
+  private final SpanTracer spans = new SpanTracer();
+  private final EncodePipeline encoder = new EncodePipeline();
+  private final DeviceExecutors deviceThreads = new DeviceExecutors();
+  private final DeviceIds deviceIds = new DeviceIds();
+  private final DeviceProtos deviceProtos = new DeviceProtos();
+  private final GattSlots gattSlots = new GattSlots(metrics);
+  private final KnownDevices knownDevices = new KnownDevices();
+  private final ConnectionStates connectionStates =
+      new ConnectionStates(device -> mBluetoothManager.getConnectionState(device, BluetoothProfile.GATT));
+  // Subscription ids of the characteristics notifications are enabled on, see setNotification.
+  private final Subscriptions subscriptions = new Subscriptions();
 
   public FlutterBluePlusPlugin() {}
 
@@ -145,17 +177,36 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       stateChannel.setStreamHandler(stateHandler);
       mBluetoothManager = (BluetoothManager) application.getSystemService(Context.BLUETOOTH_SERVICE);
       mBluetoothAdapter = mBluetoothManager.getAdapter();
+      Handler mainHandler = new Handler(Looper.getMainLooper());
+      mainThreadExecutor = mainHandler::post;
+      events = new BulkEventChannel(messenger, NAMESPACE + "/events", mainThreadExecutor, metrics, spans);
+      scanSessions = new ScanSessions(hardwareScanner, mainHandler, metrics);
+      IntentFilter filter = new IntentFilter(BluetoothDevice.ACTION_NAME_CHANGED);
+      filter.addAction(BluetoothAdapter.ACTION_STATE_CHANGED);
+      filter.addAction(BluetoothDevice.ACTION_BOND_STATE_CHANGED);
+      application.registerReceiver(systemReceiver, filter);
     }
   }
 
   private void tearDown() {
     synchronized (tearDownLock) {
       Log.d(TAG, "teardown");
+      context.unregisterReceiver(systemReceiver);
       context = null;
       channel.setMethodCallHandler(null);
       channel = null;
       stateChannel.setStreamHandler(null);
       stateChannel = null;
+      events.close();
+      events = null;
+      scanSessions.stopAll();
+      scanSessions = null;
+      deviceThreads.quit();
+      deviceIds.clear();
+      deviceProtos.clear();
+      gattSlots.closeAll();
+      mDevices.clear();
+      knownDevices.clear();
       mBluetoothAdapter = null;
       mBluetoothManager = null;
     }
@@ -173,6 +224,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
 
   @Override
   public void onMethodCall(@NonNull MethodCall call, @NonNull Result result) {
+    final long requestNanos = spans.isEnabled() ? SystemClock.elapsedRealtimeNanos() : 0;
     if(mBluetoothAdapter == null && !"isAvailable".equals(call.method)) {
       result.error("bluetooth_unavailable", "the device does not have bluetooth", null);
       return;
@@ -187,6 +239,45 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         break;
       }
 
+      case "setTraceEnabled":
+      {
+        boolean enabled = (boolean) call.arguments;
+        trace.setEnabled(enabled);
+        spans.setEnabled(enabled);
+        result.success(null);
+        break;
+      }
+
+      case "dumpTrace":
+      {
+        result.success(trace.dump().toByteArray());
+        break;
+      }
+
+      case "exportTrace":
+      {
+        result.success(spans.toChromeJson());
+        break;
+      }
+
+      case "getMetrics":
+      {
+        result.success(metrics.snapshot().toByteArray());
+        break;
+      }
+
+      case "setEventFlowControl":
+      {
+        byte[] data = call.arguments();
+        try {
+          events.configure(Protos.EventFlowControl.newBuilder().mergeFrom(data).build());
+          result.success(null);
+        } catch (InvalidProtocolBufferException | IllegalArgumentException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+        }
+        break;
+      }
+
       case "state":
       {
         Protos.BluetoothState.Builder p = Protos.BluetoothState.newBuilder();
@@ -246,7 +337,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "pair":
       {
         String deviceId = (String)call.arguments;
-        BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
+        BluetoothDevice device = deviceIds.device(mBluetoothAdapter, deviceId);
         device.createBond();
         result.success(null);
         break;
@@ -255,7 +346,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "removeBond":
       {
         String deviceId = (String)call.arguments;
-        BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
+        BluetoothDevice device = deviceIds.device(mBluetoothAdapter, deviceId);
         try {
           Boolean flag = android.src.main.java.com.boskokg.flutter_blue_plus.ClsUtils.removeBond(device.getClass(),device);
           result.success(flag);
@@ -287,7 +378,13 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
 
       case "stopScan":
       {
-        stopScan();
+        // A session id, or null to stop every session
+        Integer sessionId = call.arguments();
+        if(sessionId != null) {
+          scanSessions.stop(sessionId);
+        } else {
+          scanSessions.stopAll();
+        }
         result.success(null);
         break;
       }
@@ -303,10 +400,10 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           List<BluetoothDevice> devices = mBluetoothManager.getConnectedDevices(BluetoothProfile.GATT);
           Protos.ConnectedDevicesResponse.Builder p = Protos.ConnectedDevicesResponse.newBuilder();
           for (BluetoothDevice d : devices) {
-            p.addDevices(ProtoMaker.from(d));
+            p.addDevices(deviceProtos.get(d));
           }
           result.success(p.build().toByteArray());
-          log(LogLevel.EMERGENCY, "mDevices size: " + mDevices.size());
+          log(LogLevel.EMERGENCY, "mDevices size: %d", mDevices.size());
         });
         break;
       }
@@ -316,10 +413,20 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         final Set<BluetoothDevice> bondedDevices = mBluetoothAdapter.getBondedDevices();
         Protos.ConnectedDevicesResponse.Builder p = Protos.ConnectedDevicesResponse.newBuilder();
         for (BluetoothDevice d : bondedDevices) {
-          p.addDevices(ProtoMaker.from(d));
+          p.addDevices(deviceProtos.get(d));
         }
         result.success(p.build().toByteArray());
-        log(LogLevel.EMERGENCY, "mDevices size: " + mDevices.size());
+        log(LogLevel.EMERGENCY, "mDevices size: %d", mDevices.size());
+        break;
+      }
+
+      case "getKnownDevices":
+      {
+        Set<String> bonded = new HashSet<>();
+        for (BluetoothDevice d : mBluetoothAdapter.getBondedDevices()) {
+          bonded.add(d.getAddress());
+        }
+        result.success(knownDevices.toProto(bonded).toByteArray());
         break;
       }
 
@@ -339,36 +446,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
             result.error("RuntimeException", e.getMessage(), e);
             return;
           }
-          String deviceId = options.getRemoteId();
-          BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
-          boolean isConnected = mBluetoothManager.getConnectedDevices(BluetoothProfile.GATT).contains(device);
-
-          // If device is already connected, return error
-          if(mDevices.containsKey(deviceId) && isConnected) {
-            result.error("already_connected", "connection with device already exists", null);
-            return;
-          }
-
-          // If device was connected to previously but is now disconnected, attempt a reconnect
-          BluetoothDeviceCache bluetoothDeviceCache = mDevices.get(deviceId);
-          if(bluetoothDeviceCache != null && !isConnected) {
-            if(bluetoothDeviceCache.gatt.connect()){
-              result.success(null);
-            } else {
-              result.error("reconnect_error", "error when reconnecting to device", null);
-            }
-            return;
-          }
-
-          // New request, connect and add gattServer to Map
-          BluetoothGatt gattServer;
-          if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-            gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), mGattCallback, BluetoothDevice.TRANSPORT_LE);
-          } else {
-            gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), mGattCallback);
-          }
-          mDevices.put(deviceId, new BluetoothDeviceCache(gattServer));
-          result.success(null);
+          final Protos.ConnectRequest request = options;
+          deviceThreads.execute(request.getRemoteId(), () -> connect(request, onPlatformThread(result), requestNanos));
         });
         break;
       }
@@ -376,25 +455,15 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "disconnect":
       {
         String deviceId = (String)call.arguments;
-        BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
-        BluetoothDeviceCache cache = mDevices.remove(deviceId);
-        if(cache != null) {
-          BluetoothGatt gattServer = cache.gatt;
-          gattServer.disconnect();
-          int state = mBluetoothManager.getConnectionState(device, BluetoothProfile.GATT);
-          if(state == BluetoothProfile.STATE_DISCONNECTED) {
-            gattServer.close();
-          }
-        }
-        result.success(null);
+        deviceThreads.execute(deviceId, () -> disconnect(deviceId, onPlatformThread(result)));
         break;
       }
 
       case "deviceState":
       {
         String deviceId = (String)call.arguments;
-        BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
-        int state = mBluetoothManager.getConnectionState(device, BluetoothProfile.GATT);
+        BluetoothDevice device = deviceIds.device(mBluetoothAdapter, deviceId);
+        int state = connectionStates.get(mDevices.get(deviceId), device);
         try {
           result.success(ProtoMaker.from(device, state).toByteArray());
         } catch(Exception e) {
@@ -406,33 +475,14 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "discoverServices":
       {
         String deviceId = (String)call.arguments;
-        try {
-          BluetoothGatt gatt = locateGatt(deviceId);
-          if(gatt.discoverServices()) {
-            result.success(null);
-          } else {
-            result.error("discover_services_error", "unknown reason", null);
-          }
-        } catch(Exception e) {
-          result.error("discover_services_error", e.getMessage(), e);
-        }
+        deviceThreads.execute(deviceId, () -> discoverServices(deviceId, onPlatformThread(result), requestNanos));
         break;
       }
 
       case "services":
       {
         String deviceId = (String)call.arguments;
-        try {
-          BluetoothGatt gatt = locateGatt(deviceId);
-          Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
-          p.setRemoteId(deviceId);
-          for(BluetoothGattService s : gatt.getServices()){
-            p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
-          }
-          result.success(p.build().toByteArray());
-        } catch(Exception e) {
-          result.error("get_services_error", e.getMessage(), e);
-        }
+        deviceThreads.execute(deviceId, () -> services(deviceId, onPlatformThread(result)));
         break;
       }
 
@@ -446,22 +496,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           result.error("RuntimeException", e.getMessage(), e);
           break;
         }
-
-        BluetoothGatt gattServer;
-        BluetoothGattCharacteristic characteristic;
-        try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-        } catch(Exception e) {
-          result.error("read_characteristic_error", e.getMessage(), null);
-          return;
-        }
-
-        if(gattServer.readCharacteristic(characteristic)) {
-          result.success(null);
-        } else {
-          result.error("read_characteristic_error", "unknown reason, may occur if readCharacteristic was called before last read finished.", null);
-        }
+        final Protos.ReadCharacteristicRequest r = request;
+        deviceThreads.execute(r.getRemoteId(), () -> readCharacteristic(r, onPlatformThread(result), requestNanos));
         break;
       }
 
@@ -475,24 +511,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           result.error("RuntimeException", e.getMessage(), e);
           break;
         }
-
-        BluetoothGatt gattServer;
-        BluetoothGattCharacteristic characteristic;
-        BluetoothGattDescriptor descriptor;
-        try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-          descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
-        } catch(Exception e) {
-          result.error("read_descriptor_error", e.getMessage(), null);
-          return;
-        }
-
-        if(gattServer.readDescriptor(descriptor)) {
-          result.success(null);
-        } else {
-          result.error("read_descriptor_error", "unknown reason, may occur if readDescriptor was called before last read finished.", null);
-        }
+        final Protos.ReadDescriptorRequest r = request;
+        deviceThreads.execute(r.getRemoteId(), () -> readDescriptor(r, onPlatformThread(result), requestNanos));
         break;
       }
 
@@ -506,35 +526,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           result.error("RuntimeException", e.getMessage(), e);
           break;
         }
-
-        BluetoothGatt gattServer;
-        BluetoothGattCharacteristic characteristic;
-        try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-        } catch(Exception e) {
-          result.error("write_characteristic_error", e.getMessage(), null);
-          return;
-        }
-
-        // Set characteristic to new value
-        if(!characteristic.setValue(request.getValue().toByteArray())){
-          result.error("write_characteristic_error", "could not set the local value of characteristic", null);
-        }
-
-        // Apply the correct write type
-        if(request.getWriteType() == Protos.WriteCharacteristicRequest.WriteType.WITHOUT_RESPONSE) {
-          characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
-        } else {
-          characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT);
-        }
-
-        if(!gattServer.writeCharacteristic(characteristic)){
-          result.error("write_characteristic_error", "writeCharacteristic failed", null);
-          return;
-        }
-
-        result.success(null);
+        final Protos.WriteCharacteristicRequest r = request;
+        deviceThreads.execute(r.getRemoteId(), () -> writeCharacteristic(r, onPlatformThread(result), requestNanos));
         break;
       }
 
@@ -548,30 +541,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           result.error("RuntimeException", e.getMessage(), e);
           break;
         }
-
-        BluetoothGatt gattServer;
-        BluetoothGattCharacteristic characteristic;
-        BluetoothGattDescriptor descriptor;
-        try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-          descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
-        } catch(Exception e) {
-          result.error("write_descriptor_error", e.getMessage(), null);
-          return;
-        }
-
-        // Set descriptor to new value
-        if(!descriptor.setValue(request.getValue().toByteArray())){
-          result.error("write_descriptor_error", "could not set the local value for descriptor", null);
-        }
-
-        if(!gattServer.writeDescriptor(descriptor)){
-          result.error("write_descriptor_error", "writeCharacteristic failed", null);
-          return;
-        }
-
-        result.success(null);
+        final Protos.WriteDescriptorRequest r = request;
+        deviceThreads.execute(r.getRemoteId(), () -> writeDescriptor(r, onPlatformThread(result), requestNanos));
         break;
       }
 
@@ -585,76 +556,15 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           result.error("RuntimeException", e.getMessage(), e);
           break;
         }
-
-        BluetoothGatt gattServer;
-        BluetoothGattCharacteristic characteristic;
-        BluetoothGattDescriptor cccDescriptor;
-        try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-          cccDescriptor = characteristic.getDescriptor(CCCD_ID);
-          if(cccDescriptor == null) {
-            //Some devices - including the widely used Bluno do not actually set the CCCD_ID.
-            //thus setNotifications works perfectly (tested on Bluno) without cccDescriptor
-            log(LogLevel.INFO, "could not locate CCCD descriptor for characteristic: " + characteristic.getUuid().toString());
-          }
-        } catch(Exception e) {
-          result.error("set_notification_error", e.getMessage(), null);
-          return;
-        }
-
-        byte[] value = null;
-
-        if(request.getEnable()) {
-          boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
-          boolean canIndicate = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_INDICATE) > 0;
-          if(!canIndicate && !canNotify) {
-            result.error("set_notification_error", "the characteristic cannot notify or indicate", null);
-            return;
-          }
-          if(canIndicate) {
-            value = BluetoothGattDescriptor.ENABLE_INDICATION_VALUE;
-          }
-          if(canNotify) {
-            value = BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE;
-          }
-        } else {
-          value = BluetoothGattDescriptor.DISABLE_NOTIFICATION_VALUE;
-        }
-
-        if(!gattServer.setCharacteristicNotification(characteristic, request.getEnable())){
-          result.error("set_notification_error", "could not set characteristic notifications to :" + request.getEnable(), null);
-          return;
-        }
-
-        if(cccDescriptor != null) {
-          if (!cccDescriptor.setValue(value)) {
-            result.error("set_notification_error", "error when setting the descriptor value to: " + Arrays.toString(value), null);
-            return;
-          }
-
-          if (!gattServer.writeDescriptor(cccDescriptor)) {
-            result.error("set_notification_error", "error when writing the descriptor", null);
-            return;
-          }
-        }
-
-        result.success(null);
+        final Protos.SetNotificationRequest r = request;
+        deviceThreads.execute(r.getRemoteId(), () -> setNotification(r, onPlatformThread(result), requestNanos));
         break;
       }
 
       case "mtu":
       {
         String deviceId = (String)call.arguments;
-        BluetoothDeviceCache cache = mDevices.get(deviceId);
-        if(cache != null) {
-          Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
-          p.setRemoteId(deviceId);
-          p.setMtu(cache.mtu);
-          result.success(p.build().toByteArray());
-        } else {
-          result.error("mtu", "no instance of BluetoothGatt, have you connected first?", null);
-        }
+        deviceThreads.execute(deviceId, () -> mtu(deviceId, onPlatformThread(result)));
         break;
       }
 
@@ -668,42 +578,29 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           result.error("RuntimeException", e.getMessage(), e);
           break;
         }
-
-        BluetoothGatt gatt;
-        try {
-          gatt = locateGatt(request.getRemoteId());
-          int mtu = request.getMtu();
-          if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            if(gatt.requestMtu(mtu)) {
-              result.success(null);
-            } else {
-              result.error("requestMtu", "gatt.requestMtu returned false", null);
-            }
-          } else {
-            result.error("requestMtu", "Only supported on devices >= API 21 (Lollipop). This device == " + Build.VERSION.SDK_INT, null);
-          }
-        } catch(Exception e) {
-          result.error("requestMtu", e.getMessage(), e);
-        }
-
+        final Protos.MtuSizeRequest r = request;
+        deviceThreads.execute(r.getRemoteId(), () -> requestMtu(r, onPlatformThread(result), requestNanos));
         break;
       }
 
       case "readRssi":
       {
         String remoteId = (String)call.arguments;
-        BluetoothGatt gatt;
+        deviceThreads.execute(remoteId, () -> readRssi(remoteId, onPlatformThread(result), requestNanos));
+        break;
+      }
+
+      case "executeBatch":
+      {
+        byte[] data = call.arguments();
+        Protos.BatchRequest request;
         try {
-          gatt = locateGatt(remoteId);
-          if(gatt.readRemoteRssi()) {
-            result.success(null);
-          } else {
-            result.error("readRssi", "gatt.readRemoteRssi returned false", null);
-          }
-        } catch(Exception e) {
-          result.error("readRssi", e.getMessage(), e);
+          request = Protos.BatchRequest.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
         }
-
+        executeBatch(request, onPlatformThread(result), requestNanos);
         break;
       }
 
@@ -715,98 +612,955 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     }
   }
 
-  private void ensurePermissionBeforeAction(String permission, OperationOnPermission operation) {
-    if (permission != null &&
-            ContextCompat.checkSelfPermission(context, permission) != PackageManager.PERMISSION_GRANTED) {
-      operationsOnPermission.put(lastEventId, (granted, perm) -> {
-        operationsOnPermission.remove(lastEventId);
-        operation.op(granted, perm);
-      });
-      ActivityCompat.requestPermissions(
-              activityBinding.getActivity(),
-              new String[]{permission},
-              lastEventId);
-      lastEventId++;
-    } else {
-      operation.op(true, permission);
+  // Device methods below run on the device's DeviceExecutors shard; their results are posted back
+  // to the platform thread by onPlatformThread.
+
+  private void connect(Protos.ConnectRequest options, Result result, long requestNanos) {
+    String deviceId = options.getRemoteId();
+    BluetoothDevice device = deviceIds.device(mBluetoothAdapter, deviceId);
+    BluetoothDeviceCache bluetoothDeviceCache = mDevices.get(deviceId);
+    if(bluetoothDeviceCache != null && !gattSlots.claim(deviceId, bluetoothDeviceCache.gatt)) {
+      // Its client was closed, or is being closed to free a slot; start over with a new one
+      retire(deviceId, bluetoothDeviceCache.gatt);
+      bluetoothDeviceCache = null;
+    }
+    boolean isConnected = connectionStates.isConnected(bluetoothDeviceCache);
+
+    // If device is already connected, return error
+    if(isConnected) {
+      result.error("already_connected", "connection with device already exists", null);
+      return;
+    }
+
+    // If device was connected to previously but is now disconnected, attempt a reconnect. The
+    // reconnect policy's outage ends here; the session is restored only if the app asks for it,
+    // otherwise the app sets up its own notifications and the restore's CCCD writes would race them.
+    if(bluetoothDeviceCache != null) {
+      cancelReconnect(bluetoothDeviceCache);
+      bluetoothDeviceCache.reconnectPolicy = ReconnectPolicy.from(options.getReconnect());
+      bluetoothDeviceCache.disconnectedNanos = 0;
+      bluetoothDeviceCache.reconnectAttempts = 0;
+      bluetoothDeviceCache.restoreOnConnect = options.getRestoreNotifications();
+      long previous = gattOpStarted(deviceId, Metrics.GattOp.CONNECT, requestNanos);
+      if(bluetoothDeviceCache.gatt.connect()){
+        result.success(null);
+      } else {
+        gattOpAborted(deviceId, Metrics.GattOp.CONNECT, previous);
+        result.error("reconnect_error", "error when reconnecting to device", null);
+      }
+      return;
+    }
+
+    // New request, connect and add gattServer to Map
+    BluetoothGatt gatt = openGatt(device, options.getAndroidAutoConnect());
+    if(gatt == null) {
+      result.error("connect_error", "connectGatt returned null", null);
+      return;
     }
+    BluetoothDeviceCache cache = new BluetoothDeviceCache(gatt);
+    cache.reconnectPolicy = ReconnectPolicy.from(options.getReconnect());
+    mDevices.put(deviceId, cache);
+    gattOpStarted(deviceId, Metrics.GattOp.CONNECT, requestNanos);
+    result.success(null);
   }
 
-  private BluetoothGatt locateGatt(String remoteId) throws Exception {
-    BluetoothDeviceCache cache = mDevices.get(remoteId);
-    if(cache == null || cache.gatt == null) {
-      throw new Exception("no instance of BluetoothGatt, have you connected first?");
+  // From API 26 the callbacks are delivered on the device's shard too. Below that connectGatt has
+  // no Handler overload and they arrive on binder threads, at the same time as the shard's work;
+  // see mGattCallback for what that leaves them free to touch.
+  private BluetoothGatt openGatt(BluetoothDevice device, boolean autoConnect) {
+    // The idle clients to make room for are closed here, so their slots are free before
+    // connectGatt; each device is then dropped on its own shard.
+    for(BluetoothGatt victim : gattSlots.victims()) {
+      String victimId = victim.getDevice().getAddress();
+      gattSlots.close(victim);
+      metrics.gattClientsEvicted.incrementAndGet();
+      log(LogLevel.INFO, "[gatt] closed the idle client of %s to free a slot", victimId);
+      deviceThreads.execute(victimId, () -> retire(victimId, victim));
+    }
+    BluetoothGatt gatt;
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      gatt = device.connectGatt(context, autoConnect, mGattCallback, BluetoothDevice.TRANSPORT_LE,
+          BluetoothDevice.PHY_LE_1M_MASK, deviceThreads.handler(device.getAddress()));
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      gatt = device.connectGatt(context, autoConnect, mGattCallback, BluetoothDevice.TRANSPORT_LE);
     } else {
-      return cache.gatt;
+      gatt = device.connectGatt(context, autoConnect, mGattCallback);
+    }
+    if(gatt != null) {
+      gattSlots.opened(gatt);
     }
+    return gatt;
   }
 
-  private BluetoothGattCharacteristic locateCharacteristic(BluetoothGatt gattServer, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
-    BluetoothGattService primaryService = gattServer.getService(UUID.fromString(serviceId));
-    if(primaryService == null) {
-      throw new Exception("service (" + serviceId + ") could not be located on the device");
+  // Drops a device whose client was closed under it, unless a connect() has already replaced
+  // that client. Runs on the device's shard, and again from connect() if that gets there first.
+  private void retire(String deviceId, BluetoothGatt gatt) {
+    BluetoothDeviceCache cache = mDevices.get(deviceId);
+    if(cache == null || cache.gatt != gatt) {
+      return;
     }
-    BluetoothGattService secondaryService = null;
-    if(secondaryServiceId.length() > 0) {
-      for(BluetoothGattService s : primaryService.getIncludedServices()){
-        if(s.getUuid().equals(UUID.fromString(secondaryServiceId))){
-          secondaryService = s;
-        }
-      }
-      if(secondaryService == null) {
-        throw new Exception("secondary service (" + secondaryServiceId + ") could not be located on the device");
+    mDevices.remove(deviceId);
+    cancelReconnect(cache);
+    gattSlots.close(gatt);
+    metrics.forgetDevice(deviceId);
+    subscriptions.unroute(cache);
+    releaseBatch(cache);
+    dropCoalescedWrites(cache);
+  }
+
+  private void disconnect(String deviceId, Result result) {
+    BluetoothDeviceCache cache = mDevices.remove(deviceId);
+    if(cache != null) {
+      cancelReconnect(cache);
+      gattSlots.busy(deviceId);
+      final BluetoothGatt gattServer = cache.gatt;
+      gattServer.disconnect();
+      if(cache.connectionState == BluetoothProfile.STATE_DISCONNECTED) {
+        gattSlots.close(gattServer);
+      } else {
+        // Normally closed by onConnectionStateChange once the link is down; this covers a
+        // disconnect that never reports back.
+        deviceThreads.handler(deviceId).postDelayed(() -> gattSlots.close(gattServer), CLOSE_TIMEOUT_MS);
       }
+      metrics.forgetDevice(deviceId);
+      subscriptions.unroute(cache);
+      releaseBatch(cache);
+      dropCoalescedWrites(cache);
     }
-    BluetoothGattService service = (secondaryService != null) ? secondaryService : primaryService;
-    BluetoothGattCharacteristic characteristic = service.getCharacteristic(UUID.fromString(characteristicId));
-    if(characteristic == null) {
-      throw new Exception("characteristic (" + characteristicId + ") could not be located in the service ("+service.getUuid().toString()+")");
-    }
-    return characteristic;
+    result.success(null);
   }
 
-  private BluetoothGattDescriptor locateDescriptor(BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
-    BluetoothGattDescriptor descriptor = characteristic.getDescriptor(UUID.fromString(descriptorId));
-    if(descriptor == null) {
-      throw new Exception("descriptor (" + descriptorId + ") could not be located in the characteristic ("+characteristic.getUuid().toString()+")");
+  private void discoverServices(String deviceId, Result result, long requestNanos) {
+    try {
+      BluetoothGatt gatt = locateGatt(deviceId);
+      long previous = gattOpStarted(deviceId, Metrics.GattOp.DISCOVER_SERVICES, requestNanos);
+      if(gatt.discoverServices()) {
+        result.success(null);
+      } else {
+        gattOpAborted(deviceId, Metrics.GattOp.DISCOVER_SERVICES, previous);
+        result.error("discover_services_error", "unknown reason", null);
+      }
+    } catch(Exception e) {
+      result.error("discover_services_error", e.getMessage(), e);
     }
-    return descriptor;
   }
 
-  private final StreamHandler stateHandler = new StreamHandler() {
-    private EventSink sink;
+  private void services(String deviceId, Result result) {
+    try {
+      BluetoothGatt gatt = locateGatt(deviceId);
+      Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
+      p.setRemoteId(deviceId);
+      for(BluetoothGattService s : gatt.getServices()){
+        p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
+      }
+      result.success(p.build().toByteArray());
+    } catch(Exception e) {
+      result.error("get_services_error", e.getMessage(), e);
+    }
+  }
 
-    private final BroadcastReceiver mReceiver = new BroadcastReceiver() {
-      @Override
-      public void onReceive(Context context, Intent intent) {
-        final String action = intent.getAction();
+  private void readCharacteristic(Protos.ReadCharacteristicRequest request, Result result, long requestNanos) {
+    BluetoothGatt gattServer;
+    BluetoothGattCharacteristic characteristic;
+    try {
+      gattServer = locateGatt(request.getRemoteId());
+      characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+    } catch(Exception e) {
+      result.error("read_characteristic_error", e.getMessage(), null);
+      return;
+    }
 
-        if (BluetoothAdapter.ACTION_STATE_CHANGED.equals(action)) {
-          final int state = intent.getIntExtra(BluetoothAdapter.EXTRA_STATE,
-                  BluetoothAdapter.ERROR);
-          switch (state) {
-            case BluetoothAdapter.STATE_OFF:
-              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.OFF).build().toByteArray());
-              break;
-            case BluetoothAdapter.STATE_TURNING_OFF:
-              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.TURNING_OFF).build().toByteArray());
-              break;
-            case BluetoothAdapter.STATE_ON:
-              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.ON).build().toByteArray());
-              break;
-            case BluetoothAdapter.STATE_TURNING_ON:
-              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.TURNING_ON).build().toByteArray());
-              break;
-          }
-        }
+    if(request.getMaxAgeMs() > 0) {
+      BluetoothDeviceCache cache = mDevices.get(request.getRemoteId());
+      ByteString cached = cache != null
+          ? cache.values.get(characteristic, request.getMaxAgeMs(), SystemClock.elapsedRealtime())
+          : null;
+      if(cached != null) {
+        metrics.valueCacheHits.incrementAndGet();
+        result.success(null);
+        sendCharacteristicRead(gattServer, characteristic, cached, SpanTracer.NONE);
+        return;
       }
-    };
+      metrics.valueCacheMisses.incrementAndGet();
+    }
 
-    @Override
-    public void onListen(Object o, EventChannel.EventSink eventSink) {
-      sink = eventSink;
-      IntentFilter filter = new IntentFilter(BluetoothAdapter.ACTION_STATE_CHANGED);
-      context.registerReceiver(mReceiver, filter);
+    long previous = gattOpStarted(request.getRemoteId(), Metrics.GattOp.READ_CHARACTERISTIC, requestNanos);
+    if(gattServer.readCharacteristic(characteristic)) {
+      result.success(null);
+    } else {
+      gattOpAborted(request.getRemoteId(), Metrics.GattOp.READ_CHARACTERISTIC, previous);
+      result.error("read_characteristic_error", "unknown reason, may occur if readCharacteristic was called before last read finished.", null);
+    }
+  }
+
+  // The response to a read, whether the value came from the peripheral or the value cache.
+  private void sendCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, ByteString value, long span) {
+    encoder.execute(gatt.getDevice().getAddress(), () -> {
+      Protos.ReadCharacteristicResponse.Builder p = Protos.ReadCharacteristicResponse.newBuilder();
+      p.setRemoteId(gatt.getDevice().getAddress());
+      p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt, value));
+      byte[] bytes = p.build().toByteArray();
+      spans.encoded(span);
+      invokeMethodUIThread("ReadCharacteristicResponse", bytes, span);
+    });
+  }
+
+  // Updates the cached value of characteristic; null when the value is no longer known, e.g.
+  // after a write.
+  private void cacheValue(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, ByteString value) {
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    if(cache == null) {
+      return;
+    }
+    if(value != null) {
+      cache.values.put(characteristic, value, SystemClock.elapsedRealtime());
+    } else {
+      cache.values.forget(characteristic);
+    }
+  }
+
+  private void readDescriptor(Protos.ReadDescriptorRequest request, Result result, long requestNanos) {
+    BluetoothGatt gattServer;
+    BluetoothGattCharacteristic characteristic;
+    BluetoothGattDescriptor descriptor;
+    try {
+      gattServer = locateGatt(request.getRemoteId());
+      characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+      descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
+    } catch(Exception e) {
+      result.error("read_descriptor_error", e.getMessage(), null);
+      return;
+    }
+
+    long previous = gattOpStarted(request.getRemoteId(), Metrics.GattOp.READ_DESCRIPTOR, requestNanos);
+    if(gattServer.readDescriptor(descriptor)) {
+      result.success(null);
+    } else {
+      gattOpAborted(request.getRemoteId(), Metrics.GattOp.READ_DESCRIPTOR, previous);
+      result.error("read_descriptor_error", "unknown reason, may occur if readDescriptor was called before last read finished.", null);
+    }
+  }
+
+  private void writeCharacteristic(Protos.WriteCharacteristicRequest request, Result result, long requestNanos) {
+    BluetoothGatt gattServer;
+    BluetoothGattCharacteristic characteristic;
+    try {
+      gattServer = locateGatt(request.getRemoteId());
+      characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+    } catch(Exception e) {
+      result.error("write_characteristic_error", e.getMessage(), null);
+      return;
+    }
+
+    // Last write wins: the stack runs one operation at a time, so while a coalescing write is in
+    // flight only the newest value of each characteristic waits, and goes out from
+    // coalescedWriteDone. The value it replaces is answered as superseded.
+    BluetoothDeviceCache cache = request.getCoalesce() ? mDevices.get(request.getRemoteId()) : null;
+    if(cache != null && !cache.coalescedInFlight.isEmpty()) {
+      Protos.WriteCharacteristicRequest replaced = cache.coalescedWrites.put(characteristic, request); // Keeps its place
+      if(replaced != null) {
+        metrics.writesCoalesced.incrementAndGet();
+        coalescedWriteAnswered(replaced, true);
+      }
+      result.success(null);
+      return;
+    }
+
+    // Set characteristic to new value
+    if(!characteristic.setValue(request.getValue().toByteArray())){
+      result.error("write_characteristic_error", "could not set the local value of characteristic", null);
+      return;
+    }
+
+    // Apply the correct write type
+    if(request.getWriteType() == Protos.WriteCharacteristicRequest.WriteType.WITHOUT_RESPONSE) {
+      characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
+    } else {
+      characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT);
+    }
+
+    // Set before the write: below API 26 onCharacteristicWrite can run before it returns, and
+    // must see the write to tag its response and hand over to the ones queued behind it.
+    if(cache != null) {
+      cache.coalescedInFlight.put(characteristic, request.getWriteId());
+    }
+    long previous = gattOpStarted(request.getRemoteId(), Metrics.GattOp.WRITE_CHARACTERISTIC, requestNanos);
+    if(!gattServer.writeCharacteristic(characteristic)){
+      gattOpAborted(request.getRemoteId(), Metrics.GattOp.WRITE_CHARACTERISTIC, previous);
+      if(cache != null) {
+        cache.coalescedInFlight.remove(characteristic);
+      }
+      result.error("write_characteristic_error", "writeCharacteristic failed", null);
+      return;
+    }
+
+    result.success(null);
+  }
+
+  // Runs on the device's shard once the coalescing write of characteristic has completed; sends
+  // the queued writes in order until one is in flight.
+  private void coalescedWriteDone(BluetoothDeviceCache cache, BluetoothGattCharacteristic characteristic) {
+    cache.coalescedInFlight.remove(characteristic);
+    Iterator<Protos.WriteCharacteristicRequest> it = cache.coalescedWrites.values().iterator();
+    while(cache.coalescedInFlight.isEmpty() && it.hasNext()) {
+      Protos.WriteCharacteristicRequest request = it.next();
+      it.remove();
+      writeCharacteristic(request, coalescedWriteResult(request), 0);
+    }
+  }
+
+  // A queued coalescing write was answered when it was queued; if it cannot be sent, the
+  // write() waiting for its acknowledgement gets a failed WriteCharacteristicResponse instead.
+  private Result coalescedWriteResult(final Protos.WriteCharacteristicRequest request) {
+    return new Result() {
+      @Override
+      public void success(Object o) {
+      }
+
+      @Override
+      public void error(String errorCode, String errorMessage, Object errorDetails) {
+        log(LogLevel.WARNING, "[write] coalesced write not sent: %s", errorMessage);
+        coalescedWriteAnswered(request, false);
+      }
+
+      @Override
+      public void notImplemented() {
+      }
+    };
+  }
+
+  // Answers a queued coalescing write that will not be sent: failed, or replaced by a newer value.
+  private void coalescedWriteAnswered(Protos.WriteCharacteristicRequest request, boolean superseded) {
+    Protos.WriteCharacteristicRequest.Builder r = Protos.WriteCharacteristicRequest.newBuilder();
+    r.setRemoteId(request.getRemoteId());
+    r.setCharacteristicUuid(request.getCharacteristicUuid());
+    r.setServiceUuid(request.getServiceUuid());
+    r.setWriteId(request.getWriteId());
+    Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
+    p.setRequest(r);
+    p.setSuccess(false);
+    p.setSuperseded(superseded);
+    invokeMethodUIThread("WriteCharacteristicResponse", p.build().toByteArray());
+  }
+
+  // Fails the coalescing writes still queued when the device goes away. On the device's shard.
+  private void dropCoalescedWrites(BluetoothDeviceCache cache) {
+    for(Protos.WriteCharacteristicRequest request : cache.coalescedWrites.values()) {
+      coalescedWriteAnswered(request, false);
+    }
+    cache.coalescedWrites.clear();
+    cache.coalescedInFlight.clear();
+  }
+
+  private void writeDescriptor(Protos.WriteDescriptorRequest request, Result result, long requestNanos) {
+    BluetoothGatt gattServer;
+    BluetoothGattCharacteristic characteristic;
+    BluetoothGattDescriptor descriptor;
+    try {
+      gattServer = locateGatt(request.getRemoteId());
+      characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+      descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
+    } catch(Exception e) {
+      result.error("write_descriptor_error", e.getMessage(), null);
+      return;
+    }
+
+    // Set descriptor to new value
+    if(!descriptor.setValue(request.getValue().toByteArray())){
+      result.error("write_descriptor_error", "could not set the local value for descriptor", null);
+    }
+
+    long previous = gattOpStarted(request.getRemoteId(), Metrics.GattOp.WRITE_DESCRIPTOR, requestNanos);
+    if(!gattServer.writeDescriptor(descriptor)){
+      gattOpAborted(request.getRemoteId(), Metrics.GattOp.WRITE_DESCRIPTOR, previous);
+      result.error("write_descriptor_error", "writeCharacteristic failed", null);
+      return;
+    }
+
+    result.success(null);
+  }
+
+  private void setNotification(Protos.SetNotificationRequest request, Result result, long requestNanos) {
+    BluetoothGatt gattServer;
+    BluetoothGattCharacteristic characteristic;
+    BluetoothGattDescriptor cccDescriptor;
+    try {
+      gattServer = locateGatt(request.getRemoteId());
+      characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+      cccDescriptor = characteristic.getDescriptor(CCCD_ID);
+      if(cccDescriptor == null) {
+        //Some devices - including the widely used Bluno do not actually set the CCCD_ID.
+        //thus setNotifications works perfectly (tested on Bluno) without cccDescriptor
+        log(LogLevel.INFO, "could not locate CCCD descriptor for characteristic: %s", characteristic.getUuid());
+      }
+    } catch(Exception e) {
+      result.error("set_notification_error", e.getMessage(), null);
+      return;
+    }
+
+    byte[] value = null;
+
+    if(request.getEnable()) {
+      boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
+      boolean canIndicate = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_INDICATE) > 0;
+      if(!canIndicate && !canNotify) {
+        result.error("set_notification_error", "the characteristic cannot notify or indicate", null);
+        return;
+      }
+      if(canIndicate) {
+        value = BluetoothGattDescriptor.ENABLE_INDICATION_VALUE;
+      }
+      if(canNotify) {
+        value = BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE;
+      }
+    } else {
+      value = BluetoothGattDescriptor.DISABLE_NOTIFICATION_VALUE;
+    }
+
+    if(!gattServer.setCharacteristicNotification(characteristic, request.getEnable())){
+      result.error("set_notification_error", "could not set characteristic notifications to :" + request.getEnable(), null);
+      return;
+    }
+
+    // The id tags the characteristic's notifications so Dart can hand each one straight to its
+    // listeners. It is kept across reconnects, and assigned before the CCCD write so that
+    // SetNotificationResponse carries it.
+    BluetoothDeviceCache cache = mDevices.get(request.getRemoteId());
+    String key = request.getServiceUuid() + "/" + request.getSecondaryServiceUuid() + "/" + request.getCharacteristicUuid();
+    if(cache != null && request.getEnable()) {
+      subscriptions.enable(cache, key, characteristic);
+    }
+
+    if(cccDescriptor != null) {
+      if (!cccDescriptor.setValue(value)) {
+        result.error("set_notification_error", "error when setting the descriptor value to: " + Arrays.toString(value), null);
+        return;
+      }
+
+      long previous = gattOpStarted(request.getRemoteId(), Metrics.GattOp.SET_NOTIFICATION, requestNanos);
+      if (!gattServer.writeDescriptor(cccDescriptor)) {
+        gattOpAborted(request.getRemoteId(), Metrics.GattOp.SET_NOTIFICATION, previous);
+        result.error("set_notification_error", "error when writing the descriptor", null);
+        return;
+      }
+    }
+
+    // Remembered so a reconnect policy can enable them again
+    if(cache != null) {
+      if(request.getEnable()) {
+        cache.notifications.put(key, request);
+      } else {
+        cache.notifications.remove(key);
+        subscriptions.disable(cache, key, characteristic);
+      }
+    }
+
+    result.success(null);
+  }
+
+  private void mtu(String deviceId, Result result) {
+    BluetoothDeviceCache cache = mDevices.get(deviceId);
+    if(cache != null) {
+      Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
+      p.setRemoteId(deviceId);
+      p.setMtu(cache.mtu);
+      result.success(p.build().toByteArray());
+    } else {
+      result.error("mtu", "no instance of BluetoothGatt, have you connected first?", null);
+    }
+  }
+
+  private void requestMtu(Protos.MtuSizeRequest request, Result result, long requestNanos) {
+    BluetoothGatt gatt;
+    try {
+      gatt = locateGatt(request.getRemoteId());
+      int mtu = request.getMtu();
+      if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+        long previous = gattOpStarted(request.getRemoteId(), Metrics.GattOp.REQUEST_MTU, requestNanos);
+        if(gatt.requestMtu(mtu)) {
+          mDevices.get(request.getRemoteId()).requestedMtu = mtu;
+          result.success(null);
+        } else {
+          gattOpAborted(request.getRemoteId(), Metrics.GattOp.REQUEST_MTU, previous);
+          result.error("requestMtu", "gatt.requestMtu returned false", null);
+        }
+      } else {
+        result.error("requestMtu", "Only supported on devices >= API 21 (Lollipop). This device == " + Build.VERSION.SDK_INT, null);
+      }
+    } catch(Exception e) {
+      result.error("requestMtu", e.getMessage(), e);
+    }
+  }
+
+  private void readRssi(String remoteId, Result result, long requestNanos) {
+    BluetoothGatt gatt;
+    try {
+      gatt = locateGatt(remoteId);
+      long previous = gattOpStarted(remoteId, Metrics.GattOp.READ_RSSI, requestNanos);
+      if(gatt.readRemoteRssi()) {
+        result.success(null);
+      } else {
+        gattOpAborted(remoteId, Metrics.GattOp.READ_RSSI, previous);
+        result.error("readRssi", "gatt.readRemoteRssi returned false", null);
+      }
+    } catch(Exception e) {
+      result.error("readRssi", e.getMessage(), e);
+    }
+  }
+
+  // The commands of each device run in order on its shard, each issued once the GATT callback of
+  // the one before has come in, as Android rejects a call while another is outstanding; different
+  // devices go side by side. The callbacks send their usual messages, and the reply says whether
+  // each command was issued.
+  private void executeBatch(Protos.BatchRequest request, Result result, long requestNanos) {
+    Map<String, List<Integer>> byDevice = new LinkedHashMap<>();
+    for(int i = 0; i < request.getCommandsCount(); i++) {
+      String deviceId = BatchRun.remoteId(request.getCommands(i));
+      if(deviceId == null) {
+        continue; // Reported as an empty command
+      }
+      List<Integer> commands = byDevice.get(deviceId);
+      if(commands == null) {
+        commands = new ArrayList<>();
+        byDevice.put(deviceId, commands);
+      }
+      commands.add(i);
+    }
+    BatchRun run = new BatchRun(request.getCommandsList(), request.getTimeoutMs(), byDevice.size(), result);
+    for(Map.Entry<String, List<Integer>> e : byDevice.entrySet()) {
+      String deviceId = e.getKey();
+      List<Integer> commands = e.getValue();
+      deviceThreads.execute(deviceId, () -> runBatch(run, deviceId, commands, 0, requestNanos));
+    }
+  }
+
+  private void runBatch(BatchRun run, String deviceId, List<Integer> commands, int next, long requestNanos) {
+    // The command before has completed; its timeout was posted with the device's commands as token
+    deviceThreads.handler(deviceId).removeCallbacksAndMessages(commands);
+    if(next == commands.size()) {
+      run.deviceDone();
+      return;
+    }
+    int i = commands.get(next);
+    Protos.BatchCommand command = run.commands.get(i);
+    Metrics.GattOp op = BatchRun.op(command);
+    BatchRun.Step step = new BatchRun.Step(op,
+        () -> deviceThreads.execute(deviceId, () -> runBatch(run, deviceId, commands, next + 1, requestNanos)));
+    BluetoothDeviceCache cache = mDevices.get(deviceId);
+    if(cache != null) {
+      // Another batch for the device would wait forever; it just moves on.
+      BatchRun.Step other = cache.batchStep.getAndSet(step);
+      if(other != null) {
+        other.next.run();
+      }
+    }
+    Result result = run.resultOf(i);
+    switch(command.getCommandCase()) {
+      case READ_CHARACTERISTIC: readCharacteristic(command.getReadCharacteristic(), result, requestNanos); break;
+      case READ_DESCRIPTOR: readDescriptor(command.getReadDescriptor(), result, requestNanos); break;
+      case WRITE_CHARACTERISTIC: writeCharacteristic(command.getWriteCharacteristic(), result, requestNanos); break;
+      case WRITE_DESCRIPTOR: writeDescriptor(command.getWriteDescriptor(), result, requestNanos); break;
+      case SET_NOTIFICATION: setNotification(command.getSetNotification(), result, requestNanos); break;
+      case REQUEST_MTU: requestMtu(command.getRequestMtu(), result, requestNanos); break;
+      case DISCOVER_SERVICES: discoverServices(deviceId, result, requestNanos); break;
+      case READ_RSSI: readRssi(deviceId, result, requestNanos); break;
+    }
+    // Nothing issued means the call failed or needed no GATT operation (a CCCD-less
+    // setNotification, a read answered from the value cache). An issued one may already have been
+    // answered, in which case gattOpFinished took the step and the timeout finds nothing to do.
+    if(cache == null) {
+      step.next.run();
+    } else if(!step.issued) {
+      if(cache.batchStep.compareAndSet(step, null)) {
+        step.next.run();
+      }
+    } else {
+      deviceThreads.handler(deviceId).postAtTime(() -> {
+        if(cache.batchStep.compareAndSet(step, null)) {
+          log(LogLevel.WARNING, "[batch] %s: %s timed out", deviceId, op);
+          run.timedOut(commands, next);
+        }
+      }, commands, SystemClock.uptimeMillis() + run.timeoutMs);
+    }
+  }
+
+  // Lets a batch waiting on a callback that will not come go on; its next command then fails
+  // the way the single call would.
+  private void releaseBatch(BluetoothDeviceCache cache) {
+    BatchRun.Step step = cache.batchStep.getAndSet(null);
+    if(step != null) {
+      step.next.run();
+    }
+  }
+
+  // Reconnects and session restore. Everything below runs on the device's shard; the GATT
+  // callbacks hop there through onSessionStateChange and restoreStepDone.
+
+  private void onSessionStateChange(BluetoothGatt gatt, BluetoothDeviceCache cache, int newState) {
+    String deviceId = gatt.getDevice().getAddress();
+    if(mDevices.get(deviceId) != cache || cache.gatt != gatt) {
+      return; // Disconnected by the app, or a gatt we already replaced
+    }
+    if(newState == BluetoothProfile.STATE_CONNECTED) {
+      gattSlots.busy(deviceId);
+      boolean restore = cache.restoreOnConnect;
+      cache.restoreOnConnect = false;
+      if(cache.disconnectedNanos != 0) {
+        metrics.reconnects.incrementAndGet();
+        metrics.reconnectTime.record((SystemClock.elapsedRealtimeNanos() - cache.disconnectedNanos) / 1000);
+        log(LogLevel.INFO, "[reconnect] %s reconnected after %d attempts", deviceId, cache.reconnectAttempts);
+        cache.disconnectedNanos = 0;
+        cache.reconnectAttempts = 0;
+        restore = true;
+      }
+      // Connections the policy brought back are always restored; one the app brought back with
+      // connect() only if it asked for restore_notifications.
+      if(restore) {
+        restoreSession(cache);
+      }
+    } else if(newState == BluetoothProfile.STATE_DISCONNECTED) {
+      cache.restorePhase = BluetoothDeviceCache.RESTORE_NONE;
+      cache.restoreQueue = null;
+      cache.values.clear(); // The next gatt has new characteristics
+      dropCoalescedWrites(cache);
+      releaseBatch(cache);
+      if(cache.reconnectPolicy != null) {
+        if(cache.disconnectedNanos == 0) {
+          cache.disconnectedNanos = SystemClock.elapsedRealtimeNanos();
+        }
+        scheduleReconnect(deviceId, cache);
+      } else {
+        gattSlots.idle(deviceId, cache.gatt);
+      }
+    }
+  }
+
+  private void scheduleReconnect(final String deviceId, final BluetoothDeviceCache cache) {
+    ReconnectPolicy policy = cache.reconnectPolicy;
+    if(policy.exhausted(cache.reconnectAttempts)) {
+      metrics.reconnectsAbandoned.incrementAndGet();
+      log(LogLevel.WARNING, "[reconnect] %s giving up after %d attempts", deviceId, cache.reconnectAttempts);
+      cache.disconnectedNanos = 0;
+      cache.reconnectAttempts = 0;
+      gattSlots.idle(deviceId, cache.gatt);
+      return;
+    }
+    long delay = policy.delayMs(cache.reconnectAttempts);
+    log(LogLevel.DEBUG, "[reconnect] %s next attempt in %dms", deviceId, delay);
+    cancelReconnect(cache);
+    cache.pendingReconnect = () -> reconnect(deviceId, cache);
+    deviceThreads.handler(deviceId).postDelayed(cache.pendingReconnect, delay);
+  }
+
+  private void reconnect(String deviceId, BluetoothDeviceCache cache) {
+    cache.pendingReconnect = null;
+    if(mDevices.get(deviceId) != cache || mBluetoothAdapter == null) {
+      return;
+    }
+    boolean autoConnect = cache.reconnectPolicy.useAutoConnect(cache.reconnectAttempts);
+    cache.reconnectAttempts++;
+    metrics.reconnectAttempts.incrementAndGet();
+    // A fresh gatt for each attempt: gatt.connect() would always be a background autoConnect.
+    BluetoothDevice device = cache.gatt.getDevice();
+    gattSlots.close(cache.gatt);
+    BluetoothGatt gatt = openGatt(device, autoConnect);
+    if(gatt == null) {
+      // Keeps the closed gatt, whose calls fail cleanly, and counts this as a failed attempt
+      log(LogLevel.WARNING, "[reconnect] %s connectGatt returned null", deviceId);
+      scheduleReconnect(deviceId, cache);
+      return;
+    }
+    cache.gatt = gatt;
+  }
+
+  private void cancelReconnect(BluetoothDeviceCache cache) {
+    if(cache.pendingReconnect != null) {
+      deviceThreads.handler(cache.gatt.getDevice().getAddress()).removeCallbacks(cache.pendingReconnect);
+      cache.pendingReconnect = null;
+    }
+  }
+
+  // Brings a reconnected device back to where the app left it: MTU first, then service discovery
+  // and the notifications, one GATT operation at a time.
+  private void restoreSession(BluetoothDeviceCache cache) {
+    if(cache.requestedMtu > 0 && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP
+        && cache.gatt.requestMtu(cache.requestedMtu)) {
+      cache.restorePhase = BluetoothDeviceCache.RESTORE_MTU;
+      return;
+    }
+    restoreServices(cache);
+  }
+
+  private void restoreServices(BluetoothDeviceCache cache) {
+    if(cache.notifications.isEmpty()) {
+      cache.restorePhase = BluetoothDeviceCache.RESTORE_NONE;
+      return;
+    }
+    // gatt.connect() keeps the services of the previous connection, a new gatt has none
+    if(cache.gatt.getServices().isEmpty()) {
+      if(cache.gatt.discoverServices()) {
+        cache.restorePhase = BluetoothDeviceCache.RESTORE_SERVICES;
+        return;
+      }
+      Protos.NotificationsRestored.Builder p = Protos.NotificationsRestored.newBuilder();
+      p.addAllFailed(cache.notifications.values());
+      cache.restorePhase = BluetoothDeviceCache.RESTORE_NONE;
+      notificationsRestored(cache, p);
+      return;
+    }
+    restoreNotifications(cache);
+  }
+
+  // Enables every remembered notification locally first, so values flow as soon as each CCCD
+  // write lands, then issues the writes back to back from onDescriptorWrite.
+  private void restoreNotifications(BluetoothDeviceCache cache) {
+    cache.restoreResult = Protos.NotificationsRestored.newBuilder();
+    cache.restoreQueue = new ArrayDeque<>();
+    // The new gatt has new characteristics, which keep the subscription ids of the old ones
+    subscriptions.unroute(cache);
+    for(Map.Entry<String, Protos.SetNotificationRequest> entry : cache.notifications.entrySet()) {
+      Protos.SetNotificationRequest request = entry.getValue();
+      BluetoothGattDescriptor cccd = enableNotification(cache.gatt, request);
+      if(cccd != null) {
+        subscriptions.restore(cache, entry.getKey(), cccd.getCharacteristic());
+        cache.restoreQueue.add(cccd);
+      } else {
+        cache.restoreResult.addFailed(request);
+      }
+    }
+    cache.restorePhase = BluetoothDeviceCache.RESTORE_NOTIFICATIONS;
+    restoreNextNotification(cache);
+  }
+
+  private void restoreNextNotification(BluetoothDeviceCache cache) {
+    BluetoothGattDescriptor cccd;
+    while((cccd = cache.restoreQueue.peek()) != null) {
+      if(cache.gatt.writeDescriptor(cccd)) {
+        return; // Continues from onDescriptorWrite
+      }
+      cache.restoreQueue.poll();
+      cache.restoreResult.addFailed(notificationRequest(cache, cccd.getCharacteristic()));
+    }
+    cache.restoreQueue = null;
+    cache.restorePhase = BluetoothDeviceCache.RESTORE_NONE;
+    notificationsRestored(cache, cache.restoreResult);
+    cache.restoreResult = null;
+  }
+
+  private void restoreNotificationWritten(BluetoothDeviceCache cache, int status) {
+    BluetoothGattDescriptor cccd = cache.restoreQueue.poll();
+    if(status == BluetoothGatt.GATT_SUCCESS) {
+      cache.restoreResult.addRestored(ProtoMaker.from(cache.gatt.getDevice(), cccd.getCharacteristic(), cache.gatt));
+    } else {
+      cache.restoreResult.addFailed(notificationRequest(cache, cccd.getCharacteristic()));
+    }
+    restoreNextNotification(cache);
+  }
+
+  private void notificationsRestored(BluetoothDeviceCache cache, Protos.NotificationsRestored.Builder p) {
+    String deviceId = cache.gatt.getDevice().getAddress();
+    log(LogLevel.DEBUG, "[reconnect] restored %d notifications, %d failed", p.getRestoredCount(), p.getFailedCount());
+    p.setRemoteId(deviceId);
+    invokeMethodUIThread("NotificationsRestored", p.build().toByteArray());
+  }
+
+  private Protos.SetNotificationRequest notificationRequest(BluetoothDeviceCache cache, BluetoothGattCharacteristic characteristic) {
+    for(Protos.SetNotificationRequest request : cache.notifications.values()) {
+      if(request.getCharacteristicUuid().equals(characteristic.getUuid().toString())
+          && request.getServiceUuid().equals(characteristic.getService().getUuid().toString())) {
+        return request;
+      }
+    }
+    return Protos.SetNotificationRequest.newBuilder()
+        .setRemoteId(cache.gatt.getDevice().getAddress())
+        .setCharacteristicUuid(characteristic.getUuid().toString())
+        .setEnable(true)
+        .build();
+  }
+
+  // Returns the CCCD to write, set to the value to write, or null if the characteristic is gone.
+  private BluetoothGattDescriptor enableNotification(BluetoothGatt gatt, Protos.SetNotificationRequest request) {
+    BluetoothGattCharacteristic characteristic;
+    try {
+      characteristic = locateCharacteristic(gatt, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+    } catch(Exception e) {
+      log(LogLevel.WARNING, "[reconnect] could not restore notifications: %s", e.getMessage());
+      return null;
+    }
+    boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
+    BluetoothGattDescriptor cccDescriptor = characteristic.getDescriptor(CCCD_ID);
+    if(cccDescriptor == null || !gatt.setCharacteristicNotification(characteristic, true)) {
+      return null;
+    }
+    cccDescriptor.setValue(canNotify ? BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE : BluetoothGattDescriptor.ENABLE_INDICATION_VALUE);
+    return cccDescriptor;
+  }
+
+  // Called from the GATT callbacks: moves a session restore on once the step it waits for is
+  // done. Returns false if no restore was waiting for it.
+  private boolean restoreStepDone(BluetoothGatt gatt, final int phase, final int status) {
+    final BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    if(cache == null || cache.gatt != gatt || cache.restorePhase != phase) {
+      return false;
+    }
+    deviceThreads.execute(gatt.getDevice().getAddress(), () -> {
+      if(cache.restorePhase != phase) {
+        return;
+      }
+      switch(phase) {
+        case BluetoothDeviceCache.RESTORE_MTU:
+          restoreServices(cache);
+          break;
+        case BluetoothDeviceCache.RESTORE_SERVICES:
+          restoreNotifications(cache);
+          break;
+        case BluetoothDeviceCache.RESTORE_NOTIFICATIONS:
+          restoreNotificationWritten(cache, status);
+          break;
+      }
+    });
+    return true;
+  }
+
+  // MethodChannel results have to be sent from the platform thread.
+  private Result onPlatformThread(final Result result) {
+    return new Result() {
+      @Override
+      public void success(Object o) {
+        mainThreadExecutor.execute(() -> result.success(o));
+      }
+
+      @Override
+      public void error(String errorCode, String errorMessage, Object errorDetails) {
+        mainThreadExecutor.execute(() -> result.error(errorCode, errorMessage, errorDetails));
+      }
+
+      @Override
+      public void notImplemented() {
+        mainThreadExecutor.execute(result::notImplemented);
+      }
+    };
+  }
+
+  private void ensurePermissionBeforeAction(String permission, OperationOnPermission operation) {
+    if (permission != null &&
+            ContextCompat.checkSelfPermission(context, permission) != PackageManager.PERMISSION_GRANTED) {
+      operationsOnPermission.put(lastEventId, (granted, perm) -> {
+        operationsOnPermission.remove(lastEventId);
+        operation.op(granted, perm);
+      });
+      ActivityCompat.requestPermissions(
+              activityBinding.getActivity(),
+              new String[]{permission},
+              lastEventId);
+      lastEventId++;
+    } else {
+      operation.op(true, permission);
+    }
+  }
+
+  private BluetoothGatt locateGatt(String remoteId) throws Exception {
+    BluetoothDeviceCache cache = mDevices.get(remoteId);
+    if(cache == null || cache.gatt == null) {
+      throw new Exception("no instance of BluetoothGatt, have you connected first?");
+    } else {
+      return cache.gatt;
+    }
+  }
+
+  private BluetoothGattCharacteristic locateCharacteristic(BluetoothGatt gattServer, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
+    BluetoothGattService primaryService = gattServer.getService(UUID.fromString(serviceId));
+    if(primaryService == null) {
+      throw new Exception("service (" + serviceId + ") could not be located on the device");
+    }
+    BluetoothGattService secondaryService = null;
+    if(secondaryServiceId.length() > 0) {
+      for(BluetoothGattService s : primaryService.getIncludedServices()){
+        if(s.getUuid().equals(UUID.fromString(secondaryServiceId))){
+          secondaryService = s;
+        }
+      }
+      if(secondaryService == null) {
+        throw new Exception("secondary service (" + secondaryServiceId + ") could not be located on the device");
+      }
+    }
+    BluetoothGattService service = (secondaryService != null) ? secondaryService : primaryService;
+    BluetoothGattCharacteristic characteristic = service.getCharacteristic(UUID.fromString(characteristicId));
+    if(characteristic == null) {
+      throw new Exception("characteristic (" + characteristicId + ") could not be located in the service ("+service.getUuid().toString()+")");
+    }
+    return characteristic;
+  }
+
+  private BluetoothGattDescriptor locateDescriptor(BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
+    BluetoothGattDescriptor descriptor = characteristic.getDescriptor(UUID.fromString(descriptorId));
+    if(descriptor == null) {
+      throw new Exception("descriptor (" + descriptorId + ") could not be located in the characteristic ("+characteristic.getUuid().toString()+")");
+    }
+    return descriptor;
+  }
+
+  // Keeps the cached device protos in step with the names the stack resolves, the known devices
+  // with their bond states, and the cached connection states with the adapter, whose going off
+  // does not always reach the gatt callbacks.
+  private final BroadcastReceiver systemReceiver = new BroadcastReceiver() {
+    @Override
+    public void onReceive(Context context, Intent intent) {
+      if(BluetoothAdapter.ACTION_STATE_CHANGED.equals(intent.getAction())) {
+        int state = intent.getIntExtra(BluetoothAdapter.EXTRA_STATE, BluetoothAdapter.ERROR);
+        if(state == BluetoothAdapter.STATE_TURNING_OFF || state == BluetoothAdapter.STATE_OFF
+            || state == BluetoothAdapter.STATE_ON) {
+          connectionStates.adapterStateChanged(mDevices.values(), state == BluetoothAdapter.STATE_ON);
+        }
+        return;
+      }
+      BluetoothDevice device = intent.getParcelableExtra(BluetoothDevice.EXTRA_DEVICE);
+      if(device == null) {
+        return;
+      }
+      if(BluetoothDevice.ACTION_BOND_STATE_CHANGED.equals(intent.getAction())) {
+        knownDevices.bondStateChanged(device.getAddress(),
+            intent.getIntExtra(BluetoothDevice.EXTRA_BOND_STATE, BluetoothDevice.BOND_NONE));
+      } else {
+        deviceProtos.invalidate(device.getAddress());
+      }
+    }
+  };
+
+  private final StreamHandler stateHandler = new StreamHandler() {
+    private EventSink sink;
+
+    private final BroadcastReceiver mReceiver = new BroadcastReceiver() {
+      @Override
+      public void onReceive(Context context, Intent intent) {
+        final String action = intent.getAction();
+
+        if (BluetoothAdapter.ACTION_STATE_CHANGED.equals(action)) {
+          final int state = intent.getIntExtra(BluetoothAdapter.EXTRA_STATE,
+                  BluetoothAdapter.ERROR);
+          switch (state) {
+            case BluetoothAdapter.STATE_OFF:
+              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.OFF).build().toByteArray());
+              break;
+            case BluetoothAdapter.STATE_TURNING_OFF:
+              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.TURNING_OFF).build().toByteArray());
+              break;
+            case BluetoothAdapter.STATE_ON:
+              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.ON).build().toByteArray());
+              break;
+            case BluetoothAdapter.STATE_TURNING_ON:
+              sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.TURNING_ON).build().toByteArray());
+              break;
+          }
+        }
+      }
+    };
+
+    @Override
+    public void onListen(Object o, EventChannel.EventSink eventSink) {
+      sink = eventSink;
+      IntentFilter filter = new IntentFilter(BluetoothAdapter.ACTION_STATE_CHANGED);
+      context.registerReceiver(mReceiver, filter);
     }
 
     @Override
@@ -821,25 +1575,45 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     Protos.ScanSettings settings;
     try {
       settings = Protos.ScanSettings.newBuilder().mergeFrom(data).build();
-      allowDuplicates = settings.getAllowDuplicates();
-      macDeviceScanned.clear();
+      scanSessions.start(settings);
+      result.success(null);
+    } catch (Exception e) {
+      result.error("startScan", e.getMessage(), e);
+    }
+  }
+
+  // Runs the merged scan of all scan sessions.
+  private final ScanSessions.Scanner hardwareScanner = new ScanSessions.Scanner() {
+    @Override
+    public void start(Protos.ScanSettings settings) {
       if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
         startScan21(settings);
       } else {
         startScan18(settings);
       }
-      result.success(null);
-    } catch (Exception e) {
-      result.error("startScan", e.getMessage(), e);
     }
-  }
 
-  private void stopScan() {
-    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-      stopScan21();
-    } else {
-      stopScan18();
+    @Override
+    public void stop() {
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+        stopScan21();
+      } else {
+        stopScan18();
+      }
     }
+  };
+
+  // Tags the result with the sessions it is for and sends it, once for all of them.
+  private void dispatchScanResult(String address, Protos.ScanResult p, long span) {
+    knownDevices.put(p.getDevice(), p.getRssi());
+    List<Integer> sessionIds = scanSessions.match(address, p.getAdvertisementData().getServiceUuidsList());
+    if(sessionIds.isEmpty()) {
+      return;
+    }
+    metrics.scanResults.incrementAndGet();
+    p = p.toBuilder().addAllSessionIds(sessionIds).build();
+    spans.encoded(span);
+    sendEvent(BulkEventChannel.SCAN_RESULT, address, "ScanResult", p, span);
   }
 
   private ScanCallback scanCallback21;
@@ -852,16 +1626,21 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         @Override
         public void onScanResult(int callbackType, ScanResult result) {
           super.onScanResult(callbackType, result);
-          if(result != null){
-            if (!allowDuplicates && result.getDevice() != null && result.getDevice().getAddress() != null) {
-              if (macDeviceScanned.contains(result.getDevice().getAddress())) {
-                return;
-              }
-              macDeviceScanned.add(result.getDevice().getAddress());
-            }
-            Protos.ScanResult scanResult = ProtoMaker.from(result.getDevice(), result);
-            invokeMethodUIThread("ScanResult", scanResult.toByteArray());
+          if(result == null || result.getDevice() == null || result.getDevice().getAddress() == null) {
+            metrics.scanDroppedFilter.incrementAndGet();
+            return;
+          }
+          knownDevices.seen(result.getDevice().getAddress(), result.getRssi());
+          ScanSessions sessions = scanSessions;
+          if(sessions == null || !sessions.wants(result.getDevice().getAddress())) {
+            return;
+          }
+          long span = spans.begin(SpanTracer.SCAN_RESULT, result.getDevice().getAddress(), null);
+          Protos.ScanResult p = ProtoMaker.from(deviceProtos.packed(result.getDevice()), result);
+          if(callbackType != ScanSettings.CALLBACK_TYPE_ALL_MATCHES) {
+            p = p.toBuilder().setAndroidCallbackType(callbackType).build();
           }
+          dispatchScanResult(result.getDevice().getAddress(), p, span);
         }
 
         @Override
@@ -873,6 +1652,10 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         @Override
         public void onScanFailed(int errorCode) {
           super.onScanFailed(errorCode);
+          ScanSessions sessions = scanSessions;
+          if(sessions != null) {
+            sessions.failed(errorCode);
+          }
         }
       };
     }
@@ -891,8 +1674,18 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       ScanFilter f = new ScanFilter.Builder().setServiceUuid(ParcelUuid.fromString(uuid)).build();
       filters.add(f);
     }
-    ScanSettings settings = new ScanSettings.Builder().setScanMode(scanMode).build();
-    scanner.startScan(filters, settings, getScanCallback21());
+    ScanSettings.Builder settings = new ScanSettings.Builder().setScanMode(scanMode);
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      if(proto.getAndroidMatchMode() != 0) settings.setMatchMode(proto.getAndroidMatchMode());
+      if(proto.getAndroidNumOfMatches() != 0) settings.setNumOfMatches(proto.getAndroidNumOfMatches());
+      if(proto.getAndroidCallbackType() != 0) settings.setCallbackType(proto.getAndroidCallbackType());
+    }
+    // The PHY only applies to extended scans, which fail where they are not supported
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && proto.getAndroidExtended() && mBluetoothAdapter.isLeExtendedAdvertisingSupported()) {
+      settings.setLegacy(false);
+      if(proto.getAndroidPhy() != 0) settings.setPhy(proto.getAndroidPhy());
+    }
+    scanner.startScan(filters, settings.build(), getScanCallback21());
   }
 
   @TargetApi(21)
@@ -906,20 +1699,25 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   private BluetoothAdapter.LeScanCallback getScanCallback18() {
     if(scanCallback18 == null) {
       scanCallback18 = (bluetoothDevice, rssi, scanRecord) -> {
-        if (!allowDuplicates && bluetoothDevice != null && bluetoothDevice.getAddress() != null) {
-          if (macDeviceScanned.contains(bluetoothDevice.getAddress())) return;
-          macDeviceScanned.add(bluetoothDevice.getAddress());
+        if (bluetoothDevice == null || bluetoothDevice.getAddress() == null) {
+          metrics.scanDroppedFilter.incrementAndGet();
+          return;
         }
-
-        Protos.ScanResult scanResult = ProtoMaker.from(bluetoothDevice, scanRecord, rssi);
-        invokeMethodUIThread("ScanResult", scanResult.toByteArray());
+        knownDevices.seen(bluetoothDevice.getAddress(), rssi);
+        ScanSessions sessions = scanSessions;
+        if(sessions == null || !sessions.wants(bluetoothDevice.getAddress())) {
+          return;
+        }
+        long span = spans.begin(SpanTracer.SCAN_RESULT, bluetoothDevice.getAddress(), null);
+        dispatchScanResult(bluetoothDevice.getAddress(), ProtoMaker.from(deviceProtos.packed(bluetoothDevice), scanRecord, rssi), span);
       };
     }
     return scanCallback18;
   }
 
   private void startScan18(Protos.ScanSettings proto) throws IllegalStateException {
-    List<String> serviceUuids = proto.getServiceUuidsList();
+    // startLeScan only reports devices advertising all the uuids, sessions want any of them
+    List<String> serviceUuids = proto.getServiceUuidsCount() == 1 ? proto.getServiceUuidsList() : Collections.<String>emptyList();
     UUID[] uuids = new UUID[serviceUuids.size()];
     for(int i = 0; i < serviceUuids.size(); i++) {
       uuids[i] = UUID.fromString(serviceUuids.get(i));
@@ -932,157 +1730,412 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     mBluetoothAdapter.stopLeScan(getScanCallback18());
   }
 
+  // Callbacks do their bookkeeping on the binder thread, capture whatever attribute values they
+  // need, and leave building and encoding the protos to the encoder's lane for the device.
+  //
+  // Below API 26 that binder thread is not the device's shard, so a callback can run while the
+  // shard is in the middle of a method call for the same device. Callbacks therefore only read
+  // and write the cache's volatile fields, atomics and concurrent or synchronized containers, and
+  // post anything confined to the shard (session restore, reconnects, coalesced writes, the next
+  // batch command) with deviceThreads.execute. GATT ops are registered before their call is
+  // issued, so an early callback still finds them. New callback code has to keep to this.
   private final BluetoothGattCallback mGattCallback = new BluetoothGattCallback() {
     @Override
-    public void onConnectionStateChange(BluetoothGatt gatt, int status, int newState) {
-      log(LogLevel.DEBUG, "[onConnectionStateChange] status: " + status + " newState: " + newState);
+    public void onConnectionStateChange(final BluetoothGatt gatt, int status, final int newState) {
+      log(LogLevel.DEBUG, "[onConnectionStateChange] status: %d newState: %d", status, newState);
+      trace.record(Protos.TraceEvent.Type.CONNECTION_STATE_CHANGED, gatt.getDevice().getAddress(), null, status, newState);
+      long connectSpan = SpanTracer.NONE;
+      if(newState == BluetoothProfile.STATE_CONNECTED) {
+        connectSpan = gattOpFinished(gatt, Metrics.GattOp.CONNECT, null);
+        knownDevices.put(deviceProtos.packed(gatt.getDevice()), KnownDevices.NO_RSSI);
+      }
       if(newState == BluetoothProfile.STATE_DISCONNECTED) {
         if(!mDevices.containsKey(gatt.getDevice().getAddress())) {
-          gatt.close();
+          gattSlots.close(gatt);
         }
       }
-      invokeMethodUIThread("DeviceState", ProtoMaker.from(gatt.getDevice(), newState).toByteArray());
+      final BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+      connectionStates.changed(cache, gatt, newState);
+      if(cache != null) {
+        deviceThreads.execute(gatt.getDevice().getAddress(), () -> onSessionStateChange(gatt, cache, newState));
+      }
+      final long span = connectSpan;
+      encoder.execute(gatt.getDevice().getAddress(), () -> {
+        byte[] bytes = ProtoMaker.from(gatt.getDevice(), newState).toByteArray();
+        spans.encoded(span);
+        invokeMethodUIThread("DeviceState", bytes, span);
+      });
     }
 
     @Override
-    public void onServicesDiscovered(BluetoothGatt gatt, int status) {
-      log(LogLevel.DEBUG, "[onServicesDiscovered] count: " + gatt.getServices().size() + " status: " + status);
-      Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
-      p.setRemoteId(gatt.getDevice().getAddress());
-      for(BluetoothGattService s : gatt.getServices()) {
-        p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
+    public void onServicesDiscovered(final BluetoothGatt gatt, int status) {
+      if(isLoggable(LogLevel.DEBUG)) {
+        log(LogLevel.DEBUG, "[onServicesDiscovered] count: %d status: %d", gatt.getServices().size(), status);
       }
-      invokeMethodUIThread("DiscoverServicesResult", p.build().toByteArray());
+      trace.record(Protos.TraceEvent.Type.SERVICES_DISCOVERED, gatt.getDevice().getAddress(), null, status, 0);
+      final long span = gattOpFinished(gatt, Metrics.GattOp.DISCOVER_SERVICES, null);
+      restoreStepDone(gatt, BluetoothDeviceCache.RESTORE_SERVICES, status);
+      encoder.execute(gatt.getDevice().getAddress(), () -> {
+        Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
+        p.setRemoteId(gatt.getDevice().getAddress());
+        for(BluetoothGattService s : gatt.getServices()) {
+          p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
+        }
+        byte[] bytes = p.build().toByteArray();
+        spans.encoded(span);
+        invokeMethodUIThread("DiscoverServicesResult", bytes, span);
+      });
     }
 
     @Override
     public void onCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-      log(LogLevel.DEBUG, "[onCharacteristicRead] uuid: " + characteristic.getUuid().toString() + " status: " + status);
-      Protos.ReadCharacteristicResponse.Builder p = Protos.ReadCharacteristicResponse.newBuilder();
-      p.setRemoteId(gatt.getDevice().getAddress());
-      p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt));
-      invokeMethodUIThread("ReadCharacteristicResponse", p.build().toByteArray());
+      characteristicRead(gatt, characteristic, ProtoMaker.copyValue(characteristic.getValue()), status);
+    }
+
+    // API 33+: the value array is ours, so it is wrapped instead of copied.
+    @Override
+    public void onCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, int status) {
+      characteristicRead(gatt, characteristic, ProtoMaker.wrapValue(value), status);
+    }
+
+    private void characteristicRead(final BluetoothGatt gatt, final BluetoothGattCharacteristic characteristic, final ByteString value, int status) {
+      log(LogLevel.DEBUG, "[onCharacteristicRead] uuid: %s status: %d", characteristic.getUuid(), status);
+      trace.record(Protos.TraceEvent.Type.CHARACTERISTIC_READ, gatt.getDevice().getAddress(), characteristic.getUuid(), status, 0);
+      final long span = gattOpFinished(gatt, Metrics.GattOp.READ_CHARACTERISTIC, characteristic.getUuid());
+      cacheValue(gatt, characteristic, status == BluetoothGatt.GATT_SUCCESS ? value : null);
+      sendCharacteristicRead(gatt, characteristic, value, span);
     }
 
     @Override
-    public void onCharacteristicWrite(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-      log(LogLevel.DEBUG, "[onCharacteristicWrite] uuid: " + characteristic.getUuid().toString() + " status: " + status);
-      Protos.WriteCharacteristicRequest.Builder request = Protos.WriteCharacteristicRequest.newBuilder();
-      request.setRemoteId(gatt.getDevice().getAddress());
-      request.setCharacteristicUuid(characteristic.getUuid().toString());
-      request.setServiceUuid(characteristic.getService().getUuid().toString());
-      Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
-      p.setRequest(request);
-      p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-      invokeMethodUIThread("WriteCharacteristicResponse", p.build().toByteArray());
+    public void onCharacteristicWrite(final BluetoothGatt gatt, final BluetoothGattCharacteristic characteristic, final int status) {
+      log(LogLevel.DEBUG, "[onCharacteristicWrite] uuid: %s status: %d", characteristic.getUuid(), status);
+      trace.record(Protos.TraceEvent.Type.CHARACTERISTIC_WRITE, gatt.getDevice().getAddress(), characteristic.getUuid(), status, 0);
+      final long span = gattOpFinished(gatt, Metrics.GattOp.WRITE_CHARACTERISTIC, characteristic.getUuid());
+      cacheValue(gatt, characteristic, null);
+      final BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+      final Integer writeId = cache != null ? cache.coalescedInFlight.get(characteristic) : null;
+      if(writeId != null) {
+        deviceThreads.execute(gatt.getDevice().getAddress(), () -> coalescedWriteDone(cache, characteristic));
+      }
+      encoder.execute(gatt.getDevice().getAddress(), () -> {
+        Protos.WriteCharacteristicRequest.Builder request = Protos.WriteCharacteristicRequest.newBuilder();
+        request.setRemoteId(gatt.getDevice().getAddress());
+        request.setCharacteristicUuid(characteristic.getUuid().toString());
+        request.setServiceUuid(characteristic.getService().getUuid().toString());
+        if(writeId != null) {
+          request.setWriteId(writeId);
+        }
+        Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
+        p.setRequest(request);
+        p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
+        byte[] bytes = p.build().toByteArray();
+        spans.encoded(span);
+        invokeMethodUIThread("WriteCharacteristicResponse", bytes, span);
+      });
     }
 
     @Override
     public void onCharacteristicChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic) {
-      log(LogLevel.DEBUG, "[onCharacteristicChanged] uuid: " + characteristic.getUuid().toString());
-      Protos.OnCharacteristicChanged.Builder p = Protos.OnCharacteristicChanged.newBuilder();
-      p.setRemoteId(gatt.getDevice().getAddress());
-      p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt));
-      invokeMethodUIThread("OnCharacteristicChanged", p.build().toByteArray());
+      // The stack reuses the characteristic for the next notification, so take the value now.
+      characteristicChanged(gatt, characteristic, ProtoMaker.copyValue(characteristic.getValue()));
+    }
+
+    // API 33+: the value array is ours, so it is wrapped instead of copied.
+    @Override
+    public void onCharacteristicChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value) {
+      characteristicChanged(gatt, characteristic, ProtoMaker.wrapValue(value));
+    }
+
+    private void characteristicChanged(final BluetoothGatt gatt, final BluetoothGattCharacteristic characteristic, final ByteString value) {
+      log(LogLevel.DEBUG, "[onCharacteristicChanged] uuid: %s", characteristic.getUuid());
+      if(trace.isEnabled()) {
+        trace.record(Protos.TraceEvent.Type.CHARACTERISTIC_CHANGED, gatt.getDevice().getAddress(), characteristic.getUuid(),
+            BluetoothGatt.GATT_SUCCESS, value != null ? value.size() : 0);
+      }
+      metrics.recordNotification(gatt.getDevice().getAddress(), characteristic);
+      cacheValue(gatt, characteristic, value);
+      final long span = spans.begin(SpanTracer.NOTIFICATION, gatt.getDevice().getAddress(), characteristic.getUuid());
+      final Integer subscriptionId = subscriptions.get(characteristic);
+      encoder.execute(gatt.getDevice().getAddress(), () -> {
+        Protos.OnCharacteristicChanged.Builder p = Protos.OnCharacteristicChanged.newBuilder();
+        p.setRemoteAddress(DeviceIds.pack(gatt.getDevice().getAddress()));
+        if(subscriptionId != null) {
+          p.setSubscriptionId(subscriptionId);
+        }
+        p.setCharacteristic(ProtoMaker.packed(gatt.getDevice(), characteristic, gatt, value));
+        Protos.OnCharacteristicChanged message = p.build();
+        spans.encoded(span);
+        sendEvent(BulkEventChannel.CHARACTERISTIC_CHANGED, characteristic, "OnCharacteristicChanged", message, span);
+      });
     }
 
     @Override
     public void onDescriptorRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-      log(LogLevel.DEBUG, "[onDescriptorRead] uuid: " + descriptor.getUuid().toString() + " status: " + status);
-      // Rebuild the ReadAttributeRequest and send back along with response
-      Protos.ReadDescriptorRequest.Builder q = Protos.ReadDescriptorRequest.newBuilder();
-      q.setRemoteId(gatt.getDevice().getAddress());
-      q.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
-      q.setDescriptorUuid(descriptor.getUuid().toString());
-      if(descriptor.getCharacteristic().getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
-        q.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-      } else {
-        // Reverse search to find service
-        for(BluetoothGattService s : gatt.getServices()) {
-          for(BluetoothGattService ss : s.getIncludedServices()) {
-            if(ss.getUuid().equals(descriptor.getCharacteristic().getService().getUuid())){
-              q.setServiceUuid(s.getUuid().toString());
-              q.setSecondaryServiceUuid(ss.getUuid().toString());
-              break;
+      descriptorRead(gatt, descriptor, status, ProtoMaker.copyValue(descriptor.getValue()));
+    }
+
+    // API 33+: the value array is ours, so it is wrapped instead of copied.
+    @Override
+    public void onDescriptorRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status, byte[] value) {
+      descriptorRead(gatt, descriptor, status, ProtoMaker.wrapValue(value));
+    }
+
+    private void descriptorRead(final BluetoothGatt gatt, final BluetoothGattDescriptor descriptor, int status, final ByteString value) {
+      log(LogLevel.DEBUG, "[onDescriptorRead] uuid: %s status: %d", descriptor.getUuid(), status);
+      trace.record(Protos.TraceEvent.Type.DESCRIPTOR_READ, gatt.getDevice().getAddress(), descriptor.getUuid(), status, 0);
+      final long span = gattOpFinished(gatt, Metrics.GattOp.READ_DESCRIPTOR, descriptor.getUuid());
+      encoder.execute(gatt.getDevice().getAddress(), () -> {
+        // Rebuild the ReadAttributeRequest and send back along with response
+        Protos.ReadDescriptorRequest.Builder q = Protos.ReadDescriptorRequest.newBuilder();
+        q.setRemoteId(gatt.getDevice().getAddress());
+        q.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
+        q.setDescriptorUuid(descriptor.getUuid().toString());
+        if(descriptor.getCharacteristic().getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+          q.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
+        } else {
+          // Reverse search to find service
+          for(BluetoothGattService s : gatt.getServices()) {
+            for(BluetoothGattService ss : s.getIncludedServices()) {
+              if(ss.getUuid().equals(descriptor.getCharacteristic().getService().getUuid())){
+                q.setServiceUuid(s.getUuid().toString());
+                q.setSecondaryServiceUuid(ss.getUuid().toString());
+                break;
+              }
             }
           }
         }
-      }
-      Protos.ReadDescriptorResponse.Builder p = Protos.ReadDescriptorResponse.newBuilder();
-      p.setRequest(q);
-      p.setValue(ByteString.copyFrom(descriptor.getValue()));
-      invokeMethodUIThread("ReadDescriptorResponse", p.build().toByteArray());
+        Protos.ReadDescriptorResponse.Builder p = Protos.ReadDescriptorResponse.newBuilder();
+        p.setRequest(q);
+        p.setValue(value != null ? value : ByteString.EMPTY);
+        byte[] bytes = p.build().toByteArray();
+        spans.encoded(span);
+        invokeMethodUIThread("ReadDescriptorResponse", bytes, span);
+      });
     }
 
     @Override
-    public void onDescriptorWrite(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-      log(LogLevel.DEBUG, "[onDescriptorWrite] uuid: " + descriptor.getUuid().toString() + " status: " + status);
-      Protos.WriteDescriptorRequest.Builder request = Protos.WriteDescriptorRequest.newBuilder();
-      request.setRemoteId(gatt.getDevice().getAddress());
-      request.setDescriptorUuid(descriptor.getUuid().toString());
-      request.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
-      request.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-      Protos.WriteDescriptorResponse.Builder p = Protos.WriteDescriptorResponse.newBuilder();
-      p.setRequest(request);
-      p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-      invokeMethodUIThread("WriteDescriptorResponse", p.build().toByteArray());
-
-      if(descriptor.getUuid().compareTo(CCCD_ID) == 0) {
-        // SetNotificationResponse
-        Protos.SetNotificationResponse.Builder q = Protos.SetNotificationResponse.newBuilder();
-        q.setRemoteId(gatt.getDevice().getAddress());
-        q.setCharacteristic(ProtoMaker.from(gatt.getDevice(), descriptor.getCharacteristic(), gatt));
-        invokeMethodUIThread("SetNotificationResponse", q.build().toByteArray());
+    public void onDescriptorWrite(final BluetoothGatt gatt, final BluetoothGattDescriptor descriptor, final int status) {
+      log(LogLevel.DEBUG, "[onDescriptorWrite] uuid: %s status: %d", descriptor.getUuid(), status);
+      trace.record(Protos.TraceEvent.Type.DESCRIPTOR_WRITE, gatt.getDevice().getAddress(), descriptor.getUuid(), status, 0);
+      final boolean isCccd = descriptor.getUuid().compareTo(CCCD_ID) == 0;
+      // Writes of a session restore are reported together, by NotificationsRestored
+      if(isCccd && !gattOpPending(gatt, Metrics.GattOp.SET_NOTIFICATION) && !gattOpPending(gatt, Metrics.GattOp.WRITE_DESCRIPTOR)
+          && restoreStepDone(gatt, BluetoothDeviceCache.RESTORE_NOTIFICATIONS, status)) {
+        return;
       }
+      final long span = isCccd && gattOpPending(gatt, Metrics.GattOp.SET_NOTIFICATION)
+          ? gattOpFinished(gatt, Metrics.GattOp.SET_NOTIFICATION, descriptor.getCharacteristic().getUuid())
+          : gattOpFinished(gatt, Metrics.GattOp.WRITE_DESCRIPTOR, descriptor.getUuid());
+      final ByteString value = isCccd ? ProtoMaker.copyValue(descriptor.getCharacteristic().getValue()) : null;
+      final Integer subscriptionId = isCccd ? subscriptions.get(descriptor.getCharacteristic()) : null;
+      encoder.execute(gatt.getDevice().getAddress(), () -> {
+        Protos.WriteDescriptorRequest.Builder request = Protos.WriteDescriptorRequest.newBuilder();
+        request.setRemoteId(gatt.getDevice().getAddress());
+        request.setDescriptorUuid(descriptor.getUuid().toString());
+        request.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
+        request.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
+        Protos.WriteDescriptorResponse.Builder p = Protos.WriteDescriptorResponse.newBuilder();
+        p.setRequest(request);
+        p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
+        if(!isCccd) {
+          byte[] bytes = p.build().toByteArray();
+          spans.encoded(span);
+          invokeMethodUIThread("WriteDescriptorResponse", bytes, span);
+        } else {
+          invokeMethodUIThread("WriteDescriptorResponse", p.build().toByteArray());
+          // SetNotificationResponse
+          Protos.SetNotificationResponse.Builder q = Protos.SetNotificationResponse.newBuilder();
+          q.setRemoteId(gatt.getDevice().getAddress());
+          q.setCharacteristic(ProtoMaker.from(gatt.getDevice(), descriptor.getCharacteristic(), gatt, value));
+          if(subscriptionId != null) {
+            q.setSubscriptionId(subscriptionId);
+          }
+          byte[] bytes = q.build().toByteArray();
+          spans.encoded(span);
+          invokeMethodUIThread("SetNotificationResponse", bytes, span);
+        }
+      });
     }
 
     @Override
     public void onReliableWriteCompleted(BluetoothGatt gatt, int status) {
-      log(LogLevel.DEBUG, "[onReliableWriteCompleted] status: " + status);
+      log(LogLevel.DEBUG, "[onReliableWriteCompleted] status: %d", status);
+      trace.record(Protos.TraceEvent.Type.RELIABLE_WRITE_COMPLETED, gatt.getDevice().getAddress(), null, status, 0);
     }
 
     @Override
-    public void onReadRemoteRssi(BluetoothGatt gatt, int rssi, int status) {
-      log(LogLevel.DEBUG, "[onReadRemoteRssi] rssi: " + rssi + " status: " + status);
+    public void onReadRemoteRssi(final BluetoothGatt gatt, final int rssi, int status) {
+      log(LogLevel.DEBUG, "[onReadRemoteRssi] rssi: %d status: %d", rssi, status);
+      trace.record(Protos.TraceEvent.Type.READ_REMOTE_RSSI, gatt.getDevice().getAddress(), null, status, rssi);
+      final long span = gattOpFinished(gatt, Metrics.GattOp.READ_RSSI, null);
       if(status == BluetoothGatt.GATT_SUCCESS) {
-        Protos.ReadRssiResult.Builder p = Protos.ReadRssiResult.newBuilder();
-        p.setRemoteId(gatt.getDevice().getAddress());
-        p.setRssi(rssi);
-        invokeMethodUIThread("ReadRssiResult", p.build().toByteArray());
+        knownDevices.seen(gatt.getDevice().getAddress(), rssi);
+        encoder.execute(gatt.getDevice().getAddress(), () -> {
+          Protos.ReadRssiResult.Builder p = Protos.ReadRssiResult.newBuilder();
+          p.setRemoteId(gatt.getDevice().getAddress());
+          p.setRssi(rssi);
+          byte[] bytes = p.build().toByteArray();
+          spans.encoded(span);
+          invokeMethodUIThread("ReadRssiResult", bytes, span);
+        });
       }
     }
 
     @Override
-    public void onMtuChanged(BluetoothGatt gatt, int mtu, int status) {
-      log(LogLevel.DEBUG, "[onMtuChanged] mtu: " + mtu + " status: " + status);
+    public void onMtuChanged(final BluetoothGatt gatt, final int mtu, int status) {
+      log(LogLevel.DEBUG, "[onMtuChanged] mtu: %d status: %d", mtu, status);
+      trace.record(Protos.TraceEvent.Type.MTU_CHANGED, gatt.getDevice().getAddress(), null, status, mtu);
+      final long span = gattOpFinished(gatt, Metrics.GattOp.REQUEST_MTU, null);
+      restoreStepDone(gatt, BluetoothDeviceCache.RESTORE_MTU, status);
       if(status == BluetoothGatt.GATT_SUCCESS) {
         if(mDevices.containsKey(gatt.getDevice().getAddress())) {
           BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
           if (cache != null) {
             cache.mtu = mtu;
           }
-          Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
-          p.setRemoteId(gatt.getDevice().getAddress());
-          p.setMtu(mtu);
-          invokeMethodUIThread("MtuSize", p.build().toByteArray());
+          encoder.execute(gatt.getDevice().getAddress(), () -> {
+            Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
+            p.setRemoteId(gatt.getDevice().getAddress());
+            p.setMtu(mtu);
+            byte[] bytes = p.build().toByteArray();
+            spans.encoded(span);
+            invokeMethodUIThread("MtuSize", bytes, span);
+          });
         }
       }
     }
   };
 
+  // Called just before the BluetoothGatt call for a request: below API 26 its callback can run on
+  // a binder thread before the call returns. requestNanos is when the request reached
+  // onMethodCall, 0 unless tracing. Returns the start time it replaced, for gattOpAborted.
+  private long gattOpStarted(String remoteId, Metrics.GattOp op, long requestNanos) {
+    BluetoothDeviceCache cache = mDevices.get(remoteId);
+    if(cache == null) {
+      return 0;
+    }
+    gattSlots.busy(remoteId);
+    BatchRun.Step step = cache.batchStep.get();
+    if(step != null && step.op == op) {
+      step.issued = true;
+    }
+    cache.pendingRequests.set(op.ordinal(), requestNanos);
+    return cache.pendingOps.getAndSet(op.ordinal(), SystemClock.elapsedRealtimeNanos());
+  }
+
+  // Undoes gattOpStarted after the BluetoothGatt call returned false, so no callback will come.
+  // The start time goes back to what it replaced, unless a callback has taken it meanwhile.
+  private void gattOpAborted(String remoteId, Metrics.GattOp op, long previous) {
+    BluetoothDeviceCache cache = mDevices.get(remoteId);
+    if(cache == null) {
+      return;
+    }
+    BatchRun.Step step = cache.batchStep.get();
+    if(step != null && step.op == op) {
+      step.issued = false;
+    }
+    long started = cache.pendingOps.get(op.ordinal());
+    if(started != 0) {
+      cache.pendingOps.compareAndSet(op.ordinal(), started, previous);
+    }
+  }
+
+  private boolean gattOpPending(BluetoothGatt gatt, Metrics.GattOp op) {
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    return cache != null && cache.pendingOps.get(op.ordinal()) != 0;
+  }
+
+  // Records the latency of the outstanding request, if any (the remote can start e.g. an MTU
+  // change on its own), and returns the trace span for the callback.
+  private long gattOpFinished(BluetoothGatt gatt, Metrics.GattOp op, UUID uuid) {
+    long now = SystemClock.elapsedRealtimeNanos();
+    long gattCallNanos = 0;
+    long requestNanos = 0;
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    if(cache != null) {
+      gattCallNanos = cache.pendingOps.getAndSet(op.ordinal(), 0);
+      requestNanos = cache.pendingRequests.getAndSet(op.ordinal(), 0);
+      if(gattCallNanos != 0) {
+        metrics.recordGatt(op, now - gattCallNanos);
+      }
+      BatchRun.Step step = cache.batchStep.get();
+      if(step != null && step.op == op && cache.batchStep.compareAndSet(step, null)) {
+        step.next.run();
+      }
+    }
+    return spans.begin(op.ordinal(), gatt.getDevice().getAddress(), uuid, requestNanos, gattCallNanos, now);
+  }
+
+  private boolean isLoggable(LogLevel level) {
+    return level.ordinal() <= logLevel.ordinal();
+  }
+
   private void log(LogLevel level, String message) {
-    if(level.ordinal() <= logLevel.ordinal()) {
+    if(isLoggable(level)) {
       Log.d(TAG, message);
     }
   }
 
+  // The formatting overloads defer String.format until the level check passes. Pass arguments
+  // as they are (e.g. a UUID, not uuid.toString()) so a disabled level costs nothing. ints such
+  // as a status or an mtu take the int overloads, which only box them once the level is enabled;
+  // anything else (a long, say) is boxed by the caller.
+  private void log(LogLevel level, String format, Object arg0) {
+    if(isLoggable(level)) {
+      Log.d(TAG, String.format(Locale.US, format, arg0));
+    }
+  }
+
+  private void log(LogLevel level, String format, int arg0) {
+    if(isLoggable(level)) {
+      Log.d(TAG, String.format(Locale.US, format, arg0));
+    }
+  }
+
+  private void log(LogLevel level, String format, Object arg0, Object arg1) {
+    if(isLoggable(level)) {
+      Log.d(TAG, String.format(Locale.US, format, arg0, arg1));
+    }
+  }
+
+  private void log(LogLevel level, String format, Object arg0, int arg1) {
+    if(isLoggable(level)) {
+      Log.d(TAG, String.format(Locale.US, format, arg0, arg1));
+    }
+  }
+
+  private void log(LogLevel level, String format, int arg0, int arg1) {
+    if(isLoggable(level)) {
+      Log.d(TAG, String.format(Locale.US, format, arg0, arg1));
+    }
+  }
+
+  // Scan results and notifications take the bulk event channel once Dart is pulling from it.
+  // There they are serialized straight into the reply buffer; only the method channel needs a byte[].
+  private void sendEvent(byte type, Object key, String name, MessageLite message, long span) {
+    BulkEventChannel bulk = events;
+    if(bulk == null || !bulk.offer(type, key, message, span)) {
+      invokeMethodUIThread(name, message.toByteArray(), span);
+    }
+  }
+
   private void invokeMethodUIThread(final String name, final byte[] byteArray)
   {
-    new Handler(Looper.getMainLooper()).post(() -> {
+    invokeMethodUIThread(name, byteArray, SpanTracer.NONE);
+  }
+
+  private void invokeMethodUIThread(final String name, final byte[] byteArray, final long span)
+  {
+    final long postedNanos = SystemClock.elapsedRealtimeNanos();
+    mainThreadExecutor.execute(() -> {
+      metrics.dispatchLag.record((SystemClock.elapsedRealtimeNanos() - postedNanos) / 1000);
       synchronized (tearDownLock) {
         //Could already be teared down at this moment
         if (channel != null) {
           channel.invokeMethod(name, byteArray);
+          spans.delivered(span);
+          metrics.channelMessages.incrementAndGet();
+          metrics.channelBytes.addAndGet(byteArray.length);
         } else {
           Log.w(TAG, "Tried to call " + name + " on closed channel");
         }
@@ -1098,8 +2151,44 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   // BluetoothDeviceCache contains any other cached information not stored in Android Bluetooth API
   // but still needed Dart side.
   static class BluetoothDeviceCache {
-    final BluetoothGatt gatt;
-    int mtu;
+    static final int RESTORE_NONE = 0;
+    static final int RESTORE_MTU = 1;
+    static final int RESTORE_SERVICES = 2;
+    static final int RESTORE_NOTIFICATIONS = 3;
+
+    // Replaced by the reconnect policy, which opens a new gatt per attempt.
+    volatile BluetoothGatt gatt;
+    // Written by onMtuChanged, which below API 26 runs on a binder thread rather than the device's shard.
+    volatile int mtu;
+    // BluetoothProfile.STATE_* as last reported to gatt's callback; see ConnectionStates.
+    volatile int connectionState = BluetoothProfile.STATE_DISCONNECTED;
+    // Subscription ids by the notifications key, see Subscriptions; only touched on the device's shard.
+    final Map<String, Integer> subscriptionIds = new HashMap<>();
+    // When the BluetoothGatt call of the outstanding request per Metrics.GattOp was issued
+    // (SystemClock.elapsedRealtimeNanos), 0 when idle; and when that request arrived, if tracing.
+    final AtomicLongArray pendingOps = new AtomicLongArray(Metrics.GattOp.values().length);
+    final AtomicLongArray pendingRequests = new AtomicLongArray(Metrics.GattOp.values().length);
+    // Last values read or notified per characteristic, for reads with a max_age_ms.
+    final ValueCache values = new ValueCache();
+    // The write_id of the coalescing write in flight per characteristic, read by onCharacteristicWrite;
+    // and the newest value per characteristic waiting to be sent, confined to the device's shard.
+    final Map<BluetoothGattCharacteristic, Integer> coalescedInFlight = new ConcurrentHashMap<>();
+    final Map<BluetoothGattCharacteristic, Protos.WriteCharacteristicRequest> coalescedWrites = new LinkedHashMap<>();
+    // The executeBatch command waiting for its GATT callback, if any.
+    final AtomicReference<BatchRun.Step> batchStep = new AtomicReference<>();
+
+    // Reconnect policy state, confined to the device's DeviceExecutors shard. restorePhase is
+    // also checked from the GATT callbacks, which below API 26 run on binder threads.
+    ReconnectPolicy reconnectPolicy; // null when disabled
+    int reconnectAttempts;
+    long disconnectedNanos; // When the connection dropped, 0 while connected or after the app called connect()
+    boolean restoreOnConnect; // The app's connect() asked for restore_notifications
+    Runnable pendingReconnect;
+    int requestedMtu;
+    final Map<String, Protos.SetNotificationRequest> notifications = new LinkedHashMap<>();
+    volatile int restorePhase = RESTORE_NONE;
+    ArrayDeque<BluetoothGattDescriptor> restoreQueue; // CCCD writes still to issue
+    Protos.NotificationsRestored.Builder restoreResult;
 
     BluetoothDeviceCache(BluetoothGatt gatt) {
       this.gatt = gatt;
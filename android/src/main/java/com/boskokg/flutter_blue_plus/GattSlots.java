@@ -0,0 +1,126 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothGatt;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bookkeeping of the app's {@link BluetoothGatt} clients, of which Android allows about 30.
+ *
+ * Every client the plugin opens is registered here and closed through {@link #close}, which
+ * closes it exactly once. A device that disconnected without a reconnect policy keeps its client
+ * for a cheap {@code gatt.connect()} later; those are idle, and when opening another client
+ * would come within {@link #HEADROOM} of {@link #LIMIT} the least recently used of them are
+ * handed out by {@link #victims()} to be closed first.
+ */
+class GattSlots {
+
+  static final int LIMIT = 30;
+  static final int HEADROOM = 2;
+
+  private final Metrics metrics;
+
+  // Guarded by this. BluetoothGatt does not override equals, so open is by identity.
+  private final Set<BluetoothGatt> open = new HashSet<>();
+  private final LinkedHashMap<String, BluetoothGatt> idle = new LinkedHashMap<>(); // Least recently used first
+  private final Set<BluetoothGatt> evicting = new HashSet<>(); // Handed out by victims(), not closed yet
+
+  GattSlots(Metrics metrics) {
+    this.metrics = metrics;
+  }
+
+  synchronized void opened(BluetoothGatt gatt) {
+    open.add(gatt);
+    if (open.size() > metrics.gattClientsPeak.get()) {
+      metrics.gattClientsPeak.set(open.size());
+    }
+    updateMetrics();
+  }
+
+  /** Closes gatt unless that already happened, so every path that is done with it can call this. */
+  void close(BluetoothGatt gatt) {
+    boolean wasOpen;
+    synchronized (this) {
+      wasOpen = open.remove(gatt);
+      evicting.remove(gatt);
+      updateMetrics();
+    }
+    if (wasOpen) {
+      gatt.close();
+    }
+  }
+
+  /** Closes every client, when the plugin is detached. */
+  void closeAll() {
+    List<BluetoothGatt> gatts;
+    synchronized (this) {
+      gatts = new ArrayList<>(open);
+      open.clear();
+      idle.clear();
+      evicting.clear();
+      updateMetrics();
+    }
+    for (BluetoothGatt gatt : gatts) {
+      gatt.close();
+    }
+  }
+
+  synchronized void idle(String address, BluetoothGatt gatt) {
+    idle.remove(address);
+    idle.put(address, gatt);
+    updateMetrics();
+  }
+
+  /** Takes address out of the idle clients, returning whether it was one. */
+  synchronized boolean busy(String address) {
+    if (idle.isEmpty() || idle.remove(address) == null) {
+      return false;
+    }
+    updateMetrics();
+    return true;
+  }
+
+  /**
+   * Takes address out of the idle clients before gatt is used again, returning false if gatt is
+   * closed or handed out by {@link #victims()} to be; the caller then needs a new client.
+   */
+  synchronized boolean claim(String address, BluetoothGatt gatt) {
+    busy(address);
+    return open.contains(gatt) && !evicting.contains(gatt);
+  }
+
+  /**
+   * The idle clients to close before opening another one, least recently used first. They are
+   * taken out of the idle clients here, so concurrent callers never get the same one, and the
+   * caller closes each through {@link #close}.
+   */
+  synchronized List<BluetoothGatt> victims() {
+    int excess = open.size() + 1 - (LIMIT - HEADROOM);
+    List<BluetoothGatt> victims = new ArrayList<>();
+    Iterator<BluetoothGatt> it = idle.values().iterator();
+    while (excess-- > 0 && it.hasNext()) {
+      BluetoothGatt gatt = it.next();
+      it.remove();
+      evicting.add(gatt);
+      victims.add(gatt);
+    }
+    if (!victims.isEmpty()) {
+      updateMetrics();
+    }
+    return victims;
+  }
+
+  private void updateMetrics() {
+    metrics.gattClients.set(open.size());
+    metrics.gattClientsIdle.set(idle.size());
+  }
+}
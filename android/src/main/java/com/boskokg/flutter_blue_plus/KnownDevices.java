@@ -0,0 +1,172 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothDevice;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Every device seen in a scan result or connected to, for {@code getKnownDevices}.
+ *
+ * An open addressing table keyed by the packed address (see {@link DeviceIds}) with the
+ * per-device fields in parallel primitive arrays, so a scan result for a known device updates it
+ * without allocating. When {@link #CAPACITY} devices are known the least recently seen quarter is
+ * dropped in one go and the table rebuilt, which keeps eviction amortized O(log n) per device.
+ * Recency is a sequence number bumped on every update, since many devices can share a
+ * millisecond.
+ */
+class KnownDevices {
+
+  static final int CAPACITY = 1024;
+  static final int SLOTS = CAPACITY * 2; // Power of two, at most half full
+  static final long USED = 1L << 48; // Set in every key, so an all zero address is not empty
+  static final int NO_RSSI = Integer.MIN_VALUE;
+
+  // Guarded by this, indexed by slot.
+  private long[] keys = new long[SLOTS];
+  private long[] lastSeenMs = new long[SLOTS];
+  private long[] touched = new long[SLOTS];
+  private int[] rssi = new int[SLOTS];
+  private int[] bondState = new int[SLOTS];
+  private Protos.BluetoothDevice[] devices = new Protos.BluetoothDevice[SLOTS];
+  private int size;
+  private long clock;
+
+  /** Updates a device seen before, returning false if it is not known yet. */
+  synchronized boolean seen(String address, int rssi) {
+    int slot = find(DeviceIds.pack(address) | USED);
+    if (keys[slot] == 0) {
+      return false;
+    }
+    lastSeenMs[slot] = System.currentTimeMillis();
+    touched[slot] = ++clock;
+    this.rssi[slot] = rssi;
+    return true;
+  }
+
+  /**
+   * Adds or updates a device, given in the packed form scan results carry; rssi is
+   * {@link #NO_RSSI} when it is not from a scan.
+   */
+  synchronized void put(Protos.BluetoothDevice device, int rssi) {
+    long key = device.getRemoteAddress() | USED;
+    int slot = find(key);
+    if (keys[slot] == 0) {
+      if (size == CAPACITY) {
+        evict();
+        slot = find(key);
+      }
+      keys[slot] = key;
+      this.rssi[slot] = NO_RSSI;
+      bondState[slot] = BluetoothDevice.BOND_NONE;
+      size++;
+    }
+    devices[slot] = device;
+    lastSeenMs[slot] = System.currentTimeMillis();
+    touched[slot] = ++clock;
+    if (rssi != NO_RSSI) {
+      this.rssi[slot] = rssi;
+    }
+  }
+
+  synchronized void bondStateChanged(String address, int state) {
+    int slot = find(DeviceIds.pack(address) | USED);
+    if (keys[slot] != 0) {
+      bondState[slot] = state;
+    }
+  }
+
+  /**
+   * The known devices, most recently seen first, with their details in {@code known}. The devices
+   * carry {@code remote_id} like the other method call replies.
+   *
+   * @param bonded Addresses of the bonded devices; the broadcasts only tell when that changes.
+   */
+  synchronized Protos.ConnectedDevicesResponse toProto(Set<String> bonded) {
+    Integer[] order = new Integer[size];
+    int n = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      if (keys[i] != 0) {
+        order[n++] = i;
+      }
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(touched[b], touched[a]));
+    Protos.ConnectedDevicesResponse.Builder p = Protos.ConnectedDevicesResponse.newBuilder();
+    for (int i : order) {
+      int bond = bonded.contains(DeviceIds.unpack(keys[i] & ~USED))
+          ? BluetoothDevice.BOND_BONDED
+          : bondState[i] == BluetoothDevice.BOND_BONDING ? BluetoothDevice.BOND_BONDING : BluetoothDevice.BOND_NONE;
+      Protos.KnownDevice.Builder k = Protos.KnownDevice.newBuilder()
+          .setLastSeenMs(lastSeenMs[i])
+          .setBondState(bond);
+      if (rssi[i] != NO_RSSI) {
+        k.setRssi(Protos.Int32Value.newBuilder().setValue(rssi[i]));
+      }
+      p.addDevices(ProtoMaker.unpacked(devices[i]));
+      p.addKnown(k);
+    }
+    return p.build();
+  }
+
+  synchronized void clear() {
+    Arrays.fill(keys, 0);
+    Arrays.fill(devices, null);
+    size = 0;
+  }
+
+  // The slot of key, or the empty slot it would go in. Linear probing; the table is never full.
+  private int find(long key) {
+    int slot = home(key);
+    while (keys[slot] != 0 && keys[slot] != key) {
+      slot = (slot + 1) & (SLOTS - 1);
+    }
+    return slot;
+  }
+
+  // Where probing for key starts.
+  static int home(long key) {
+    return ((int) (key ^ (key >>> 17) ^ (key >>> 31)) * 0x9E3779B9) >>> 21; // 11 bits for 2048 slots
+  }
+
+  private void evict() {
+    long[] seen = new long[size];
+    int n = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      if (keys[i] != 0) {
+        seen[n++] = touched[i];
+      }
+    }
+    Arrays.sort(seen);
+    long cutoff = seen[size - CAPACITY * 3 / 4]; // Every sequence number is distinct
+
+    long[] oldKeys = keys;
+    long[] oldLastSeenMs = lastSeenMs;
+    long[] oldTouched = touched;
+    int[] oldRssi = rssi;
+    int[] oldBondState = bondState;
+    Protos.BluetoothDevice[] oldDevices = devices;
+    keys = new long[SLOTS];
+    lastSeenMs = new long[SLOTS];
+    touched = new long[SLOTS];
+    rssi = new int[SLOTS];
+    bondState = new int[SLOTS];
+    devices = new Protos.BluetoothDevice[SLOTS];
+    size = 0;
+    for (int i = 0; i < SLOTS; i++) {
+      if (oldKeys[i] != 0 && oldTouched[i] >= cutoff) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        lastSeenMs[slot] = oldLastSeenMs[i];
+        touched[slot] = oldTouched[i];
+        rssi[slot] = oldRssi[i];
+        bondState[slot] = oldBondState[i];
+        devices[slot] = oldDevices[i];
+        size++;
+      }
+    }
+  }
+}
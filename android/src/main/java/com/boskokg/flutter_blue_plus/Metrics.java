@@ -0,0 +1,297 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters and latency histograms for the plugin's hot paths, read by {@code getMetrics}.
+ *
+ * Recording is lock free and allocation free once a characteristic has been seen, so it is safe
+ * to call from binder threads. Only {@link #snapshot()} synchronizes, to keep the per-interval
+ * rate bookkeeping consistent between concurrent readers.
+ */
+class Metrics {
+
+  /** GATT operations whose request-to-callback latency is tracked. */
+  enum GattOp {
+    CONNECT("connect"),
+    DISCOVER_SERVICES("discoverServices"),
+    READ_CHARACTERISTIC("readCharacteristic"),
+    WRITE_CHARACTERISTIC("writeCharacteristic"),
+    READ_DESCRIPTOR("readDescriptor"),
+    WRITE_DESCRIPTOR("writeDescriptor"),
+    SET_NOTIFICATION("setNotification"),
+    REQUEST_MTU("requestMtu"),
+    READ_RSSI("readRssi");
+
+    final String method;
+
+    GattOp(String method) {
+      this.method = method;
+    }
+  }
+
+  final AtomicLong scanResults = new AtomicLong();
+  final AtomicLong scanDroppedDuplicate = new AtomicLong();
+  final AtomicLong scanDroppedFilter = new AtomicLong();
+  final AtomicLong scanStarts = new AtomicLong();
+  final AtomicLong scanStartsDeferred = new AtomicLong();
+  final AtomicLong channelMessages = new AtomicLong();
+  final AtomicLong channelBytes = new AtomicLong();
+  final AtomicLong eventBatches = new AtomicLong();
+  final AtomicLong eventsDropped = new AtomicLong();
+  final AtomicLong eventsConflated = new AtomicLong();
+  final AtomicLong reconnectAttempts = new AtomicLong();
+  final AtomicLong reconnects = new AtomicLong();
+  final AtomicLong reconnectsAbandoned = new AtomicLong();
+  final Histogram reconnectTime = new Histogram();
+  final AtomicLong gattClients = new AtomicLong();
+  final AtomicLong gattClientsIdle = new AtomicLong();
+  final AtomicLong gattClientsPeak = new AtomicLong();
+  final AtomicLong gattClientsEvicted = new AtomicLong();
+  final AtomicLong valueCacheHits = new AtomicLong();
+  final AtomicLong valueCacheMisses = new AtomicLong();
+  final AtomicLong writesCoalesced = new AtomicLong();
+  final Histogram dispatchLag = new Histogram();
+
+  private final Histogram[] gattLatency = new Histogram[GattOp.values().length];
+  // By device, service and characteristic uuid; the BluetoothGattCharacteristic objects are new
+  // after every reconnect, their uuids are not. The service keeps apart characteristics that
+  // share a uuid, as the same profile's do in two instances of it.
+  private final ConcurrentHashMap<String, ConcurrentHashMap<UUID, ConcurrentHashMap<UUID, NotificationCounter>>> notifications = new ConcurrentHashMap<>();
+
+  private final long startNanos = System.nanoTime();
+  private long lastSnapshotNanos = startNanos;
+  private long lastScanResults;
+
+  Metrics() {
+    for (int i = 0; i < gattLatency.length; i++) {
+      gattLatency[i] = new Histogram();
+    }
+  }
+
+  void recordGatt(GattOp op, long latencyNanos) {
+    gattLatency[op.ordinal()].record(latencyNanos / 1000);
+  }
+
+  void recordNotification(String remoteId, BluetoothGattCharacteristic characteristic) {
+    ConcurrentHashMap<UUID, ConcurrentHashMap<UUID, NotificationCounter>> device = notifications.get(remoteId);
+    if (device == null) {
+      device = putIfAbsent(notifications, remoteId, new ConcurrentHashMap<UUID, ConcurrentHashMap<UUID, NotificationCounter>>());
+    }
+    UUID serviceUuid = characteristic.getService().getUuid();
+    ConcurrentHashMap<UUID, NotificationCounter> service = device.get(serviceUuid);
+    if (service == null) {
+      service = putIfAbsent(device, serviceUuid, new ConcurrentHashMap<UUID, NotificationCounter>());
+    }
+    UUID uuid = characteristic.getUuid();
+    NotificationCounter counter = service.get(uuid);
+    if (counter == null) {
+      counter = putIfAbsent(service, uuid, new NotificationCounter(remoteId, serviceUuid.toString(), uuid.toString()));
+    }
+    counter.count.incrementAndGet();
+  }
+
+  // The value of key, which is created unless another thread got there first.
+  private static <K, V> V putIfAbsent(ConcurrentHashMap<K, V> map, K key, V created) {
+    V existing = map.putIfAbsent(key, created);
+    return existing != null ? existing : created;
+  }
+
+  /** Drops the per-characteristic counters of a device whose gatt has been closed. */
+  void forgetDevice(String remoteId) {
+    notifications.remove(remoteId);
+  }
+
+  synchronized Protos.MetricsSnapshot snapshot() {
+    long now = System.nanoTime();
+    long intervalNanos = Math.max(1, now - lastSnapshotNanos);
+    double intervalSeconds = intervalNanos / 1e9;
+    lastSnapshotNanos = now;
+
+    Protos.MetricsSnapshot.Builder p = Protos.MetricsSnapshot.newBuilder();
+    p.setUptimeMs((now - startNanos) / 1000000);
+    p.setIntervalMs(intervalNanos / 1000000);
+
+    long scans = scanResults.get();
+    p.setScanResults(scans);
+    p.setScanResultsPerSecond((scans - lastScanResults) / intervalSeconds);
+    lastScanResults = scans;
+    p.setScanResultsDroppedDuplicate(scanDroppedDuplicate.get());
+    p.setScanResultsDroppedFilter(scanDroppedFilter.get());
+    p.setScanStarts(scanStarts.get());
+    p.setScanStartsDeferred(scanStartsDeferred.get());
+
+    for (GattOp op : GattOp.values()) {
+      Histogram h = gattLatency[op.ordinal()];
+      if (h.count() > 0) {
+        p.addGattLatencies(Protos.GattLatency.newBuilder()
+            .setOperation(op.method)
+            .setLatency(h.toProto()));
+      }
+    }
+
+    List<NotificationCounter> counters = new ArrayList<>();
+    for (ConcurrentHashMap<UUID, ConcurrentHashMap<UUID, NotificationCounter>> device : notifications.values()) {
+      for (ConcurrentHashMap<UUID, NotificationCounter> service : device.values()) {
+        counters.addAll(service.values());
+      }
+    }
+    Collections.sort(counters, new Comparator<NotificationCounter>() {
+      @Override
+      public int compare(NotificationCounter a, NotificationCounter b) {
+        int c = a.remoteId.compareTo(b.remoteId);
+        if (c == 0) {
+          c = a.serviceUuid.compareTo(b.serviceUuid);
+        }
+        return c != 0 ? c : a.uuid.compareTo(b.uuid);
+      }
+    });
+    for (NotificationCounter counter : counters) {
+      long count = counter.count.get();
+      p.addNotificationRates(Protos.NotificationRate.newBuilder()
+          .setRemoteId(counter.remoteId)
+          .setServiceUuid(counter.serviceUuid)
+          .setCharacteristicUuid(counter.uuid)
+          .setCount(count)
+          .setPerSecond((count - counter.lastCount) / intervalSeconds));
+      counter.lastCount = count;
+    }
+
+    p.setDispatchLag(dispatchLag.toProto());
+    p.setChannelMessages(channelMessages.get());
+    p.setChannelBytes(channelBytes.get());
+    p.setEventBatches(eventBatches.get());
+    p.setEventsDropped(eventsDropped.get());
+    p.setReconnectAttempts(reconnectAttempts.get());
+    p.setReconnects(reconnects.get());
+    p.setReconnectsAbandoned(reconnectsAbandoned.get());
+    p.setReconnectTime(reconnectTime.toProto());
+    p.setGattClients(gattClients.get());
+    p.setGattClientsIdle(gattClientsIdle.get());
+    p.setGattClientsPeak(gattClientsPeak.get());
+    p.setGattClientsEvicted(gattClientsEvicted.get());
+    p.setEventsConflated(eventsConflated.get());
+    p.setValueCacheHits(valueCacheHits.get());
+    p.setValueCacheMisses(valueCacheMisses.get());
+    p.setWritesCoalesced(writesCoalesced.get());
+    return p.build();
+  }
+
+  private static class NotificationCounter {
+    final String remoteId;
+    final String serviceUuid;
+    final String uuid;
+    final AtomicLong count = new AtomicLong();
+    long lastCount; // Guarded by the snapshot lock.
+
+    NotificationCounter(String remoteId, String serviceUuid, String uuid) {
+      this.remoteId = remoteId;
+      this.serviceUuid = serviceUuid;
+      this.uuid = uuid;
+    }
+  }
+
+  /**
+   * Log-linear histogram of microsecond values, in the spirit of HdrHistogram: values below 32
+   * are counted exactly, above that every power of two is split into 16 buckets, which bounds
+   * the relative error to 1/16. Values are clamped at 2^36us (~19h).
+   */
+  static class Histogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long micros) {
+      if (micros < 0) {
+        micros = 0;
+      }
+      counts.incrementAndGet(indexOf(micros));
+      count.incrementAndGet();
+      sum.addAndGet(micros);
+      long m = max.get();
+      while (micros > m && !max.compareAndSet(m, micros)) {
+        m = max.get();
+      }
+    }
+
+    long count() {
+      return count.get();
+    }
+
+    static int indexOf(long v) {
+      if (v < LINEAR_LIMIT) {
+        return (int) v;
+      }
+      int msb = 63 - Long.numberOfLeadingZeros(v);
+      if (msb >= MAX_EXPONENT) {
+        return BUCKETS - 1;
+      }
+      int sub = (int) (v >>> (msb - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+      return LINEAR_LIMIT + (msb - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+    // Midpoint of the bucket, so the reported value is within half a bucket of the real one.
+    static long valueAt(int index) {
+      if (index < LINEAR_LIMIT) {
+        return index;
+      }
+      int msb = (index - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+      int sub = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+      int shift = msb - SUB_BUCKET_BITS;
+      return ((long) (SUB_BUCKETS + sub) << shift) + (1L << (shift - 1));
+    }
+
+    Protos.LatencyHistogram toProto() {
+      long[] snapshot = new long[BUCKETS];
+      long total = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        snapshot[i] = counts.get(i);
+        total += snapshot[i];
+      }
+      Protos.LatencyHistogram.Builder p = Protos.LatencyHistogram.newBuilder();
+      p.setCount(total);
+      if (total == 0) {
+        return p.build();
+      }
+      long maxValue = max.get();
+      p.setP50Us(Math.min(percentile(snapshot, total, 0.50), maxValue));
+      p.setP90Us(Math.min(percentile(snapshot, total, 0.90), maxValue));
+      p.setP99Us(Math.min(percentile(snapshot, total, 0.99), maxValue));
+      p.setMaxUs(maxValue);
+      p.setMeanUs((double) sum.get() / count.get());
+      return p.build();
+    }
+
+    private static long percentile(long[] snapshot, long total, double q) {
+      long rank = (long) Math.ceil(q * total);
+      long seen = 0;
+      for (int i = 0; i < snapshot.length; i++) {
+        seen += snapshot[i];
+        if (seen >= rank) {
+          return valueAt(i);
+        }
+      }
+      return valueAt(snapshot.length - 1);
+    }
+  }
+}
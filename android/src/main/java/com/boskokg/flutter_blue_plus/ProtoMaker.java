@@ -15,15 +15,12 @@ import android.bluetooth.le.ScanRecord;
 import android.bluetooth.le.ScanResult;
 import android.os.Build;
 import android.os.Parcel;
-import android.os.ParcelUuid;
 import android.util.Log;
-import android.util.SparseArray;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -34,9 +31,10 @@ public class ProtoMaker {
 
     private static final UUID CCCD_UUID = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
 
-    static Protos.ScanResult from(BluetoothDevice device, byte[] advertisementData, int rssi) {
+    // The scan results take the device already encoded, see DeviceProtos.
+    static Protos.ScanResult from(Protos.BluetoothDevice device, byte[] advertisementData, int rssi) {
         Protos.ScanResult.Builder p = Protos.ScanResult.newBuilder();
-        p.setDevice(from(device));
+        p.setDevice(device);
         if(advertisementData != null && advertisementData.length > 0)
             p.setAdvertisementData(AdvertisementParser.parse(advertisementData));
         p.setRssi(rssi);
@@ -44,52 +42,24 @@ public class ProtoMaker {
     }
 
     @TargetApi(21)
-    static Protos.ScanResult from(BluetoothDevice device, ScanResult scanResult) {
+    static Protos.ScanResult from(Protos.BluetoothDevice device, ScanResult scanResult) {
         Protos.ScanResult.Builder p = Protos.ScanResult.newBuilder();
-        p.setDevice(from(device));
+        p.setDevice(device);
         Protos.AdvertisementData.Builder a = Protos.AdvertisementData.newBuilder();
         ScanRecord scanRecord = scanResult.getScanRecord();
+        if(scanRecord != null) {
+            // Also sets connectable from the flags, which is all there is before Android 8.
+            AdvertisementParser.parse(scanRecord.getBytes(), a);
+        }
         if(Build.VERSION.SDK_INT >= 26) {
             a.setConnectable(scanResult.isConnectable());
-        } else {
-            if(scanRecord != null) {
-                int flags = scanRecord.getAdvertiseFlags();
-                a.setConnectable((flags & 0x2) > 0);
-            }
-        }
-        if(scanRecord != null) {
-            String deviceName = scanRecord.getDeviceName();
-            if(deviceName != null) {
-                a.setLocalName(deviceName);
-            }
-            int txPower = scanRecord.getTxPowerLevel();
-            if(txPower != Integer.MIN_VALUE) {
-                a.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(txPower));
-            }
-            // Manufacturer Specific Data
-            SparseArray<byte[]> msd = scanRecord.getManufacturerSpecificData();
-            if(msd != null) {
-                for (int i = 0; i < msd.size(); i++) {
-                    int key = msd.keyAt(i);
-                    byte[] value = msd.valueAt(i);
-                    a.putManufacturerData(key, ByteString.copyFrom(value));
-                }
-            }
-            // Service Data
-            Map<ParcelUuid, byte[]> serviceData = scanRecord.getServiceData();
-            if(serviceData != null) {
-                for (Map.Entry<ParcelUuid, byte[]> entry : serviceData.entrySet()) {
-                    ParcelUuid key = entry.getKey();
-                    byte[] value = entry.getValue();
-                    a.putServiceData(key.getUuid().toString(), ByteString.copyFrom(value));
-                }
-            }
-            // Service UUIDs
-            List<ParcelUuid> serviceUuids = scanRecord.getServiceUuids();
-            if(serviceUuids != null) {
-                for (ParcelUuid s : serviceUuids) {
-                    a.addServiceUuids(s.getUuid().toString());
-                }
+            if(!scanResult.isLegacy()) {
+                a.setExtended(true);
+                a.setPrimaryPhy(scanResult.getPrimaryPhy());
+                a.setSecondaryPhy(scanResult.getSecondaryPhy());
+                a.setAdvertisingSid(scanResult.getAdvertisingSid());
+                a.setPeriodicAdvertisingInterval(scanResult.getPeriodicAdvertisingInterval());
+                a.setDataStatus(scanResult.getDataStatus());
             }
         }
         p.setRssi(scanResult.getRssi());
@@ -121,6 +91,24 @@ public class ProtoMaker {
         return p.build();
     }
 
+    // The form scan results carry, with the address packed (see DeviceIds).
+    static Protos.BluetoothDevice packed(Protos.BluetoothDevice device) {
+        return device.toBuilder()
+                .clearRemoteId()
+                .setRemoteAddress(DeviceIds.pack(device.getRemoteId()))
+                .build();
+    }
+
+    // The form method call replies carry, with the address as a string.
+    static Protos.BluetoothDevice unpacked(Protos.BluetoothDevice device) {
+        if(!device.getRemoteId().isEmpty())
+            return device;
+        return device.toBuilder()
+                .clearRemoteAddress()
+                .setRemoteId(DeviceIds.unpack(device.getRemoteAddress()))
+                .build();
+    }
+
     static Protos.BluetoothService from(BluetoothDevice device, BluetoothGattService service, BluetoothGatt gatt) {
         Protos.BluetoothService.Builder p = Protos.BluetoothService.newBuilder();
         p.setRemoteId(device.getAddress());
@@ -136,14 +124,34 @@ public class ProtoMaker {
     }
 
     static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGatt gatt) {
+        return from(device, characteristic, gatt, copyValue(characteristic.getValue()));
+    }
+
+    /**
+     * Same as above, with the value captured earlier by {@link #copyValue}. Callbacks encoded off
+     * the binder thread use this, since the characteristic's value may change in the meantime.
+     */
+    static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGatt gatt, ByteString value) {
+        return from(device, characteristic, gatt, value, false);
+    }
+
+    /** Same as above with the address packed (see DeviceIds), for notifications. */
+    static Protos.BluetoothCharacteristic packed(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGatt gatt, ByteString value) {
+        return from(device, characteristic, gatt, value, true);
+    }
+
+    private static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGatt gatt, ByteString value, boolean packed) {
         Protos.BluetoothCharacteristic.Builder p = Protos.BluetoothCharacteristic.newBuilder();
-        p.setRemoteId(device.getAddress());
+        if(packed)
+            p.setRemoteAddress(DeviceIds.pack(device.getAddress()));
+        else
+            p.setRemoteId(device.getAddress());
         p.setUuid(characteristic.getUuid().toString());
         p.setProperties(from(characteristic.getProperties()));
-        if(characteristic.getValue() != null)
-            p.setValue(ByteString.copyFrom(characteristic.getValue()));
+        if(value != null)
+            p.setValue(value);
         for(BluetoothGattDescriptor d : characteristic.getDescriptors()) {
-            p.addDescriptors(from(device, d));
+            p.addDescriptors(from(device, d, packed));
         }
         if(characteristic.getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
             p.setServiceUuid(characteristic.getService().getUuid().toString());
@@ -163,8 +171,15 @@ public class ProtoMaker {
     }
 
     static Protos.BluetoothDescriptor from(BluetoothDevice device, BluetoothGattDescriptor descriptor) {
+        return from(device, descriptor, false);
+    }
+
+    private static Protos.BluetoothDescriptor from(BluetoothDevice device, BluetoothGattDescriptor descriptor, boolean packed) {
         Protos.BluetoothDescriptor.Builder p = Protos.BluetoothDescriptor.newBuilder();
-        p.setRemoteId(device.getAddress());
+        if(packed)
+            p.setRemoteAddress(DeviceIds.pack(device.getAddress()));
+        else
+            p.setRemoteId(device.getAddress());
         p.setUuid(descriptor.getUuid().toString());
         p.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
         p.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
@@ -173,6 +188,20 @@ public class ProtoMaker {
         return p.build();
     }
 
+    /** Copies an attribute value once; the resulting ByteString is shared by every proto built from it. */
+    static ByteString copyValue(byte[] value) {
+        return value != null ? ByteString.copyFrom(value) : null;
+    }
+
+    /**
+     * Wraps a value without copying. Only for arrays the stack hands over for good, like the value
+     * passed to the API 33 callbacks; the characteristic's own getValue() buffer is reused by the
+     * next callback and has to go through {@link #copyValue}.
+     */
+    static ByteString wrapValue(byte[] value) {
+        return value != null ? UnsafeByteOperations.unsafeWrap(value) : null;
+    }
+
     static Protos.CharacteristicProperties from(int properties) {
         return Protos.CharacteristicProperties.newBuilder()
                 .setBroadcast((properties & 1) != 0)
@@ -0,0 +1,61 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.util.Random;
+
+/**
+ * Per-device reconnect settings from {@code ConnectRequest.reconnect}, and the backoff they imply.
+ *
+ * Attempt n waits between half and all of min(maxDelay, initialDelay * 2^n), so devices that
+ * dropped together do not retry in lockstep while the delay still grows. The first
+ * {@code autoConnectAfter} attempts are direct connects; after that the device is left to a
+ * background autoConnect, which the controller scans for at a low duty cycle until it shows up.
+ */
+class ReconnectPolicy {
+
+  private static final Random random = new Random();
+
+  final long initialDelayMs;
+  final long maxDelayMs;
+  final int maxAttempts; // 0 for no limit
+  final int autoConnectAfter;
+
+  private ReconnectPolicy(long initialDelayMs, long maxDelayMs, int maxAttempts, int autoConnectAfter) {
+    this.initialDelayMs = initialDelayMs;
+    this.maxDelayMs = Math.max(initialDelayMs, maxDelayMs);
+    this.maxAttempts = maxAttempts;
+    this.autoConnectAfter = autoConnectAfter;
+  }
+
+  /** Returns null if the request did not enable reconnecting. */
+  static ReconnectPolicy from(Protos.ReconnectPolicy p) {
+    if (!p.getEnabled()) {
+      return null;
+    }
+    return new ReconnectPolicy(
+        p.getInitialDelayMs() > 0 ? p.getInitialDelayMs() : 1000,
+        p.getMaxDelayMs() > 0 ? p.getMaxDelayMs() : 60000,
+        p.getMaxAttempts(),
+        p.getAutoConnectAfter());
+  }
+
+  long delayMs(int attempt) {
+    long ceiling = initialDelayMs << Math.min(attempt, 30);
+    if (ceiling <= 0 || ceiling > maxDelayMs) {
+      ceiling = maxDelayMs;
+    }
+    long half = ceiling / 2;
+    return half + (long) (random.nextDouble() * (ceiling - half));
+  }
+
+  boolean useAutoConnect(int attempt) {
+    return attempt >= autoConnectAfter;
+  }
+
+  boolean exhausted(int attempt) {
+    return maxAttempts > 0 && attempt >= maxAttempts;
+  }
+}
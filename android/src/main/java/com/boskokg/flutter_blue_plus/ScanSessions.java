@@ -0,0 +1,368 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Shares one hardware scan between any number of scan sessions.
+ *
+ * Every {@code startScan} opens a session with its own service filter and duplicate handling.
+ * The hardware scan runs with the union of the sessions' filters and the most aggressive of
+ * their scan modes, and each result is tagged with the sessions it matches. It is an extended
+ * scan if any session wants one; the PHY, match mode, number of matches and callback type are
+ * only used if every session agrees on them.
+ *
+ * Android quietly stops delivering results to an app that starts scanning more than five times
+ * in 30 seconds. A restart that would go over that budget is put off until the window allows
+ * it; meanwhile the running scan keeps serving the sessions it covers.
+ *
+ * If every session asks for a duty cycle, the scan alternates between windows of
+ * {@code scan_ms} and pauses. A window that found devices not seen in the two windows before
+ * halves the pause, down to {@code min_pause_ms}; a quiet one grows it by half, up to
+ * {@code max_pause_ms}. Deferred restarts and both phases run off a single timer.
+ */
+class ScanSessions {
+
+  /** The hardware scan. Both methods throw {@link IllegalStateException} if the adapter is off. */
+  interface Scanner {
+    void start(Protos.ScanSettings settings);
+
+    void stop();
+  }
+
+  private static final String TAG = "FlutterBluePlugin";
+  static final int MAX_STARTS = 5;
+  static final long WINDOW_MS = 30000;
+
+  private final Scanner scanner;
+  private final Handler handler;
+  private final Metrics metrics;
+
+  // Guarded by this.
+  private final Map<Integer, Session> sessions = new LinkedHashMap<>();
+  private final long[] starts = new long[MAX_STARTS]; // Ring of the last start times
+  private int nextStart;
+  private Protos.ScanSettings running; // Merged settings of the hardware scan, null if stopped
+  private long restartAt; // When the start budget allows a deferred restart, 0 if none
+
+  // Duty cycle, null while any session wants to scan continuously.
+  private Protos.DutyCycle dutyCycle;
+  private boolean paused;
+  private long windowEndAt;
+  private long resumeAt;
+  private long pauseMs;
+  private int newInWindow;
+  private Set<String> seenInWindow = new HashSet<>();
+  private Set<String> seenBefore = new HashSet<>();
+
+  private long timerAt; // 0 while the timer is not posted
+  private final Runnable timer = new Runnable() {
+    @Override
+    public void run() {
+      synchronized (ScanSessions.this) {
+        timerAt = 0;
+        long now = SystemClock.elapsedRealtime();
+        if (dutyCycle != null && !paused && running != null && windowEndAt != 0 && now >= windowEndAt) {
+          endWindow(now);
+        } else if (dutyCycle != null && paused && now >= resumeAt) {
+          paused = false;
+        }
+        applyQuietly();
+      }
+    }
+  };
+
+  ScanSessions(Scanner scanner, Handler handler, Metrics metrics) {
+    this.scanner = scanner;
+    this.handler = handler;
+    this.metrics = metrics;
+  }
+
+  /** Opens or replaces the session {@code settings.session_id}. */
+  synchronized void start(Protos.ScanSettings settings) {
+    sessions.put(settings.getSessionId(), new Session(settings));
+    try {
+      apply();
+    } catch (IllegalStateException e) {
+      sessions.remove(settings.getSessionId());
+      running = null;
+      throw e;
+    }
+  }
+
+  synchronized void stop(int sessionId) {
+    if (sessions.remove(sessionId) != null) {
+      applyQuietly();
+    }
+  }
+
+  synchronized void stopAll() {
+    sessions.clear();
+    applyQuietly();
+  }
+
+  /** The OS ended the hardware scan; the next change starts it again. */
+  synchronized void failed(int errorCode) {
+    Log.w(TAG, "scan failed with error " + errorCode);
+    running = null;
+  }
+
+  /** Whether any session still wants a result from {@code address}. */
+  synchronized boolean wants(String address) {
+    if (dutyCycle != null && seenInWindow.add(address) && !seenBefore.contains(address)) {
+      newInWindow++;
+    }
+    for (Session s : sessions.values()) {
+      if (s.allowDuplicates || !s.seen.contains(address)) {
+        return true;
+      }
+    }
+    metrics.scanDroppedDuplicate.incrementAndGet();
+    return false;
+  }
+
+  /** Marks the result as seen by the sessions it matches and returns their ids, empty if none. */
+  synchronized List<Integer> match(String address, List<String> serviceUuids) {
+    List<Integer> ids = null;
+    boolean duplicate = false;
+    for (Session s : sessions.values()) {
+      if (!s.accepts(serviceUuids)) {
+        continue;
+      }
+      if (!s.allowDuplicates && !s.seen.add(address)) {
+        duplicate = true;
+        continue;
+      }
+      if (ids == null) {
+        ids = new ArrayList<>(sessions.size());
+      }
+      ids.add(s.id);
+    }
+    if (ids == null) {
+      (duplicate ? metrics.scanDroppedDuplicate : metrics.scanDroppedFilter).incrementAndGet();
+      return Collections.emptyList();
+    }
+    return ids;
+  }
+
+  private void applyQuietly() {
+    try {
+      apply();
+    } catch (IllegalStateException e) {
+      Log.w(TAG, "scan update failed: " + e.getMessage());
+    }
+  }
+
+  // Brings the hardware scan in line with the sessions and the duty cycle, within the start
+  // budget, and sets the timer for whatever has to happen next.
+  private void apply() {
+    try {
+      long now = SystemClock.elapsedRealtime();
+      updateDutyCycle(now);
+      if (sessions.isEmpty() || paused) {
+        restartAt = 0;
+        if (running != null) {
+          running = null;
+          scanner.stop();
+        }
+        return;
+      }
+      Protos.ScanSettings wanted = merge();
+      if (wanted.equals(running)) {
+        return;
+      }
+      long wait = starts[nextStart] == 0 ? 0 : starts[nextStart] + WINDOW_MS - now;
+      if (wait > 0) {
+        // Narrowing the scan is not worth a deferred restart: the running one serves everyone.
+        if ((running == null || !covers(running, wanted)) && restartAt == 0) {
+          restartAt = now + wait;
+          metrics.scanStartsDeferred.incrementAndGet();
+          Log.d(TAG, String.format(Locale.US, "scan restart deferred by %dms to stay within %d starts per %ds",
+              wait, MAX_STARTS, WINDOW_MS / 1000));
+        }
+        return;
+      }
+      restartAt = 0;
+      if (running != null) {
+        running = null;
+        scanner.stop();
+      }
+      scanner.start(wanted);
+      running = wanted;
+      starts[nextStart] = now;
+      nextStart = (nextStart + 1) % MAX_STARTS;
+      metrics.scanStarts.incrementAndGet();
+      if (dutyCycle != null) {
+        windowEndAt = now + dutyCycle.getScanMs();
+        newInWindow = 0;
+      }
+    } finally {
+      setTimer();
+    }
+  }
+
+  // The merged duty cycle scans for the longest window any session asked for and pauses no
+  // longer than the one with the tightest latency target allows.
+  private void updateDutyCycle(long now) {
+    Protos.DutyCycle merged = null;
+    for (Session s : sessions.values()) {
+      if (s.dutyCycle == null) {
+        merged = null;
+        break;
+      }
+      merged = merged == null ? s.dutyCycle : Protos.DutyCycle.newBuilder()
+          .setScanMs(Math.max(merged.getScanMs(), s.dutyCycle.getScanMs()))
+          .setMinPauseMs(Math.min(merged.getMinPauseMs(), s.dutyCycle.getMinPauseMs()))
+          .setMaxPauseMs(Math.min(merged.getMaxPauseMs(), s.dutyCycle.getMaxPauseMs()))
+          .build();
+    }
+    if (merged == null) {
+      dutyCycle = null;
+      paused = false;
+      windowEndAt = 0;
+      seenInWindow.clear();
+      seenBefore.clear();
+      return;
+    }
+    if (dutyCycle == null) {
+      pauseMs = minPause(merged);
+      windowEndAt = running != null ? now + merged.getScanMs() : 0;
+    }
+    dutyCycle = merged;
+  }
+
+  // Pauses shorter than this would start scans faster than Android allows.
+  private static long minPause(Protos.DutyCycle d) {
+    return Math.max(d.getMinPauseMs(), WINDOW_MS / MAX_STARTS - d.getScanMs());
+  }
+
+  private void endWindow(long now) {
+    long min = minPause(dutyCycle);
+    long max = Math.max(min, dutyCycle.getMaxPauseMs());
+    pauseMs = newInWindow > 0 ? pauseMs / 2 : pauseMs + pauseMs / 2 + 1;
+    pauseMs = Math.max(min, Math.min(max, pauseMs));
+    Log.d(TAG, String.format(Locale.US, "scan window found %d new devices, pausing %dms", newInWindow, pauseMs));
+    paused = true;
+    resumeAt = now + pauseMs;
+    windowEndAt = 0;
+    Set<String> recycled = seenBefore;
+    seenBefore = seenInWindow;
+    seenInWindow = recycled;
+    seenInWindow.clear();
+  }
+
+  private void setTimer() {
+    long next = restartAt;
+    if (dutyCycle != null) {
+      long phase = paused ? resumeAt : running != null ? windowEndAt : 0;
+      if (phase != 0 && (next == 0 || phase < next)) {
+        next = phase;
+      }
+    }
+    if (next == timerAt) {
+      return;
+    }
+    if (timerAt != 0) {
+      handler.removeCallbacks(timer);
+    }
+    timerAt = next;
+    if (next != 0) {
+      handler.postDelayed(timer, Math.max(0, next - SystemClock.elapsedRealtime()));
+    }
+  }
+
+  // Union of the service filters, empty if any session scans for everything.
+  private Protos.ScanSettings merge() {
+    Set<String> uuids = new TreeSet<>();
+    boolean unfiltered = false;
+    Protos.ScanSettings.Builder p = Protos.ScanSettings.newBuilder();
+    p.setAndroidScanMode(Integer.MIN_VALUE);
+    boolean first = true;
+    for (Session s : sessions.values()) {
+      Protos.ScanSettings o = s.settings;
+      unfiltered |= s.serviceUuids.isEmpty();
+      uuids.addAll(s.serviceUuids);
+      p.setAndroidScanMode(Math.max(p.getAndroidScanMode(), o.getAndroidScanMode()));
+      p.setAndroidExtended(p.getAndroidExtended() || o.getAndroidExtended());
+      p.setAndroidPhy(first ? o.getAndroidPhy() : agreed(p.getAndroidPhy(), o.getAndroidPhy()));
+      p.setAndroidMatchMode(first ? o.getAndroidMatchMode() : agreed(p.getAndroidMatchMode(), o.getAndroidMatchMode()));
+      p.setAndroidNumOfMatches(first ? o.getAndroidNumOfMatches() : agreed(p.getAndroidNumOfMatches(), o.getAndroidNumOfMatches()));
+      p.setAndroidCallbackType(first ? o.getAndroidCallbackType() : agreed(p.getAndroidCallbackType(), o.getAndroidCallbackType()));
+      first = false;
+    }
+    p.setAllowDuplicates(true);
+    if (!unfiltered) {
+      p.addAllServiceUuids(uuids);
+    } else {
+      // Android only allows first match and match lost callbacks for filtered scans
+      p.setAndroidCallbackType(0);
+    }
+    return p.build();
+  }
+
+  // An Android scan setting both sessions asked for, or 0 for the default.
+  private static int agreed(int a, int b) {
+    return a == b ? a : 0;
+  }
+
+  // Whether scan a returns everything scan b would, at least as often.
+  private static boolean covers(Protos.ScanSettings a, Protos.ScanSettings b) {
+    if (a.getAndroidScanMode() < b.getAndroidScanMode()) {
+      return false;
+    }
+    if (a.getServiceUuidsCount() == 0) {
+      return true;
+    }
+    return b.getServiceUuidsCount() > 0 && a.getServiceUuidsList().containsAll(b.getServiceUuidsList());
+  }
+
+  private static String normalize(String uuid) {
+    return uuid.toLowerCase(Locale.US);
+  }
+
+  private static final class Session {
+    final int id;
+    final Protos.ScanSettings settings;
+    final Set<String> serviceUuids = new HashSet<>();
+    final boolean allowDuplicates;
+    final Protos.DutyCycle dutyCycle; // null to scan continuously
+    final Set<String> seen = new HashSet<>();
+
+    Session(Protos.ScanSettings settings) {
+      id = settings.getSessionId();
+      this.settings = settings;
+      for (String uuid : settings.getServiceUuidsList()) {
+        serviceUuids.add(normalize(uuid));
+      }
+      allowDuplicates = settings.getAllowDuplicates();
+      dutyCycle = settings.hasDutyCycle() && settings.getDutyCycle().getScanMs() > 0 ? settings.getDutyCycle() : null;
+    }
+
+    boolean accepts(List<String> advertised) {
+      if (serviceUuids.isEmpty()) {
+        return true;
+      }
+      for (String uuid : advertised) {
+        if (serviceUuids.contains(normalize(uuid))) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timestamps each GATT operation as it moves through the plugin, for latency analysis.
+ *
+ * A span is stamped with {@link SystemClock#elapsedRealtimeNanos()} when the request reaches
+ * {@code onMethodCall}, when the {@code BluetoothGatt} call returns, when the callback arrives,
+ * when its proto is encoded and when the platform thread hands it to the channel. Callbacks
+ * without a request (notifications, scan results) only carry the last three. Spans live in a
+ * preallocated ring buffer and are exported as Chrome trace-event JSON, which chrome://tracing
+ * and ui.perfetto.dev both open.
+ */
+class SpanTracer {
+
+  static final long NONE = -1;
+  static final int NOTIFICATION = Metrics.GattOp.values().length;
+  static final int SCAN_RESULT = NOTIFICATION + 1;
+
+  private static final int CAPACITY = 2048; // Must be a power of two.
+
+  // Slot layout: sequence + 1, kind << 48 | packed address, uuid msb, uuid lsb, then the stamps.
+  private static final int SEQ = 0;
+  private static final int KIND_ADDRESS = 1;
+  private static final int UUID_MSB = 2;
+  private static final int UUID_LSB = 3;
+  private static final int REQUEST = 4;
+  private static final int GATT_CALL = 5;
+  private static final int CALLBACK = 6;
+  private static final int ENCODED = 7;
+  private static final int DELIVERED = 8;
+  private static final int FIELDS = 9;
+
+  private volatile long[] ring;
+  private final AtomicLong next = new AtomicLong();
+
+  boolean isEnabled() {
+    return ring != null;
+  }
+
+  synchronized void setEnabled(boolean enabled) {
+    if (enabled == isEnabled()) {
+      return;
+    }
+    next.set(0);
+    ring = enabled ? new long[CAPACITY * FIELDS] : null;
+  }
+
+  /** Starts a span for a callback with no request behind it. */
+  long begin(int kind, String address, UUID uuid) {
+    if (ring == null) {
+      return NONE;
+    }
+    return begin(kind, address, uuid, 0, 0, SystemClock.elapsedRealtimeNanos());
+  }
+
+  /**
+   * Starts a span at callback arrival. {@code requestNanos} and {@code gattCallNanos} are 0 when
+   * the plugin did not issue the request (e.g. an MTU change started by the peripheral).
+   */
+  long begin(int kind, String address, UUID uuid, long requestNanos, long gattCallNanos, long callbackNanos) {
+    long[] r = ring;
+    if (r == null) {
+      return NONE;
+    }
+    long seq = next.getAndIncrement();
+    int base = (int) (seq & (CAPACITY - 1)) * FIELDS;
+    r[base + SEQ] = seq + 1;
+    r[base + KIND_ADDRESS] = ((long) kind << 48) | DeviceIds.pack(address);
+    r[base + UUID_MSB] = uuid != null ? uuid.getMostSignificantBits() : 0;
+    r[base + UUID_LSB] = uuid != null ? uuid.getLeastSignificantBits() : 0;
+    r[base + REQUEST] = requestNanos;
+    r[base + GATT_CALL] = gattCallNanos;
+    r[base + CALLBACK] = callbackNanos;
+    r[base + ENCODED] = 0;
+    r[base + DELIVERED] = 0;
+    return seq;
+  }
+
+  void encoded(long span) {
+    stamp(span, ENCODED);
+  }
+
+  void delivered(long span) {
+    stamp(span, DELIVERED);
+  }
+
+  // The slot may have been reused by a newer span if the ring wrapped meanwhile; then drop the stamp.
+  private void stamp(long span, int field) {
+    long[] r = ring;
+    if (span == NONE || r == null) {
+      return;
+    }
+    int base = (int) (span & (CAPACITY - 1)) * FIELDS;
+    if (r[base + SEQ] == span + 1) {
+      r[base + field] = SystemClock.elapsedRealtimeNanos();
+    }
+  }
+
+  /**
+   * Complete spans as Chrome trace-event JSON. Each device gets its own track; a span is drawn
+   * as the whole operation with its phases nested underneath.
+   */
+  synchronized String toChromeJson() {
+    StringBuilder sb = new StringBuilder("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+    long[] r = ring;
+    if (r != null) {
+      Map<Long, Integer> tracks = new HashMap<>();
+      long end = next.get();
+      boolean first = true;
+      for (long seq = Math.max(0, end - CAPACITY); seq < end; seq++) {
+        int base = (int) (seq & (CAPACITY - 1)) * FIELDS;
+        if (r[base + SEQ] != seq + 1 || r[base + DELIVERED] == 0) {
+          continue;
+        }
+        long address = r[base + KIND_ADDRESS] & 0xFFFFFFFFFFFFL;
+        Integer tid = tracks.get(address);
+        if (tid == null) {
+          tid = tracks.size() + 1;
+          tracks.put(address, tid);
+          first = appendSeparator(sb, first);
+          sb.append("{\"ph\":\"M\",\"pid\":1,\"tid\":").append(tid)
+              .append(",\"name\":\"thread_name\",\"args\":{\"name\":\"")
+              .append(DeviceIds.unpack(address)).append("\"}}");
+        }
+        String name = kindName((int) (r[base + KIND_ADDRESS] >>> 48));
+        long request = r[base + REQUEST];
+        long gattCall = r[base + GATT_CALL];
+        long callback = r[base + CALLBACK];
+        long encoded = r[base + ENCODED];
+        long delivered = r[base + DELIVERED];
+
+        first = appendSeparator(sb, first);
+        appendComplete(sb, name, tid, request != 0 ? request : callback, delivered);
+        sb.append(",\"args\":{\"seq\":").append(seq);
+        if (r[base + UUID_MSB] != 0 || r[base + UUID_LSB] != 0) {
+          sb.append(",\"uuid\":\"").append(new UUID(r[base + UUID_MSB], r[base + UUID_LSB])).append('"');
+        }
+        sb.append("}}");
+        if (request != 0 && gattCall != 0) {
+          appendComplete(sb.append(','), "request", tid, request, gattCall);
+          sb.append('}');
+          appendComplete(sb.append(','), "android stack", tid, gattCall, callback);
+          sb.append('}');
+        }
+        if (encoded != 0) {
+          appendComplete(sb.append(','), "encode", tid, callback, encoded);
+          sb.append('}');
+          appendComplete(sb.append(','), "main thread dispatch", tid, encoded, delivered);
+          sb.append('}');
+        }
+      }
+    }
+    return sb.append("]}").toString();
+  }
+
+  private static String kindName(int kind) {
+    if (kind == NOTIFICATION) {
+      return "onCharacteristicChanged";
+    }
+    if (kind == SCAN_RESULT) {
+      return "scanResult";
+    }
+    Metrics.GattOp[] ops = Metrics.GattOp.values();
+    return kind >= 0 && kind < ops.length ? ops[kind].method : "unknown";
+  }
+
+  private static boolean appendSeparator(StringBuilder sb, boolean first) {
+    if (!first) {
+      sb.append(',');
+    }
+    return false;
+  }
+
+  // Leaves the event object open so the caller can add args.
+  private static void appendComplete(StringBuilder sb, String name, int tid, long startNanos, long endNanos) {
+    sb.append("{\"ph\":\"X\",\"pid\":1,\"tid\":").append(tid)
+        .append(",\"name\":\"").append(name).append("\",\"ts\":");
+    appendMicros(sb, startNanos);
+    sb.append(",\"dur\":");
+    appendMicros(sb, Math.max(0, endNanos - startNanos));
+  }
+
+  private static void appendMicros(StringBuilder sb, long nanos) {
+    sb.append(nanos / 1000).append('.');
+    long frac = nanos % 1000;
+    if (frac < 100) {
+      sb.append('0');
+    }
+    if (frac < 10) {
+      sb.append('0');
+    }
+    sb.append(frac);
+  }
+}
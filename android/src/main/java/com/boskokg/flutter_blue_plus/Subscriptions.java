@@ -0,0 +1,64 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Subscription ids, which tag a characteristic's notifications so Dart hands each one straight
+ * to that characteristic's listeners.
+ *
+ * A device's ids are kept in its {@link FlutterBluePlusPlugin.BluetoothDeviceCache} by
+ * notification key (service, secondary service and characteristic uuid), so a reconnect routes
+ * the new client's characteristics to the ids the app already has. The route from a
+ * characteristic instance to its id is read by the GATT callbacks; the rest runs on the
+ * device's shard.
+ */
+class Subscriptions {
+
+  private final Map<BluetoothGattCharacteristic, Integer> routes = new ConcurrentHashMap<>();
+  private final AtomicInteger nextId = new AtomicInteger(1);
+
+  /** Returns the id of key on the device, assigning one if it has none, and routes characteristic to it. */
+  int enable(FlutterBluePlusPlugin.BluetoothDeviceCache cache, String key, BluetoothGattCharacteristic characteristic) {
+    Integer id = cache.subscriptionIds.get(key);
+    if (id == null) {
+      id = nextId.getAndIncrement();
+      cache.subscriptionIds.put(key, id);
+    }
+    routes.put(characteristic, id);
+    return id;
+  }
+
+  void disable(FlutterBluePlusPlugin.BluetoothDeviceCache cache, String key, BluetoothGattCharacteristic characteristic) {
+    if (cache.subscriptionIds.remove(key) != null) {
+      routes.remove(characteristic);
+    }
+  }
+
+  /** Routes a new client's characteristic to the id key already has, if any. */
+  void restore(FlutterBluePlusPlugin.BluetoothDeviceCache cache, String key, BluetoothGattCharacteristic characteristic) {
+    Integer id = cache.subscriptionIds.get(key);
+    if (id != null) {
+      routes.put(characteristic, id);
+    }
+  }
+
+  /** Drops the routes of the device's characteristics; its ids are kept for a restore. */
+  void unroute(FlutterBluePlusPlugin.BluetoothDeviceCache cache) {
+    if (!cache.subscriptionIds.isEmpty()) {
+      routes.values().removeAll(cache.subscriptionIds.values());
+    }
+  }
+
+  /** The id to tag characteristic's notifications with, null if none. */
+  Integer get(BluetoothGattCharacteristic characteristic) {
+    return routes.get(characteristic);
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.SystemClock;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size binary ring buffer of GATT callback events, for post-mortem debugging.
+ *
+ * Recording an event stores five longs and never builds a string; {@link #dump()} decodes the
+ * buffer into protos on demand. The buffer is only allocated while tracing is enabled. Writers
+ * do not lock, so an event being written while the buffer is dumped can come out torn.
+ */
+class TraceLog {
+
+  static final int DEFAULT_CAPACITY = 4096; // Must be a power of two.
+
+  // Slot layout: timestamp, type << 48 | packed address, uuid msb, uuid lsb, status << 32 | value.
+  private static final int FIELDS = 5;
+
+  private volatile long[] ring;
+  private final AtomicLong next = new AtomicLong();
+
+  boolean isEnabled() {
+    return ring != null;
+  }
+
+  synchronized void setEnabled(boolean enabled) {
+    if (enabled == isEnabled()) {
+      return;
+    }
+    next.set(0);
+    ring = enabled ? new long[DEFAULT_CAPACITY * FIELDS] : null;
+  }
+
+  void record(Protos.TraceEvent.Type type, String address, UUID uuid, int status, int value) {
+    long[] r = ring;
+    if (r == null) {
+      return;
+    }
+    int slot = (int) (next.getAndIncrement() & (DEFAULT_CAPACITY - 1)) * FIELDS;
+    r[slot] = SystemClock.elapsedRealtimeNanos();
+    r[slot + 1] = ((long) type.getNumber() << 48) | DeviceIds.pack(address);
+    r[slot + 2] = uuid != null ? uuid.getMostSignificantBits() : 0;
+    r[slot + 3] = uuid != null ? uuid.getLeastSignificantBits() : 0;
+    r[slot + 4] = ((long) status << 32) | (value & 0xFFFFFFFFL);
+  }
+
+  synchronized Protos.TraceDump dump() {
+    Protos.TraceDump.Builder p = Protos.TraceDump.newBuilder();
+    long[] r = ring;
+    if (r == null) {
+      return p.build();
+    }
+    long end = next.get();
+    long start = Math.max(0, end - DEFAULT_CAPACITY);
+    p.setOverwritten(start);
+    for (long seq = start; seq < end; seq++) {
+      int slot = (int) (seq & (DEFAULT_CAPACITY - 1)) * FIELDS;
+      Protos.TraceEvent.Builder e = Protos.TraceEvent.newBuilder();
+      e.setTimestampNs(r[slot]);
+      Protos.TraceEvent.Type type = Protos.TraceEvent.Type.forNumber((int) (r[slot + 1] >>> 48));
+      e.setType(type != null ? type : Protos.TraceEvent.Type.UNKNOWN);
+      e.setRemoteId(DeviceIds.unpack(r[slot + 1] & 0xFFFFFFFFFFFFL));
+      if (r[slot + 2] != 0 || r[slot + 3] != 0) {
+        e.setUuid(new UUID(r[slot + 2], r[slot + 3]).toString());
+      }
+      e.setStatus((int) (r[slot + 4] >> 32));
+      e.setValue((int) r[slot + 4]);
+      p.addEvents(e);
+    }
+    return p.build();
+  }
+}
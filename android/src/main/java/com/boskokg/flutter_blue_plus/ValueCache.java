@@ -0,0 +1,71 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import com.google.protobuf.ByteString;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The last value read or notified per characteristic of one device, for reads with a
+ * {@code max_age_ms}.
+ *
+ * Every onCharacteristicRead and onCharacteristicChanged feeds it; a write or a failed read
+ * forgets the characteristic's value, since what the peripheral holds then is not known. It keeps
+ * the {@link #CAPACITY} most recently used characteristics. Written by the GATT callbacks, which
+ * below API 26 run on binder threads, and read on the device's shard.
+ */
+class ValueCache {
+
+  static final int CAPACITY = 64;
+
+  // Guarded by itself; access order, so the eldest entry is the least recently used.
+  private final LinkedHashMap<BluetoothGattCharacteristic, Entry> entries = new LinkedHashMap<BluetoothGattCharacteristic, Entry>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<BluetoothGattCharacteristic, Entry> eldest) {
+      return size() > CAPACITY;
+    }
+  };
+
+  /** @param nowMs SystemClock.elapsedRealtime() */
+  void put(BluetoothGattCharacteristic characteristic, ByteString value, long nowMs) {
+    synchronized (entries) {
+      entries.put(characteristic, new Entry(value, nowMs));
+    }
+  }
+
+  void forget(BluetoothGattCharacteristic characteristic) {
+    synchronized (entries) {
+      entries.remove(characteristic);
+    }
+  }
+
+  /** The value if it is at most maxAgeMs old, otherwise null. */
+  ByteString get(BluetoothGattCharacteristic characteristic, long maxAgeMs, long nowMs) {
+    synchronized (entries) {
+      Entry e = entries.get(characteristic);
+      return e != null && nowMs - e.atMs <= maxAgeMs ? e.value : null;
+    }
+  }
+
+  void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private static final class Entry {
+    final ByteString value;
+    final long atMs;
+
+    Entry(ByteString value, long atMs) {
+      this.value = value;
+      this.atMs = atMs;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Raw advertisement payloads shaped like the ones seen in the field.
+ */
+public enum AdvertisementCorpus {
+
+  /** Apple iBeacon: flags + 25 byte manufacturer data for company 0x004C. */
+  IBEACON(new Ad()
+      .flags(0x06)
+      .field(0xFF, 0x4C, 0x00, 0x02, 0x15,
+          0xE2, 0xC5, 0x6D, 0xB5, 0xDF, 0xFB, 0x48, 0xD2, 0xB0, 0x60, 0xD0, 0xF5, 0xA7, 0x10, 0x96, 0xE0,
+          0x00, 0x01, 0x00, 0x02, 0xC5)
+      .bytes()),
+
+  /** Eddystone-URL: flags, 16 bit service UUID list and service data for 0xFEAA. */
+  EDDYSTONE(new Ad()
+      .flags(0x06)
+      .field(0x03, 0xAA, 0xFE)
+      .field(0x16, 0xAA, 0xFE, 0x10, 0xEB, 0x03, 'g', 'o', 'o', 'g', 'l', 'e', 0x07)
+      .bytes()),
+
+  /** A chatty peripheral: name, tx power, several manufacturer data blocks and service data. */
+  MANUFACTURER_HEAVY(new Ad()
+      .flags(0x1A)
+      .name("Thermo 0042")
+      .field(0x0A, 0xF4)
+      .field(0xFF, 0x59, 0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08)
+      .field(0xFF, 0x06, 0x00, 0x01, 0x09, 0x20, 0x02)
+      .field(0xFF, 0xE0, 0x00, 0x10, 0x11, 0x12, 0x13, 0x14, 0x15)
+      .field(0x16, 0x1A, 0x18, 0x00, 0xE5, 0x07, 0x42)
+      .bytes()),
+
+  /**
+   * A vendor peripheral on 128 bit UUIDs: the Nordic UART service in the UUID list and service
+   * data, and manufacturer data for a company id above 0x7FFF.
+   */
+  VENDOR_128(new Ad()
+      .flags(0x06)
+      .field(0x07, 0x9E, 0xCA, 0xDC, 0x24, 0x0E, 0xE5, 0xA9, 0xE0, 0x93, 0xF3, 0xA3, 0xB5, 0x01, 0x00, 0x40, 0x6E)
+      .field(0x21, 0x9E, 0xCA, 0xDC, 0x24, 0x0E, 0xE5, 0xA9, 0xE0, 0x93, 0xF3, 0xA3, 0xB5, 0x01, 0x00, 0x40, 0x6E,
+          0x01, 0x64)
+      .field(0xFF, 0x01, 0x8F, 0xAA, 0xBB)
+      .bytes()),
+
+  /** Truncated packet: the last length byte claims more data than remains. */
+  MALFORMED(new Ad()
+      .flags(0x06)
+      .field(0xFF, 0x4C, 0x00, 0x02, 0x15)
+      .truncate(3)
+      .bytes());
+
+  final byte[] data;
+
+  AdvertisementCorpus(byte[] data) {
+    this.data = data;
+  }
+
+  private static class Ad {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private int truncate = 0;
+
+    Ad flags(int flags) {
+      return field(0x01, flags);
+    }
+
+    Ad name(String name) {
+      byte[] b = name.getBytes(StandardCharsets.UTF_8);
+      out.write(b.length + 1);
+      out.write(0x09);
+      out.write(b, 0, b.length);
+      return this;
+    }
+
+    Ad field(int type, int... payload) {
+      out.write(payload.length + 1);
+      out.write(type);
+      for (int b : payload) {
+        out.write(b);
+      }
+      return this;
+    }
+
+    Ad truncate(int count) {
+      truncate = count;
+      return this;
+    }
+
+    // Legacy scan records are delivered zero padded to 62 bytes (advert + scan response).
+    byte[] bytes() {
+      byte[] all = out.toByteArray();
+      if (truncate > 0) {
+        byte[] ret = new byte[all.length - truncate];
+        System.arraycopy(all, 0, ret, 0, ret.length);
+        return ret;
+      }
+      byte[] ret = new byte[Math.max(62, all.length + 1)];
+      System.arraycopy(all, 0, ret, 0, all.length);
+      return ret;
+    }
+  }
+}
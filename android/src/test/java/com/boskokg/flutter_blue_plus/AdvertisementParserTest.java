@@ -0,0 +1,136 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.boskokg.flutter_blue_plus.Protos.AdvertisementData;
+import com.google.protobuf.ByteString;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class AdvertisementParserTest {
+
+  private static final String NORDIC_UART = "6e400001-b5a3-f393-e0a9-e50e24dcca9e";
+
+  private static String uuid16(String digits) {
+    return "0000" + digits + "-0000-1000-8000-00805f9b34fb";
+  }
+
+  private static ByteString bytes(int... b) {
+    byte[] ret = new byte[b.length];
+    for (int i = 0; i < b.length; i++) {
+      ret[i] = (byte) b[i];
+    }
+    return ByteString.copyFrom(ret);
+  }
+
+  private static AdvertisementData parse(int... packet) {
+    return AdvertisementParser.parse(bytes(packet).toByteArray());
+  }
+
+  @Test
+  public void iBeacon() {
+    AdvertisementData ad = AdvertisementParser.parse(AdvertisementCorpus.IBEACON.data);
+    assertEquals(AdvertisementData.ParseError.NONE, ad.getParseError());
+    assertTrue(ad.getConnectable());
+    assertEquals(Collections.singleton(0x004C), ad.getManufacturerDataMap().keySet());
+    assertEquals(bytes(0x02, 0x15,
+        0xE2, 0xC5, 0x6D, 0xB5, 0xDF, 0xFB, 0x48, 0xD2, 0xB0, 0x60, 0xD0, 0xF5, 0xA7, 0x10, 0x96, 0xE0,
+        0x00, 0x01, 0x00, 0x02, 0xC5), ad.getManufacturerDataMap().get(0x004C));
+    assertEquals(0, ad.getServiceUuidsCount());
+    assertFalse(ad.hasTxPowerLevel());
+  }
+
+  @Test
+  public void eddystone() {
+    AdvertisementData ad = AdvertisementParser.parse(AdvertisementCorpus.EDDYSTONE.data);
+    assertEquals(AdvertisementData.ParseError.NONE, ad.getParseError());
+    assertEquals(Collections.singletonList(uuid16("feaa")), ad.getServiceUuidsList());
+    assertEquals(bytes(0x10, 0xEB, 0x03, 'g', 'o', 'o', 'g', 'l', 'e', 0x07), ad.getServiceDataMap().get(uuid16("feaa")));
+    assertEquals(0, ad.getManufacturerDataCount());
+  }
+
+  @Test
+  public void manufacturerHeavy() {
+    AdvertisementData ad = AdvertisementParser.parse(AdvertisementCorpus.MANUFACTURER_HEAVY.data);
+    assertEquals(AdvertisementData.ParseError.NONE, ad.getParseError());
+    assertTrue(ad.getConnectable());
+    assertEquals("Thermo 0042", ad.getLocalName());
+    assertEquals(-12, ad.getTxPowerLevel().getValue());
+    assertEquals(3, ad.getManufacturerDataCount());
+    assertEquals(bytes(0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08), ad.getManufacturerDataMap().get(0x0059));
+    assertEquals(bytes(0x01, 0x09, 0x20, 0x02), ad.getManufacturerDataMap().get(0x0006));
+    assertEquals(bytes(0x10, 0x11, 0x12, 0x13, 0x14, 0x15), ad.getManufacturerDataMap().get(0x00E0));
+    assertEquals(bytes(0x00, 0xE5, 0x07, 0x42), ad.getServiceDataMap().get(uuid16("181a")));
+  }
+
+  @Test
+  public void vendor128() {
+    AdvertisementData ad = AdvertisementParser.parse(AdvertisementCorpus.VENDOR_128.data);
+    assertEquals(AdvertisementData.ParseError.NONE, ad.getParseError());
+    assertEquals(Collections.singletonList(NORDIC_UART), ad.getServiceUuidsList());
+    assertEquals(Collections.singleton(NORDIC_UART), ad.getServiceDataMap().keySet());
+    assertEquals(bytes(0x01, 0x64), ad.getServiceDataMap().get(NORDIC_UART));
+    // Unsigned: the id is not negative even with the top bit set
+    assertEquals(Collections.singleton(0x8F01), ad.getManufacturerDataMap().keySet());
+    assertEquals(bytes(0xAA, 0xBB), ad.getManufacturerDataMap().get(0x8F01));
+  }
+
+  @Test
+  public void truncatedPacketKeepsWhatCameBefore() {
+    AdvertisementData ad = AdvertisementParser.parse(AdvertisementCorpus.MALFORMED.data);
+    assertEquals(AdvertisementData.ParseError.TRUNCATED, ad.getParseError());
+    assertTrue(ad.getConnectable());
+    assertEquals(0, ad.getManufacturerDataCount());
+  }
+
+  @Test
+  public void recordTooShortForItsType() {
+    AdvertisementData ad = parse(0x03, 0x03, 0x0D, 0x18, 0x02, 0xFF, 0x4C, 0x09, 0x09, 'n', 'a', 'm', 'e');
+    assertEquals(AdvertisementData.ParseError.BAD_LENGTH, ad.getParseError());
+    assertEquals(Collections.singletonList(uuid16("180d")), ad.getServiceUuidsList());
+    assertEquals("", ad.getLocalName());
+  }
+
+  @Test
+  public void uuidListNotAMultipleOfItsWidth() {
+    assertEquals(AdvertisementData.ParseError.BAD_LENGTH, parse(0x04, 0x03, 0x0D, 0x18, 0x0F).getParseError());
+    assertEquals(AdvertisementData.ParseError.BAD_LENGTH,
+        parse(0x05, 0x21, 0x9E, 0xCA, 0xDC, 0x24).getParseError());
+  }
+
+  @Test
+  public void zeroPaddingEndsThePacket() {
+    AdvertisementData ad = parse(0x02, 0x01, 0x04, 0x00, 0x02, 0x0A, 0x00);
+    assertEquals(AdvertisementData.ParseError.NONE, ad.getParseError());
+    assertFalse(ad.getConnectable());
+    assertFalse(ad.hasTxPowerLevel());
+  }
+
+  @Test
+  public void thirtyTwoBitUuidsAndTheCompleteName() {
+    AdvertisementData ad = parse(
+        0x09, 0x05, 0x78, 0x56, 0x34, 0x12, 0xEF, 0xCD, 0xAB, 0x90,
+        0x05, 0x09, 'f', 'u', 'l', 'l',
+        0x03, 0x08, 'f', 'u');
+    assertEquals(Arrays.asList("12345678-0000-1000-8000-00805f9b34fb", "90abcdef-0000-1000-8000-00805f9b34fb"),
+        ad.getServiceUuidsList());
+    assertEquals("full", ad.getLocalName());
+  }
+
+  @Test
+  public void appearanceAndUri() {
+    AdvertisementData ad = parse(0x03, 0x19, 0x41, 0x03, 0x06, 0x24, 0x17, 'a', '.', 'b', 'c');
+    assertEquals(0x0341, ad.getAppearance());
+    assertEquals(0x17, ad.getUriScheme());
+    assertEquals("https:a.bc", ad.getUri());
+  }
+}
@@ -0,0 +1,137 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+import org.junit.Test;
+
+public class BatchRunTest {
+
+  /** Catches the batch's single reply. */
+  private static final class Reply implements Result {
+    final List<Object> replies = new ArrayList<>();
+
+    @Override
+    public void success(Object o) {
+      replies.add(o);
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {
+      throw new AssertionError("a batch always replies with success");
+    }
+
+    @Override
+    public void notImplemented() {
+      throw new AssertionError("a batch always replies with success");
+    }
+
+    /** The error code of each result, "" for a success. */
+    List<String> codes() {
+      assertEquals(1, replies.size());
+      try {
+        Protos.BatchResponse p = Protos.BatchResponse.parseFrom((byte[]) replies.get(0));
+        List<String> ret = new ArrayList<>();
+        for (Protos.BatchResult r : p.getResultsList()) {
+          ret.add(r.getSuccess() ? "" : r.getErrorCode());
+        }
+        return ret;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  private static List<Protos.BatchCommand> reads(String... remoteIds) {
+    List<Protos.BatchCommand> ret = new ArrayList<>();
+    for (String remoteId : remoteIds) {
+      ret.add(Protos.BatchCommand.newBuilder()
+          .setReadRssi(remoteId)
+          .build());
+    }
+    return ret;
+  }
+
+  @Test
+  public void resultsComeInCommandOrder() {
+    Reply reply = new Reply();
+    BatchRun run = new BatchRun(reads("A", "B", "A"), 0, 2, reply);
+    run.resultOf(2).error("read_rssi_error", "failed", null);
+    run.resultOf(1).success(null);
+    run.deviceDone();
+    run.resultOf(0).success(null);
+    run.deviceDone();
+    assertEquals(Arrays.asList("", "", "read_rssi_error"), reply.codes());
+  }
+
+  @Test
+  public void onlyTheFirstReportCounts() {
+    Reply reply = new Reply();
+    BatchRun run = new BatchRun(reads("A"), 0, 1, reply);
+    run.resultOf(0).success(null);
+    run.resultOf(0).error("late", null, null);
+    run.deviceDone();
+    assertEquals(Arrays.asList(""), reply.codes());
+  }
+
+  @Test
+  public void repliesOnceTheLastDeviceIsDone() {
+    Reply reply = new Reply();
+    BatchRun run = new BatchRun(reads("A", "B"), 0, 2, reply);
+    run.resultOf(0).success(null);
+    run.resultOf(1).success(null);
+    run.deviceDone();
+    assertEquals(0, reply.replies.size());
+    run.deviceDone();
+    assertEquals(1, reply.replies.size());
+  }
+
+  @Test
+  public void aBatchWithoutDevicesRepliesAtOnce() {
+    Reply reply = new Reply();
+    new BatchRun(Collections.singletonList(Protos.BatchCommand.getDefaultInstance()), 0, 0, reply);
+    assertEquals(Arrays.asList("batch_error"), reply.codes());
+  }
+
+  @Test
+  public void aTimeoutFailsTheDevicesLaterCommandsOnly() {
+    Reply reply = new Reply();
+    // Device A has commands 0, 2 and 3, device B command 1
+    BatchRun run = new BatchRun(reads("A", "B", "A", "A"), 500, 2, reply);
+    run.resultOf(0).success(null);
+    run.resultOf(2).success(null); // Issued, but its callback never came
+    run.timedOut(Arrays.asList(0, 2, 3), 1);
+    assertEquals(0, reply.replies.size());
+
+    run.resultOf(1).success(null);
+    run.deviceDone();
+    assertEquals(Arrays.asList("", "", "batch_timeout", "batch_aborted"), reply.codes());
+  }
+
+  @Test
+  public void theTimeoutDefaultsWhenNotGiven() {
+    assertEquals(BatchRun.DEFAULT_TIMEOUT_MS, new BatchRun(reads("A"), 0, 1, new Reply()).timeoutMs);
+    assertEquals(250, new BatchRun(reads("A"), 250, 1, new Reply()).timeoutMs);
+  }
+
+  @Test
+  public void commandsMapToTheirDeviceAndOperation() {
+    Protos.BatchCommand c = reads("A").get(0);
+    assertEquals("A", BatchRun.remoteId(c));
+    assertEquals(Metrics.GattOp.READ_RSSI, BatchRun.op(c));
+    assertNull(BatchRun.remoteId(Protos.BatchCommand.getDefaultInstance()));
+    assertNotNull(BatchRun.op(Protos.BatchCommand.newBuilder().setDiscoverServices("A").build()));
+  }
+}
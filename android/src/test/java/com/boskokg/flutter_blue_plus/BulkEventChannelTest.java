@@ -0,0 +1,244 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkEventChannelTest {
+
+  private final List<Runnable> posted = new ArrayList<>();
+  private Metrics metrics;
+
+  /** The replies to one pull. */
+  private static final class Pull {
+    final List<ByteBuffer> replies = new ArrayList<>();
+
+    /** The rssi of each scan result and the value size of each notification, in batch order. */
+    List<Integer> events() {
+      assertEquals(1, replies.size());
+      ByteBuffer b = replies.get(0).duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      List<Integer> ret = new ArrayList<>();
+      try {
+        while (b.hasRemaining()) {
+          byte type = b.get();
+          int length = b.getInt();
+          byte[] payload = new byte[length];
+          b.get(payload);
+          ret.add(type == BulkEventChannel.SCAN_RESULT
+              ? Protos.ScanResult.parseFrom(payload).getRssi()
+              : Protos.OnCharacteristicChanged.parseFrom(payload).getCharacteristic().getValue().size());
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new AssertionError(e);
+      }
+      return ret;
+    }
+  }
+
+  @Before
+  public void setUp() {
+    metrics = new Metrics();
+  }
+
+  private BulkEventChannel channel(boolean background) {
+    BinaryMessenger messenger = mock(BinaryMessenger.class);
+    if (background) {
+      when(messenger.makeBackgroundTaskQueue()).thenReturn(mock(BinaryMessenger.TaskQueue.class));
+    } else {
+      when(messenger.makeBackgroundTaskQueue()).thenThrow(new UnsupportedOperationException());
+    }
+    return new BulkEventChannel(messenger, "events", posted::add, metrics, new SpanTracer());
+  }
+
+  private static Pull pull(BulkEventChannel channel) {
+    Pull p = new Pull();
+    channel.onMessage(null, p.replies::add);
+    return p;
+  }
+
+  private static Pull pull(BulkEventChannel channel, int scanLimit, int notificationLimit) {
+    ByteBuffer limits = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    limits.putInt(scanLimit).putInt(notificationLimit).flip();
+    Pull p = new Pull();
+    channel.onMessage(limits, p.replies::add);
+    return p;
+  }
+
+  /** A channel Dart has pulled from, with no pull waiting, so offered events stay queued. */
+  private BulkEventChannel attached(Protos.EventFlowControl.Overflow overflow, int capacity, int maxBytes) {
+    BulkEventChannel channel = channel(true);
+    pull(channel);
+    scan(channel, "warm-up", 0);
+    channel.configure(Protos.EventFlowControl.newBuilder()
+        .setStream(BulkEventChannel.SCAN_RESULT)
+        .setOverflow(overflow)
+        .setCapacity(capacity)
+        .setMaxBytes(maxBytes)
+        .build());
+    return channel;
+  }
+
+  private static boolean scan(BulkEventChannel channel, String address, int rssi) {
+    return channel.offer(BulkEventChannel.SCAN_RESULT, address,
+        Protos.ScanResult.newBuilder().setRssi(rssi).build(), SpanTracer.NONE);
+  }
+
+  @Test
+  public void declinesUntilDartPulls() {
+    BulkEventChannel channel = channel(true);
+    assertFalse(scan(channel, "A", -1));
+    pull(channel);
+    assertTrue(scan(channel, "A", -1));
+  }
+
+  @Test
+  public void aWaitingPullIsAnsweredByTheNextEvent() {
+    BulkEventChannel channel = channel(true);
+    Pull p = pull(channel);
+    assertTrue(p.replies.isEmpty());
+    scan(channel, "A", -40);
+    assertEquals(1, p.replies.size());
+    assertEquals(1, metrics.eventBatches.get());
+    assertEquals(1, metrics.channelMessages.get());
+
+    // Events queued between pulls come in one batch, in order
+    scan(channel, "A", -41);
+    scan(channel, "B", -42);
+    scan(channel, "A", -43);
+    Pull next = pull(channel);
+    assertEquals(Arrays.asList(-41, -42, -43), next.events());
+  }
+
+  @Test
+  public void recordsCarryTheirTypeAndLength() {
+    BulkEventChannel channel = channel(true);
+    pull(channel);
+    scan(channel, "A", -1); // Answers the first pull
+    channel.offer(BulkEventChannel.CHARACTERISTIC_CHANGED, "c", Protos.OnCharacteristicChanged.newBuilder()
+        .setCharacteristic(Protos.BluetoothCharacteristic.newBuilder()
+            .setValue(com.google.protobuf.ByteString.copyFrom(new byte[20])))
+        .build(), SpanTracer.NONE);
+    scan(channel, "A", -50);
+    Pull p = pull(channel);
+    assertEquals(Arrays.asList(-50, 20), p.events()); // Scan results are drained first
+  }
+
+  @Test
+  public void onPlatformThreadABurstIsFlushedByOnePostedTask() {
+    BulkEventChannel channel = channel(false);
+    Pull p = pull(channel);
+    scan(channel, "A", -1);
+    scan(channel, "B", -2);
+    assertEquals(1, posted.size());
+    assertTrue(p.replies.isEmpty());
+    posted.get(0).run();
+    assertEquals(Arrays.asList(-1, -2), p.events());
+  }
+
+  @Test
+  public void aNewPullAnswersTheStaleOneEmpty() {
+    BulkEventChannel channel = channel(true);
+    Pull stale = pull(channel);
+    Pull p = pull(channel);
+    assertEquals(1, stale.replies.size());
+    assertEquals(0, stale.replies.get(0).remaining());
+    assertTrue(p.replies.isEmpty());
+  }
+
+  @Test
+  public void closeAnswersTheWaitingPullAndDropsTheQueue() {
+    BulkEventChannel channel = channel(true);
+    Pull p = pull(channel);
+    channel.close();
+    assertEquals(0, p.replies.get(0).remaining());
+    assertFalse(scan(channel, "A", -1));
+  }
+
+  @Test
+  public void dropOldestKeepsTheNewestEvents() {
+    BulkEventChannel channel = attached(Protos.EventFlowControl.Overflow.DROP_OLDEST, 3, 0);
+    for (int i = 1; i <= 5; i++) {
+      scan(channel, "A", -i);
+    }
+    assertEquals(Arrays.asList(-3, -4, -5), pull(channel).events());
+    assertEquals(2, metrics.eventsDropped.get());
+  }
+
+  @Test
+  public void bufferKeepsTheOldestEvents() {
+    BulkEventChannel channel = attached(Protos.EventFlowControl.Overflow.BUFFER, 3, 0);
+    for (int i = 1; i <= 5; i++) {
+      scan(channel, "A", -i);
+    }
+    assertEquals(Arrays.asList(-1, -2, -3), pull(channel).events());
+    assertEquals(2, metrics.eventsDropped.get());
+  }
+
+  @Test
+  public void conflateKeepsTheLatestEventPerKeyInItsFirstPlace() {
+    BulkEventChannel channel = attached(Protos.EventFlowControl.Overflow.CONFLATE, 0, 0);
+    scan(channel, "A", -1);
+    scan(channel, "B", -2);
+    scan(channel, "A", -3);
+    scan(channel, "C", -4);
+    scan(channel, "B", -5);
+    assertEquals(Arrays.asList(-3, -5, -4), pull(channel).events());
+    assertEquals(2, metrics.eventsConflated.get());
+    // Once taken, a key queues anew.
+    scan(channel, "A", -6);
+    assertEquals(Arrays.asList(-6), pull(channel).events());
+  }
+
+  @Test
+  public void theQueueIsBoundedInBytes() {
+    int record = Protos.ScanResult.newBuilder().setRssi(-1).build().getSerializedSize() + 5;
+    BulkEventChannel channel = attached(Protos.EventFlowControl.Overflow.DROP_OLDEST, 0, 3 * record);
+    for (int i = 1; i <= 5; i++) {
+      scan(channel, "A", -i);
+    }
+    assertEquals(Arrays.asList(-3, -4, -5), pull(channel).events());
+
+    channel = attached(Protos.EventFlowControl.Overflow.BUFFER, 0, 3 * record);
+    for (int i = 1; i <= 5; i++) {
+      scan(channel, "A", -i);
+    }
+    assertEquals(Arrays.asList(-1, -2, -3), pull(channel).events());
+  }
+
+  @Test
+  public void anEventBiggerThanTheByteBoundIsQueuedAlone() {
+    BulkEventChannel channel = attached(Protos.EventFlowControl.Overflow.DROP_OLDEST, 0, 1);
+    scan(channel, "A", -1);
+    scan(channel, "A", -2);
+    assertEquals(Arrays.asList(-2), pull(channel).events());
+  }
+
+  @Test
+  public void aBatchLimitLeavesTheRestForTheNextPull() {
+    BulkEventChannel channel = attached(Protos.EventFlowControl.Overflow.DROP_OLDEST, 0, 0);
+    for (int i = 1; i <= 5; i++) {
+      scan(channel, "A", -i);
+    }
+    assertEquals(Arrays.asList(-1, -2), pull(channel, 2, 0).events());
+    assertEquals(Arrays.asList(-3, -4), pull(channel, 2, 0).events());
+    assertEquals(Arrays.asList(-5), pull(channel, 0, 0).events());
+    assertEquals(0, metrics.eventsDropped.get());
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothProfile;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ConnectionStatesTest {
+
+  private final Map<BluetoothDevice, Integer> system = new HashMap<>();
+  private int systemCalls;
+  private final ConnectionStates states = new ConnectionStates(device -> {
+    systemCalls++;
+    Integer state = system.get(device);
+    return state != null ? state : BluetoothProfile.STATE_DISCONNECTED;
+  });
+
+  private static FlutterBluePlusPlugin.BluetoothDeviceCache cache() {
+    BluetoothGatt gatt = mock(BluetoothGatt.class);
+    when(gatt.getDevice()).thenReturn(mock(BluetoothDevice.class));
+    return new FlutterBluePlusPlugin.BluetoothDeviceCache(gatt);
+  }
+
+  @Test
+  public void aNewClientIsDisconnected() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    assertFalse(states.isConnected(cache));
+    assertFalse(states.isConnected(null));
+    assertEquals(BluetoothProfile.STATE_DISCONNECTED, states.get(cache, cache.gatt.getDevice()));
+  }
+
+  @Test
+  public void theCurrentClientsCallbackSetsTheState() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    assertTrue(states.changed(cache, cache.gatt, BluetoothProfile.STATE_CONNECTED));
+    assertTrue(states.isConnected(cache));
+    assertEquals(BluetoothProfile.STATE_CONNECTED, states.get(cache, cache.gatt.getDevice()));
+    assertTrue(states.changed(cache, cache.gatt, BluetoothProfile.STATE_DISCONNECTED));
+    assertFalse(states.isConnected(cache));
+    assertEquals(0, systemCalls);
+  }
+
+  @Test
+  public void aReplacedClientsCallbackIsIgnored() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    BluetoothGatt old = cache.gatt;
+    states.changed(cache, old, BluetoothProfile.STATE_CONNECTED);
+    cache.gatt = mock(BluetoothGatt.class); // A reconnect attempt's new client
+    cache.connectionState = BluetoothProfile.STATE_DISCONNECTED;
+    assertFalse(states.changed(cache, old, BluetoothProfile.STATE_CONNECTED));
+    assertFalse(states.isConnected(cache));
+    assertFalse(states.changed(null, old, BluetoothProfile.STATE_CONNECTED));
+  }
+
+  @Test
+  public void devicesWithoutAClientAskTheSystem() {
+    BluetoothDevice device = mock(BluetoothDevice.class);
+    system.put(device, BluetoothProfile.STATE_CONNECTED);
+    assertEquals(BluetoothProfile.STATE_CONNECTED, states.get(null, device));
+    assertEquals(1, systemCalls);
+  }
+
+  @Test
+  public void adapterOffDisconnectsEverything() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache a = cache();
+    FlutterBluePlusPlugin.BluetoothDeviceCache b = cache();
+    states.changed(a, a.gatt, BluetoothProfile.STATE_CONNECTED);
+    states.changed(b, b.gatt, BluetoothProfile.STATE_CONNECTING);
+    states.adapterStateChanged(Arrays.asList(a, b), false);
+    assertEquals(BluetoothProfile.STATE_DISCONNECTED, a.connectionState);
+    assertEquals(BluetoothProfile.STATE_DISCONNECTED, b.connectionState);
+    assertEquals(0, systemCalls);
+  }
+
+  @Test
+  public void adapterOnTakesTheSystemsView() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache a = cache();
+    FlutterBluePlusPlugin.BluetoothDeviceCache b = cache();
+    states.changed(a, a.gatt, BluetoothProfile.STATE_CONNECTED);
+    system.put(b.gatt.getDevice(), BluetoothProfile.STATE_CONNECTED);
+    states.adapterStateChanged(Arrays.asList(a, b), true);
+    assertEquals(BluetoothProfile.STATE_DISCONNECTED, a.connectionState);
+    assertEquals(BluetoothProfile.STATE_CONNECTED, b.connectionState);
+    assertEquals(2, systemCalls);
+  }
+}
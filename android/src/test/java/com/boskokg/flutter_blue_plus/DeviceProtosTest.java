@@ -0,0 +1,104 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.bluetooth.BluetoothDevice;
+
+import org.junit.Test;
+
+public class DeviceProtosTest {
+
+  private final DeviceProtos protos = new DeviceProtos();
+
+  private static BluetoothDevice device(int n) {
+    BluetoothDevice device = mock(BluetoothDevice.class);
+    when(device.getAddress()).thenReturn(String.format("AA:BB:CC:DD:%02X:%02X", n >> 8, n & 0xff));
+    when(device.getName()).thenReturn("device " + n);
+    when(device.getType()).thenReturn(BluetoothDevice.DEVICE_TYPE_LE);
+    return device;
+  }
+
+  @Test
+  public void aHitSkipsTheBinderCalls() {
+    BluetoothDevice device = device(1);
+    Protos.BluetoothDevice first = protos.get(device, 1000);
+    assertEquals("device 1", first.getName());
+    assertEquals(Protos.BluetoothDevice.Type.LE, first.getType());
+    assertSame(first, protos.get(device, 1000 + DeviceProtos.TTL_MS - 1));
+    verify(device, times(1)).getName();
+    verify(device, times(1)).getType();
+  }
+
+  @Test
+  public void scanResultsGetThePackedFormOfTheSameEntry() {
+    BluetoothDevice device = device(1);
+    Protos.BluetoothDevice reply = protos.get(device, 1000);
+    Protos.BluetoothDevice packed = protos.packed(device, 1000);
+    assertEquals("AA:BB:CC:DD:00:01", reply.getRemoteId());
+    assertEquals(0, reply.getRemoteAddress());
+    assertEquals("", packed.getRemoteId());
+    assertEquals(DeviceIds.pack("AA:BB:CC:DD:00:01"), packed.getRemoteAddress());
+    assertEquals("device 1", packed.getName());
+    assertSame(packed, protos.packed(device, 1001));
+    verify(device, times(1)).getName();
+  }
+
+  @Test
+  public void anExpiredEntryIsRebuilt() {
+    BluetoothDevice device = device(1);
+    protos.get(device, 1000);
+    when(device.getName()).thenReturn("renamed");
+    assertEquals("renamed", protos.get(device, 1000 + DeviceProtos.TTL_MS).getName());
+    // The rebuilt entry lives for another TTL.
+    assertEquals("renamed", protos.get(device, 1000 + 2 * DeviceProtos.TTL_MS - 1).getName());
+    verify(device, times(2)).getName();
+  }
+
+  @Test
+  public void invalidateRebuildsOnTheNextLookup() {
+    BluetoothDevice device = device(1);
+    protos.get(device, 1000);
+    when(device.getName()).thenReturn("renamed");
+    protos.invalidate(device.getAddress());
+    assertEquals("renamed", protos.get(device, 1001).getName());
+  }
+
+  @Test
+  public void theLeastRecentlyUsedEntryIsEvicted() {
+    BluetoothDevice[] devices = new BluetoothDevice[DeviceProtos.CAPACITY + 1];
+    for (int i = 0; i < devices.length; i++) {
+      devices[i] = device(i);
+    }
+    for (int i = 0; i < DeviceProtos.CAPACITY; i++) {
+      protos.get(devices[i], 1000);
+    }
+    // A lookup makes device 0 the most recently used, so device 1 goes.
+    protos.get(devices[0], 1000);
+    protos.get(devices[DeviceProtos.CAPACITY], 1000);
+
+    protos.get(devices[0], 1000);
+    verify(devices[0], times(1)).getName();
+    protos.get(devices[2], 1000);
+    verify(devices[2], times(1)).getName();
+    protos.get(devices[1], 1000);
+    verify(devices[1], times(2)).getName();
+  }
+
+  @Test
+  public void clearDropsEverything() {
+    BluetoothDevice device = device(1);
+    protos.get(device, 1000);
+    protos.clear();
+    protos.get(device, 1000);
+    verify(device, times(2)).getName();
+  }
+}
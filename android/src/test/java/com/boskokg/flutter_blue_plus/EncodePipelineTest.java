@@ -0,0 +1,118 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class EncodePipelineTest {
+
+  private final EncodePipeline pipeline = new EncodePipeline();
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue("timed out", latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  @Test
+  public void tasksOfADeviceRunInSubmissionOrder() {
+    final List<Integer> a = Collections.synchronizedList(new ArrayList<Integer>());
+    final List<Integer> b = Collections.synchronizedList(new ArrayList<Integer>());
+    CountDownLatch done = new CountDownLatch(2000);
+    for (int i = 0; i < 1000; i++) {
+      final int n = i;
+      pipeline.execute("A", () -> {
+        a.add(n);
+        done.countDown();
+      });
+      pipeline.execute("B", () -> {
+        b.add(n);
+        done.countDown();
+      });
+    }
+    await(done);
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, (int) a.get(i));
+      assertEquals(i, (int) b.get(i));
+    }
+  }
+
+  @Test
+  public void otherDevicesAreEncodedWhileOneIsBusy() {
+    assumeTrue("needs two encode threads", Runtime.getRuntime().availableProcessors() >= 3);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch otherDone = new CountDownLatch(1);
+    pipeline.execute("A", () -> await(release));
+    pipeline.execute("B", otherDone::countDown);
+    await(otherDone);
+    release.countDown();
+  }
+
+  @Test
+  public void aChattyDeviceDoesNotStarveTheOthers() {
+    final List<String> order = Collections.synchronizedList(new ArrayList<String>());
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(201);
+    pipeline.execute("A", () -> await(release));
+    for (int i = 0; i < 200; i++) {
+      final String name = "A" + i;
+      pipeline.execute("A", () -> {
+        order.add(name);
+        done.countDown();
+      });
+    }
+    pipeline.execute("B", () -> {
+      order.add("B");
+      done.countDown();
+    });
+    release.countDown();
+    await(done);
+    assertTrue(order.toString(), order.indexOf("B") < order.indexOf("A199"));
+  }
+
+  @Test
+  public void aFailingTaskDoesNotStopItsLane() {
+    CountDownLatch done = new CountDownLatch(1);
+    pipeline.execute("A", () -> {
+      throw new IllegalStateException("bad callback");
+    });
+    pipeline.execute("A", done::countDown);
+    await(done);
+  }
+
+  @Test
+  public void aFullLaneMakesTheSubmitterWait() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    pipeline.execute("A", () -> {
+      started.countDown();
+      await(release);
+    });
+    await(started);
+    for (int i = 0; i < EncodePipeline.LANE_CAPACITY; i++) {
+      pipeline.execute("A", () -> {});
+    }
+    CountDownLatch lastDone = new CountDownLatch(1);
+    Thread submitter = new Thread(() -> pipeline.execute("A", lastDone::countDown));
+    submitter.start();
+    submitter.join(200);
+    assertTrue("submitted past a full lane", submitter.isAlive());
+    release.countDown();
+    submitter.join(10000);
+    await(lastDone);
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.bluetooth.BluetoothGatt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class GattSlotsTest {
+
+  private static final int FULL = GattSlots.LIMIT - GattSlots.HEADROOM;
+
+  private Metrics metrics;
+  private GattSlots slots;
+  private final List<BluetoothGatt> gatts = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    metrics = new Metrics();
+    slots = new GattSlots(metrics);
+    for (int i = 0; i < FULL; i++) {
+      BluetoothGatt gatt = mock(BluetoothGatt.class);
+      gatts.add(gatt);
+      slots.opened(gatt);
+    }
+  }
+
+  private static String address(int i) {
+    return String.format("00:00:00:00:00:%02X", i);
+  }
+
+  @Test
+  public void noVictimsBelowTheHeadroom() {
+    slots.close(gatts.get(0));
+    slots.idle(address(1), gatts.get(1));
+    assertTrue(slots.victims().isEmpty());
+  }
+
+  @Test
+  public void victimsAreTheLeastRecentlyUsedIdleClients() {
+    slots.idle(address(1), gatts.get(1));
+    slots.idle(address(2), gatts.get(2));
+    slots.idle(address(1), gatts.get(1));
+    assertEquals(Collections.singletonList(gatts.get(2)), slots.victims());
+    assertEquals(1, metrics.gattClientsIdle.get());
+  }
+
+  @Test
+  public void concurrentCallersGetDifferentVictims() {
+    slots.idle(address(1), gatts.get(1));
+    slots.idle(address(2), gatts.get(2));
+    List<BluetoothGatt> first = slots.victims();
+    // Each caller opens a client of its own, so the second needs a victim too
+    List<BluetoothGatt> second = slots.victims();
+    assertEquals(Arrays.asList(gatts.get(1), gatts.get(2)), Arrays.asList(first.get(0), second.get(0)));
+    assertTrue(slots.victims().isEmpty());
+  }
+
+  @Test
+  public void aClientHandedOutOrClosedCannotBeClaimed() {
+    slots.idle(address(1), gatts.get(1));
+    slots.victims();
+    assertFalse(slots.claim(address(1), gatts.get(1)));
+    slots.close(gatts.get(1));
+    assertFalse(slots.claim(address(1), gatts.get(1)));
+    assertEquals(FULL - 1, metrics.gattClients.get());
+  }
+
+  @Test
+  public void aClaimedClientIsNoLongerAVictim() {
+    slots.idle(address(1), gatts.get(1));
+    assertTrue(slots.claim(address(1), gatts.get(1)));
+    assertTrue(slots.victims().isEmpty());
+  }
+
+  @Test
+  public void closeClosesOnce() {
+    slots.close(gatts.get(0));
+    slots.close(gatts.get(0));
+    slots.closeAll();
+    verify(gatts.get(0), times(1)).close();
+    verify(gatts.get(1), times(1)).close();
+    assertEquals(0, metrics.gattClients.get());
+    assertEquals(FULL, metrics.gattClientsPeak.get());
+  }
+}
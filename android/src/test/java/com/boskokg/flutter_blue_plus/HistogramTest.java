@@ -0,0 +1,92 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+  @Test
+  public void smallValuesAreExact() {
+    for (long v = 0; v < 32; v++) {
+      assertEquals(v, Metrics.Histogram.indexOf(v));
+      assertEquals(v, Metrics.Histogram.valueAt((int) v));
+    }
+  }
+
+  @Test
+  public void bucketsStartAfterTheLinearRange() {
+    assertEquals(32, Metrics.Histogram.indexOf(32));
+    assertEquals(32, Metrics.Histogram.indexOf(33));
+    assertEquals(33, Metrics.Histogram.indexOf(34));
+    assertEquals(47, Metrics.Histogram.indexOf(63));
+    assertEquals(48, Metrics.Histogram.indexOf(64));
+    assertEquals(48, Metrics.Histogram.indexOf(67));
+    assertEquals(49, Metrics.Histogram.indexOf(68));
+  }
+
+  @Test
+  public void indexIsMonotonicAndValueWithinASixteenth() {
+    int last = 0;
+    for (long v = 1; v < (1L << 36); v = v * 17 / 16 + 1) {
+      int index = Metrics.Histogram.indexOf(v);
+      assertTrue("index of " + v, index >= last);
+      last = index;
+      long reported = Metrics.Histogram.valueAt(index);
+      assertTrue("value of " + v + " reported as " + reported, Math.abs(reported - v) * 16 <= v);
+    }
+  }
+
+  @Test
+  public void outOfRangeValuesAreClamped() {
+    Metrics.Histogram h = new Metrics.Histogram();
+    h.record(-5);
+    assertEquals(0, h.toProto().getMaxUs());
+    int top = Metrics.Histogram.indexOf(Long.MAX_VALUE);
+    assertEquals(top, Metrics.Histogram.indexOf(1L << 36));
+    assertTrue(top > Metrics.Histogram.indexOf((1L << 36) - 1));
+  }
+
+  @Test
+  public void emptyHistogramHasOnlyACount() {
+    Protos.LatencyHistogram p = new Metrics.Histogram().toProto();
+    assertEquals(0, p.getCount());
+    assertEquals(0, p.getP50Us());
+    assertEquals(0, p.getMaxUs());
+  }
+
+  @Test
+  public void percentilesOfAUniformRange() {
+    Metrics.Histogram h = new Metrics.Histogram();
+    for (long v = 1; v <= 1000; v++) {
+      h.record(v);
+    }
+    Protos.LatencyHistogram p = h.toProto();
+    assertEquals(1000, p.getCount());
+    assertEquals(1000, p.getMaxUs());
+    assertEquals(500.5, p.getMeanUs(), 1e-9);
+    assertWithinASixteenth(500, p.getP50Us());
+    assertWithinASixteenth(900, p.getP90Us());
+    assertWithinASixteenth(990, p.getP99Us());
+  }
+
+  @Test
+  public void percentilesNeverExceedTheMax() {
+    Metrics.Histogram h = new Metrics.Histogram();
+    h.record(1000); // Bucket midpoint 1008
+    Protos.LatencyHistogram p = h.toProto();
+    assertEquals(1000, p.getP50Us());
+    assertEquals(1000, p.getP99Us());
+    assertFalse(Metrics.Histogram.valueAt(Metrics.Histogram.indexOf(1000)) == 1000);
+  }
+
+  private static void assertWithinASixteenth(long expected, long actual) {
+    assertTrue("expected ~" + expected + " but was " + actual, Math.abs(actual - expected) * 16 <= expected);
+  }
+}
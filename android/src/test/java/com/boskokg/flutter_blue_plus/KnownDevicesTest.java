@@ -0,0 +1,177 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.bluetooth.BluetoothDevice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class KnownDevicesTest {
+
+  private KnownDevices known;
+
+  @Before
+  public void setUp() {
+    known = new KnownDevices();
+  }
+
+  private static String address(int i) {
+    return String.format("AA:BB:00:%02X:%02X:%02X", (i >> 16) & 0xFF, (i >> 8) & 0xFF, i & 0xFF);
+  }
+
+  private static Protos.BluetoothDevice device(String address) {
+    return Protos.BluetoothDevice.newBuilder().setRemoteAddress(DeviceIds.pack(address)).build();
+  }
+
+  private void put(String address, int rssi) {
+    known.put(device(address), rssi);
+  }
+
+  private int count() {
+    return known.toProto(Collections.<String>emptySet()).getDevicesCount();
+  }
+
+  // The first n addresses, outside the address(i) range, that probing for starts at slot home.
+  private static List<String> homedAt(int home, int n) {
+    List<String> ret = new ArrayList<>();
+    for (int i = 0; ret.size() < n; i++) {
+      String a = String.format("00:11:%02X:%02X:%02X:%02X", (i >> 24) & 0xFF, (i >> 16) & 0xFF, (i >> 8) & 0xFF, i & 0xFF);
+      if (KnownDevices.home(DeviceIds.pack(a) | KnownDevices.USED) == home) {
+        ret.add(a);
+      }
+    }
+    return ret;
+  }
+
+  @Test
+  public void unknownDevicesAreNotSeen() {
+    assertFalse(known.seen(address(1), -50));
+    put(address(1), KnownDevices.NO_RSSI);
+    assertTrue(known.seen(address(1), -50));
+    assertEquals(-50, known.toProto(Collections.<String>emptySet()).getKnown(0).getRssi().getValue());
+  }
+
+  @Test
+  public void collisionsWrapAroundTheEndOfTheTable() {
+    List<String> last = homedAt(KnownDevices.SLOTS - 1, 4);
+    String first = homedAt(0, 1).get(0);
+    // The second and third of last wrap around into slots 0 and 1, so first goes in slot 2
+    put(last.get(0), -40);
+    put(last.get(1), -41);
+    put(first, -42);
+    put(last.get(2), -43);
+    for (int i = 0; i < 3; i++) {
+      assertTrue(known.seen(last.get(i), -60 - i));
+    }
+    assertTrue(known.seen(first, -63));
+    assertFalse(known.seen(last.get(3), -64)); // Probes the whole chain to the empty slot
+    assertEquals(4, count());
+
+    known.bondStateChanged(last.get(2), BluetoothDevice.BOND_BONDING);
+    Protos.ConnectedDevicesResponse p = known.toProto(Collections.singleton(first));
+    for (int i = 0; i < p.getDevicesCount(); i++) {
+      String a = p.getDevices(i).getRemoteId();
+      int expected = a.equals(first) ? BluetoothDevice.BOND_BONDED
+          : a.equals(last.get(2)) ? BluetoothDevice.BOND_BONDING : BluetoothDevice.BOND_NONE;
+      assertEquals(a, expected, p.getKnown(i).getBondState());
+    }
+  }
+
+  @Test
+  public void aFullTableHoldsEveryDevice() {
+    for (int i = 0; i < KnownDevices.CAPACITY; i++) {
+      put(address(i), -i);
+    }
+    assertEquals(KnownDevices.CAPACITY, count());
+    for (int i = 0; i < KnownDevices.CAPACITY; i++) {
+      assertTrue(address(i), known.seen(address(i), -1));
+    }
+    put(address(0), -2); // An update does not make room
+    assertEquals(KnownDevices.CAPACITY, count());
+  }
+
+  @Test
+  public void evictionKeepsTheMostRecentlySeenThreeQuarters() {
+    int quarter = KnownDevices.CAPACITY / 4;
+    // All put within the same few milliseconds, so only the order of the updates tells them apart
+    List<String> chain = homedAt(KnownDevices.SLOTS - 1, 3);
+    for (int i = 0; i < KnownDevices.CAPACITY - chain.size(); i++) {
+      put(address(i), -1);
+    }
+    for (String a : chain) {
+      put(a, -1);
+    }
+    // Seeing every other device of the first quarter again leaves the rest of it, then the first
+    // half of the second quarter, as the least recently seen quarter
+    for (int i = 0; i < quarter; i += 2) {
+      assertTrue(known.seen(address(i), -2));
+    }
+    assertEquals(KnownDevices.CAPACITY, count());
+
+    put(address(KnownDevices.CAPACITY), -1);
+    assertEquals(KnownDevices.CAPACITY * 3 / 4 + 1, count());
+    for (int i = 0; i < quarter; i++) {
+      assertEquals(address(i), i % 2 == 0, known.seen(address(i), -3));
+    }
+    for (int i = quarter; i < quarter + quarter / 2; i++) {
+      assertFalse(address(i), known.seen(address(i), -3));
+    }
+    for (int i = quarter + quarter / 2; i < KnownDevices.CAPACITY - chain.size(); i++) {
+      assertTrue(address(i), known.seen(address(i), -3));
+    }
+    for (String a : chain) {
+      assertTrue(a, known.seen(a, -3));
+    }
+    assertTrue(known.seen(address(KnownDevices.CAPACITY), -3));
+  }
+
+  @Test
+  public void aSecondEvictionDropsByRecencyToo() {
+    for (int i = 0; i <= KnownDevices.CAPACITY; i++) {
+      put(address(i), -1); // The last one evicts address(0) to address(CAPACITY / 4 - 1)
+    }
+    int first = KnownDevices.CAPACITY / 4;
+    assertTrue(known.seen(address(first), -2));
+    for (int i = KnownDevices.CAPACITY + 1; i <= KnownDevices.CAPACITY + first; i++) {
+      put(address(i), -1); // The last one evicts again
+    }
+    assertEquals(KnownDevices.CAPACITY * 3 / 4 + 1, count());
+    assertTrue(known.seen(address(first), -3));
+    for (int i = first + 1; i <= 2 * first; i++) {
+      assertFalse(address(i), known.seen(address(i), -3));
+    }
+    assertTrue(known.seen(address(2 * first + 1), -3));
+  }
+
+  @Test
+  public void mostRecentlySeenFirst() {
+    put(address(1), -1);
+    put(address(2), -1);
+    put(address(3), -1);
+    known.seen(address(1), -1);
+    Protos.ConnectedDevicesResponse p = known.toProto(Collections.<String>emptySet());
+    assertEquals(address(1), p.getDevices(0).getRemoteId());
+    assertEquals(address(3), p.getDevices(1).getRemoteId());
+    assertEquals(address(2), p.getDevices(2).getRemoteId());
+    assertTrue(p.getKnown(0).getLastSeenMs() >= p.getKnown(1).getLastSeenMs());
+  }
+
+  @Test
+  public void clearForgetsEverything() {
+    put(address(1), -1);
+    known.clear();
+    assertFalse(known.seen(address(1), -1));
+    assertEquals(0, count());
+  }
+}
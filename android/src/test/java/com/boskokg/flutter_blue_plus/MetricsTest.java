@@ -0,0 +1,77 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattService;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class MetricsTest {
+
+  private static final UUID BATTERY = UUID.fromString("0000180f-0000-1000-8000-00805f9b34fb");
+  private static final UUID HEART_RATE = UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb");
+  private static final UUID LEVEL = UUID.fromString("00002a19-0000-1000-8000-00805f9b34fb");
+
+  private final Metrics metrics = new Metrics();
+
+  private static BluetoothGattCharacteristic characteristic(UUID service, UUID uuid) {
+    BluetoothGattService s = mock(BluetoothGattService.class);
+    when(s.getUuid()).thenReturn(service);
+    BluetoothGattCharacteristic c = mock(BluetoothGattCharacteristic.class);
+    when(c.getService()).thenReturn(s);
+    when(c.getUuid()).thenReturn(uuid);
+    return c;
+  }
+
+  @Test
+  public void notificationsAreCountedPerServiceAndCharacteristic() {
+    BluetoothGattCharacteristic battery = characteristic(BATTERY, LEVEL);
+    BluetoothGattCharacteristic other = characteristic(HEART_RATE, LEVEL);
+    metrics.recordNotification("A", battery);
+    metrics.recordNotification("A", battery);
+    metrics.recordNotification("A", other);
+    metrics.recordNotification("B", battery);
+
+    Protos.MetricsSnapshot p = metrics.snapshot();
+    assertEquals(3, p.getNotificationRatesCount());
+    // By device, then service uuid
+    assertRate(p.getNotificationRates(0), "A", HEART_RATE, 1);
+    assertRate(p.getNotificationRates(1), "A", BATTERY, 2);
+    assertRate(p.getNotificationRates(2), "B", BATTERY, 1);
+  }
+
+  @Test
+  public void aNewInstanceOfACharacteristicKeepsCounting() {
+    metrics.recordNotification("A", characteristic(BATTERY, LEVEL));
+    metrics.recordNotification("A", characteristic(BATTERY, LEVEL)); // After a reconnect
+    Protos.MetricsSnapshot p = metrics.snapshot();
+    assertEquals(1, p.getNotificationRatesCount());
+    assertRate(p.getNotificationRates(0), "A", BATTERY, 2);
+  }
+
+  @Test
+  public void forgetDeviceDropsItsCounters() {
+    metrics.recordNotification("A", characteristic(BATTERY, LEVEL));
+    metrics.recordNotification("B", characteristic(BATTERY, LEVEL));
+    metrics.forgetDevice("A");
+    Protos.MetricsSnapshot p = metrics.snapshot();
+    assertEquals(1, p.getNotificationRatesCount());
+    assertEquals("B", p.getNotificationRates(0).getRemoteId());
+  }
+
+  private static void assertRate(Protos.NotificationRate rate, String remoteId, UUID service, long count) {
+    assertEquals(remoteId, rate.getRemoteId());
+    assertEquals(service.toString(), rate.getServiceUuid());
+    assertEquals(LEVEL.toString(), rate.getCharacteristicUuid());
+    assertEquals(count, rate.getCount());
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ReconnectPolicyTest {
+
+  private static ReconnectPolicy policy(int initialMs, int maxMs, int maxAttempts, int autoConnectAfter) {
+    return ReconnectPolicy.from(Protos.ReconnectPolicy.newBuilder()
+        .setEnabled(true)
+        .setInitialDelayMs(initialMs)
+        .setMaxDelayMs(maxMs)
+        .setMaxAttempts(maxAttempts)
+        .setAutoConnectAfter(autoConnectAfter)
+        .build());
+  }
+
+  @Test
+  public void disabledPolicyIsNull() {
+    assertNull(ReconnectPolicy.from(Protos.ReconnectPolicy.newBuilder().setInitialDelayMs(10).build()));
+  }
+
+  @Test
+  public void unsetDelaysTakeTheDefaults() {
+    ReconnectPolicy p = policy(0, 0, 0, 0);
+    assertEquals(1000, p.initialDelayMs);
+    assertEquals(60000, p.maxDelayMs);
+  }
+
+  @Test
+  public void maxDelayIsAtLeastTheInitialDelay() {
+    assertEquals(5000, policy(5000, 100, 0, 0).maxDelayMs);
+  }
+
+  @Test
+  public void delayDoublesWithJitterUpToTheMax() {
+    ReconnectPolicy p = policy(100, 5000, 0, 0);
+    long[] ceilings = {100, 200, 400, 800, 1600, 3200, 5000, 5000};
+    for (int attempt = 0; attempt < ceilings.length; attempt++) {
+      for (int i = 0; i < 200; i++) {
+        long d = p.delayMs(attempt);
+        assertTrue("attempt " + attempt + " waited " + d, d >= ceilings[attempt] / 2 && d <= ceilings[attempt]);
+      }
+    }
+  }
+
+  @Test
+  public void delayDoesNotOverflowForManyAttempts() {
+    ReconnectPolicy p = policy(Integer.MAX_VALUE, Integer.MAX_VALUE, 0, 0);
+    for (int attempt : new int[] {31, 40, 63, 64, 1000, Integer.MAX_VALUE}) {
+      long d = p.delayMs(attempt);
+      assertTrue("attempt " + attempt + " waited " + d, d >= Integer.MAX_VALUE / 2 && d <= Integer.MAX_VALUE);
+    }
+  }
+
+  @Test
+  public void autoConnectAfterTheDirectAttempts() {
+    ReconnectPolicy p = policy(0, 0, 0, 2);
+    assertFalse(p.useAutoConnect(0));
+    assertFalse(p.useAutoConnect(1));
+    assertTrue(p.useAutoConnect(2));
+    assertTrue(policy(0, 0, 0, 0).useAutoConnect(0));
+  }
+
+  @Test
+  public void exhaustedAfterMaxAttempts() {
+    ReconnectPolicy limited = policy(0, 0, 3, 0);
+    assertFalse(limited.exhausted(2));
+    assertTrue(limited.exhausted(3));
+    ReconnectPolicy unlimited = policy(0, 0, 0, 0);
+    assertFalse(unlimited.exhausted(Integer.MAX_VALUE));
+  }
+}
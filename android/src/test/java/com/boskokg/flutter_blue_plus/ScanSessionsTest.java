@@ -0,0 +1,180 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScanSessionsTest {
+
+  private static final String A = "0000180d-0000-1000-8000-00805f9b34fb";
+  private static final String B = "0000180f-0000-1000-8000-00805f9b34fb";
+
+  private final List<Protos.ScanSettings> started = new ArrayList<>();
+  private int stops;
+  private Handler handler;
+  private Metrics metrics;
+  private ScanSessions sessions;
+
+  @Before
+  public void setUp() {
+    handler = mock(Handler.class);
+    metrics = new Metrics();
+    sessions = new ScanSessions(new ScanSessions.Scanner() {
+      @Override
+      public void start(Protos.ScanSettings settings) {
+        started.add(settings);
+      }
+
+      @Override
+      public void stop() {
+        stops++;
+      }
+    }, handler, metrics);
+  }
+
+  private static Protos.ScanSettings.Builder session(int id, String... uuids) {
+    return Protos.ScanSettings.newBuilder().setSessionId(id).addAllServiceUuids(Arrays.asList(uuids));
+  }
+
+  private Protos.ScanSettings running() {
+    return started.isEmpty() ? null : started.get(started.size() - 1);
+  }
+
+  @Test
+  public void mergesFiltersAndTakesTheMostAggressiveMode() {
+    sessions.start(session(1, A.toUpperCase()).setAndroidScanMode(0).setAndroidPhy(1).build());
+    sessions.start(session(2, B).setAndroidScanMode(2).setAndroidPhy(1).build());
+    Protos.ScanSettings s = running();
+    assertEquals(Arrays.asList(A, B), s.getServiceUuidsList());
+    assertEquals(2, s.getAndroidScanMode());
+    assertEquals(1, s.getAndroidPhy());
+    assertTrue(s.getAllowDuplicates());
+  }
+
+  @Test
+  public void settingsOnlyOneSessionAskedForFallBackToTheDefault() {
+    sessions.start(session(1, A).setAndroidPhy(1).setAndroidExtended(true).build());
+    sessions.start(session(2, B).setAndroidPhy(2).build());
+    assertEquals(0, running().getAndroidPhy());
+    assertTrue(running().getAndroidExtended());
+  }
+
+  @Test
+  public void anUnfilteredSessionScansForEverything() {
+    sessions.start(session(1, A).setAndroidCallbackType(2).build());
+    sessions.start(session(2).setAndroidCallbackType(2).build());
+    assertEquals(0, running().getServiceUuidsCount());
+    assertEquals(0, running().getAndroidCallbackType());
+  }
+
+  @Test
+  public void unchangedSettingsDoNotRestart() {
+    sessions.start(session(1).build());
+    sessions.start(session(2).build());
+    assertEquals(1, started.size());
+    assertEquals(0, stops);
+  }
+
+  @Test
+  public void stopsWithTheLastSession() {
+    sessions.start(session(1, A).build());
+    sessions.start(session(2, B).build());
+    sessions.stop(2);
+    assertEquals(Collections.singletonList(A), running().getServiceUuidsList());
+    sessions.stop(1);
+    assertEquals(3, stops); // Before the restarts with and without B, and now
+  }
+
+  @Test
+  public void restartsBeyondTheBudgetAreDeferred() {
+    for (int i = 0; i < ScanSessions.MAX_STARTS; i++) {
+      sessions.start(session(1).setAndroidScanMode(i).build());
+    }
+    assertEquals(ScanSessions.MAX_STARTS, started.size());
+    assertEquals(0, metrics.scanStartsDeferred.get());
+    verify(handler, never()).postDelayed(any(Runnable.class), anyLong());
+
+    sessions.start(session(1).setAndroidScanMode(ScanSessions.MAX_STARTS).build());
+    assertEquals(ScanSessions.MAX_STARTS, started.size());
+    assertEquals(1, metrics.scanStartsDeferred.get());
+    verify(handler).postDelayed(any(Runnable.class), longThat(d -> d > ScanSessions.WINDOW_MS - 5000 && d <= ScanSessions.WINDOW_MS));
+
+    // Another change within the same wait keeps the one deferred restart
+    sessions.start(session(1).setAndroidScanMode(ScanSessions.MAX_STARTS + 1).build());
+    assertEquals(1, metrics.scanStartsDeferred.get());
+  }
+
+  @Test
+  public void narrowingBeyondTheBudgetKeepsTheRunningScan() {
+    sessions.start(session(1, A).build());
+    sessions.start(session(2, B).build());
+    for (int i = 0; i < ScanSessions.MAX_STARTS - 2; i++) {
+      sessions.start(session(3, B).setAndroidScanMode(1 + i).build());
+    }
+    assertEquals(ScanSessions.MAX_STARTS, started.size());
+    sessions.stop(3);
+    sessions.stop(2); // Only A is wanted now, which the running scan for A and B covers
+    assertEquals(Arrays.asList(A, B), running().getServiceUuidsList());
+    assertEquals(0, metrics.scanStartsDeferred.get());
+  }
+
+  @Test
+  public void aFailedScanIsStartedAgainOnTheNextChange() {
+    sessions.start(session(1).build());
+    sessions.failed(2);
+    sessions.start(session(2).build());
+    assertEquals(2, started.size());
+  }
+
+  @Test
+  public void matchesByFilterAndDropsDuplicates() {
+    sessions.start(session(1, A).build());
+    sessions.start(session(2).setAllowDuplicates(true).build());
+    assertEquals(Arrays.asList(1, 2), sessions.match("00:11:22:33:44:55", Collections.singletonList(A.toUpperCase())));
+    assertEquals(Collections.singletonList(2), sessions.match("00:11:22:33:44:55", Collections.singletonList(A)));
+    assertEquals(Collections.singletonList(2), sessions.match("00:11:22:33:44:66", Collections.singletonList(B)));
+
+    sessions.stop(2);
+    assertTrue(sessions.match("00:11:22:33:44:66", Collections.singletonList(B)).isEmpty());
+    assertEquals(1, metrics.scanDroppedFilter.get());
+    assertTrue(sessions.match("00:11:22:33:44:55", Collections.singletonList(A)).isEmpty());
+    assertEquals(1, metrics.scanDroppedDuplicate.get());
+  }
+
+  @Test
+  public void wantsOnlyResultsSomeSessionHasNotSeen() {
+    sessions.start(session(1).build());
+    assertTrue(sessions.wants("00:11:22:33:44:55"));
+    sessions.match("00:11:22:33:44:55", Collections.<String>emptyList());
+    assertFalse(sessions.wants("00:11:22:33:44:55"));
+    assertEquals(1, metrics.scanDroppedDuplicate.get());
+  }
+
+  @Test
+  public void stopAllStopsTheScan() {
+    sessions.start(session(1).build());
+    sessions.stopAll();
+    assertEquals(1, stops);
+    assertFalse(sessions.wants("00:11:22:33:44:55"));
+  }
+}
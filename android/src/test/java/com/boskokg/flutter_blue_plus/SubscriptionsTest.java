@@ -0,0 +1,104 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import org.junit.Test;
+
+public class SubscriptionsTest {
+
+  private static final String HEART_RATE = "180d//2a37";
+  private static final String BATTERY = "180f//2a19";
+
+  private final Subscriptions subscriptions = new Subscriptions();
+
+  private static FlutterBluePlusPlugin.BluetoothDeviceCache cache() {
+    return new FlutterBluePlusPlugin.BluetoothDeviceCache(mock(BluetoothGatt.class));
+  }
+
+  private static BluetoothGattCharacteristic characteristic() {
+    return mock(BluetoothGattCharacteristic.class);
+  }
+
+  @Test
+  public void notificationsAreRoutedToTheirCharacteristicsId() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    BluetoothGattCharacteristic heartRate = characteristic();
+    BluetoothGattCharacteristic battery = characteristic();
+    int a = subscriptions.enable(cache, HEART_RATE, heartRate);
+    int b = subscriptions.enable(cache, BATTERY, battery);
+    assertNotEquals(a, b);
+    assertEquals(a, (int) subscriptions.get(heartRate));
+    assertEquals(b, (int) subscriptions.get(battery));
+    assertNull(subscriptions.get(characteristic()));
+  }
+
+  @Test
+  public void sameUuidCharacteristicsOfTwoDevicesGetTheirOwnIds() {
+    BluetoothGattCharacteristic first = characteristic();
+    BluetoothGattCharacteristic second = characteristic();
+    int a = subscriptions.enable(cache(), HEART_RATE, first);
+    int b = subscriptions.enable(cache(), HEART_RATE, second);
+    assertNotEquals(a, b);
+    assertEquals(a, (int) subscriptions.get(first));
+    assertEquals(b, (int) subscriptions.get(second));
+  }
+
+  @Test
+  public void enablingAgainKeepsTheId() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    BluetoothGattCharacteristic heartRate = characteristic();
+    int a = subscriptions.enable(cache, HEART_RATE, heartRate);
+    assertEquals(a, subscriptions.enable(cache, HEART_RATE, heartRate));
+  }
+
+  @Test
+  public void disableDropsTheIdAndTheRoute() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    BluetoothGattCharacteristic heartRate = characteristic();
+    BluetoothGattCharacteristic battery = characteristic();
+    int a = subscriptions.enable(cache, HEART_RATE, heartRate);
+    int b = subscriptions.enable(cache, BATTERY, battery);
+    subscriptions.disable(cache, HEART_RATE, heartRate);
+    assertNull(subscriptions.get(heartRate));
+    assertEquals(b, (int) subscriptions.get(battery));
+    assertNotEquals(a, subscriptions.enable(cache, HEART_RATE, heartRate));
+  }
+
+  @Test
+  public void aReconnectRoutesTheNewCharacteristicsToTheOldIds() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache cache = cache();
+    BluetoothGattCharacteristic before = characteristic();
+    int a = subscriptions.enable(cache, HEART_RATE, before);
+    subscriptions.unroute(cache);
+    assertNull(subscriptions.get(before));
+
+    BluetoothGattCharacteristic after = characteristic();
+    subscriptions.restore(cache, HEART_RATE, after);
+    assertEquals(a, (int) subscriptions.get(after));
+    // Nothing to restore for a key that was never enabled.
+    BluetoothGattCharacteristic battery = characteristic();
+    subscriptions.restore(cache, BATTERY, battery);
+    assertNull(subscriptions.get(battery));
+  }
+
+  @Test
+  public void unrouteLeavesOtherDevicesAlone() {
+    FlutterBluePlusPlugin.BluetoothDeviceCache gone = cache();
+    FlutterBluePlusPlugin.BluetoothDeviceCache other = cache();
+    subscriptions.enable(gone, HEART_RATE, characteristic());
+    BluetoothGattCharacteristic kept = characteristic();
+    int b = subscriptions.enable(other, HEART_RATE, kept);
+    subscriptions.unroute(gone);
+    assertEquals(b, (int) subscriptions.get(kept));
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import com.google.protobuf.ByteString;
+
+import org.junit.Test;
+
+public class ValueCacheTest {
+
+  private static final ByteString ONE = ByteString.copyFrom(new byte[] {1});
+  private static final ByteString TWO = ByteString.copyFrom(new byte[] {2});
+
+  private final ValueCache cache = new ValueCache();
+  private final BluetoothGattCharacteristic characteristic = mock(BluetoothGattCharacteristic.class);
+
+  @Test
+  public void aFreshValueIsAHit() {
+    cache.put(characteristic, ONE, 1000);
+    assertEquals(ONE, cache.get(characteristic, 500, 1000));
+    assertEquals(ONE, cache.get(characteristic, 500, 1500));
+  }
+
+  @Test
+  public void anUnknownCharacteristicIsAMiss() {
+    cache.put(characteristic, ONE, 1000);
+    assertNull(cache.get(mock(BluetoothGattCharacteristic.class), 500, 1000));
+  }
+
+  @Test
+  public void anOldValueIsAMiss() {
+    cache.put(characteristic, ONE, 1000);
+    assertNull(cache.get(characteristic, 500, 1501));
+    // A newer value, as from a notification, is a hit again.
+    cache.put(characteristic, TWO, 1600);
+    assertEquals(TWO, cache.get(characteristic, 500, 1700));
+  }
+
+  @Test
+  public void aForgottenValueIsAMiss() {
+    cache.put(characteristic, ONE, 1000);
+    cache.forget(characteristic);
+    assertNull(cache.get(characteristic, 500, 1000));
+  }
+
+  @Test
+  public void clearForgetsEverything() {
+    cache.put(characteristic, ONE, 1000);
+    cache.clear();
+    assertNull(cache.get(characteristic, 500, 1000));
+  }
+
+  @Test
+  public void theLeastRecentlyUsedCharacteristicGoesFirst() {
+    BluetoothGattCharacteristic[] characteristics = new BluetoothGattCharacteristic[ValueCache.CAPACITY + 1];
+    for (int i = 0; i < characteristics.length; i++) {
+      characteristics[i] = mock(BluetoothGattCharacteristic.class);
+    }
+    for (int i = 0; i < ValueCache.CAPACITY; i++) {
+      cache.put(characteristics[i], ONE, 1000);
+    }
+    assertEquals(ONE, cache.get(characteristics[0], 500, 1000)); // Now the most recently used
+    cache.put(characteristics[ValueCache.CAPACITY], TWO, 1000);
+    assertEquals(ONE, cache.get(characteristics[0], 500, 1000));
+    assertNull(cache.get(characteristics[1], 500, 1000));
+    assertEquals(TWO, cache.get(characteristics[ValueCache.CAPACITY], 500, 1000));
+  }
+}
@@ -28,13 +28,25 @@
 CF_EXTERN_C_BEGIN
 
 @class ProtosAdvertisementData;
+@class ProtosBatchCommand;
+@class ProtosBatchResult;
 @class ProtosBluetoothCharacteristic;
 @class ProtosBluetoothDescriptor;
 @class ProtosBluetoothDevice;
 @class ProtosBluetoothService;
 @class ProtosCharacteristicProperties;
+@class ProtosDutyCycle;
+@class ProtosGattLatency;
 @class ProtosInt32Value;
+@class ProtosKnownDevice;
+@class ProtosLatencyHistogram;
+@class ProtosMtuSizeRequest;
+@class ProtosNotificationRate;
+@class ProtosReadCharacteristicRequest;
 @class ProtosReadDescriptorRequest;
+@class ProtosReconnectPolicy;
+@class ProtosSetNotificationRequest;
+@class ProtosTraceEvent;
 @class ProtosWriteCharacteristicRequest;
 @class ProtosWriteDescriptorRequest;
 
@@ -66,6 +78,33 @@ GPBEnumDescriptor *ProtosBluetoothState_State_EnumDescriptor(void);
  **/
 BOOL ProtosBluetoothState_State_IsValidValue(int32_t value);
 
+#pragma mark - Enum ProtosAdvertisementData_ParseError
+
+/** Set if the packet was malformed; the fields parsed before the bad structure are kept. */
+typedef GPB_ENUM(ProtosAdvertisementData_ParseError) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosAdvertisementData_ParseError_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosAdvertisementData_ParseError_None = 0,
+
+  /** A structure's length runs past the end of the packet */
+  ProtosAdvertisementData_ParseError_Truncated = 1,
+
+  /** A structure is too short for its type */
+  ProtosAdvertisementData_ParseError_BadLength = 2,
+};
+
+GPBEnumDescriptor *ProtosAdvertisementData_ParseError_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosAdvertisementData_ParseError_IsValidValue(int32_t value);
+
 #pragma mark - Enum ProtosBluetoothDevice_Type
 
 typedef GPB_ENUM(ProtosBluetoothDevice_Type) {
@@ -133,6 +172,70 @@ GPBEnumDescriptor *ProtosDeviceStateResponse_BluetoothDeviceState_EnumDescriptor
  **/
 BOOL ProtosDeviceStateResponse_BluetoothDeviceState_IsValidValue(int32_t value);
 
+#pragma mark - Enum ProtosEventFlowControl_Overflow
+
+typedef GPB_ENUM(ProtosEventFlowControl_Overflow) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosEventFlowControl_Overflow_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosEventFlowControl_Overflow_DropOldest = 0,
+
+  /** Drops new events while the queue is full */
+  ProtosEventFlowControl_Overflow_Buffer = 1,
+
+  /** Keeps only the latest event per device (scan results) or characteristic (notifications) */
+  ProtosEventFlowControl_Overflow_Conflate = 2,
+};
+
+GPBEnumDescriptor *ProtosEventFlowControl_Overflow_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosEventFlowControl_Overflow_IsValidValue(int32_t value);
+
+#pragma mark - Enum ProtosTraceEvent_Type
+
+typedef GPB_ENUM(ProtosTraceEvent_Type) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosTraceEvent_Type_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosTraceEvent_Type_Unknown = 0,
+
+  /** value: new state */
+  ProtosTraceEvent_Type_ConnectionStateChanged = 1,
+  ProtosTraceEvent_Type_ServicesDiscovered = 2,
+  ProtosTraceEvent_Type_CharacteristicRead = 3,
+  ProtosTraceEvent_Type_CharacteristicWrite = 4,
+
+  /** value: payload length */
+  ProtosTraceEvent_Type_CharacteristicChanged = 5,
+  ProtosTraceEvent_Type_DescriptorRead = 6,
+  ProtosTraceEvent_Type_DescriptorWrite = 7,
+  ProtosTraceEvent_Type_ReliableWriteCompleted = 8,
+
+  /** value: rssi */
+  ProtosTraceEvent_Type_ReadRemoteRssi = 9,
+
+  /** value: mtu */
+  ProtosTraceEvent_Type_MtuChanged = 10,
+};
+
+GPBEnumDescriptor *ProtosTraceEvent_Type_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosTraceEvent_Type_IsValidValue(int32_t value);
+
 #pragma mark - ProtosFlutterblueplusRoot
 
 /**
@@ -199,6 +302,16 @@ typedef GPB_ENUM(ProtosAdvertisementData_FieldNumber) {
   ProtosAdvertisementData_FieldNumber_ManufacturerData = 4,
   ProtosAdvertisementData_FieldNumber_ServiceData = 5,
   ProtosAdvertisementData_FieldNumber_ServiceUuidsArray = 6,
+  ProtosAdvertisementData_FieldNumber_Extended = 7,
+  ProtosAdvertisementData_FieldNumber_PrimaryPhy = 8,
+  ProtosAdvertisementData_FieldNumber_SecondaryPhy = 9,
+  ProtosAdvertisementData_FieldNumber_AdvertisingSid = 10,
+  ProtosAdvertisementData_FieldNumber_PeriodicAdvertisingInterval = 11,
+  ProtosAdvertisementData_FieldNumber_DataStatus = 12,
+  ProtosAdvertisementData_FieldNumber_Appearance = 13,
+  ProtosAdvertisementData_FieldNumber_Uri = 14,
+  ProtosAdvertisementData_FieldNumber_UriScheme = 15,
+  ProtosAdvertisementData_FieldNumber_ParseError = 16,
 };
 
 GPB_FINAL @interface ProtosAdvertisementData : GPBMessage
@@ -225,14 +338,62 @@ GPB_FINAL @interface ProtosAdvertisementData : GPBMessage
 /** The number of items in @c serviceUuidsArray without causing the array to be created. */
 @property(nonatomic, readonly) NSUInteger serviceUuidsArray_Count;
 
+/** Bluetooth 5 extended advertising, Android 8+. Only set for non-legacy advertisements. */
+@property(nonatomic, readwrite) BOOL extended;
+
+/** BluetoothDevice.PHY_LE_* */
+@property(nonatomic, readwrite) int32_t primaryPhy;
+
+/** 0 if unused */
+@property(nonatomic, readwrite) int32_t secondaryPhy;
+
+/** 255 if not present */
+@property(nonatomic, readwrite) int32_t advertisingSid;
+
+/** In 1.25ms units, 0 if none */
+@property(nonatomic, readwrite) int32_t periodicAdvertisingInterval;
+
+/** 0 complete, 1 truncated */
+@property(nonatomic, readwrite) int32_t dataStatus;
+
+/** GAP appearance, 0 if not advertised */
+@property(nonatomic, readwrite) int32_t appearance;
+
+/** With the scheme expanded if it is one of the common ones */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *uri;
+
+/** The raw scheme code of uri, 1 for none */
+@property(nonatomic, readwrite) int32_t uriScheme;
+
+@property(nonatomic, readwrite) ProtosAdvertisementData_ParseError parseError;
+
 @end
 
+/**
+ * Fetches the raw value of a @c ProtosAdvertisementData's @c parseError property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosAdvertisementData_ParseError_RawValue(ProtosAdvertisementData *message);
+/**
+ * Sets the raw value of an @c ProtosAdvertisementData's @c parseError property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosAdvertisementData_ParseError_RawValue(ProtosAdvertisementData *message, int32_t value);
+
 #pragma mark - ProtosScanSettings
 
 typedef GPB_ENUM(ProtosScanSettings_FieldNumber) {
   ProtosScanSettings_FieldNumber_AndroidScanMode = 1,
   ProtosScanSettings_FieldNumber_ServiceUuidsArray = 2,
   ProtosScanSettings_FieldNumber_AllowDuplicates = 3,
+  ProtosScanSettings_FieldNumber_SessionId = 4,
+  ProtosScanSettings_FieldNumber_DutyCycle = 5,
+  ProtosScanSettings_FieldNumber_AndroidExtended = 6,
+  ProtosScanSettings_FieldNumber_AndroidPhy = 7,
+  ProtosScanSettings_FieldNumber_AndroidMatchMode = 8,
+  ProtosScanSettings_FieldNumber_AndroidNumOfMatches = 9,
+  ProtosScanSettings_FieldNumber_AndroidCallbackType = 10,
 };
 
 GPB_FINAL @interface ProtosScanSettings : GPBMessage
@@ -245,6 +406,51 @@ GPB_FINAL @interface ProtosScanSettings : GPBMessage
 
 @property(nonatomic, readwrite) BOOL allowDuplicates;
 
+/** Concurrent scans share one hardware scan, see ScanSessions.java */
+@property(nonatomic, readwrite) uint32_t sessionId;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosDutyCycle *dutyCycle;
+/** Test to see if @c dutyCycle has been set. */
+@property(nonatomic, readwrite) BOOL hasDutyCycle;
+
+/** android.bluetooth.le.ScanSettings values; 0 leaves the Android default. */
+@property(nonatomic, readwrite) BOOL androidExtended;
+
+/** Android 8+ */
+@property(nonatomic, readwrite) int32_t androidPhy;
+
+/** Android 6+ */
+@property(nonatomic, readwrite) int32_t androidMatchMode;
+
+/** Android 6+ */
+@property(nonatomic, readwrite) int32_t androidNumOfMatches;
+
+/** Android 6+ */
+@property(nonatomic, readwrite) int32_t androidCallbackType;
+
+@end
+
+#pragma mark - ProtosDutyCycle
+
+typedef GPB_ENUM(ProtosDutyCycle_FieldNumber) {
+  ProtosDutyCycle_FieldNumber_ScanMs = 1,
+  ProtosDutyCycle_FieldNumber_MinPauseMs = 2,
+  ProtosDutyCycle_FieldNumber_MaxPauseMs = 3,
+};
+
+/**
+ * Scan for scan_ms, then pause. The pause adapts between min_pause_ms and max_pause_ms to how
+ * many new devices recent windows found, so a device is found at most about
+ * max_pause_ms + scan_ms after it starts advertising.
+ **/
+GPB_FINAL @interface ProtosDutyCycle : GPBMessage
+
+@property(nonatomic, readwrite) uint32_t scanMs;
+
+@property(nonatomic, readwrite) uint32_t minPauseMs;
+
+@property(nonatomic, readwrite) uint32_t maxPauseMs;
+
 @end
 
 #pragma mark - ProtosScanResult
@@ -253,6 +459,8 @@ typedef GPB_ENUM(ProtosScanResult_FieldNumber) {
   ProtosScanResult_FieldNumber_Device = 1,
   ProtosScanResult_FieldNumber_AdvertisementData = 2,
   ProtosScanResult_FieldNumber_Rssi = 3,
+  ProtosScanResult_FieldNumber_SessionIdsArray = 4,
+  ProtosScanResult_FieldNumber_AndroidCallbackType = 5,
 };
 
 GPB_FINAL @interface ProtosScanResult : GPBMessage
@@ -268,6 +476,14 @@ GPB_FINAL @interface ProtosScanResult : GPBMessage
 
 @property(nonatomic, readwrite) int32_t rssi;
 
+/** The scan sessions whose filters matched */
+@property(nonatomic, readwrite, strong, null_resettable) GPBUInt32Array *sessionIdsArray;
+/** The number of items in @c sessionIdsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger sessionIdsArray_Count;
+
+/** ScanSettings.CALLBACK_TYPE_*, e.g. 4 when a device was lost */
+@property(nonatomic, readwrite) int32_t androidCallbackType;
+
 @end
 
 #pragma mark - ProtosConnectRequest
@@ -275,6 +491,8 @@ GPB_FINAL @interface ProtosScanResult : GPBMessage
 typedef GPB_ENUM(ProtosConnectRequest_FieldNumber) {
   ProtosConnectRequest_FieldNumber_RemoteId = 1,
   ProtosConnectRequest_FieldNumber_AndroidAutoConnect = 2,
+  ProtosConnectRequest_FieldNumber_Reconnect = 3,
+  ProtosConnectRequest_FieldNumber_RestoreNotifications = 4,
 };
 
 GPB_FINAL @interface ProtosConnectRequest : GPBMessage
@@ -283,6 +501,46 @@ GPB_FINAL @interface ProtosConnectRequest : GPBMessage
 
 @property(nonatomic, readwrite) BOOL androidAutoConnect;
 
+/** Android only */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosReconnectPolicy *reconnect;
+/** Test to see if @c reconnect has been set. */
+@property(nonatomic, readwrite) BOOL hasReconnect;
+
+/**
+ * Android only: if the plugin still has the device's client from an earlier connection, re-enable
+ * the notifications it had, and its MTU, once this connection is up.
+ **/
+@property(nonatomic, readwrite) BOOL restoreNotifications;
+
+@end
+
+#pragma mark - ProtosReconnectPolicy
+
+typedef GPB_ENUM(ProtosReconnectPolicy_FieldNumber) {
+  ProtosReconnectPolicy_FieldNumber_Enabled = 1,
+  ProtosReconnectPolicy_FieldNumber_InitialDelayMs = 2,
+  ProtosReconnectPolicy_FieldNumber_MaxDelayMs = 3,
+  ProtosReconnectPolicy_FieldNumber_MaxAttempts = 4,
+  ProtosReconnectPolicy_FieldNumber_AutoConnectAfter = 5,
+};
+
+/**
+ * Backoff starts at initial_delay_ms (default 1000) and doubles up to max_delay_ms (default 60000),
+ * each delay jittered down by up to half. After auto_connect_after failed direct attempts the
+ * device is left to a background autoConnect. max_attempts of 0 retries forever.
+ **/
+GPB_FINAL @interface ProtosReconnectPolicy : GPBMessage
+
+@property(nonatomic, readwrite) BOOL enabled;
+
+@property(nonatomic, readwrite) uint32_t initialDelayMs;
+
+@property(nonatomic, readwrite) uint32_t maxDelayMs;
+
+@property(nonatomic, readwrite) uint32_t maxAttempts;
+
+@property(nonatomic, readwrite) uint32_t autoConnectAfter;
+
 @end
 
 #pragma mark - ProtosBluetoothDevice
@@ -291,6 +549,7 @@ typedef GPB_ENUM(ProtosBluetoothDevice_FieldNumber) {
   ProtosBluetoothDevice_FieldNumber_RemoteId = 1,
   ProtosBluetoothDevice_FieldNumber_Name = 2,
   ProtosBluetoothDevice_FieldNumber_Type = 3,
+  ProtosBluetoothDevice_FieldNumber_RemoteAddress = 4,
 };
 
 GPB_FINAL @interface ProtosBluetoothDevice : GPBMessage
@@ -301,6 +560,9 @@ GPB_FINAL @interface ProtosBluetoothDevice : GPBMessage
 
 @property(nonatomic, readwrite) ProtosBluetoothDevice_Type type;
 
+/** Instead of remote_id in Android scan results: the address packed, see DeviceIds.java */
+@property(nonatomic, readwrite) uint64_t remoteAddress;
+
 @end
 
 /**
@@ -356,6 +618,7 @@ typedef GPB_ENUM(ProtosBluetoothCharacteristic_FieldNumber) {
   ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray = 5,
   ProtosBluetoothCharacteristic_FieldNumber_Properties = 6,
   ProtosBluetoothCharacteristic_FieldNumber_Value = 7,
+  ProtosBluetoothCharacteristic_FieldNumber_RemoteAddress = 8,
 };
 
 GPB_FINAL @interface ProtosBluetoothCharacteristic : GPBMessage
@@ -382,6 +645,9 @@ GPB_FINAL @interface ProtosBluetoothCharacteristic : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Instead of remote_id in Android notifications */
+@property(nonatomic, readwrite) uint64_t remoteAddress;
+
 @end
 
 #pragma mark - ProtosBluetoothDescriptor
@@ -392,6 +658,7 @@ typedef GPB_ENUM(ProtosBluetoothDescriptor_FieldNumber) {
   ProtosBluetoothDescriptor_FieldNumber_ServiceUuid = 3,
   ProtosBluetoothDescriptor_FieldNumber_CharacteristicUuid = 4,
   ProtosBluetoothDescriptor_FieldNumber_Value = 5,
+  ProtosBluetoothDescriptor_FieldNumber_RemoteAddress = 6,
 };
 
 GPB_FINAL @interface ProtosBluetoothDescriptor : GPBMessage
@@ -408,6 +675,9 @@ GPB_FINAL @interface ProtosBluetoothDescriptor : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Instead of remote_id in Android notifications */
+@property(nonatomic, readwrite) uint64_t remoteAddress;
+
 @end
 
 #pragma mark - ProtosCharacteristicProperties
@@ -473,6 +743,7 @@ typedef GPB_ENUM(ProtosReadCharacteristicRequest_FieldNumber) {
   ProtosReadCharacteristicRequest_FieldNumber_CharacteristicUuid = 2,
   ProtosReadCharacteristicRequest_FieldNumber_ServiceUuid = 3,
   ProtosReadCharacteristicRequest_FieldNumber_SecondaryServiceUuid = 4,
+  ProtosReadCharacteristicRequest_FieldNumber_MaxAgeMs = 5,
 };
 
 GPB_FINAL @interface ProtosReadCharacteristicRequest : GPBMessage
@@ -485,6 +756,9 @@ GPB_FINAL @interface ProtosReadCharacteristicRequest : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSString *secondaryServiceUuid;
 
+/** Android only: answer from the last value read or notified if it is at most this old; 0 always reads. */
+@property(nonatomic, readwrite) uint32_t maxAgeMs;
+
 @end
 
 #pragma mark - ProtosReadCharacteristicResponse
@@ -554,6 +828,8 @@ typedef GPB_ENUM(ProtosWriteCharacteristicRequest_FieldNumber) {
   ProtosWriteCharacteristicRequest_FieldNumber_SecondaryServiceUuid = 4,
   ProtosWriteCharacteristicRequest_FieldNumber_WriteType = 5,
   ProtosWriteCharacteristicRequest_FieldNumber_Value = 6,
+  ProtosWriteCharacteristicRequest_FieldNumber_Coalesce = 7,
+  ProtosWriteCharacteristicRequest_FieldNumber_WriteId = 8,
 };
 
 GPB_FINAL @interface ProtosWriteCharacteristicRequest : GPBMessage
@@ -570,6 +846,12 @@ GPB_FINAL @interface ProtosWriteCharacteristicRequest : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Android only: while a write is in flight, replace this characteristic's pending value instead of failing. */
+@property(nonatomic, readwrite) BOOL coalesce;
+
+/** Set by the caller on coalescing writes, and echoed in their WriteCharacteristicResponse. */
+@property(nonatomic, readwrite) uint32_t writeId;
+
 @end
 
 /**
@@ -589,6 +871,7 @@ void SetProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacter
 typedef GPB_ENUM(ProtosWriteCharacteristicResponse_FieldNumber) {
   ProtosWriteCharacteristicResponse_FieldNumber_Request = 1,
   ProtosWriteCharacteristicResponse_FieldNumber_Success = 2,
+  ProtosWriteCharacteristicResponse_FieldNumber_Superseded = 3,
 };
 
 GPB_FINAL @interface ProtosWriteCharacteristicResponse : GPBMessage
@@ -599,6 +882,9 @@ GPB_FINAL @interface ProtosWriteCharacteristicResponse : GPBMessage
 
 @property(nonatomic, readwrite) BOOL success;
 
+/** A coalescing write replaced by a newer value before it was sent; success is false. */
+@property(nonatomic, readwrite) BOOL superseded;
+
 @end
 
 #pragma mark - ProtosWriteDescriptorRequest
@@ -675,6 +961,7 @@ typedef GPB_ENUM(ProtosSetNotificationResponse_FieldNumber) {
   ProtosSetNotificationResponse_FieldNumber_RemoteId = 1,
   ProtosSetNotificationResponse_FieldNumber_Characteristic = 2,
   ProtosSetNotificationResponse_FieldNumber_Success = 3,
+  ProtosSetNotificationResponse_FieldNumber_SubscriptionId = 4,
 };
 
 GPB_FINAL @interface ProtosSetNotificationResponse : GPBMessage
@@ -687,6 +974,35 @@ GPB_FINAL @interface ProtosSetNotificationResponse : GPBMessage
 
 @property(nonatomic, readwrite) BOOL success;
 
+/** Tags the characteristic's notifications, 0 if not assigned */
+@property(nonatomic, readwrite) uint32_t subscriptionId;
+
+@end
+
+#pragma mark - ProtosNotificationsRestored
+
+typedef GPB_ENUM(ProtosNotificationsRestored_FieldNumber) {
+  ProtosNotificationsRestored_FieldNumber_RemoteId = 1,
+  ProtosNotificationsRestored_FieldNumber_RestoredArray = 2,
+  ProtosNotificationsRestored_FieldNumber_FailedArray = 3,
+};
+
+/**
+ * Sent once after the plugin re-armed a reconnected device's notifications and indications.
+ **/
+GPB_FINAL @interface ProtosNotificationsRestored : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** With their new CCCD values */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBluetoothCharacteristic*> *restoredArray;
+/** The number of items in @c restoredArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger restoredArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosSetNotificationRequest*> *failedArray;
+/** The number of items in @c failedArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger failedArray_Count;
+
 @end
 
 #pragma mark - ProtosOnCharacteristicChanged
@@ -694,6 +1010,8 @@ GPB_FINAL @interface ProtosSetNotificationResponse : GPBMessage
 typedef GPB_ENUM(ProtosOnCharacteristicChanged_FieldNumber) {
   ProtosOnCharacteristicChanged_FieldNumber_RemoteId = 1,
   ProtosOnCharacteristicChanged_FieldNumber_Characteristic = 2,
+  ProtosOnCharacteristicChanged_FieldNumber_RemoteAddress = 3,
+  ProtosOnCharacteristicChanged_FieldNumber_SubscriptionId = 4,
 };
 
 GPB_FINAL @interface ProtosOnCharacteristicChanged : GPBMessage
@@ -704,6 +1022,12 @@ GPB_FINAL @interface ProtosOnCharacteristicChanged : GPBMessage
 /** Test to see if @c characteristic has been set. */
 @property(nonatomic, readwrite) BOOL hasCharacteristic;
 
+/** Instead of remote_id on Android */
+@property(nonatomic, readwrite) uint64_t remoteAddress;
+
+/** From SetNotificationResponse, which Dart routes the notification by */
+@property(nonatomic, readwrite) uint32_t subscriptionId;
+
 @end
 
 #pragma mark - ProtosDeviceStateResponse
@@ -733,10 +1057,50 @@ int32_t ProtosDeviceStateResponse_State_RawValue(ProtosDeviceStateResponse *mess
  **/
 void SetProtosDeviceStateResponse_State_RawValue(ProtosDeviceStateResponse *message, int32_t value);
 
+#pragma mark - ProtosEventFlowControl
+
+typedef GPB_ENUM(ProtosEventFlowControl_FieldNumber) {
+  ProtosEventFlowControl_FieldNumber_Stream = 1,
+  ProtosEventFlowControl_FieldNumber_Overflow = 2,
+  ProtosEventFlowControl_FieldNumber_Capacity = 3,
+  ProtosEventFlowControl_FieldNumber_MaxBytes = 4,
+};
+
+/**
+ * How a bulk event stream copes with Dart falling behind, see BulkEventChannel.java.
+ **/
+GPB_FINAL @interface ProtosEventFlowControl : GPBMessage
+
+/** 0 scan results, 1 notifications */
+@property(nonatomic, readwrite) uint32_t stream;
+
+@property(nonatomic, readwrite) ProtosEventFlowControl_Overflow overflow;
+
+/** Most events queued, 0 for the default of 8192 */
+@property(nonatomic, readwrite) uint32_t capacity;
+
+/** Most bytes queued, records with their headers, 0 for the default of 1 MiB */
+@property(nonatomic, readwrite) uint32_t maxBytes;
+
+@end
+
+/**
+ * Fetches the raw value of a @c ProtosEventFlowControl's @c overflow property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosEventFlowControl_Overflow_RawValue(ProtosEventFlowControl *message);
+/**
+ * Sets the raw value of an @c ProtosEventFlowControl's @c overflow property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosEventFlowControl_Overflow_RawValue(ProtosEventFlowControl *message, int32_t value);
+
 #pragma mark - ProtosConnectedDevicesResponse
 
 typedef GPB_ENUM(ProtosConnectedDevicesResponse_FieldNumber) {
   ProtosConnectedDevicesResponse_FieldNumber_DevicesArray = 1,
+  ProtosConnectedDevicesResponse_FieldNumber_KnownArray = 2,
 };
 
 GPB_FINAL @interface ProtosConnectedDevicesResponse : GPBMessage
@@ -745,6 +1109,34 @@ GPB_FINAL @interface ProtosConnectedDevicesResponse : GPBMessage
 /** The number of items in @c devicesArray without causing the array to be created. */
 @property(nonatomic, readonly) NSUInteger devicesArray_Count;
 
+/** getKnownDevices only, one per device */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosKnownDevice*> *knownArray;
+/** The number of items in @c knownArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger knownArray_Count;
+
+@end
+
+#pragma mark - ProtosKnownDevice
+
+typedef GPB_ENUM(ProtosKnownDevice_FieldNumber) {
+  ProtosKnownDevice_FieldNumber_LastSeenMs = 1,
+  ProtosKnownDevice_FieldNumber_Rssi = 2,
+  ProtosKnownDevice_FieldNumber_BondState = 3,
+};
+
+GPB_FINAL @interface ProtosKnownDevice : GPBMessage
+
+/** Milliseconds since the epoch */
+@property(nonatomic, readwrite) int64_t lastSeenMs;
+
+/** Of the last scan result, unset if the device was only connected to */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosInt32Value *rssi;
+/** Test to see if @c rssi has been set. */
+@property(nonatomic, readwrite) BOOL hasRssi;
+
+/** BluetoothDevice.BOND_* */
+@property(nonatomic, readwrite) int32_t bondState;
+
 @end
 
 #pragma mark - ProtosMtuSizeRequest
@@ -792,6 +1184,366 @@ GPB_FINAL @interface ProtosReadRssiResult : GPBMessage
 
 @end
 
+#pragma mark - ProtosBatchRequest
+
+typedef GPB_ENUM(ProtosBatchRequest_FieldNumber) {
+  ProtosBatchRequest_FieldNumber_CommandsArray = 1,
+  ProtosBatchRequest_FieldNumber_TimeoutMs = 2,
+};
+
+/**
+ * executeBatch (Android only): the commands of a device run in order, each once the one before
+ * has completed, and the results of the operations arrive as they do for the single calls.
+ **/
+GPB_FINAL @interface ProtosBatchRequest : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBatchCommand*> *commandsArray;
+/** The number of items in @c commandsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger commandsArray_Count;
+
+/** Per command; 0 for the default of 10000. A timed-out command fails the device's later ones */
+@property(nonatomic, readwrite) uint32_t timeoutMs;
+
+@end
+
+#pragma mark - ProtosBatchCommand
+
+typedef GPB_ENUM(ProtosBatchCommand_FieldNumber) {
+  ProtosBatchCommand_FieldNumber_ReadCharacteristic = 1,
+  ProtosBatchCommand_FieldNumber_ReadDescriptor = 2,
+  ProtosBatchCommand_FieldNumber_WriteCharacteristic = 3,
+  ProtosBatchCommand_FieldNumber_WriteDescriptor = 4,
+  ProtosBatchCommand_FieldNumber_SetNotification = 5,
+  ProtosBatchCommand_FieldNumber_RequestMtu = 6,
+  ProtosBatchCommand_FieldNumber_DiscoverServices = 7,
+  ProtosBatchCommand_FieldNumber_ReadRssi = 8,
+};
+
+typedef GPB_ENUM(ProtosBatchCommand_Command_OneOfCase) {
+  ProtosBatchCommand_Command_OneOfCase_GPBUnsetOneOfCase = 0,
+  ProtosBatchCommand_Command_OneOfCase_ReadCharacteristic = 1,
+  ProtosBatchCommand_Command_OneOfCase_ReadDescriptor = 2,
+  ProtosBatchCommand_Command_OneOfCase_WriteCharacteristic = 3,
+  ProtosBatchCommand_Command_OneOfCase_WriteDescriptor = 4,
+  ProtosBatchCommand_Command_OneOfCase_SetNotification = 5,
+  ProtosBatchCommand_Command_OneOfCase_RequestMtu = 6,
+  ProtosBatchCommand_Command_OneOfCase_DiscoverServices = 7,
+  ProtosBatchCommand_Command_OneOfCase_ReadRssi = 8,
+};
+
+GPB_FINAL @interface ProtosBatchCommand : GPBMessage
+
+@property(nonatomic, readonly) ProtosBatchCommand_Command_OneOfCase commandOneOfCase;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosReadCharacteristicRequest *readCharacteristic;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosReadDescriptorRequest *readDescriptor;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosWriteCharacteristicRequest *writeCharacteristic;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosWriteDescriptorRequest *writeDescriptor;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosSetNotificationRequest *setNotification;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosMtuSizeRequest *requestMtu;
+
+/** remote_id */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *discoverServices;
+
+/** remote_id */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *readRssi;
+
+@end
+
+/**
+ * Clears whatever value was set for the oneof 'command'.
+ **/
+void ProtosBatchCommand_ClearCommandOneOfCase(ProtosBatchCommand *message);
+
+#pragma mark - ProtosBatchResponse
+
+typedef GPB_ENUM(ProtosBatchResponse_FieldNumber) {
+  ProtosBatchResponse_FieldNumber_ResultsArray = 1,
+};
+
+/**
+ * Whether each command was issued, in the order of BatchRequest.commands.
+ **/
+GPB_FINAL @interface ProtosBatchResponse : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBatchResult*> *resultsArray;
+/** The number of items in @c resultsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger resultsArray_Count;
+
+@end
+
+#pragma mark - ProtosBatchResult
+
+typedef GPB_ENUM(ProtosBatchResult_FieldNumber) {
+  ProtosBatchResult_FieldNumber_Success = 1,
+  ProtosBatchResult_FieldNumber_ErrorCode = 2,
+  ProtosBatchResult_FieldNumber_ErrorMessage = 3,
+};
+
+GPB_FINAL @interface ProtosBatchResult : GPBMessage
+
+@property(nonatomic, readwrite) BOOL success;
+
+/** As the single call would have failed with, when not success */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *errorCode;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *errorMessage;
+
+@end
+
+#pragma mark - ProtosLatencyHistogram
+
+typedef GPB_ENUM(ProtosLatencyHistogram_FieldNumber) {
+  ProtosLatencyHistogram_FieldNumber_Count = 1,
+  ProtosLatencyHistogram_FieldNumber_P50Us = 2,
+  ProtosLatencyHistogram_FieldNumber_P90Us = 3,
+  ProtosLatencyHistogram_FieldNumber_P99Us = 4,
+  ProtosLatencyHistogram_FieldNumber_MaxUs = 5,
+  ProtosLatencyHistogram_FieldNumber_MeanUs = 6,
+};
+
+/**
+ * Latency distribution in microseconds. Percentiles are accurate to ~6%.
+ **/
+GPB_FINAL @interface ProtosLatencyHistogram : GPBMessage
+
+@property(nonatomic, readwrite) uint64_t count;
+
+@property(nonatomic, readwrite) uint64_t p50Us;
+
+@property(nonatomic, readwrite) uint64_t p90Us;
+
+@property(nonatomic, readwrite) uint64_t p99Us;
+
+@property(nonatomic, readwrite) uint64_t maxUs;
+
+@property(nonatomic, readwrite) double meanUs;
+
+@end
+
+#pragma mark - ProtosGattLatency
+
+typedef GPB_ENUM(ProtosGattLatency_FieldNumber) {
+  ProtosGattLatency_FieldNumber_Operation = 1,
+  ProtosGattLatency_FieldNumber_Latency = 2,
+};
+
+GPB_FINAL @interface ProtosGattLatency : GPBMessage
+
+/** e.g. "readCharacteristic", "connect" */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *operation;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosLatencyHistogram *latency;
+/** Test to see if @c latency has been set. */
+@property(nonatomic, readwrite) BOOL hasLatency;
+
+@end
+
+#pragma mark - ProtosNotificationRate
+
+typedef GPB_ENUM(ProtosNotificationRate_FieldNumber) {
+  ProtosNotificationRate_FieldNumber_RemoteId = 1,
+  ProtosNotificationRate_FieldNumber_CharacteristicUuid = 2,
+  ProtosNotificationRate_FieldNumber_Count = 3,
+  ProtosNotificationRate_FieldNumber_PerSecond = 4,
+  ProtosNotificationRate_FieldNumber_ServiceUuid = 5,
+};
+
+GPB_FINAL @interface ProtosNotificationRate : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite) uint64_t count;
+
+/** Since the previous snapshot. */
+@property(nonatomic, readwrite) double perSecond;
+
+/** The characteristic's service, which tells apart characteristics with the same uuid */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@end
+
+#pragma mark - ProtosMetricsSnapshot
+
+typedef GPB_ENUM(ProtosMetricsSnapshot_FieldNumber) {
+  ProtosMetricsSnapshot_FieldNumber_UptimeMs = 1,
+  ProtosMetricsSnapshot_FieldNumber_IntervalMs = 2,
+  ProtosMetricsSnapshot_FieldNumber_ScanResults = 3,
+  ProtosMetricsSnapshot_FieldNumber_ScanResultsPerSecond = 4,
+  ProtosMetricsSnapshot_FieldNumber_ScanResultsDroppedDuplicate = 5,
+  ProtosMetricsSnapshot_FieldNumber_ScanResultsDroppedFilter = 6,
+  ProtosMetricsSnapshot_FieldNumber_GattLatenciesArray = 7,
+  ProtosMetricsSnapshot_FieldNumber_NotificationRatesArray = 8,
+  ProtosMetricsSnapshot_FieldNumber_DispatchLag = 9,
+  ProtosMetricsSnapshot_FieldNumber_ChannelMessages = 10,
+  ProtosMetricsSnapshot_FieldNumber_ChannelBytes = 11,
+  ProtosMetricsSnapshot_FieldNumber_EventBatches = 12,
+  ProtosMetricsSnapshot_FieldNumber_EventsDropped = 13,
+  ProtosMetricsSnapshot_FieldNumber_ReconnectAttempts = 14,
+  ProtosMetricsSnapshot_FieldNumber_Reconnects = 15,
+  ProtosMetricsSnapshot_FieldNumber_ReconnectsAbandoned = 16,
+  ProtosMetricsSnapshot_FieldNumber_ReconnectTime = 17,
+  ProtosMetricsSnapshot_FieldNumber_ScanStarts = 18,
+  ProtosMetricsSnapshot_FieldNumber_ScanStartsDeferred = 19,
+  ProtosMetricsSnapshot_FieldNumber_GattClients = 20,
+  ProtosMetricsSnapshot_FieldNumber_GattClientsIdle = 21,
+  ProtosMetricsSnapshot_FieldNumber_GattClientsPeak = 22,
+  ProtosMetricsSnapshot_FieldNumber_GattClientsEvicted = 23,
+  ProtosMetricsSnapshot_FieldNumber_EventsConflated = 24,
+  ProtosMetricsSnapshot_FieldNumber_ValueCacheHits = 25,
+  ProtosMetricsSnapshot_FieldNumber_ValueCacheMisses = 26,
+  ProtosMetricsSnapshot_FieldNumber_WritesCoalesced = 27,
+};
+
+GPB_FINAL @interface ProtosMetricsSnapshot : GPBMessage
+
+@property(nonatomic, readwrite) uint64_t uptimeMs;
+
+/** Time since the previous snapshot, which rates are measured over. */
+@property(nonatomic, readwrite) uint64_t intervalMs;
+
+@property(nonatomic, readwrite) uint64_t scanResults;
+
+@property(nonatomic, readwrite) double scanResultsPerSecond;
+
+@property(nonatomic, readwrite) uint64_t scanResultsDroppedDuplicate;
+
+@property(nonatomic, readwrite) uint64_t scanResultsDroppedFilter;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosGattLatency*> *gattLatenciesArray;
+/** The number of items in @c gattLatenciesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger gattLatenciesArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosNotificationRate*> *notificationRatesArray;
+/** The number of items in @c notificationRatesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger notificationRatesArray_Count;
+
+/** Time from a callback posting a message until the platform thread sends it, or its bulk event batch is replied. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosLatencyHistogram *dispatchLag;
+/** Test to see if @c dispatchLag has been set. */
+@property(nonatomic, readwrite) BOOL hasDispatchLag;
+
+@property(nonatomic, readwrite) uint64_t channelMessages;
+
+@property(nonatomic, readwrite) uint64_t channelBytes;
+
+/** Replies on the bulk event channel; channel_messages counts the events in them. */
+@property(nonatomic, readwrite) uint64_t eventBatches;
+
+/** Events discarded because Dart fell too far behind on the bulk event channel, see EventFlowControl. */
+@property(nonatomic, readwrite) uint64_t eventsDropped;
+
+@property(nonatomic, readwrite) uint64_t reconnectAttempts;
+
+/** Connections restored by a reconnect policy. */
+@property(nonatomic, readwrite) uint64_t reconnects;
+
+/** Times a reconnect policy ran out of attempts. */
+@property(nonatomic, readwrite) uint64_t reconnectsAbandoned;
+
+/** From an unexpected disconnect until the reconnect policy had the device connected again. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosLatencyHistogram *reconnectTime;
+/** Test to see if @c reconnectTime has been set. */
+@property(nonatomic, readwrite) BOOL hasReconnectTime;
+
+/** Hardware scans started on behalf of all scan sessions. */
+@property(nonatomic, readwrite) uint64_t scanStarts;
+
+/** Restarts put off to stay within Android's 5 scan starts per 30 seconds. */
+@property(nonatomic, readwrite) uint64_t scanStartsDeferred;
+
+/** BluetoothGatt clients open now, of the about 30 Android allows, see GattSlots.java. */
+@property(nonatomic, readwrite) uint64_t gattClients;
+
+/** Of those, the ones of disconnected devices, which are closed first when slots run short. */
+@property(nonatomic, readwrite) uint64_t gattClientsIdle;
+
+@property(nonatomic, readwrite) uint64_t gattClientsPeak;
+
+/** Idle clients closed to make room for another. */
+@property(nonatomic, readwrite) uint64_t gattClientsEvicted;
+
+/** Events replaced by a newer one of the same device or characteristic while queued. */
+@property(nonatomic, readwrite) uint64_t eventsConflated;
+
+/** Reads with a max_age_ms answered from the value cache. */
+@property(nonatomic, readwrite) uint64_t valueCacheHits;
+
+/** Reads with a max_age_ms that went to the peripheral. */
+@property(nonatomic, readwrite) uint64_t valueCacheMisses;
+
+/** Coalescing writes replaced by a newer value before they were sent. */
+@property(nonatomic, readwrite) uint64_t writesCoalesced;
+
+@end
+
+#pragma mark - ProtosTraceEvent
+
+typedef GPB_ENUM(ProtosTraceEvent_FieldNumber) {
+  ProtosTraceEvent_FieldNumber_TimestampNs = 1,
+  ProtosTraceEvent_FieldNumber_Type = 2,
+  ProtosTraceEvent_FieldNumber_RemoteId = 3,
+  ProtosTraceEvent_FieldNumber_Uuid = 4,
+  ProtosTraceEvent_FieldNumber_Status = 5,
+  ProtosTraceEvent_FieldNumber_Value = 6,
+};
+
+GPB_FINAL @interface ProtosTraceEvent : GPBMessage
+
+/** SystemClock.elapsedRealtimeNanos on Android. */
+@property(nonatomic, readwrite) uint64_t timestampNs;
+
+@property(nonatomic, readwrite) ProtosTraceEvent_Type type;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** Characteristic or descriptor, if the event has one. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *uuid;
+
+@property(nonatomic, readwrite) int32_t status;
+
+@property(nonatomic, readwrite) int32_t value;
+
+@end
+
+/**
+ * Fetches the raw value of a @c ProtosTraceEvent's @c type property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosTraceEvent_Type_RawValue(ProtosTraceEvent *message);
+/**
+ * Sets the raw value of an @c ProtosTraceEvent's @c type property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosTraceEvent_Type_RawValue(ProtosTraceEvent *message, int32_t value);
+
+#pragma mark - ProtosTraceDump
+
+typedef GPB_ENUM(ProtosTraceDump_FieldNumber) {
+  ProtosTraceDump_FieldNumber_EventsArray = 1,
+  ProtosTraceDump_FieldNumber_Overwritten = 2,
+};
+
+GPB_FINAL @interface ProtosTraceDump : GPBMessage
+
+/** Oldest first. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosTraceEvent*> *eventsArray;
+/** The number of items in @c eventsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger eventsArray_Count;
+
+/** Events lost because the ring buffer wrapped. */
+@property(nonatomic, readwrite) uint64_t overwritten;
+
+@end
+
 NS_ASSUME_NONNULL_END
 
 CF_EXTERN_C_END
@@ -20,6 +20,7 @@
 
 #pragma clang diagnostic push
 #pragma clang diagnostic ignored "-Wdeprecated-declarations"
+#pragma clang diagnostic ignored "-Wdirect-ivar-access"
 #pragma clang diagnostic ignored "-Wdollar-in-identifier-extension"
 
 #pragma mark - Objective C Class declarations
@@ -27,13 +28,25 @@
 // static values in struct initializers.
 // We don't use [Foo class] because it is not a static value.
 GPBObjCClassDeclaration(ProtosAdvertisementData);
+GPBObjCClassDeclaration(ProtosBatchCommand);
+GPBObjCClassDeclaration(ProtosBatchResult);
 GPBObjCClassDeclaration(ProtosBluetoothCharacteristic);
 GPBObjCClassDeclaration(ProtosBluetoothDescriptor);
 GPBObjCClassDeclaration(ProtosBluetoothDevice);
 GPBObjCClassDeclaration(ProtosBluetoothService);
 GPBObjCClassDeclaration(ProtosCharacteristicProperties);
+GPBObjCClassDeclaration(ProtosDutyCycle);
+GPBObjCClassDeclaration(ProtosGattLatency);
 GPBObjCClassDeclaration(ProtosInt32Value);
+GPBObjCClassDeclaration(ProtosKnownDevice);
+GPBObjCClassDeclaration(ProtosLatencyHistogram);
+GPBObjCClassDeclaration(ProtosMtuSizeRequest);
+GPBObjCClassDeclaration(ProtosNotificationRate);
+GPBObjCClassDeclaration(ProtosReadCharacteristicRequest);
 GPBObjCClassDeclaration(ProtosReadDescriptorRequest);
+GPBObjCClassDeclaration(ProtosReconnectPolicy);
+GPBObjCClassDeclaration(ProtosSetNotificationRequest);
+GPBObjCClassDeclaration(ProtosTraceEvent);
 GPBObjCClassDeclaration(ProtosWriteCharacteristicRequest);
 GPBObjCClassDeclaration(ProtosWriteDescriptorRequest);
 
@@ -219,14 +232,33 @@ BOOL ProtosBluetoothState_State_IsValidValue(int32_t value__) {
 @dynamic manufacturerData, manufacturerData_Count;
 @dynamic serviceData, serviceData_Count;
 @dynamic serviceUuidsArray, serviceUuidsArray_Count;
+@dynamic extended;
+@dynamic primaryPhy;
+@dynamic secondaryPhy;
+@dynamic advertisingSid;
+@dynamic periodicAdvertisingInterval;
+@dynamic dataStatus;
+@dynamic appearance;
+@dynamic uri;
+@dynamic uriScheme;
+@dynamic parseError;
 
 typedef struct ProtosAdvertisementData__storage_ {
   uint32_t _has_storage_[1];
+  int32_t primaryPhy;
+  int32_t secondaryPhy;
+  int32_t advertisingSid;
+  int32_t periodicAdvertisingInterval;
+  int32_t dataStatus;
+  int32_t appearance;
+  int32_t uriScheme;
+  ProtosAdvertisementData_ParseError parseError;
   NSString *localName;
   ProtosInt32Value *txPowerLevel;
   GPBInt32ObjectDictionary *manufacturerData;
   NSMutableDictionary *serviceData;
   NSMutableArray *serviceUuidsArray;
+  NSString *uri;
 } ProtosAdvertisementData__storage_;
 
 // This method is threadsafe because it is initially called
@@ -289,6 +321,96 @@ typedef struct ProtosAdvertisementData__storage_ {
         .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeString,
       },
+      {
+        .name = "extended",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_Extended,
+        .hasIndex = 4,
+        .offset = 5,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "primaryPhy",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_PrimaryPhy,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, primaryPhy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "secondaryPhy",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_SecondaryPhy,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, secondaryPhy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "advertisingSid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_AdvertisingSid,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, advertisingSid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "periodicAdvertisingInterval",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_PeriodicAdvertisingInterval,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, periodicAdvertisingInterval),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "dataStatus",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_DataStatus,
+        .hasIndex = 10,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, dataStatus),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "appearance",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_Appearance,
+        .hasIndex = 11,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, appearance),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "uri",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_Uri,
+        .hasIndex = 12,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, uri),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "uriScheme",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosAdvertisementData_FieldNumber_UriScheme,
+        .hasIndex = 13,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, uriScheme),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "parseError",
+        .dataTypeSpecific.enumDescFunc = ProtosAdvertisementData_ParseError_EnumDescriptor,
+        .number = ProtosAdvertisementData_FieldNumber_ParseError,
+        .hasIndex = 14,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, parseError),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeEnum,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosAdvertisementData class]
@@ -308,6 +430,55 @@ typedef struct ProtosAdvertisementData__storage_ {
 
 @end
 
+int32_t ProtosAdvertisementData_ParseError_RawValue(ProtosAdvertisementData *message) {
+  GPBDescriptor *descriptor = [ProtosAdvertisementData descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosAdvertisementData_FieldNumber_ParseError];
+  return GPBGetMessageRawEnumField(message, field);
+}
+
+void SetProtosAdvertisementData_ParseError_RawValue(ProtosAdvertisementData *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosAdvertisementData descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosAdvertisementData_FieldNumber_ParseError];
+  GPBSetMessageRawEnumField(message, field, value);
+}
+
+#pragma mark - Enum ProtosAdvertisementData_ParseError
+
+GPBEnumDescriptor *ProtosAdvertisementData_ParseError_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "None\000Truncated\000BadLength\000";
+    static const int32_t values[] = {
+        ProtosAdvertisementData_ParseError_None,
+        ProtosAdvertisementData_ParseError_Truncated,
+        ProtosAdvertisementData_ParseError_BadLength,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosAdvertisementData_ParseError)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosAdvertisementData_ParseError_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosAdvertisementData_ParseError_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosAdvertisementData_ParseError_None:
+    case ProtosAdvertisementData_ParseError_Truncated:
+    case ProtosAdvertisementData_ParseError_BadLength:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
 #pragma mark - ProtosScanSettings
 
 @implementation ProtosScanSettings
@@ -315,11 +486,24 @@ typedef struct ProtosAdvertisementData__storage_ {
 @dynamic androidScanMode;
 @dynamic serviceUuidsArray, serviceUuidsArray_Count;
 @dynamic allowDuplicates;
+@dynamic sessionId;
+@dynamic hasDutyCycle, dutyCycle;
+@dynamic androidExtended;
+@dynamic androidPhy;
+@dynamic androidMatchMode;
+@dynamic androidNumOfMatches;
+@dynamic androidCallbackType;
 
 typedef struct ProtosScanSettings__storage_ {
   uint32_t _has_storage_[1];
   int32_t androidScanMode;
+  uint32_t sessionId;
+  int32_t androidPhy;
+  int32_t androidMatchMode;
+  int32_t androidNumOfMatches;
+  int32_t androidCallbackType;
   NSMutableArray *serviceUuidsArray;
+  ProtosDutyCycle *dutyCycle;
 } ProtosScanSettings__storage_;
 
 // This method is threadsafe because it is initially called
@@ -355,6 +539,69 @@ typedef struct ProtosScanSettings__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "sessionId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_SessionId,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, sessionId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "dutyCycle",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosDutyCycle),
+        .number = ProtosScanSettings_FieldNumber_DutyCycle,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, dutyCycle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "androidExtended",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidExtended,
+        .hasIndex = 5,
+        .offset = 6,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "androidPhy",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidPhy,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidPhy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidMatchMode",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidMatchMode,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidMatchMode),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidNumOfMatches",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidNumOfMatches,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidNumOfMatches),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidCallbackType",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidCallbackType,
+        .hasIndex = 10,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidCallbackType),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosScanSettings class]
@@ -374,6 +621,73 @@ typedef struct ProtosScanSettings__storage_ {
 
 @end
 
+#pragma mark - ProtosDutyCycle
+
+@implementation ProtosDutyCycle
+
+@dynamic scanMs;
+@dynamic minPauseMs;
+@dynamic maxPauseMs;
+
+typedef struct ProtosDutyCycle__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t scanMs;
+  uint32_t minPauseMs;
+  uint32_t maxPauseMs;
+} ProtosDutyCycle__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "scanMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDutyCycle_FieldNumber_ScanMs,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDutyCycle__storage_, scanMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "minPauseMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDutyCycle_FieldNumber_MinPauseMs,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosDutyCycle__storage_, minPauseMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxPauseMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDutyCycle_FieldNumber_MaxPauseMs,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosDutyCycle__storage_, maxPauseMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDutyCycle class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDutyCycle__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 #pragma mark - ProtosScanResult
 
 @implementation ProtosScanResult
@@ -381,12 +695,16 @@ typedef struct ProtosScanSettings__storage_ {
 @dynamic hasDevice, device;
 @dynamic hasAdvertisementData, advertisementData;
 @dynamic rssi;
+@dynamic sessionIdsArray, sessionIdsArray_Count;
+@dynamic androidCallbackType;
 
 typedef struct ProtosScanResult__storage_ {
   uint32_t _has_storage_[1];
   int32_t rssi;
+  int32_t androidCallbackType;
   ProtosBluetoothDevice *device;
   ProtosAdvertisementData *advertisementData;
+  GPBUInt32Array *sessionIdsArray;
 } ProtosScanResult__storage_;
 
 // This method is threadsafe because it is initially called
@@ -422,6 +740,24 @@ typedef struct ProtosScanResult__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeInt32,
       },
+      {
+        .name = "sessionIdsArray",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanResult_FieldNumber_SessionIdsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, sessionIdsArray),
+        .flags = (GPBFieldFlags)(GPBFieldRepeated | GPBFieldPacked),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "androidCallbackType",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanResult_FieldNumber_AndroidCallbackType,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, androidCallbackType),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosScanResult class]
@@ -447,10 +783,13 @@ typedef struct ProtosScanResult__storage_ {
 
 @dynamic remoteId;
 @dynamic androidAutoConnect;
+@dynamic hasReconnect, reconnect;
+@dynamic restoreNotifications;
 
 typedef struct ProtosConnectRequest__storage_ {
   uint32_t _has_storage_[1];
   NSString *remoteId;
+  ProtosReconnectPolicy *reconnect;
 } ProtosConnectRequest__storage_;
 
 // This method is threadsafe because it is initially called
@@ -477,6 +816,24 @@ typedef struct ProtosConnectRequest__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "reconnect",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosReconnectPolicy),
+        .number = ProtosConnectRequest_FieldNumber_Reconnect,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, reconnect),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "restoreNotifications",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectRequest_FieldNumber_RestoreNotifications,
+        .hasIndex = 4,
+        .offset = 5,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosConnectRequest class]
@@ -496,6 +853,94 @@ typedef struct ProtosConnectRequest__storage_ {
 
 @end
 
+#pragma mark - ProtosReconnectPolicy
+
+@implementation ProtosReconnectPolicy
+
+@dynamic enabled;
+@dynamic initialDelayMs;
+@dynamic maxDelayMs;
+@dynamic maxAttempts;
+@dynamic autoConnectAfter;
+
+typedef struct ProtosReconnectPolicy__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t initialDelayMs;
+  uint32_t maxDelayMs;
+  uint32_t maxAttempts;
+  uint32_t autoConnectAfter;
+} ProtosReconnectPolicy__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "enabled",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReconnectPolicy_FieldNumber_Enabled,
+        .hasIndex = 0,
+        .offset = 1,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "initialDelayMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReconnectPolicy_FieldNumber_InitialDelayMs,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, initialDelayMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxDelayMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReconnectPolicy_FieldNumber_MaxDelayMs,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, maxDelayMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxAttempts",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReconnectPolicy_FieldNumber_MaxAttempts,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, maxAttempts),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "autoConnectAfter",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReconnectPolicy_FieldNumber_AutoConnectAfter,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, autoConnectAfter),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReconnectPolicy class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReconnectPolicy__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 #pragma mark - ProtosBluetoothDevice
 
 @implementation ProtosBluetoothDevice
@@ -503,12 +948,14 @@ typedef struct ProtosConnectRequest__storage_ {
 @dynamic remoteId;
 @dynamic name;
 @dynamic type;
+@dynamic remoteAddress;
 
 typedef struct ProtosBluetoothDevice__storage_ {
   uint32_t _has_storage_[1];
   ProtosBluetoothDevice_Type type;
   NSString *remoteId;
   NSString *name;
+  uint64_t remoteAddress;
 } ProtosBluetoothDevice__storage_;
 
 // This method is threadsafe because it is initially called
@@ -544,8 +991,17 @@ typedef struct ProtosBluetoothDevice__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeEnum,
       },
-    };
-    GPBDescriptor *localDescriptor =
+      {
+        .name = "remoteAddress",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDevice_FieldNumber_RemoteAddress,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, remoteAddress),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeFixed64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDevice class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
@@ -713,6 +1169,7 @@ typedef struct ProtosBluetoothService__storage_ {
 @dynamic descriptorsArray, descriptorsArray_Count;
 @dynamic hasProperties, properties;
 @dynamic value;
+@dynamic remoteAddress;
 
 typedef struct ProtosBluetoothCharacteristic__storage_ {
   uint32_t _has_storage_[1];
@@ -723,6 +1180,7 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
   NSMutableArray *descriptorsArray;
   ProtosCharacteristicProperties *properties;
   NSData *value;
+  uint64_t remoteAddress;
 } ProtosBluetoothCharacteristic__storage_;
 
 // This method is threadsafe because it is initially called
@@ -794,6 +1252,15 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBytes,
       },
+      {
+        .name = "remoteAddress",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_RemoteAddress,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, remoteAddress),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeFixed64,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothCharacteristic class]
@@ -827,6 +1294,7 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
 @dynamic serviceUuid;
 @dynamic characteristicUuid;
 @dynamic value;
+@dynamic remoteAddress;
 
 typedef struct ProtosBluetoothDescriptor__storage_ {
   uint32_t _has_storage_[1];
@@ -835,6 +1303,7 @@ typedef struct ProtosBluetoothDescriptor__storage_ {
   NSString *serviceUuid;
   NSString *characteristicUuid;
   NSData *value;
+  uint64_t remoteAddress;
 } ProtosBluetoothDescriptor__storage_;
 
 // This method is threadsafe because it is initially called
@@ -888,6 +1357,15 @@ typedef struct ProtosBluetoothDescriptor__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBytes,
       },
+      {
+        .name = "remoteAddress",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDescriptor_FieldNumber_RemoteAddress,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, remoteAddress),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeFixed64,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDescriptor class]
@@ -1110,9 +1588,11 @@ typedef struct ProtosDiscoverServicesResult__storage_ {
 @dynamic characteristicUuid;
 @dynamic serviceUuid;
 @dynamic secondaryServiceUuid;
+@dynamic maxAgeMs;
 
 typedef struct ProtosReadCharacteristicRequest__storage_ {
   uint32_t _has_storage_[1];
+  uint32_t maxAgeMs;
   NSString *remoteId;
   NSString *characteristicUuid;
   NSString *serviceUuid;
@@ -1161,6 +1641,15 @@ typedef struct ProtosReadCharacteristicRequest__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
+      {
+        .name = "maxAgeMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_MaxAgeMs,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, maxAgeMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicRequest class]
@@ -1391,10 +1880,13 @@ typedef struct ProtosReadDescriptorResponse__storage_ {
 @dynamic secondaryServiceUuid;
 @dynamic writeType;
 @dynamic value;
+@dynamic coalesce;
+@dynamic writeId;
 
 typedef struct ProtosWriteCharacteristicRequest__storage_ {
   uint32_t _has_storage_[1];
   ProtosWriteCharacteristicRequest_WriteType writeType;
+  uint32_t writeId;
   NSString *remoteId;
   NSString *characteristicUuid;
   NSString *serviceUuid;
@@ -1462,6 +1954,24 @@ typedef struct ProtosWriteCharacteristicRequest__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBytes,
       },
+      {
+        .name = "coalesce",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_Coalesce,
+        .hasIndex = 6,
+        .offset = 7,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "writeId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_WriteId,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, writeId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicRequest class]
@@ -1534,6 +2044,7 @@ BOOL ProtosWriteCharacteristicRequest_WriteType_IsValidValue(int32_t value__) {
 
 @dynamic hasRequest, request;
 @dynamic success;
+@dynamic superseded;
 
 typedef struct ProtosWriteCharacteristicResponse__storage_ {
   uint32_t _has_storage_[1];
@@ -1564,6 +2075,15 @@ typedef struct ProtosWriteCharacteristicResponse__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "superseded",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteCharacteristicResponse_FieldNumber_Superseded,
+        .hasIndex = 3,
+        .offset = 4,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicResponse class]
@@ -1833,9 +2353,11 @@ typedef struct ProtosSetNotificationRequest__storage_ {
 @dynamic remoteId;
 @dynamic hasCharacteristic, characteristic;
 @dynamic success;
+@dynamic subscriptionId;
 
 typedef struct ProtosSetNotificationResponse__storage_ {
   uint32_t _has_storage_[1];
+  uint32_t subscriptionId;
   NSString *remoteId;
   ProtosBluetoothCharacteristic *characteristic;
 } ProtosSetNotificationResponse__storage_;
@@ -1873,6 +2395,15 @@ typedef struct ProtosSetNotificationResponse__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "subscriptionId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosSetNotificationResponse_FieldNumber_SubscriptionId,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, subscriptionId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationResponse class]
@@ -1892,17 +2423,88 @@ typedef struct ProtosSetNotificationResponse__storage_ {
 
 @end
 
+#pragma mark - ProtosNotificationsRestored
+
+@implementation ProtosNotificationsRestored
+
+@dynamic remoteId;
+@dynamic restoredArray, restoredArray_Count;
+@dynamic failedArray, failedArray_Count;
+
+typedef struct ProtosNotificationsRestored__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *restoredArray;
+  NSMutableArray *failedArray;
+} ProtosNotificationsRestored__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationsRestored_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosNotificationsRestored__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "restoredArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
+        .number = ProtosNotificationsRestored_FieldNumber_RestoredArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosNotificationsRestored__storage_, restoredArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "failedArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosSetNotificationRequest),
+        .number = ProtosNotificationsRestored_FieldNumber_FailedArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosNotificationsRestored__storage_, failedArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosNotificationsRestored class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosNotificationsRestored__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 #pragma mark - ProtosOnCharacteristicChanged
 
 @implementation ProtosOnCharacteristicChanged
 
 @dynamic remoteId;
 @dynamic hasCharacteristic, characteristic;
+@dynamic remoteAddress;
+@dynamic subscriptionId;
 
 typedef struct ProtosOnCharacteristicChanged__storage_ {
   uint32_t _has_storage_[1];
+  uint32_t subscriptionId;
   NSString *remoteId;
   ProtosBluetoothCharacteristic *characteristic;
+  uint64_t remoteAddress;
 } ProtosOnCharacteristicChanged__storage_;
 
 // This method is threadsafe because it is initially called
@@ -1929,6 +2531,24 @@ typedef struct ProtosOnCharacteristicChanged__storage_ {
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeMessage,
       },
+      {
+        .name = "remoteAddress",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosOnCharacteristicChanged_FieldNumber_RemoteAddress,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, remoteAddress),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeFixed64,
+      },
+      {
+        .name = "subscriptionId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosOnCharacteristicChanged_FieldNumber_SubscriptionId,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, subscriptionId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosOnCharacteristicChanged class]
@@ -2056,15 +2676,144 @@ BOOL ProtosDeviceStateResponse_BluetoothDeviceState_IsValidValue(int32_t value__
   }
 }
 
+#pragma mark - ProtosEventFlowControl
+
+@implementation ProtosEventFlowControl
+
+@dynamic stream;
+@dynamic overflow;
+@dynamic capacity;
+@dynamic maxBytes;
+
+typedef struct ProtosEventFlowControl__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t stream;
+  ProtosEventFlowControl_Overflow overflow;
+  uint32_t capacity;
+  uint32_t maxBytes;
+} ProtosEventFlowControl__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "stream",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosEventFlowControl_FieldNumber_Stream,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosEventFlowControl__storage_, stream),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "overflow",
+        .dataTypeSpecific.enumDescFunc = ProtosEventFlowControl_Overflow_EnumDescriptor,
+        .number = ProtosEventFlowControl_FieldNumber_Overflow,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosEventFlowControl__storage_, overflow),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "capacity",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosEventFlowControl_FieldNumber_Capacity,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosEventFlowControl__storage_, capacity),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxBytes",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosEventFlowControl_FieldNumber_MaxBytes,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosEventFlowControl__storage_, maxBytes),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosEventFlowControl class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosEventFlowControl__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosEventFlowControl_Overflow_RawValue(ProtosEventFlowControl *message) {
+  GPBDescriptor *descriptor = [ProtosEventFlowControl descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosEventFlowControl_FieldNumber_Overflow];
+  return GPBGetMessageRawEnumField(message, field);
+}
+
+void SetProtosEventFlowControl_Overflow_RawValue(ProtosEventFlowControl *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosEventFlowControl descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosEventFlowControl_FieldNumber_Overflow];
+  GPBSetMessageRawEnumField(message, field, value);
+}
+
+#pragma mark - Enum ProtosEventFlowControl_Overflow
+
+GPBEnumDescriptor *ProtosEventFlowControl_Overflow_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "DropOldest\000Buffer\000Conflate\000";
+    static const int32_t values[] = {
+        ProtosEventFlowControl_Overflow_DropOldest,
+        ProtosEventFlowControl_Overflow_Buffer,
+        ProtosEventFlowControl_Overflow_Conflate,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosEventFlowControl_Overflow)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosEventFlowControl_Overflow_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosEventFlowControl_Overflow_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosEventFlowControl_Overflow_DropOldest:
+    case ProtosEventFlowControl_Overflow_Buffer:
+    case ProtosEventFlowControl_Overflow_Conflate:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
 #pragma mark - ProtosConnectedDevicesResponse
 
 @implementation ProtosConnectedDevicesResponse
 
 @dynamic devicesArray, devicesArray_Count;
+@dynamic knownArray, knownArray_Count;
 
 typedef struct ProtosConnectedDevicesResponse__storage_ {
   uint32_t _has_storage_[1];
   NSMutableArray *devicesArray;
+  NSMutableArray *knownArray;
 } ProtosConnectedDevicesResponse__storage_;
 
 // This method is threadsafe because it is initially called
@@ -2082,6 +2831,15 @@ typedef struct ProtosConnectedDevicesResponse__storage_ {
         .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeMessage,
       },
+      {
+        .name = "knownArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosKnownDevice),
+        .number = ProtosConnectedDevicesResponse_FieldNumber_KnownArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosConnectedDevicesResponse__storage_, knownArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosConnectedDevicesResponse class]
@@ -2101,6 +2859,73 @@ typedef struct ProtosConnectedDevicesResponse__storage_ {
 
 @end
 
+#pragma mark - ProtosKnownDevice
+
+@implementation ProtosKnownDevice
+
+@dynamic lastSeenMs;
+@dynamic hasRssi, rssi;
+@dynamic bondState;
+
+typedef struct ProtosKnownDevice__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t bondState;
+  ProtosInt32Value *rssi;
+  int64_t lastSeenMs;
+} ProtosKnownDevice__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "lastSeenMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosKnownDevice_FieldNumber_LastSeenMs,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosKnownDevice__storage_, lastSeenMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "rssi",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosInt32Value),
+        .number = ProtosKnownDevice_FieldNumber_Rssi,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosKnownDevice__storage_, rssi),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "bondState",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosKnownDevice_FieldNumber_BondState,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosKnownDevice__storage_, bondState),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosKnownDevice class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosKnownDevice__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 #pragma mark - ProtosMtuSizeRequest
 
 @implementation ProtosMtuSizeRequest
@@ -2269,6 +3094,1108 @@ typedef struct ProtosReadRssiResult__storage_ {
 
 @end
 
+#pragma mark - ProtosBatchRequest
+
+@implementation ProtosBatchRequest
+
+@dynamic commandsArray, commandsArray_Count;
+@dynamic timeoutMs;
+
+typedef struct ProtosBatchRequest__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t timeoutMs;
+  NSMutableArray *commandsArray;
+} ProtosBatchRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "commandsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBatchCommand),
+        .number = ProtosBatchRequest_FieldNumber_CommandsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBatchRequest__storage_, commandsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "timeoutMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBatchRequest_FieldNumber_TimeoutMs,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBatchRequest__storage_, timeoutMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBatchRequest class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBatchRequest__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBatchCommand
+
+@implementation ProtosBatchCommand
+
+@dynamic commandOneOfCase;
+@dynamic readCharacteristic;
+@dynamic readDescriptor;
+@dynamic writeCharacteristic;
+@dynamic writeDescriptor;
+@dynamic setNotification;
+@dynamic requestMtu;
+@dynamic discoverServices;
+@dynamic readRssi;
+
+typedef struct ProtosBatchCommand__storage_ {
+  uint32_t _has_storage_[2];
+  ProtosReadCharacteristicRequest *readCharacteristic;
+  ProtosReadDescriptorRequest *readDescriptor;
+  ProtosWriteCharacteristicRequest *writeCharacteristic;
+  ProtosWriteDescriptorRequest *writeDescriptor;
+  ProtosSetNotificationRequest *setNotification;
+  ProtosMtuSizeRequest *requestMtu;
+  NSString *discoverServices;
+  NSString *readRssi;
+} ProtosBatchCommand__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "readCharacteristic",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosReadCharacteristicRequest),
+        .number = ProtosBatchCommand_FieldNumber_ReadCharacteristic,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, readCharacteristic),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "readDescriptor",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosReadDescriptorRequest),
+        .number = ProtosBatchCommand_FieldNumber_ReadDescriptor,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, readDescriptor),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "writeCharacteristic",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosWriteCharacteristicRequest),
+        .number = ProtosBatchCommand_FieldNumber_WriteCharacteristic,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, writeCharacteristic),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "writeDescriptor",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosWriteDescriptorRequest),
+        .number = ProtosBatchCommand_FieldNumber_WriteDescriptor,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, writeDescriptor),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "setNotification",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosSetNotificationRequest),
+        .number = ProtosBatchCommand_FieldNumber_SetNotification,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, setNotification),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "requestMtu",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosMtuSizeRequest),
+        .number = ProtosBatchCommand_FieldNumber_RequestMtu,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, requestMtu),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "discoverServices",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBatchCommand_FieldNumber_DiscoverServices,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, discoverServices),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "readRssi",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBatchCommand_FieldNumber_ReadRssi,
+        .hasIndex = -1,
+        .offset = (uint32_t)offsetof(ProtosBatchCommand__storage_, readRssi),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBatchCommand class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBatchCommand__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    static const char *oneofs[] = {
+      "command",
+    };
+    [localDescriptor setupOneofs:oneofs
+                           count:(uint32_t)(sizeof(oneofs) / sizeof(char*))
+                   firstHasIndex:-1];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+void ProtosBatchCommand_ClearCommandOneOfCase(ProtosBatchCommand *message) {
+  GPBDescriptor *descriptor = [ProtosBatchCommand descriptor];
+  GPBOneofDescriptor *oneof = [descriptor.oneofs objectAtIndex:0];
+  GPBClearOneof(message, oneof);
+}
+#pragma mark - ProtosBatchResponse
+
+@implementation ProtosBatchResponse
+
+@dynamic resultsArray, resultsArray_Count;
+
+typedef struct ProtosBatchResponse__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *resultsArray;
+} ProtosBatchResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "resultsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBatchResult),
+        .number = ProtosBatchResponse_FieldNumber_ResultsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBatchResponse__storage_, resultsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBatchResponse class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBatchResponse__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBatchResult
+
+@implementation ProtosBatchResult
+
+@dynamic success;
+@dynamic errorCode;
+@dynamic errorMessage;
+
+typedef struct ProtosBatchResult__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *errorCode;
+  NSString *errorMessage;
+} ProtosBatchResult__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "success",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBatchResult_FieldNumber_Success,
+        .hasIndex = 0,
+        .offset = 1,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "errorCode",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBatchResult_FieldNumber_ErrorCode,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBatchResult__storage_, errorCode),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "errorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBatchResult_FieldNumber_ErrorMessage,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBatchResult__storage_, errorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBatchResult class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBatchResult__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosLatencyHistogram
+
+@implementation ProtosLatencyHistogram
+
+@dynamic count;
+@dynamic p50Us;
+@dynamic p90Us;
+@dynamic p99Us;
+@dynamic maxUs;
+@dynamic meanUs;
+
+typedef struct ProtosLatencyHistogram__storage_ {
+  uint32_t _has_storage_[1];
+  uint64_t count;
+  uint64_t p50Us;
+  uint64_t p90Us;
+  uint64_t p99Us;
+  uint64_t maxUs;
+  double meanUs;
+} ProtosLatencyHistogram__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "count",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosLatencyHistogram_FieldNumber_Count,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, count),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "p50Us",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosLatencyHistogram_FieldNumber_P50Us,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, p50Us),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "p90Us",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosLatencyHistogram_FieldNumber_P90Us,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, p90Us),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "p99Us",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosLatencyHistogram_FieldNumber_P99Us,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, p99Us),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "maxUs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosLatencyHistogram_FieldNumber_MaxUs,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, maxUs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "meanUs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosLatencyHistogram_FieldNumber_MeanUs,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, meanUs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeDouble,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosLatencyHistogram class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosLatencyHistogram__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosGattLatency
+
+@implementation ProtosGattLatency
+
+@dynamic operation;
+@dynamic hasLatency, latency;
+
+typedef struct ProtosGattLatency__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *operation;
+  ProtosLatencyHistogram *latency;
+} ProtosGattLatency__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "operation",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosGattLatency_FieldNumber_Operation,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosGattLatency__storage_, operation),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "latency",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosLatencyHistogram),
+        .number = ProtosGattLatency_FieldNumber_Latency,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosGattLatency__storage_, latency),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosGattLatency class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosGattLatency__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosNotificationRate
+
+@implementation ProtosNotificationRate
+
+@dynamic remoteId;
+@dynamic characteristicUuid;
+@dynamic count;
+@dynamic perSecond;
+@dynamic serviceUuid;
+
+typedef struct ProtosNotificationRate__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSString *characteristicUuid;
+  NSString *serviceUuid;
+  uint64_t count;
+  double perSecond;
+} ProtosNotificationRate__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationRate_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosNotificationRate__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationRate_FieldNumber_CharacteristicUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosNotificationRate__storage_, characteristicUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "count",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationRate_FieldNumber_Count,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosNotificationRate__storage_, count),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "perSecond",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationRate_FieldNumber_PerSecond,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosNotificationRate__storage_, perSecond),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeDouble,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationRate_FieldNumber_ServiceUuid,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosNotificationRate__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosNotificationRate class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosNotificationRate__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosMetricsSnapshot
+
+@implementation ProtosMetricsSnapshot
+
+@dynamic uptimeMs;
+@dynamic intervalMs;
+@dynamic scanResults;
+@dynamic scanResultsPerSecond;
+@dynamic scanResultsDroppedDuplicate;
+@dynamic scanResultsDroppedFilter;
+@dynamic gattLatenciesArray, gattLatenciesArray_Count;
+@dynamic notificationRatesArray, notificationRatesArray_Count;
+@dynamic hasDispatchLag, dispatchLag;
+@dynamic channelMessages;
+@dynamic channelBytes;
+@dynamic eventBatches;
+@dynamic eventsDropped;
+@dynamic reconnectAttempts;
+@dynamic reconnects;
+@dynamic reconnectsAbandoned;
+@dynamic hasReconnectTime, reconnectTime;
+@dynamic scanStarts;
+@dynamic scanStartsDeferred;
+@dynamic gattClients;
+@dynamic gattClientsIdle;
+@dynamic gattClientsPeak;
+@dynamic gattClientsEvicted;
+@dynamic eventsConflated;
+@dynamic valueCacheHits;
+@dynamic valueCacheMisses;
+@dynamic writesCoalesced;
+
+typedef struct ProtosMetricsSnapshot__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *gattLatenciesArray;
+  NSMutableArray *notificationRatesArray;
+  ProtosLatencyHistogram *dispatchLag;
+  ProtosLatencyHistogram *reconnectTime;
+  uint64_t uptimeMs;
+  uint64_t intervalMs;
+  uint64_t scanResults;
+  double scanResultsPerSecond;
+  uint64_t scanResultsDroppedDuplicate;
+  uint64_t scanResultsDroppedFilter;
+  uint64_t channelMessages;
+  uint64_t channelBytes;
+  uint64_t eventBatches;
+  uint64_t eventsDropped;
+  uint64_t reconnectAttempts;
+  uint64_t reconnects;
+  uint64_t reconnectsAbandoned;
+  uint64_t scanStarts;
+  uint64_t scanStartsDeferred;
+  uint64_t gattClients;
+  uint64_t gattClientsIdle;
+  uint64_t gattClientsPeak;
+  uint64_t gattClientsEvicted;
+  uint64_t eventsConflated;
+  uint64_t valueCacheHits;
+  uint64_t valueCacheMisses;
+  uint64_t writesCoalesced;
+} ProtosMetricsSnapshot__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "uptimeMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_UptimeMs,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, uptimeMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "intervalMs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_IntervalMs,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, intervalMs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "scanResults",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ScanResults,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, scanResults),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "scanResultsPerSecond",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ScanResultsPerSecond,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, scanResultsPerSecond),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeDouble,
+      },
+      {
+        .name = "scanResultsDroppedDuplicate",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ScanResultsDroppedDuplicate,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, scanResultsDroppedDuplicate),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "scanResultsDroppedFilter",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ScanResultsDroppedFilter,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, scanResultsDroppedFilter),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "gattLatenciesArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosGattLatency),
+        .number = ProtosMetricsSnapshot_FieldNumber_GattLatenciesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, gattLatenciesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "notificationRatesArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosNotificationRate),
+        .number = ProtosMetricsSnapshot_FieldNumber_NotificationRatesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, notificationRatesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "dispatchLag",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosLatencyHistogram),
+        .number = ProtosMetricsSnapshot_FieldNumber_DispatchLag,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, dispatchLag),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "channelMessages",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ChannelMessages,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, channelMessages),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "channelBytes",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ChannelBytes,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, channelBytes),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "eventBatches",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_EventBatches,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, eventBatches),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "eventsDropped",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_EventsDropped,
+        .hasIndex = 10,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, eventsDropped),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "reconnectAttempts",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ReconnectAttempts,
+        .hasIndex = 11,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, reconnectAttempts),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "reconnects",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_Reconnects,
+        .hasIndex = 12,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, reconnects),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "reconnectsAbandoned",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ReconnectsAbandoned,
+        .hasIndex = 13,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, reconnectsAbandoned),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "reconnectTime",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosLatencyHistogram),
+        .number = ProtosMetricsSnapshot_FieldNumber_ReconnectTime,
+        .hasIndex = 14,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, reconnectTime),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "scanStarts",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ScanStarts,
+        .hasIndex = 15,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, scanStarts),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "scanStartsDeferred",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ScanStartsDeferred,
+        .hasIndex = 16,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, scanStartsDeferred),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "gattClients",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_GattClients,
+        .hasIndex = 17,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, gattClients),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "gattClientsIdle",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_GattClientsIdle,
+        .hasIndex = 18,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, gattClientsIdle),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "gattClientsPeak",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_GattClientsPeak,
+        .hasIndex = 19,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, gattClientsPeak),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "gattClientsEvicted",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_GattClientsEvicted,
+        .hasIndex = 20,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, gattClientsEvicted),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "eventsConflated",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_EventsConflated,
+        .hasIndex = 21,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, eventsConflated),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "valueCacheHits",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ValueCacheHits,
+        .hasIndex = 22,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, valueCacheHits),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "valueCacheMisses",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_ValueCacheMisses,
+        .hasIndex = 23,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, valueCacheMisses),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "writesCoalesced",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMetricsSnapshot_FieldNumber_WritesCoalesced,
+        .hasIndex = 24,
+        .offset = (uint32_t)offsetof(ProtosMetricsSnapshot__storage_, writesCoalesced),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosMetricsSnapshot class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosMetricsSnapshot__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosTraceEvent
+
+@implementation ProtosTraceEvent
+
+@dynamic timestampNs;
+@dynamic type;
+@dynamic remoteId;
+@dynamic uuid;
+@dynamic status;
+@dynamic value;
+
+typedef struct ProtosTraceEvent__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosTraceEvent_Type type;
+  int32_t status;
+  int32_t value;
+  NSString *remoteId;
+  NSString *uuid;
+  uint64_t timestampNs;
+} ProtosTraceEvent__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "timestampNs",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosTraceEvent_FieldNumber_TimestampNs,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosTraceEvent__storage_, timestampNs),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "type",
+        .dataTypeSpecific.enumDescFunc = ProtosTraceEvent_Type_EnumDescriptor,
+        .number = ProtosTraceEvent_FieldNumber_Type,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosTraceEvent__storage_, type),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosTraceEvent_FieldNumber_RemoteId,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosTraceEvent__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "uuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosTraceEvent_FieldNumber_Uuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosTraceEvent__storage_, uuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "status",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosTraceEvent_FieldNumber_Status,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosTraceEvent__storage_, status),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosTraceEvent_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosTraceEvent__storage_, value),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosTraceEvent class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosTraceEvent__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosTraceEvent_Type_RawValue(ProtosTraceEvent *message) {
+  GPBDescriptor *descriptor = [ProtosTraceEvent descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosTraceEvent_FieldNumber_Type];
+  return GPBGetMessageRawEnumField(message, field);
+}
+
+void SetProtosTraceEvent_Type_RawValue(ProtosTraceEvent *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosTraceEvent descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosTraceEvent_FieldNumber_Type];
+  GPBSetMessageRawEnumField(message, field, value);
+}
+
+#pragma mark - Enum ProtosTraceEvent_Type
+
+GPBEnumDescriptor *ProtosTraceEvent_Type_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "Unknown\000ConnectionStateChanged\000ServicesD"
+        "iscovered\000CharacteristicRead\000Characteris"
+        "ticWrite\000CharacteristicChanged\000Descripto"
+        "rRead\000DescriptorWrite\000ReliableWriteCompl"
+        "eted\000ReadRemoteRssi\000MtuChanged\000";
+    static const int32_t values[] = {
+        ProtosTraceEvent_Type_Unknown,
+        ProtosTraceEvent_Type_ConnectionStateChanged,
+        ProtosTraceEvent_Type_ServicesDiscovered,
+        ProtosTraceEvent_Type_CharacteristicRead,
+        ProtosTraceEvent_Type_CharacteristicWrite,
+        ProtosTraceEvent_Type_CharacteristicChanged,
+        ProtosTraceEvent_Type_DescriptorRead,
+        ProtosTraceEvent_Type_DescriptorWrite,
+        ProtosTraceEvent_Type_ReliableWriteCompleted,
+        ProtosTraceEvent_Type_ReadRemoteRssi,
+        ProtosTraceEvent_Type_MtuChanged,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosTraceEvent_Type)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosTraceEvent_Type_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosTraceEvent_Type_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosTraceEvent_Type_Unknown:
+    case ProtosTraceEvent_Type_ConnectionStateChanged:
+    case ProtosTraceEvent_Type_ServicesDiscovered:
+    case ProtosTraceEvent_Type_CharacteristicRead:
+    case ProtosTraceEvent_Type_CharacteristicWrite:
+    case ProtosTraceEvent_Type_CharacteristicChanged:
+    case ProtosTraceEvent_Type_DescriptorRead:
+    case ProtosTraceEvent_Type_DescriptorWrite:
+    case ProtosTraceEvent_Type_ReliableWriteCompleted:
+    case ProtosTraceEvent_Type_ReadRemoteRssi:
+    case ProtosTraceEvent_Type_MtuChanged:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosTraceDump
+
+@implementation ProtosTraceDump
+
+@dynamic eventsArray, eventsArray_Count;
+@dynamic overwritten;
+
+typedef struct ProtosTraceDump__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *eventsArray;
+  uint64_t overwritten;
+} ProtosTraceDump__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "eventsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosTraceEvent),
+        .number = ProtosTraceDump_FieldNumber_EventsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosTraceDump__storage_, eventsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "overwritten",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosTraceDump_FieldNumber_Overwritten,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosTraceDump__storage_, overwritten),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosTraceDump class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosTraceDump__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 
 #pragma clang diagnostic pop
 
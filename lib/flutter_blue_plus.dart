@@ -5,6 +5,7 @@
 library flutter_blue_plus;
 
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:collection/collection.dart';
 import 'package:convert/convert.dart';
@@ -17,6 +18,8 @@ import 'gen/flutterblueplus.pb.dart' as protos;
 part 'src/bluetooth_characteristic.dart';
 part 'src/bluetooth_descriptor.dart';
 part 'src/bluetooth_device.dart';
+part 'src/bluetooth_metrics.dart';
 part 'src/bluetooth_service.dart';
+part 'src/bluetooth_trace.dart';
 part 'src/flutter_blue_plus.dart';
 part 'src/guid.dart';
@@ -7,6 +7,7 @@
 
 import 'dart:core' as $core;
 
+import 'package:fixnum/fixnum.dart' as $fixnum;
 import 'package:protobuf/protobuf.dart' as $pb;
 
 import 'flutterblueplus.pbenum.dart';
@@ -115,6 +116,16 @@ class AdvertisementData extends $pb.GeneratedMessage {
     ..m<$core.int, $core.List<$core.int>>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'manufacturerData', entryClassName: 'AdvertisementData.ManufacturerDataEntry', keyFieldType: $pb.PbFieldType.O3, valueFieldType: $pb.PbFieldType.OY)
     ..m<$core.String, $core.List<$core.int>>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceData', entryClassName: 'AdvertisementData.ServiceDataEntry', keyFieldType: $pb.PbFieldType.OS, valueFieldType: $pb.PbFieldType.OY)
     ..pPS(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuids')
+    ..aOB(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'extended')
+    ..a<$core.int>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'primaryPhy', $pb.PbFieldType.O3)
+    ..a<$core.int>(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryPhy', $pb.PbFieldType.O3)
+    ..a<$core.int>(10, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'advertisingSid', $pb.PbFieldType.O3)
+    ..a<$core.int>(11, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'periodicAdvertisingInterval', $pb.PbFieldType.O3)
+    ..a<$core.int>(12, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'dataStatus', $pb.PbFieldType.O3)
+    ..a<$core.int>(13, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'appearance', $pb.PbFieldType.O3)
+    ..aOS(14, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uri')
+    ..a<$core.int>(15, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uriScheme', $pb.PbFieldType.O3)
+    ..e<AdvertisementData_ParseError>(16, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'parseError', $pb.PbFieldType.OE, defaultOrMaker: AdvertisementData_ParseError.NONE, valueOf: AdvertisementData_ParseError.valueOf, enumValues: AdvertisementData_ParseError.values)
     ..hasRequiredFields = false
   ;
 
@@ -126,6 +137,16 @@ class AdvertisementData extends $pb.GeneratedMessage {
     $core.Map<$core.int, $core.List<$core.int>>? manufacturerData,
     $core.Map<$core.String, $core.List<$core.int>>? serviceData,
     $core.Iterable<$core.String>? serviceUuids,
+    $core.bool? extended,
+    $core.int? primaryPhy,
+    $core.int? secondaryPhy,
+    $core.int? advertisingSid,
+    $core.int? periodicAdvertisingInterval,
+    $core.int? dataStatus,
+    $core.int? appearance,
+    $core.String? uri,
+    $core.int? uriScheme,
+    AdvertisementData_ParseError? parseError,
   }) {
     final _result = create();
     if (localName != null) {
@@ -146,6 +167,36 @@ class AdvertisementData extends $pb.GeneratedMessage {
     if (serviceUuids != null) {
       _result.serviceUuids.addAll(serviceUuids);
     }
+    if (extended != null) {
+      _result.extended = extended;
+    }
+    if (primaryPhy != null) {
+      _result.primaryPhy = primaryPhy;
+    }
+    if (secondaryPhy != null) {
+      _result.secondaryPhy = secondaryPhy;
+    }
+    if (advertisingSid != null) {
+      _result.advertisingSid = advertisingSid;
+    }
+    if (periodicAdvertisingInterval != null) {
+      _result.periodicAdvertisingInterval = periodicAdvertisingInterval;
+    }
+    if (dataStatus != null) {
+      _result.dataStatus = dataStatus;
+    }
+    if (appearance != null) {
+      _result.appearance = appearance;
+    }
+    if (uri != null) {
+      _result.uri = uri;
+    }
+    if (uriScheme != null) {
+      _result.uriScheme = uriScheme;
+    }
+    if (parseError != null) {
+      _result.parseError = parseError;
+    }
     return _result;
   }
   factory AdvertisementData.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -206,6 +257,96 @@ class AdvertisementData extends $pb.GeneratedMessage {
 
   @$pb.TagNumber(6)
   $core.List<$core.String> get serviceUuids => $_getList(5);
+
+  @$pb.TagNumber(7)
+  $core.bool get extended => $_getBF(6);
+  @$pb.TagNumber(7)
+  set extended($core.bool v) { $_setBool(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasExtended() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearExtended() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.int get primaryPhy => $_getIZ(7);
+  @$pb.TagNumber(8)
+  set primaryPhy($core.int v) { $_setSignedInt32(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasPrimaryPhy() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearPrimaryPhy() => clearField(8);
+
+  @$pb.TagNumber(9)
+  $core.int get secondaryPhy => $_getIZ(8);
+  @$pb.TagNumber(9)
+  set secondaryPhy($core.int v) { $_setSignedInt32(8, v); }
+  @$pb.TagNumber(9)
+  $core.bool hasSecondaryPhy() => $_has(8);
+  @$pb.TagNumber(9)
+  void clearSecondaryPhy() => clearField(9);
+
+  @$pb.TagNumber(10)
+  $core.int get advertisingSid => $_getIZ(9);
+  @$pb.TagNumber(10)
+  set advertisingSid($core.int v) { $_setSignedInt32(9, v); }
+  @$pb.TagNumber(10)
+  $core.bool hasAdvertisingSid() => $_has(9);
+  @$pb.TagNumber(10)
+  void clearAdvertisingSid() => clearField(10);
+
+  @$pb.TagNumber(11)
+  $core.int get periodicAdvertisingInterval => $_getIZ(10);
+  @$pb.TagNumber(11)
+  set periodicAdvertisingInterval($core.int v) { $_setSignedInt32(10, v); }
+  @$pb.TagNumber(11)
+  $core.bool hasPeriodicAdvertisingInterval() => $_has(10);
+  @$pb.TagNumber(11)
+  void clearPeriodicAdvertisingInterval() => clearField(11);
+
+  @$pb.TagNumber(12)
+  $core.int get dataStatus => $_getIZ(11);
+  @$pb.TagNumber(12)
+  set dataStatus($core.int v) { $_setSignedInt32(11, v); }
+  @$pb.TagNumber(12)
+  $core.bool hasDataStatus() => $_has(11);
+  @$pb.TagNumber(12)
+  void clearDataStatus() => clearField(12);
+
+  @$pb.TagNumber(13)
+  $core.int get appearance => $_getIZ(12);
+  @$pb.TagNumber(13)
+  set appearance($core.int v) { $_setSignedInt32(12, v); }
+  @$pb.TagNumber(13)
+  $core.bool hasAppearance() => $_has(12);
+  @$pb.TagNumber(13)
+  void clearAppearance() => clearField(13);
+
+  @$pb.TagNumber(14)
+  $core.String get uri => $_getSZ(13);
+  @$pb.TagNumber(14)
+  set uri($core.String v) { $_setString(13, v); }
+  @$pb.TagNumber(14)
+  $core.bool hasUri() => $_has(13);
+  @$pb.TagNumber(14)
+  void clearUri() => clearField(14);
+
+  @$pb.TagNumber(15)
+  $core.int get uriScheme => $_getIZ(14);
+  @$pb.TagNumber(15)
+  set uriScheme($core.int v) { $_setSignedInt32(14, v); }
+  @$pb.TagNumber(15)
+  $core.bool hasUriScheme() => $_has(14);
+  @$pb.TagNumber(15)
+  void clearUriScheme() => clearField(15);
+
+  @$pb.TagNumber(16)
+  AdvertisementData_ParseError get parseError => $_getN(15);
+  @$pb.TagNumber(16)
+  set parseError(AdvertisementData_ParseError v) { setField(16, v); }
+  @$pb.TagNumber(16)
+  $core.bool hasParseError() => $_has(15);
+  @$pb.TagNumber(16)
+  void clearParseError() => clearField(16);
 }
 
 class ScanSettings extends $pb.GeneratedMessage {
@@ -213,6 +354,13 @@ class ScanSettings extends $pb.GeneratedMessage {
     ..a<$core.int>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidScanMode', $pb.PbFieldType.O3)
     ..pPS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuids')
     ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'allowDuplicates')
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'sessionId', $pb.PbFieldType.OU3)
+    ..aOM<DutyCycle>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'dutyCycle', subBuilder: DutyCycle.create)
+    ..aOB(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidExtended')
+    ..a<$core.int>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidPhy', $pb.PbFieldType.O3)
+    ..a<$core.int>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidMatchMode', $pb.PbFieldType.O3)
+    ..a<$core.int>(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidNumOfMatches', $pb.PbFieldType.O3)
+    ..a<$core.int>(10, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidCallbackType', $pb.PbFieldType.O3)
     ..hasRequiredFields = false
   ;
 
@@ -221,6 +369,13 @@ class ScanSettings extends $pb.GeneratedMessage {
     $core.int? androidScanMode,
     $core.Iterable<$core.String>? serviceUuids,
     $core.bool? allowDuplicates,
+    $core.int? sessionId,
+    DutyCycle? dutyCycle,
+    $core.bool? androidExtended,
+    $core.int? androidPhy,
+    $core.int? androidMatchMode,
+    $core.int? androidNumOfMatches,
+    $core.int? androidCallbackType,
   }) {
     final _result = create();
     if (androidScanMode != null) {
@@ -232,6 +387,27 @@ class ScanSettings extends $pb.GeneratedMessage {
     if (allowDuplicates != null) {
       _result.allowDuplicates = allowDuplicates;
     }
+    if (sessionId != null) {
+      _result.sessionId = sessionId;
+    }
+    if (dutyCycle != null) {
+      _result.dutyCycle = dutyCycle;
+    }
+    if (androidExtended != null) {
+      _result.androidExtended = androidExtended;
+    }
+    if (androidPhy != null) {
+      _result.androidPhy = androidPhy;
+    }
+    if (androidMatchMode != null) {
+      _result.androidMatchMode = androidMatchMode;
+    }
+    if (androidNumOfMatches != null) {
+      _result.androidNumOfMatches = androidNumOfMatches;
+    }
+    if (androidCallbackType != null) {
+      _result.androidCallbackType = androidCallbackType;
+    }
     return _result;
   }
   factory ScanSettings.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -275,6 +451,146 @@ class ScanSettings extends $pb.GeneratedMessage {
   $core.bool hasAllowDuplicates() => $_has(2);
   @$pb.TagNumber(3)
   void clearAllowDuplicates() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get sessionId => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set sessionId($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSessionId() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSessionId() => clearField(4);
+
+  @$pb.TagNumber(5)
+  DutyCycle get dutyCycle => $_getN(4);
+  @$pb.TagNumber(5)
+  set dutyCycle(DutyCycle v) { setField(5, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasDutyCycle() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearDutyCycle() => clearField(5);
+  @$pb.TagNumber(5)
+  DutyCycle ensureDutyCycle() => $_ensure(4);
+
+  @$pb.TagNumber(6)
+  $core.bool get androidExtended => $_getBF(5);
+  @$pb.TagNumber(6)
+  set androidExtended($core.bool v) { $_setBool(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasAndroidExtended() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearAndroidExtended() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.int get androidPhy => $_getIZ(6);
+  @$pb.TagNumber(7)
+  set androidPhy($core.int v) { $_setSignedInt32(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasAndroidPhy() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearAndroidPhy() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.int get androidMatchMode => $_getIZ(7);
+  @$pb.TagNumber(8)
+  set androidMatchMode($core.int v) { $_setSignedInt32(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasAndroidMatchMode() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearAndroidMatchMode() => clearField(8);
+
+  @$pb.TagNumber(9)
+  $core.int get androidNumOfMatches => $_getIZ(8);
+  @$pb.TagNumber(9)
+  set androidNumOfMatches($core.int v) { $_setSignedInt32(8, v); }
+  @$pb.TagNumber(9)
+  $core.bool hasAndroidNumOfMatches() => $_has(8);
+  @$pb.TagNumber(9)
+  void clearAndroidNumOfMatches() => clearField(9);
+
+  @$pb.TagNumber(10)
+  $core.int get androidCallbackType => $_getIZ(9);
+  @$pb.TagNumber(10)
+  set androidCallbackType($core.int v) { $_setSignedInt32(9, v); }
+  @$pb.TagNumber(10)
+  $core.bool hasAndroidCallbackType() => $_has(9);
+  @$pb.TagNumber(10)
+  void clearAndroidCallbackType() => clearField(10);
+}
+
+class DutyCycle extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'DutyCycle', createEmptyInstance: create)
+    ..a<$core.int>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanMs', $pb.PbFieldType.OU3)
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'minPauseMs', $pb.PbFieldType.OU3)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxPauseMs', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  DutyCycle._() : super();
+  factory DutyCycle({
+    $core.int? scanMs,
+    $core.int? minPauseMs,
+    $core.int? maxPauseMs,
+  }) {
+    final _result = create();
+    if (scanMs != null) {
+      _result.scanMs = scanMs;
+    }
+    if (minPauseMs != null) {
+      _result.minPauseMs = minPauseMs;
+    }
+    if (maxPauseMs != null) {
+      _result.maxPauseMs = maxPauseMs;
+    }
+    return _result;
+  }
+  factory DutyCycle.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DutyCycle.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  DutyCycle clone() => DutyCycle()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  DutyCycle copyWith(void Function(DutyCycle) updates) => super.copyWith((message) => updates(message as DutyCycle)) as DutyCycle; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DutyCycle create() => DutyCycle._();
+  DutyCycle createEmptyInstance() => create();
+  static $pb.PbList<DutyCycle> createRepeated() => $pb.PbList<DutyCycle>();
+  @$core.pragma('dart2js:noInline')
+  static DutyCycle getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<DutyCycle>(create);
+  static DutyCycle? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.int get scanMs => $_getIZ(0);
+  @$pb.TagNumber(1)
+  set scanMs($core.int v) { $_setUnsignedInt32(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasScanMs() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearScanMs() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.int get minPauseMs => $_getIZ(1);
+  @$pb.TagNumber(2)
+  set minPauseMs($core.int v) { $_setUnsignedInt32(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasMinPauseMs() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearMinPauseMs() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.int get maxPauseMs => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set maxPauseMs($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasMaxPauseMs() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearMaxPauseMs() => clearField(3);
 }
 
 class ScanResult extends $pb.GeneratedMessage {
@@ -282,6 +598,8 @@ class ScanResult extends $pb.GeneratedMessage {
     ..aOM<BluetoothDevice>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'device', subBuilder: BluetoothDevice.create)
     ..aOM<AdvertisementData>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'advertisementData', subBuilder: AdvertisementData.create)
     ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rssi', $pb.PbFieldType.O3)
+    ..p<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'sessionIds', $pb.PbFieldType.KU3)
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidCallbackType', $pb.PbFieldType.O3)
     ..hasRequiredFields = false
   ;
 
@@ -290,6 +608,8 @@ class ScanResult extends $pb.GeneratedMessage {
     BluetoothDevice? device,
     AdvertisementData? advertisementData,
     $core.int? rssi,
+    $core.Iterable<$core.int>? sessionIds,
+    $core.int? androidCallbackType,
   }) {
     final _result = create();
     if (device != null) {
@@ -301,6 +621,12 @@ class ScanResult extends $pb.GeneratedMessage {
     if (rssi != null) {
       _result.rssi = rssi;
     }
+    if (sessionIds != null) {
+      _result.sessionIds.addAll(sessionIds);
+    }
+    if (androidCallbackType != null) {
+      _result.androidCallbackType = androidCallbackType;
+    }
     return _result;
   }
   factory ScanResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -354,12 +680,26 @@ class ScanResult extends $pb.GeneratedMessage {
   $core.bool hasRssi() => $_has(2);
   @$pb.TagNumber(3)
   void clearRssi() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.List<$core.int> get sessionIds => $_getList(3);
+
+  @$pb.TagNumber(5)
+  $core.int get androidCallbackType => $_getIZ(4);
+  @$pb.TagNumber(5)
+  set androidCallbackType($core.int v) { $_setSignedInt32(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasAndroidCallbackType() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearAndroidCallbackType() => clearField(5);
 }
 
 class ConnectRequest extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectRequest', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidAutoConnect')
+    ..aOM<ReconnectPolicy>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'reconnect', subBuilder: ReconnectPolicy.create)
+    ..aOB(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'restoreNotifications')
     ..hasRequiredFields = false
   ;
 
@@ -367,6 +707,8 @@ class ConnectRequest extends $pb.GeneratedMessage {
   factory ConnectRequest({
     $core.String? remoteId,
     $core.bool? androidAutoConnect,
+    ReconnectPolicy? reconnect,
+    $core.bool? restoreNotifications,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -375,6 +717,12 @@ class ConnectRequest extends $pb.GeneratedMessage {
     if (androidAutoConnect != null) {
       _result.androidAutoConnect = androidAutoConnect;
     }
+    if (reconnect != null) {
+      _result.reconnect = reconnect;
+    }
+    if (restoreNotifications != null) {
+      _result.restoreNotifications = restoreNotifications;
+    }
     return _result;
   }
   factory ConnectRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -415,6 +763,129 @@ class ConnectRequest extends $pb.GeneratedMessage {
   $core.bool hasAndroidAutoConnect() => $_has(1);
   @$pb.TagNumber(2)
   void clearAndroidAutoConnect() => clearField(2);
+
+  @$pb.TagNumber(3)
+  ReconnectPolicy get reconnect => $_getN(2);
+  @$pb.TagNumber(3)
+  set reconnect(ReconnectPolicy v) { setField(3, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasReconnect() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearReconnect() => clearField(3);
+  @$pb.TagNumber(3)
+  ReconnectPolicy ensureReconnect() => $_ensure(2);
+
+  @$pb.TagNumber(4)
+  $core.bool get restoreNotifications => $_getBF(3);
+  @$pb.TagNumber(4)
+  set restoreNotifications($core.bool v) { $_setBool(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasRestoreNotifications() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearRestoreNotifications() => clearField(4);
+}
+
+class ReconnectPolicy extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReconnectPolicy', createEmptyInstance: create)
+    ..aOB(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'enabled')
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'initialDelayMs', $pb.PbFieldType.OU3)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxDelayMs', $pb.PbFieldType.OU3)
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxAttempts', $pb.PbFieldType.OU3)
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'autoConnectAfter', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  ReconnectPolicy._() : super();
+  factory ReconnectPolicy({
+    $core.bool? enabled,
+    $core.int? initialDelayMs,
+    $core.int? maxDelayMs,
+    $core.int? maxAttempts,
+    $core.int? autoConnectAfter,
+  }) {
+    final _result = create();
+    if (enabled != null) {
+      _result.enabled = enabled;
+    }
+    if (initialDelayMs != null) {
+      _result.initialDelayMs = initialDelayMs;
+    }
+    if (maxDelayMs != null) {
+      _result.maxDelayMs = maxDelayMs;
+    }
+    if (maxAttempts != null) {
+      _result.maxAttempts = maxAttempts;
+    }
+    if (autoConnectAfter != null) {
+      _result.autoConnectAfter = autoConnectAfter;
+    }
+    return _result;
+  }
+  factory ReconnectPolicy.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReconnectPolicy.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ReconnectPolicy clone() => ReconnectPolicy()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ReconnectPolicy copyWith(void Function(ReconnectPolicy) updates) => super.copyWith((message) => updates(message as ReconnectPolicy)) as ReconnectPolicy; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ReconnectPolicy create() => ReconnectPolicy._();
+  ReconnectPolicy createEmptyInstance() => create();
+  static $pb.PbList<ReconnectPolicy> createRepeated() => $pb.PbList<ReconnectPolicy>();
+  @$core.pragma('dart2js:noInline')
+  static ReconnectPolicy getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReconnectPolicy>(create);
+  static ReconnectPolicy? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.bool get enabled => $_getBF(0);
+  @$pb.TagNumber(1)
+  set enabled($core.bool v) { $_setBool(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasEnabled() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearEnabled() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.int get initialDelayMs => $_getIZ(1);
+  @$pb.TagNumber(2)
+  set initialDelayMs($core.int v) { $_setUnsignedInt32(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasInitialDelayMs() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearInitialDelayMs() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.int get maxDelayMs => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set maxDelayMs($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasMaxDelayMs() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearMaxDelayMs() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get maxAttempts => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set maxAttempts($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasMaxAttempts() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearMaxAttempts() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.int get autoConnectAfter => $_getIZ(4);
+  @$pb.TagNumber(5)
+  set autoConnectAfter($core.int v) { $_setUnsignedInt32(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasAutoConnectAfter() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearAutoConnectAfter() => clearField(5);
 }
 
 class BluetoothDevice extends $pb.GeneratedMessage {
@@ -422,6 +893,7 @@ class BluetoothDevice extends $pb.GeneratedMessage {
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'name')
     ..e<BluetoothDevice_Type>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'type', $pb.PbFieldType.OE, defaultOrMaker: BluetoothDevice_Type.UNKNOWN, valueOf: BluetoothDevice_Type.valueOf, enumValues: BluetoothDevice_Type.values)
+    ..a<$fixnum.Int64>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteAddress', $pb.PbFieldType.OF6, defaultOrMaker: $fixnum.Int64.ZERO)
     ..hasRequiredFields = false
   ;
 
@@ -430,6 +902,7 @@ class BluetoothDevice extends $pb.GeneratedMessage {
     $core.String? remoteId,
     $core.String? name,
     BluetoothDevice_Type? type,
+    $fixnum.Int64? remoteAddress,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -441,6 +914,9 @@ class BluetoothDevice extends $pb.GeneratedMessage {
     if (type != null) {
       _result.type = type;
     }
+    if (remoteAddress != null) {
+      _result.remoteAddress = remoteAddress;
+    }
     return _result;
   }
   factory BluetoothDevice.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -490,6 +966,15 @@ class BluetoothDevice extends $pb.GeneratedMessage {
   $core.bool hasType() => $_has(2);
   @$pb.TagNumber(3)
   void clearType() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $fixnum.Int64 get remoteAddress => $_getI64(3);
+  @$pb.TagNumber(4)
+  set remoteAddress($fixnum.Int64 v) { $_setInt64(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasRemoteAddress() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearRemoteAddress() => clearField(4);
 }
 
 class BluetoothService extends $pb.GeneratedMessage {
@@ -592,6 +1077,7 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
     ..pc<BluetoothDescriptor>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'descriptors', $pb.PbFieldType.PM, subBuilder: BluetoothDescriptor.create)
     ..aOM<CharacteristicProperties>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'properties', subBuilder: CharacteristicProperties.create)
     ..a<$core.List<$core.int>>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..a<$fixnum.Int64>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteAddress', $pb.PbFieldType.OF6, defaultOrMaker: $fixnum.Int64.ZERO)
     ..hasRequiredFields = false
   ;
 
@@ -604,6 +1090,7 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
     $core.Iterable<BluetoothDescriptor>? descriptors,
     CharacteristicProperties? properties,
     $core.List<$core.int>? value,
+    $fixnum.Int64? remoteAddress,
   }) {
     final _result = create();
     if (uuid != null) {
@@ -627,6 +1114,9 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
     if (value != null) {
       _result.value = value;
     }
+    if (remoteAddress != null) {
+      _result.remoteAddress = remoteAddress;
+    }
     return _result;
   }
   factory BluetoothCharacteristic.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -708,6 +1198,15 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
   $core.bool hasValue() => $_has(6);
   @$pb.TagNumber(7)
   void clearValue() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $fixnum.Int64 get remoteAddress => $_getI64(7);
+  @$pb.TagNumber(8)
+  set remoteAddress($fixnum.Int64 v) { $_setInt64(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasRemoteAddress() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearRemoteAddress() => clearField(8);
 }
 
 class BluetoothDescriptor extends $pb.GeneratedMessage {
@@ -717,6 +1216,7 @@ class BluetoothDescriptor extends $pb.GeneratedMessage {
     ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid', protoName: 'serviceUuid')
     ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid', protoName: 'characteristicUuid')
     ..a<$core.List<$core.int>>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..a<$fixnum.Int64>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteAddress', $pb.PbFieldType.OF6, defaultOrMaker: $fixnum.Int64.ZERO)
     ..hasRequiredFields = false
   ;
 
@@ -727,6 +1227,7 @@ class BluetoothDescriptor extends $pb.GeneratedMessage {
     $core.String? serviceUuid,
     $core.String? characteristicUuid,
     $core.List<$core.int>? value,
+    $fixnum.Int64? remoteAddress,
   }) {
     final _result = create();
     if (uuid != null) {
@@ -744,6 +1245,9 @@ class BluetoothDescriptor extends $pb.GeneratedMessage {
     if (value != null) {
       _result.value = value;
     }
+    if (remoteAddress != null) {
+      _result.remoteAddress = remoteAddress;
+    }
     return _result;
   }
   factory BluetoothDescriptor.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -811,6 +1315,15 @@ class BluetoothDescriptor extends $pb.GeneratedMessage {
   $core.bool hasValue() => $_has(4);
   @$pb.TagNumber(5)
   void clearValue() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $fixnum.Int64 get remoteAddress => $_getI64(5);
+  @$pb.TagNumber(6)
+  set remoteAddress($fixnum.Int64 v) { $_setInt64(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasRemoteAddress() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearRemoteAddress() => clearField(6);
 }
 
 class CharacteristicProperties extends $pb.GeneratedMessage {
@@ -1047,6 +1560,7 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
     ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
     ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
     ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxAgeMs', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
@@ -1056,6 +1570,7 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
     $core.String? characteristicUuid,
     $core.String? serviceUuid,
     $core.String? secondaryServiceUuid,
+    $core.int? maxAgeMs,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -1070,6 +1585,9 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
     if (secondaryServiceUuid != null) {
       _result.secondaryServiceUuid = secondaryServiceUuid;
     }
+    if (maxAgeMs != null) {
+      _result.maxAgeMs = maxAgeMs;
+    }
     return _result;
   }
   factory ReadCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -1128,6 +1646,15 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
   $core.bool hasSecondaryServiceUuid() => $_has(3);
   @$pb.TagNumber(4)
   void clearSecondaryServiceUuid() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.int get maxAgeMs => $_getIZ(4);
+  @$pb.TagNumber(5)
+  set maxAgeMs($core.int v) { $_setUnsignedInt32(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasMaxAgeMs() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearMaxAgeMs() => clearField(5);
 }
 
 class ReadCharacteristicResponse extends $pb.GeneratedMessage {
@@ -1367,6 +1894,8 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
     ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
     ..e<WriteCharacteristicRequest_WriteType>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeType', $pb.PbFieldType.OE, defaultOrMaker: WriteCharacteristicRequest_WriteType.WITH_RESPONSE, valueOf: WriteCharacteristicRequest_WriteType.valueOf, enumValues: WriteCharacteristicRequest_WriteType.values)
     ..a<$core.List<$core.int>>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..aOB(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'coalesce')
+    ..a<$core.int>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeId', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
@@ -1378,6 +1907,8 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
     $core.String? secondaryServiceUuid,
     WriteCharacteristicRequest_WriteType? writeType,
     $core.List<$core.int>? value,
+    $core.bool? coalesce,
+    $core.int? writeId,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -1398,6 +1929,12 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
     if (value != null) {
       _result.value = value;
     }
+    if (coalesce != null) {
+      _result.coalesce = coalesce;
+    }
+    if (writeId != null) {
+      _result.writeId = writeId;
+    }
     return _result;
   }
   factory WriteCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -1474,12 +2011,31 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
   $core.bool hasValue() => $_has(5);
   @$pb.TagNumber(6)
   void clearValue() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.bool get coalesce => $_getBF(6);
+  @$pb.TagNumber(7)
+  set coalesce($core.bool v) { $_setBool(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasCoalesce() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearCoalesce() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.int get writeId => $_getIZ(7);
+  @$pb.TagNumber(8)
+  set writeId($core.int v) { $_setUnsignedInt32(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasWriteId() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearWriteId() => clearField(8);
 }
 
 class WriteCharacteristicResponse extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'WriteCharacteristicResponse', createEmptyInstance: create)
     ..aOM<WriteCharacteristicRequest>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'request', subBuilder: WriteCharacteristicRequest.create)
     ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'superseded')
     ..hasRequiredFields = false
   ;
 
@@ -1487,6 +2043,7 @@ class WriteCharacteristicResponse extends $pb.GeneratedMessage {
   factory WriteCharacteristicResponse({
     WriteCharacteristicRequest? request,
     $core.bool? success,
+    $core.bool? superseded,
   }) {
     final _result = create();
     if (request != null) {
@@ -1495,6 +2052,9 @@ class WriteCharacteristicResponse extends $pb.GeneratedMessage {
     if (success != null) {
       _result.success = success;
     }
+    if (superseded != null) {
+      _result.superseded = superseded;
+    }
     return _result;
   }
   factory WriteCharacteristicResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -1537,6 +2097,15 @@ class WriteCharacteristicResponse extends $pb.GeneratedMessage {
   $core.bool hasSuccess() => $_has(1);
   @$pb.TagNumber(2)
   void clearSuccess() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.bool get superseded => $_getBF(2);
+  @$pb.TagNumber(3)
+  set superseded($core.bool v) { $_setBool(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasSuperseded() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearSuperseded() => clearField(3);
 }
 
 class WriteDescriptorRequest extends $pb.GeneratedMessage {
@@ -1827,6 +2396,7 @@ class SetNotificationResponse extends $pb.GeneratedMessage {
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
     ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'subscriptionId', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
@@ -1835,6 +2405,7 @@ class SetNotificationResponse extends $pb.GeneratedMessage {
     $core.String? remoteId,
     BluetoothCharacteristic? characteristic,
     $core.bool? success,
+    $core.int? subscriptionId,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -1846,6 +2417,9 @@ class SetNotificationResponse extends $pb.GeneratedMessage {
     if (success != null) {
       _result.success = success;
     }
+    if (subscriptionId != null) {
+      _result.subscriptionId = subscriptionId;
+    }
     return _result;
   }
   factory SetNotificationResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -1897,49 +2471,63 @@ class SetNotificationResponse extends $pb.GeneratedMessage {
   $core.bool hasSuccess() => $_has(2);
   @$pb.TagNumber(3)
   void clearSuccess() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get subscriptionId => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set subscriptionId($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSubscriptionId() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSubscriptionId() => clearField(4);
 }
 
-class OnCharacteristicChanged extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'OnCharacteristicChanged', createEmptyInstance: create)
+class NotificationsRestored extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'NotificationsRestored', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..pc<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'restored', $pb.PbFieldType.PM, subBuilder: BluetoothCharacteristic.create)
+    ..pc<SetNotificationRequest>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'failed', $pb.PbFieldType.PM, subBuilder: SetNotificationRequest.create)
     ..hasRequiredFields = false
   ;
 
-  OnCharacteristicChanged._() : super();
-  factory OnCharacteristicChanged({
+  NotificationsRestored._() : super();
+  factory NotificationsRestored({
     $core.String? remoteId,
-    BluetoothCharacteristic? characteristic,
+    $core.Iterable<BluetoothCharacteristic>? restored,
+    $core.Iterable<SetNotificationRequest>? failed,
   }) {
     final _result = create();
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (characteristic != null) {
-      _result.characteristic = characteristic;
+    if (restored != null) {
+      _result.restored.addAll(restored);
+    }
+    if (failed != null) {
+      _result.failed.addAll(failed);
     }
     return _result;
   }
-  factory OnCharacteristicChanged.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory OnCharacteristicChanged.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory NotificationsRestored.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory NotificationsRestored.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  OnCharacteristicChanged clone() => OnCharacteristicChanged()..mergeFromMessage(this);
+  NotificationsRestored clone() => NotificationsRestored()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  OnCharacteristicChanged copyWith(void Function(OnCharacteristicChanged) updates) => super.copyWith((message) => updates(message as OnCharacteristicChanged)) as OnCharacteristicChanged; // ignore: deprecated_member_use
+  NotificationsRestored copyWith(void Function(NotificationsRestored) updates) => super.copyWith((message) => updates(message as NotificationsRestored)) as NotificationsRestored; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static OnCharacteristicChanged create() => OnCharacteristicChanged._();
-  OnCharacteristicChanged createEmptyInstance() => create();
-  static $pb.PbList<OnCharacteristicChanged> createRepeated() => $pb.PbList<OnCharacteristicChanged>();
+  static NotificationsRestored create() => NotificationsRestored._();
+  NotificationsRestored createEmptyInstance() => create();
+  static $pb.PbList<NotificationsRestored> createRepeated() => $pb.PbList<NotificationsRestored>();
   @$core.pragma('dart2js:noInline')
-  static OnCharacteristicChanged getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<OnCharacteristicChanged>(create);
-  static OnCharacteristicChanged? _defaultInstance;
+  static NotificationsRestored getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<NotificationsRestored>(create);
+  static NotificationsRestored? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1951,15 +2539,101 @@ class OnCharacteristicChanged extends $pb.GeneratedMessage {
   void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  BluetoothCharacteristic get characteristic => $_getN(1);
-  @$pb.TagNumber(2)
-  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
-  @$pb.TagNumber(2)
-  $core.bool hasCharacteristic() => $_has(1);
-  @$pb.TagNumber(2)
-  void clearCharacteristic() => clearField(2);
+  $core.List<BluetoothCharacteristic> get restored => $_getList(1);
+
+  @$pb.TagNumber(3)
+  $core.List<SetNotificationRequest> get failed => $_getList(2);
+}
+
+class OnCharacteristicChanged extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'OnCharacteristicChanged', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..a<$fixnum.Int64>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteAddress', $pb.PbFieldType.OF6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'subscriptionId', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  OnCharacteristicChanged._() : super();
+  factory OnCharacteristicChanged({
+    $core.String? remoteId,
+    BluetoothCharacteristic? characteristic,
+    $fixnum.Int64? remoteAddress,
+    $core.int? subscriptionId,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristic != null) {
+      _result.characteristic = characteristic;
+    }
+    if (remoteAddress != null) {
+      _result.remoteAddress = remoteAddress;
+    }
+    if (subscriptionId != null) {
+      _result.subscriptionId = subscriptionId;
+    }
+    return _result;
+  }
+  factory OnCharacteristicChanged.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory OnCharacteristicChanged.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  OnCharacteristicChanged clone() => OnCharacteristicChanged()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  OnCharacteristicChanged copyWith(void Function(OnCharacteristicChanged) updates) => super.copyWith((message) => updates(message as OnCharacteristicChanged)) as OnCharacteristicChanged; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static OnCharacteristicChanged create() => OnCharacteristicChanged._();
+  OnCharacteristicChanged createEmptyInstance() => create();
+  static $pb.PbList<OnCharacteristicChanged> createRepeated() => $pb.PbList<OnCharacteristicChanged>();
+  @$core.pragma('dart2js:noInline')
+  static OnCharacteristicChanged getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<OnCharacteristicChanged>(create);
+  static OnCharacteristicChanged? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic get characteristic => $_getN(1);
+  @$pb.TagNumber(2)
+  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasCharacteristic() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearCharacteristic() => clearField(2);
   @$pb.TagNumber(2)
   BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
+
+  @$pb.TagNumber(3)
+  $fixnum.Int64 get remoteAddress => $_getI64(2);
+  @$pb.TagNumber(3)
+  set remoteAddress($fixnum.Int64 v) { $_setInt64(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasRemoteAddress() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearRemoteAddress() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get subscriptionId => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set subscriptionId($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSubscriptionId() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSubscriptionId() => clearField(4);
 }
 
 class DeviceStateResponse extends $pb.GeneratedMessage {
@@ -2023,20 +2697,114 @@ class DeviceStateResponse extends $pb.GeneratedMessage {
   void clearState() => clearField(2);
 }
 
+class EventFlowControl extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'EventFlowControl', createEmptyInstance: create)
+    ..a<$core.int>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'stream', $pb.PbFieldType.OU3)
+    ..e<EventFlowControl_Overflow>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'overflow', $pb.PbFieldType.OE, defaultOrMaker: EventFlowControl_Overflow.DROP_OLDEST, valueOf: EventFlowControl_Overflow.valueOf, enumValues: EventFlowControl_Overflow.values)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'capacity', $pb.PbFieldType.OU3)
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxBytes', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  EventFlowControl._() : super();
+  factory EventFlowControl({
+    $core.int? stream,
+    EventFlowControl_Overflow? overflow,
+    $core.int? capacity,
+    $core.int? maxBytes,
+  }) {
+    final _result = create();
+    if (stream != null) {
+      _result.stream = stream;
+    }
+    if (overflow != null) {
+      _result.overflow = overflow;
+    }
+    if (capacity != null) {
+      _result.capacity = capacity;
+    }
+    if (maxBytes != null) {
+      _result.maxBytes = maxBytes;
+    }
+    return _result;
+  }
+  factory EventFlowControl.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory EventFlowControl.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  EventFlowControl clone() => EventFlowControl()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  EventFlowControl copyWith(void Function(EventFlowControl) updates) => super.copyWith((message) => updates(message as EventFlowControl)) as EventFlowControl; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static EventFlowControl create() => EventFlowControl._();
+  EventFlowControl createEmptyInstance() => create();
+  static $pb.PbList<EventFlowControl> createRepeated() => $pb.PbList<EventFlowControl>();
+  @$core.pragma('dart2js:noInline')
+  static EventFlowControl getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<EventFlowControl>(create);
+  static EventFlowControl? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.int get stream => $_getIZ(0);
+  @$pb.TagNumber(1)
+  set stream($core.int v) { $_setUnsignedInt32(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasStream() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearStream() => clearField(1);
+
+  @$pb.TagNumber(2)
+  EventFlowControl_Overflow get overflow => $_getN(1);
+  @$pb.TagNumber(2)
+  set overflow(EventFlowControl_Overflow v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasOverflow() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearOverflow() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.int get capacity => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set capacity($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasCapacity() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearCapacity() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get maxBytes => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set maxBytes($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasMaxBytes() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearMaxBytes() => clearField(4);
+}
+
 class ConnectedDevicesResponse extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectedDevicesResponse', createEmptyInstance: create)
     ..pc<BluetoothDevice>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'devices', $pb.PbFieldType.PM, subBuilder: BluetoothDevice.create)
+    ..pc<KnownDevice>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'known', $pb.PbFieldType.PM, subBuilder: KnownDevice.create)
     ..hasRequiredFields = false
   ;
 
   ConnectedDevicesResponse._() : super();
   factory ConnectedDevicesResponse({
     $core.Iterable<BluetoothDevice>? devices,
+    $core.Iterable<KnownDevice>? known,
   }) {
     final _result = create();
     if (devices != null) {
       _result.devices.addAll(devices);
     }
+    if (known != null) {
+      _result.known.addAll(known);
+    }
     return _result;
   }
   factory ConnectedDevicesResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -2062,6 +2830,86 @@ class ConnectedDevicesResponse extends $pb.GeneratedMessage {
 
   @$pb.TagNumber(1)
   $core.List<BluetoothDevice> get devices => $_getList(0);
+
+  @$pb.TagNumber(2)
+  $core.List<KnownDevice> get known => $_getList(1);
+}
+
+class KnownDevice extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'KnownDevice', createEmptyInstance: create)
+    ..aInt64(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'lastSeenMs')
+    ..aOM<Int32Value>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rssi', subBuilder: Int32Value.create)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'bondState', $pb.PbFieldType.O3)
+    ..hasRequiredFields = false
+  ;
+
+  KnownDevice._() : super();
+  factory KnownDevice({
+    $fixnum.Int64? lastSeenMs,
+    Int32Value? rssi,
+    $core.int? bondState,
+  }) {
+    final _result = create();
+    if (lastSeenMs != null) {
+      _result.lastSeenMs = lastSeenMs;
+    }
+    if (rssi != null) {
+      _result.rssi = rssi;
+    }
+    if (bondState != null) {
+      _result.bondState = bondState;
+    }
+    return _result;
+  }
+  factory KnownDevice.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory KnownDevice.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  KnownDevice clone() => KnownDevice()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  KnownDevice copyWith(void Function(KnownDevice) updates) => super.copyWith((message) => updates(message as KnownDevice)) as KnownDevice; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static KnownDevice create() => KnownDevice._();
+  KnownDevice createEmptyInstance() => create();
+  static $pb.PbList<KnownDevice> createRepeated() => $pb.PbList<KnownDevice>();
+  @$core.pragma('dart2js:noInline')
+  static KnownDevice getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<KnownDevice>(create);
+  static KnownDevice? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $fixnum.Int64 get lastSeenMs => $_getI64(0);
+  @$pb.TagNumber(1)
+  set lastSeenMs($fixnum.Int64 v) { $_setInt64(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasLastSeenMs() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearLastSeenMs() => clearField(1);
+
+  @$pb.TagNumber(2)
+  Int32Value get rssi => $_getN(1);
+  @$pb.TagNumber(2)
+  set rssi(Int32Value v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasRssi() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearRssi() => clearField(2);
+  @$pb.TagNumber(2)
+  Int32Value ensureRssi() => $_ensure(1);
+
+  @$pb.TagNumber(3)
+  $core.int get bondState => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set bondState($core.int v) { $_setSignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasBondState() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearBondState() => clearField(3);
 }
 
 class MtuSizeRequest extends $pb.GeneratedMessage {
@@ -2247,3 +3095,1216 @@ class ReadRssiResult extends $pb.GeneratedMessage {
   void clearRssi() => clearField(2);
 }
 
+class BatchRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BatchRequest', createEmptyInstance: create)
+    ..pc<BatchCommand>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'commands', $pb.PbFieldType.PM, subBuilder: BatchCommand.create)
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'timeoutMs', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  BatchRequest._() : super();
+  factory BatchRequest({
+    $core.Iterable<BatchCommand>? commands,
+    $core.int? timeoutMs,
+  }) {
+    final _result = create();
+    if (commands != null) {
+      _result.commands.addAll(commands);
+    }
+    if (timeoutMs != null) {
+      _result.timeoutMs = timeoutMs;
+    }
+    return _result;
+  }
+  factory BatchRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BatchRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BatchRequest clone() => BatchRequest()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BatchRequest copyWith(void Function(BatchRequest) updates) => super.copyWith((message) => updates(message as BatchRequest)) as BatchRequest; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BatchRequest create() => BatchRequest._();
+  BatchRequest createEmptyInstance() => create();
+  static $pb.PbList<BatchRequest> createRepeated() => $pb.PbList<BatchRequest>();
+  @$core.pragma('dart2js:noInline')
+  static BatchRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BatchRequest>(create);
+  static BatchRequest? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.List<BatchCommand> get commands => $_getList(0);
+
+  @$pb.TagNumber(2)
+  $core.int get timeoutMs => $_getIZ(1);
+  @$pb.TagNumber(2)
+  set timeoutMs($core.int v) { $_setUnsignedInt32(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasTimeoutMs() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearTimeoutMs() => clearField(2);
+}
+
+enum BatchCommand_Command {
+  readCharacteristic, 
+  readDescriptor, 
+  writeCharacteristic, 
+  writeDescriptor, 
+  setNotification, 
+  requestMtu, 
+  discoverServices, 
+  readRssi, 
+  notSet
+}
+
+class BatchCommand extends $pb.GeneratedMessage {
+  static const $core.Map<$core.int, BatchCommand_Command> _BatchCommand_CommandByTag = {
+    1 : BatchCommand_Command.readCharacteristic,
+    2 : BatchCommand_Command.readDescriptor,
+    3 : BatchCommand_Command.writeCharacteristic,
+    4 : BatchCommand_Command.writeDescriptor,
+    5 : BatchCommand_Command.setNotification,
+    6 : BatchCommand_Command.requestMtu,
+    7 : BatchCommand_Command.discoverServices,
+    8 : BatchCommand_Command.readRssi,
+    0 : BatchCommand_Command.notSet
+  };
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BatchCommand', createEmptyInstance: create)
+    ..oo(0, [1, 2, 3, 4, 5, 6, 7, 8])
+    ..aOM<ReadCharacteristicRequest>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'readCharacteristic', subBuilder: ReadCharacteristicRequest.create)
+    ..aOM<ReadDescriptorRequest>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'readDescriptor', subBuilder: ReadDescriptorRequest.create)
+    ..aOM<WriteCharacteristicRequest>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeCharacteristic', subBuilder: WriteCharacteristicRequest.create)
+    ..aOM<WriteDescriptorRequest>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeDescriptor', subBuilder: WriteDescriptorRequest.create)
+    ..aOM<SetNotificationRequest>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'setNotification', subBuilder: SetNotificationRequest.create)
+    ..aOM<MtuSizeRequest>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'requestMtu', subBuilder: MtuSizeRequest.create)
+    ..aOS(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'discoverServices')
+    ..aOS(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'readRssi')
+    ..hasRequiredFields = false
+  ;
+
+  BatchCommand._() : super();
+  factory BatchCommand({
+    ReadCharacteristicRequest? readCharacteristic,
+    ReadDescriptorRequest? readDescriptor,
+    WriteCharacteristicRequest? writeCharacteristic,
+    WriteDescriptorRequest? writeDescriptor,
+    SetNotificationRequest? setNotification,
+    MtuSizeRequest? requestMtu,
+    $core.String? discoverServices,
+    $core.String? readRssi,
+  }) {
+    final _result = create();
+    if (readCharacteristic != null) {
+      _result.readCharacteristic = readCharacteristic;
+    }
+    if (readDescriptor != null) {
+      _result.readDescriptor = readDescriptor;
+    }
+    if (writeCharacteristic != null) {
+      _result.writeCharacteristic = writeCharacteristic;
+    }
+    if (writeDescriptor != null) {
+      _result.writeDescriptor = writeDescriptor;
+    }
+    if (setNotification != null) {
+      _result.setNotification = setNotification;
+    }
+    if (requestMtu != null) {
+      _result.requestMtu = requestMtu;
+    }
+    if (discoverServices != null) {
+      _result.discoverServices = discoverServices;
+    }
+    if (readRssi != null) {
+      _result.readRssi = readRssi;
+    }
+    return _result;
+  }
+  factory BatchCommand.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BatchCommand.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BatchCommand clone() => BatchCommand()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BatchCommand copyWith(void Function(BatchCommand) updates) => super.copyWith((message) => updates(message as BatchCommand)) as BatchCommand; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BatchCommand create() => BatchCommand._();
+  BatchCommand createEmptyInstance() => create();
+  static $pb.PbList<BatchCommand> createRepeated() => $pb.PbList<BatchCommand>();
+  @$core.pragma('dart2js:noInline')
+  static BatchCommand getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BatchCommand>(create);
+  static BatchCommand? _defaultInstance;
+
+  BatchCommand_Command whichCommand() => _BatchCommand_CommandByTag[$_whichOneof(0)]!;
+  void clearCommand() => clearField($_whichOneof(0));
+
+  @$pb.TagNumber(1)
+  ReadCharacteristicRequest get readCharacteristic => $_getN(0);
+  @$pb.TagNumber(1)
+  set readCharacteristic(ReadCharacteristicRequest v) { setField(1, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasReadCharacteristic() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearReadCharacteristic() => clearField(1);
+  @$pb.TagNumber(1)
+  ReadCharacteristicRequest ensureReadCharacteristic() => $_ensure(0);
+
+  @$pb.TagNumber(2)
+  ReadDescriptorRequest get readDescriptor => $_getN(1);
+  @$pb.TagNumber(2)
+  set readDescriptor(ReadDescriptorRequest v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasReadDescriptor() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearReadDescriptor() => clearField(2);
+  @$pb.TagNumber(2)
+  ReadDescriptorRequest ensureReadDescriptor() => $_ensure(1);
+
+  @$pb.TagNumber(3)
+  WriteCharacteristicRequest get writeCharacteristic => $_getN(2);
+  @$pb.TagNumber(3)
+  set writeCharacteristic(WriteCharacteristicRequest v) { setField(3, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasWriteCharacteristic() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearWriteCharacteristic() => clearField(3);
+  @$pb.TagNumber(3)
+  WriteCharacteristicRequest ensureWriteCharacteristic() => $_ensure(2);
+
+  @$pb.TagNumber(4)
+  WriteDescriptorRequest get writeDescriptor => $_getN(3);
+  @$pb.TagNumber(4)
+  set writeDescriptor(WriteDescriptorRequest v) { setField(4, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasWriteDescriptor() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearWriteDescriptor() => clearField(4);
+  @$pb.TagNumber(4)
+  WriteDescriptorRequest ensureWriteDescriptor() => $_ensure(3);
+
+  @$pb.TagNumber(5)
+  SetNotificationRequest get setNotification => $_getN(4);
+  @$pb.TagNumber(5)
+  set setNotification(SetNotificationRequest v) { setField(5, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasSetNotification() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearSetNotification() => clearField(5);
+  @$pb.TagNumber(5)
+  SetNotificationRequest ensureSetNotification() => $_ensure(4);
+
+  @$pb.TagNumber(6)
+  MtuSizeRequest get requestMtu => $_getN(5);
+  @$pb.TagNumber(6)
+  set requestMtu(MtuSizeRequest v) { setField(6, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasRequestMtu() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearRequestMtu() => clearField(6);
+  @$pb.TagNumber(6)
+  MtuSizeRequest ensureRequestMtu() => $_ensure(5);
+
+  @$pb.TagNumber(7)
+  $core.String get discoverServices => $_getSZ(6);
+  @$pb.TagNumber(7)
+  set discoverServices($core.String v) { $_setString(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasDiscoverServices() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearDiscoverServices() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.String get readRssi => $_getSZ(7);
+  @$pb.TagNumber(8)
+  set readRssi($core.String v) { $_setString(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasReadRssi() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearReadRssi() => clearField(8);
+}
+
+class BatchResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BatchResponse', createEmptyInstance: create)
+    ..pc<BatchResult>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'results', $pb.PbFieldType.PM, subBuilder: BatchResult.create)
+    ..hasRequiredFields = false
+  ;
+
+  BatchResponse._() : super();
+  factory BatchResponse({
+    $core.Iterable<BatchResult>? results,
+  }) {
+    final _result = create();
+    if (results != null) {
+      _result.results.addAll(results);
+    }
+    return _result;
+  }
+  factory BatchResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BatchResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BatchResponse clone() => BatchResponse()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BatchResponse copyWith(void Function(BatchResponse) updates) => super.copyWith((message) => updates(message as BatchResponse)) as BatchResponse; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BatchResponse create() => BatchResponse._();
+  BatchResponse createEmptyInstance() => create();
+  static $pb.PbList<BatchResponse> createRepeated() => $pb.PbList<BatchResponse>();
+  @$core.pragma('dart2js:noInline')
+  static BatchResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BatchResponse>(create);
+  static BatchResponse? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.List<BatchResult> get results => $_getList(0);
+}
+
+class BatchResult extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BatchResult', createEmptyInstance: create)
+    ..aOB(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'errorCode')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'errorMessage')
+    ..hasRequiredFields = false
+  ;
+
+  BatchResult._() : super();
+  factory BatchResult({
+    $core.bool? success,
+    $core.String? errorCode,
+    $core.String? errorMessage,
+  }) {
+    final _result = create();
+    if (success != null) {
+      _result.success = success;
+    }
+    if (errorCode != null) {
+      _result.errorCode = errorCode;
+    }
+    if (errorMessage != null) {
+      _result.errorMessage = errorMessage;
+    }
+    return _result;
+  }
+  factory BatchResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BatchResult.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BatchResult clone() => BatchResult()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BatchResult copyWith(void Function(BatchResult) updates) => super.copyWith((message) => updates(message as BatchResult)) as BatchResult; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BatchResult create() => BatchResult._();
+  BatchResult createEmptyInstance() => create();
+  static $pb.PbList<BatchResult> createRepeated() => $pb.PbList<BatchResult>();
+  @$core.pragma('dart2js:noInline')
+  static BatchResult getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BatchResult>(create);
+  static BatchResult? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.bool get success => $_getBF(0);
+  @$pb.TagNumber(1)
+  set success($core.bool v) { $_setBool(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasSuccess() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearSuccess() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get errorCode => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set errorCode($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasErrorCode() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearErrorCode() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get errorMessage => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set errorMessage($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasErrorMessage() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearErrorMessage() => clearField(3);
+}
+
+class LatencyHistogram extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'LatencyHistogram', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'count', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'p50Us', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'p90Us', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'p99Us', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxUs', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.double>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'meanUs', $pb.PbFieldType.OD)
+    ..hasRequiredFields = false
+  ;
+
+  LatencyHistogram._() : super();
+  factory LatencyHistogram({
+    $fixnum.Int64? count,
+    $fixnum.Int64? p50Us,
+    $fixnum.Int64? p90Us,
+    $fixnum.Int64? p99Us,
+    $fixnum.Int64? maxUs,
+    $core.double? meanUs,
+  }) {
+    final _result = create();
+    if (count != null) {
+      _result.count = count;
+    }
+    if (p50Us != null) {
+      _result.p50Us = p50Us;
+    }
+    if (p90Us != null) {
+      _result.p90Us = p90Us;
+    }
+    if (p99Us != null) {
+      _result.p99Us = p99Us;
+    }
+    if (maxUs != null) {
+      _result.maxUs = maxUs;
+    }
+    if (meanUs != null) {
+      _result.meanUs = meanUs;
+    }
+    return _result;
+  }
+  factory LatencyHistogram.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory LatencyHistogram.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  LatencyHistogram clone() => LatencyHistogram()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  LatencyHistogram copyWith(void Function(LatencyHistogram) updates) => super.copyWith((message) => updates(message as LatencyHistogram)) as LatencyHistogram; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static LatencyHistogram create() => LatencyHistogram._();
+  LatencyHistogram createEmptyInstance() => create();
+  static $pb.PbList<LatencyHistogram> createRepeated() => $pb.PbList<LatencyHistogram>();
+  @$core.pragma('dart2js:noInline')
+  static LatencyHistogram getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<LatencyHistogram>(create);
+  static LatencyHistogram? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $fixnum.Int64 get count => $_getI64(0);
+  @$pb.TagNumber(1)
+  set count($fixnum.Int64 v) { $_setInt64(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasCount() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearCount() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $fixnum.Int64 get p50Us => $_getI64(1);
+  @$pb.TagNumber(2)
+  set p50Us($fixnum.Int64 v) { $_setInt64(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasP50Us() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearP50Us() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $fixnum.Int64 get p90Us => $_getI64(2);
+  @$pb.TagNumber(3)
+  set p90Us($fixnum.Int64 v) { $_setInt64(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasP90Us() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearP90Us() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $fixnum.Int64 get p99Us => $_getI64(3);
+  @$pb.TagNumber(4)
+  set p99Us($fixnum.Int64 v) { $_setInt64(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasP99Us() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearP99Us() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $fixnum.Int64 get maxUs => $_getI64(4);
+  @$pb.TagNumber(5)
+  set maxUs($fixnum.Int64 v) { $_setInt64(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasMaxUs() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearMaxUs() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.double get meanUs => $_getN(5);
+  @$pb.TagNumber(6)
+  set meanUs($core.double v) { $_setDouble(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasMeanUs() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearMeanUs() => clearField(6);
+}
+
+class GattLatency extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'GattLatency', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'operation')
+    ..aOM<LatencyHistogram>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'latency', subBuilder: LatencyHistogram.create)
+    ..hasRequiredFields = false
+  ;
+
+  GattLatency._() : super();
+  factory GattLatency({
+    $core.String? operation,
+    LatencyHistogram? latency,
+  }) {
+    final _result = create();
+    if (operation != null) {
+      _result.operation = operation;
+    }
+    if (latency != null) {
+      _result.latency = latency;
+    }
+    return _result;
+  }
+  factory GattLatency.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory GattLatency.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  GattLatency clone() => GattLatency()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  GattLatency copyWith(void Function(GattLatency) updates) => super.copyWith((message) => updates(message as GattLatency)) as GattLatency; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static GattLatency create() => GattLatency._();
+  GattLatency createEmptyInstance() => create();
+  static $pb.PbList<GattLatency> createRepeated() => $pb.PbList<GattLatency>();
+  @$core.pragma('dart2js:noInline')
+  static GattLatency getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<GattLatency>(create);
+  static GattLatency? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get operation => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set operation($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasOperation() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearOperation() => clearField(1);
+
+  @$pb.TagNumber(2)
+  LatencyHistogram get latency => $_getN(1);
+  @$pb.TagNumber(2)
+  set latency(LatencyHistogram v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasLatency() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearLatency() => clearField(2);
+  @$pb.TagNumber(2)
+  LatencyHistogram ensureLatency() => $_ensure(1);
+}
+
+class NotificationRate extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'NotificationRate', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
+    ..a<$fixnum.Int64>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'count', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.double>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'perSecond', $pb.PbFieldType.OD)
+    ..aOS(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..hasRequiredFields = false
+  ;
+
+  NotificationRate._() : super();
+  factory NotificationRate({
+    $core.String? remoteId,
+    $core.String? characteristicUuid,
+    $fixnum.Int64? count,
+    $core.double? perSecond,
+    $core.String? serviceUuid,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristicUuid != null) {
+      _result.characteristicUuid = characteristicUuid;
+    }
+    if (count != null) {
+      _result.count = count;
+    }
+    if (perSecond != null) {
+      _result.perSecond = perSecond;
+    }
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
+    return _result;
+  }
+  factory NotificationRate.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory NotificationRate.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  NotificationRate clone() => NotificationRate()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  NotificationRate copyWith(void Function(NotificationRate) updates) => super.copyWith((message) => updates(message as NotificationRate)) as NotificationRate; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static NotificationRate create() => NotificationRate._();
+  NotificationRate createEmptyInstance() => create();
+  static $pb.PbList<NotificationRate> createRepeated() => $pb.PbList<NotificationRate>();
+  @$core.pragma('dart2js:noInline')
+  static NotificationRate getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<NotificationRate>(create);
+  static NotificationRate? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get characteristicUuid => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set characteristicUuid($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasCharacteristicUuid() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearCharacteristicUuid() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $fixnum.Int64 get count => $_getI64(2);
+  @$pb.TagNumber(3)
+  set count($fixnum.Int64 v) { $_setInt64(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasCount() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearCount() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.double get perSecond => $_getN(3);
+  @$pb.TagNumber(4)
+  set perSecond($core.double v) { $_setDouble(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasPerSecond() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearPerSecond() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.String get serviceUuid => $_getSZ(4);
+  @$pb.TagNumber(5)
+  set serviceUuid($core.String v) { $_setString(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasServiceUuid() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearServiceUuid() => clearField(5);
+}
+
+class MetricsSnapshot extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'MetricsSnapshot', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uptimeMs', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'intervalMs', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanResults', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.double>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanResultsPerSecond', $pb.PbFieldType.OD)
+    ..a<$fixnum.Int64>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanResultsDroppedDuplicate', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanResultsDroppedFilter', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..pc<GattLatency>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'gattLatencies', $pb.PbFieldType.PM, subBuilder: GattLatency.create)
+    ..pc<NotificationRate>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'notificationRates', $pb.PbFieldType.PM, subBuilder: NotificationRate.create)
+    ..aOM<LatencyHistogram>(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'dispatchLag', subBuilder: LatencyHistogram.create)
+    ..a<$fixnum.Int64>(10, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'channelMessages', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(11, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'channelBytes', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(12, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'eventBatches', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(13, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'eventsDropped', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(14, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'reconnectAttempts', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(15, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'reconnects', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(16, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'reconnectsAbandoned', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..aOM<LatencyHistogram>(17, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'reconnectTime', subBuilder: LatencyHistogram.create)
+    ..a<$fixnum.Int64>(18, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanStarts', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(19, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'scanStartsDeferred', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(20, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'gattClients', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(21, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'gattClientsIdle', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(22, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'gattClientsPeak', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(23, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'gattClientsEvicted', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(24, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'eventsConflated', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(25, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'valueCacheHits', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(26, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'valueCacheMisses', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(27, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writesCoalesced', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  MetricsSnapshot._() : super();
+  factory MetricsSnapshot({
+    $fixnum.Int64? uptimeMs,
+    $fixnum.Int64? intervalMs,
+    $fixnum.Int64? scanResults,
+    $core.double? scanResultsPerSecond,
+    $fixnum.Int64? scanResultsDroppedDuplicate,
+    $fixnum.Int64? scanResultsDroppedFilter,
+    $core.Iterable<GattLatency>? gattLatencies,
+    $core.Iterable<NotificationRate>? notificationRates,
+    LatencyHistogram? dispatchLag,
+    $fixnum.Int64? channelMessages,
+    $fixnum.Int64? channelBytes,
+    $fixnum.Int64? eventBatches,
+    $fixnum.Int64? eventsDropped,
+    $fixnum.Int64? reconnectAttempts,
+    $fixnum.Int64? reconnects,
+    $fixnum.Int64? reconnectsAbandoned,
+    LatencyHistogram? reconnectTime,
+    $fixnum.Int64? scanStarts,
+    $fixnum.Int64? scanStartsDeferred,
+    $fixnum.Int64? gattClients,
+    $fixnum.Int64? gattClientsIdle,
+    $fixnum.Int64? gattClientsPeak,
+    $fixnum.Int64? gattClientsEvicted,
+    $fixnum.Int64? eventsConflated,
+    $fixnum.Int64? valueCacheHits,
+    $fixnum.Int64? valueCacheMisses,
+    $fixnum.Int64? writesCoalesced,
+  }) {
+    final _result = create();
+    if (uptimeMs != null) {
+      _result.uptimeMs = uptimeMs;
+    }
+    if (intervalMs != null) {
+      _result.intervalMs = intervalMs;
+    }
+    if (scanResults != null) {
+      _result.scanResults = scanResults;
+    }
+    if (scanResultsPerSecond != null) {
+      _result.scanResultsPerSecond = scanResultsPerSecond;
+    }
+    if (scanResultsDroppedDuplicate != null) {
+      _result.scanResultsDroppedDuplicate = scanResultsDroppedDuplicate;
+    }
+    if (scanResultsDroppedFilter != null) {
+      _result.scanResultsDroppedFilter = scanResultsDroppedFilter;
+    }
+    if (gattLatencies != null) {
+      _result.gattLatencies.addAll(gattLatencies);
+    }
+    if (notificationRates != null) {
+      _result.notificationRates.addAll(notificationRates);
+    }
+    if (dispatchLag != null) {
+      _result.dispatchLag = dispatchLag;
+    }
+    if (channelMessages != null) {
+      _result.channelMessages = channelMessages;
+    }
+    if (channelBytes != null) {
+      _result.channelBytes = channelBytes;
+    }
+    if (eventBatches != null) {
+      _result.eventBatches = eventBatches;
+    }
+    if (eventsDropped != null) {
+      _result.eventsDropped = eventsDropped;
+    }
+    if (reconnectAttempts != null) {
+      _result.reconnectAttempts = reconnectAttempts;
+    }
+    if (reconnects != null) {
+      _result.reconnects = reconnects;
+    }
+    if (reconnectsAbandoned != null) {
+      _result.reconnectsAbandoned = reconnectsAbandoned;
+    }
+    if (reconnectTime != null) {
+      _result.reconnectTime = reconnectTime;
+    }
+    if (scanStarts != null) {
+      _result.scanStarts = scanStarts;
+    }
+    if (scanStartsDeferred != null) {
+      _result.scanStartsDeferred = scanStartsDeferred;
+    }
+    if (gattClients != null) {
+      _result.gattClients = gattClients;
+    }
+    if (gattClientsIdle != null) {
+      _result.gattClientsIdle = gattClientsIdle;
+    }
+    if (gattClientsPeak != null) {
+      _result.gattClientsPeak = gattClientsPeak;
+    }
+    if (gattClientsEvicted != null) {
+      _result.gattClientsEvicted = gattClientsEvicted;
+    }
+    if (eventsConflated != null) {
+      _result.eventsConflated = eventsConflated;
+    }
+    if (valueCacheHits != null) {
+      _result.valueCacheHits = valueCacheHits;
+    }
+    if (valueCacheMisses != null) {
+      _result.valueCacheMisses = valueCacheMisses;
+    }
+    if (writesCoalesced != null) {
+      _result.writesCoalesced = writesCoalesced;
+    }
+    return _result;
+  }
+  factory MetricsSnapshot.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory MetricsSnapshot.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  MetricsSnapshot clone() => MetricsSnapshot()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  MetricsSnapshot copyWith(void Function(MetricsSnapshot) updates) => super.copyWith((message) => updates(message as MetricsSnapshot)) as MetricsSnapshot; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static MetricsSnapshot create() => MetricsSnapshot._();
+  MetricsSnapshot createEmptyInstance() => create();
+  static $pb.PbList<MetricsSnapshot> createRepeated() => $pb.PbList<MetricsSnapshot>();
+  @$core.pragma('dart2js:noInline')
+  static MetricsSnapshot getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<MetricsSnapshot>(create);
+  static MetricsSnapshot? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $fixnum.Int64 get uptimeMs => $_getI64(0);
+  @$pb.TagNumber(1)
+  set uptimeMs($fixnum.Int64 v) { $_setInt64(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasUptimeMs() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearUptimeMs() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $fixnum.Int64 get intervalMs => $_getI64(1);
+  @$pb.TagNumber(2)
+  set intervalMs($fixnum.Int64 v) { $_setInt64(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasIntervalMs() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearIntervalMs() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $fixnum.Int64 get scanResults => $_getI64(2);
+  @$pb.TagNumber(3)
+  set scanResults($fixnum.Int64 v) { $_setInt64(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasScanResults() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearScanResults() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.double get scanResultsPerSecond => $_getN(3);
+  @$pb.TagNumber(4)
+  set scanResultsPerSecond($core.double v) { $_setDouble(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasScanResultsPerSecond() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearScanResultsPerSecond() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $fixnum.Int64 get scanResultsDroppedDuplicate => $_getI64(4);
+  @$pb.TagNumber(5)
+  set scanResultsDroppedDuplicate($fixnum.Int64 v) { $_setInt64(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasScanResultsDroppedDuplicate() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearScanResultsDroppedDuplicate() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $fixnum.Int64 get scanResultsDroppedFilter => $_getI64(5);
+  @$pb.TagNumber(6)
+  set scanResultsDroppedFilter($fixnum.Int64 v) { $_setInt64(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasScanResultsDroppedFilter() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearScanResultsDroppedFilter() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.List<GattLatency> get gattLatencies => $_getList(6);
+
+  @$pb.TagNumber(8)
+  $core.List<NotificationRate> get notificationRates => $_getList(7);
+
+  @$pb.TagNumber(9)
+  LatencyHistogram get dispatchLag => $_getN(8);
+  @$pb.TagNumber(9)
+  set dispatchLag(LatencyHistogram v) { setField(9, v); }
+  @$pb.TagNumber(9)
+  $core.bool hasDispatchLag() => $_has(8);
+  @$pb.TagNumber(9)
+  void clearDispatchLag() => clearField(9);
+  @$pb.TagNumber(9)
+  LatencyHistogram ensureDispatchLag() => $_ensure(8);
+
+  @$pb.TagNumber(10)
+  $fixnum.Int64 get channelMessages => $_getI64(9);
+  @$pb.TagNumber(10)
+  set channelMessages($fixnum.Int64 v) { $_setInt64(9, v); }
+  @$pb.TagNumber(10)
+  $core.bool hasChannelMessages() => $_has(9);
+  @$pb.TagNumber(10)
+  void clearChannelMessages() => clearField(10);
+
+  @$pb.TagNumber(11)
+  $fixnum.Int64 get channelBytes => $_getI64(10);
+  @$pb.TagNumber(11)
+  set channelBytes($fixnum.Int64 v) { $_setInt64(10, v); }
+  @$pb.TagNumber(11)
+  $core.bool hasChannelBytes() => $_has(10);
+  @$pb.TagNumber(11)
+  void clearChannelBytes() => clearField(11);
+
+  @$pb.TagNumber(12)
+  $fixnum.Int64 get eventBatches => $_getI64(11);
+  @$pb.TagNumber(12)
+  set eventBatches($fixnum.Int64 v) { $_setInt64(11, v); }
+  @$pb.TagNumber(12)
+  $core.bool hasEventBatches() => $_has(11);
+  @$pb.TagNumber(12)
+  void clearEventBatches() => clearField(12);
+
+  @$pb.TagNumber(13)
+  $fixnum.Int64 get eventsDropped => $_getI64(12);
+  @$pb.TagNumber(13)
+  set eventsDropped($fixnum.Int64 v) { $_setInt64(12, v); }
+  @$pb.TagNumber(13)
+  $core.bool hasEventsDropped() => $_has(12);
+  @$pb.TagNumber(13)
+  void clearEventsDropped() => clearField(13);
+
+  @$pb.TagNumber(14)
+  $fixnum.Int64 get reconnectAttempts => $_getI64(13);
+  @$pb.TagNumber(14)
+  set reconnectAttempts($fixnum.Int64 v) { $_setInt64(13, v); }
+  @$pb.TagNumber(14)
+  $core.bool hasReconnectAttempts() => $_has(13);
+  @$pb.TagNumber(14)
+  void clearReconnectAttempts() => clearField(14);
+
+  @$pb.TagNumber(15)
+  $fixnum.Int64 get reconnects => $_getI64(14);
+  @$pb.TagNumber(15)
+  set reconnects($fixnum.Int64 v) { $_setInt64(14, v); }
+  @$pb.TagNumber(15)
+  $core.bool hasReconnects() => $_has(14);
+  @$pb.TagNumber(15)
+  void clearReconnects() => clearField(15);
+
+  @$pb.TagNumber(16)
+  $fixnum.Int64 get reconnectsAbandoned => $_getI64(15);
+  @$pb.TagNumber(16)
+  set reconnectsAbandoned($fixnum.Int64 v) { $_setInt64(15, v); }
+  @$pb.TagNumber(16)
+  $core.bool hasReconnectsAbandoned() => $_has(15);
+  @$pb.TagNumber(16)
+  void clearReconnectsAbandoned() => clearField(16);
+
+  @$pb.TagNumber(17)
+  LatencyHistogram get reconnectTime => $_getN(16);
+  @$pb.TagNumber(17)
+  set reconnectTime(LatencyHistogram v) { setField(17, v); }
+  @$pb.TagNumber(17)
+  $core.bool hasReconnectTime() => $_has(16);
+  @$pb.TagNumber(17)
+  void clearReconnectTime() => clearField(17);
+  @$pb.TagNumber(17)
+  LatencyHistogram ensureReconnectTime() => $_ensure(16);
+
+  @$pb.TagNumber(18)
+  $fixnum.Int64 get scanStarts => $_getI64(17);
+  @$pb.TagNumber(18)
+  set scanStarts($fixnum.Int64 v) { $_setInt64(17, v); }
+  @$pb.TagNumber(18)
+  $core.bool hasScanStarts() => $_has(17);
+  @$pb.TagNumber(18)
+  void clearScanStarts() => clearField(18);
+
+  @$pb.TagNumber(19)
+  $fixnum.Int64 get scanStartsDeferred => $_getI64(18);
+  @$pb.TagNumber(19)
+  set scanStartsDeferred($fixnum.Int64 v) { $_setInt64(18, v); }
+  @$pb.TagNumber(19)
+  $core.bool hasScanStartsDeferred() => $_has(18);
+  @$pb.TagNumber(19)
+  void clearScanStartsDeferred() => clearField(19);
+
+  @$pb.TagNumber(20)
+  $fixnum.Int64 get gattClients => $_getI64(19);
+  @$pb.TagNumber(20)
+  set gattClients($fixnum.Int64 v) { $_setInt64(19, v); }
+  @$pb.TagNumber(20)
+  $core.bool hasGattClients() => $_has(19);
+  @$pb.TagNumber(20)
+  void clearGattClients() => clearField(20);
+
+  @$pb.TagNumber(21)
+  $fixnum.Int64 get gattClientsIdle => $_getI64(20);
+  @$pb.TagNumber(21)
+  set gattClientsIdle($fixnum.Int64 v) { $_setInt64(20, v); }
+  @$pb.TagNumber(21)
+  $core.bool hasGattClientsIdle() => $_has(20);
+  @$pb.TagNumber(21)
+  void clearGattClientsIdle() => clearField(21);
+
+  @$pb.TagNumber(22)
+  $fixnum.Int64 get gattClientsPeak => $_getI64(21);
+  @$pb.TagNumber(22)
+  set gattClientsPeak($fixnum.Int64 v) { $_setInt64(21, v); }
+  @$pb.TagNumber(22)
+  $core.bool hasGattClientsPeak() => $_has(21);
+  @$pb.TagNumber(22)
+  void clearGattClientsPeak() => clearField(22);
+
+  @$pb.TagNumber(23)
+  $fixnum.Int64 get gattClientsEvicted => $_getI64(22);
+  @$pb.TagNumber(23)
+  set gattClientsEvicted($fixnum.Int64 v) { $_setInt64(22, v); }
+  @$pb.TagNumber(23)
+  $core.bool hasGattClientsEvicted() => $_has(22);
+  @$pb.TagNumber(23)
+  void clearGattClientsEvicted() => clearField(23);
+
+  @$pb.TagNumber(24)
+  $fixnum.Int64 get eventsConflated => $_getI64(23);
+  @$pb.TagNumber(24)
+  set eventsConflated($fixnum.Int64 v) { $_setInt64(23, v); }
+  @$pb.TagNumber(24)
+  $core.bool hasEventsConflated() => $_has(23);
+  @$pb.TagNumber(24)
+  void clearEventsConflated() => clearField(24);
+
+  @$pb.TagNumber(25)
+  $fixnum.Int64 get valueCacheHits => $_getI64(24);
+  @$pb.TagNumber(25)
+  set valueCacheHits($fixnum.Int64 v) { $_setInt64(24, v); }
+  @$pb.TagNumber(25)
+  $core.bool hasValueCacheHits() => $_has(24);
+  @$pb.TagNumber(25)
+  void clearValueCacheHits() => clearField(25);
+
+  @$pb.TagNumber(26)
+  $fixnum.Int64 get valueCacheMisses => $_getI64(25);
+  @$pb.TagNumber(26)
+  set valueCacheMisses($fixnum.Int64 v) { $_setInt64(25, v); }
+  @$pb.TagNumber(26)
+  $core.bool hasValueCacheMisses() => $_has(25);
+  @$pb.TagNumber(26)
+  void clearValueCacheMisses() => clearField(26);
+
+  @$pb.TagNumber(27)
+  $fixnum.Int64 get writesCoalesced => $_getI64(26);
+  @$pb.TagNumber(27)
+  set writesCoalesced($fixnum.Int64 v) { $_setInt64(26, v); }
+  @$pb.TagNumber(27)
+  $core.bool hasWritesCoalesced() => $_has(26);
+  @$pb.TagNumber(27)
+  void clearWritesCoalesced() => clearField(27);
+}
+
+class TraceEvent extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'TraceEvent', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'timestampNs', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..e<TraceEvent_Type>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'type', $pb.PbFieldType.OE, defaultOrMaker: TraceEvent_Type.UNKNOWN, valueOf: TraceEvent_Type.valueOf, enumValues: TraceEvent_Type.values)
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'status', $pb.PbFieldType.O3)
+    ..a<$core.int>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.O3)
+    ..hasRequiredFields = false
+  ;
+
+  TraceEvent._() : super();
+  factory TraceEvent({
+    $fixnum.Int64? timestampNs,
+    TraceEvent_Type? type,
+    $core.String? remoteId,
+    $core.String? uuid,
+    $core.int? status,
+    $core.int? value,
+  }) {
+    final _result = create();
+    if (timestampNs != null) {
+      _result.timestampNs = timestampNs;
+    }
+    if (type != null) {
+      _result.type = type;
+    }
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (uuid != null) {
+      _result.uuid = uuid;
+    }
+    if (status != null) {
+      _result.status = status;
+    }
+    if (value != null) {
+      _result.value = value;
+    }
+    return _result;
+  }
+  factory TraceEvent.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory TraceEvent.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  TraceEvent clone() => TraceEvent()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  TraceEvent copyWith(void Function(TraceEvent) updates) => super.copyWith((message) => updates(message as TraceEvent)) as TraceEvent; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static TraceEvent create() => TraceEvent._();
+  TraceEvent createEmptyInstance() => create();
+  static $pb.PbList<TraceEvent> createRepeated() => $pb.PbList<TraceEvent>();
+  @$core.pragma('dart2js:noInline')
+  static TraceEvent getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<TraceEvent>(create);
+  static TraceEvent? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $fixnum.Int64 get timestampNs => $_getI64(0);
+  @$pb.TagNumber(1)
+  set timestampNs($fixnum.Int64 v) { $_setInt64(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasTimestampNs() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearTimestampNs() => clearField(1);
+
+  @$pb.TagNumber(2)
+  TraceEvent_Type get type => $_getN(1);
+  @$pb.TagNumber(2)
+  set type(TraceEvent_Type v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasType() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearType() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get remoteId => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set remoteId($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasRemoteId() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearRemoteId() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.String get uuid => $_getSZ(3);
+  @$pb.TagNumber(4)
+  set uuid($core.String v) { $_setString(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasUuid() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearUuid() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.int get status => $_getIZ(4);
+  @$pb.TagNumber(5)
+  set status($core.int v) { $_setSignedInt32(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasStatus() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearStatus() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.int get value => $_getIZ(5);
+  @$pb.TagNumber(6)
+  set value($core.int v) { $_setSignedInt32(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasValue() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearValue() => clearField(6);
+}
+
+class TraceDump extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'TraceDump', createEmptyInstance: create)
+    ..pc<TraceEvent>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'events', $pb.PbFieldType.PM, subBuilder: TraceEvent.create)
+    ..a<$fixnum.Int64>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'overwritten', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  TraceDump._() : super();
+  factory TraceDump({
+    $core.Iterable<TraceEvent>? events,
+    $fixnum.Int64? overwritten,
+  }) {
+    final _result = create();
+    if (events != null) {
+      _result.events.addAll(events);
+    }
+    if (overwritten != null) {
+      _result.overwritten = overwritten;
+    }
+    return _result;
+  }
+  factory TraceDump.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory TraceDump.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  TraceDump clone() => TraceDump()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  TraceDump copyWith(void Function(TraceDump) updates) => super.copyWith((message) => updates(message as TraceDump)) as TraceDump; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static TraceDump create() => TraceDump._();
+  TraceDump createEmptyInstance() => create();
+  static $pb.PbList<TraceDump> createRepeated() => $pb.PbList<TraceDump>();
+  @$core.pragma('dart2js:noInline')
+  static TraceDump getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<TraceDump>(create);
+  static TraceDump? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.List<TraceEvent> get events => $_getList(0);
+
+  @$pb.TagNumber(2)
+  $fixnum.Int64 get overwritten => $_getI64(1);
+  @$pb.TagNumber(2)
+  set overwritten($fixnum.Int64 v) { $_setInt64(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasOverwritten() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearOverwritten() => clearField(2);
+}
+
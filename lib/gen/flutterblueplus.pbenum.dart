@@ -34,6 +34,23 @@ class BluetoothState_State extends $pb.ProtobufEnum {
   const BluetoothState_State._($core.int v, $core.String n) : super(v, n);
 }
 
+class AdvertisementData_ParseError extends $pb.ProtobufEnum {
+  static const AdvertisementData_ParseError NONE = AdvertisementData_ParseError._(0, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'NONE');
+  static const AdvertisementData_ParseError TRUNCATED = AdvertisementData_ParseError._(1, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'TRUNCATED');
+  static const AdvertisementData_ParseError BAD_LENGTH = AdvertisementData_ParseError._(2, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'BAD_LENGTH');
+
+  static const $core.List<AdvertisementData_ParseError> values = <AdvertisementData_ParseError> [
+    NONE,
+    TRUNCATED,
+    BAD_LENGTH,
+  ];
+
+  static final $core.Map<$core.int, AdvertisementData_ParseError> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static AdvertisementData_ParseError? valueOf($core.int value) => _byValue[value];
+
+  const AdvertisementData_ParseError._($core.int v, $core.String n) : super(v, n);
+}
+
 class BluetoothDevice_Type extends $pb.ProtobufEnum {
   static const BluetoothDevice_Type UNKNOWN = BluetoothDevice_Type._(0, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'UNKNOWN');
   static const BluetoothDevice_Type CLASSIC = BluetoothDevice_Type._(1, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'CLASSIC');
@@ -87,3 +104,53 @@ class DeviceStateResponse_BluetoothDeviceState extends $pb.ProtobufEnum {
   const DeviceStateResponse_BluetoothDeviceState._($core.int v, $core.String n) : super(v, n);
 }
 
+class EventFlowControl_Overflow extends $pb.ProtobufEnum {
+  static const EventFlowControl_Overflow DROP_OLDEST = EventFlowControl_Overflow._(0, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'DROP_OLDEST');
+  static const EventFlowControl_Overflow BUFFER = EventFlowControl_Overflow._(1, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'BUFFER');
+  static const EventFlowControl_Overflow CONFLATE = EventFlowControl_Overflow._(2, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'CONFLATE');
+
+  static const $core.List<EventFlowControl_Overflow> values = <EventFlowControl_Overflow> [
+    DROP_OLDEST,
+    BUFFER,
+    CONFLATE,
+  ];
+
+  static final $core.Map<$core.int, EventFlowControl_Overflow> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static EventFlowControl_Overflow? valueOf($core.int value) => _byValue[value];
+
+  const EventFlowControl_Overflow._($core.int v, $core.String n) : super(v, n);
+}
+
+class TraceEvent_Type extends $pb.ProtobufEnum {
+  static const TraceEvent_Type UNKNOWN = TraceEvent_Type._(0, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'UNKNOWN');
+  static const TraceEvent_Type CONNECTION_STATE_CHANGED = TraceEvent_Type._(1, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'CONNECTION_STATE_CHANGED');
+  static const TraceEvent_Type SERVICES_DISCOVERED = TraceEvent_Type._(2, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'SERVICES_DISCOVERED');
+  static const TraceEvent_Type CHARACTERISTIC_READ = TraceEvent_Type._(3, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'CHARACTERISTIC_READ');
+  static const TraceEvent_Type CHARACTERISTIC_WRITE = TraceEvent_Type._(4, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'CHARACTERISTIC_WRITE');
+  static const TraceEvent_Type CHARACTERISTIC_CHANGED = TraceEvent_Type._(5, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'CHARACTERISTIC_CHANGED');
+  static const TraceEvent_Type DESCRIPTOR_READ = TraceEvent_Type._(6, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'DESCRIPTOR_READ');
+  static const TraceEvent_Type DESCRIPTOR_WRITE = TraceEvent_Type._(7, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'DESCRIPTOR_WRITE');
+  static const TraceEvent_Type RELIABLE_WRITE_COMPLETED = TraceEvent_Type._(8, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'RELIABLE_WRITE_COMPLETED');
+  static const TraceEvent_Type READ_REMOTE_RSSI = TraceEvent_Type._(9, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'READ_REMOTE_RSSI');
+  static const TraceEvent_Type MTU_CHANGED = TraceEvent_Type._(10, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'MTU_CHANGED');
+
+  static const $core.List<TraceEvent_Type> values = <TraceEvent_Type> [
+    UNKNOWN,
+    CONNECTION_STATE_CHANGED,
+    SERVICES_DISCOVERED,
+    CHARACTERISTIC_READ,
+    CHARACTERISTIC_WRITE,
+    CHARACTERISTIC_CHANGED,
+    DESCRIPTOR_READ,
+    DESCRIPTOR_WRITE,
+    RELIABLE_WRITE_COMPLETED,
+    READ_REMOTE_RSSI,
+    MTU_CHANGED,
+  ];
+
+  static final $core.Map<$core.int, TraceEvent_Type> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static TraceEvent_Type? valueOf($core.int value) => _byValue[value];
+
+  const TraceEvent_Type._($core.int v, $core.String n) : super(v, n);
+}
+
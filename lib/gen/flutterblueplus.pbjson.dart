@@ -53,8 +53,19 @@ const AdvertisementData$json = const {
     const {'1': 'manufacturer_data', '3': 4, '4': 3, '5': 11, '6': '.AdvertisementData.ManufacturerDataEntry', '10': 'manufacturerData'},
     const {'1': 'service_data', '3': 5, '4': 3, '5': 11, '6': '.AdvertisementData.ServiceDataEntry', '10': 'serviceData'},
     const {'1': 'service_uuids', '3': 6, '4': 3, '5': 9, '10': 'serviceUuids'},
+    const {'1': 'extended', '3': 7, '4': 1, '5': 8, '10': 'extended'},
+    const {'1': 'primary_phy', '3': 8, '4': 1, '5': 5, '10': 'primaryPhy'},
+    const {'1': 'secondary_phy', '3': 9, '4': 1, '5': 5, '10': 'secondaryPhy'},
+    const {'1': 'advertising_sid', '3': 10, '4': 1, '5': 5, '10': 'advertisingSid'},
+    const {'1': 'periodic_advertising_interval', '3': 11, '4': 1, '5': 5, '10': 'periodicAdvertisingInterval'},
+    const {'1': 'data_status', '3': 12, '4': 1, '5': 5, '10': 'dataStatus'},
+    const {'1': 'appearance', '3': 13, '4': 1, '5': 5, '10': 'appearance'},
+    const {'1': 'uri', '3': 14, '4': 1, '5': 9, '10': 'uri'},
+    const {'1': 'uri_scheme', '3': 15, '4': 1, '5': 5, '10': 'uriScheme'},
+    const {'1': 'parse_error', '3': 16, '4': 1, '5': 14, '6': '.AdvertisementData.ParseError', '10': 'parseError'},
   ],
   '3': const [AdvertisementData_ManufacturerDataEntry$json, AdvertisementData_ServiceDataEntry$json],
+  '4': const [AdvertisementData_ParseError$json],
 };
 
 @$core.Deprecated('Use advertisementDataDescriptor instead')
@@ -77,8 +88,18 @@ const AdvertisementData_ServiceDataEntry$json = const {
   '7': const {'7': true},
 };
 
+@$core.Deprecated('Use advertisementDataDescriptor instead')
+const AdvertisementData_ParseError$json = const {
+  '1': 'ParseError',
+  '2': const [
+    const {'1': 'NONE', '2': 0},
+    const {'1': 'TRUNCATED', '2': 1},
+    const {'1': 'BAD_LENGTH', '2': 2},
+  ],
+};
+
 /// Descriptor for `AdvertisementData`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List advertisementDataDescriptor = $convert.base64Decode('ChFBZHZlcnRpc2VtZW50RGF0YRIdCgpsb2NhbF9uYW1lGAEgASgJUglsb2NhbE5hbWUSMQoOdHhfcG93ZXJfbGV2ZWwYAiABKAsyCy5JbnQzMlZhbHVlUgx0eFBvd2VyTGV2ZWwSIAoLY29ubmVjdGFibGUYAyABKAhSC2Nvbm5lY3RhYmxlElUKEW1hbnVmYWN0dXJlcl9kYXRhGAQgAygLMiguQWR2ZXJ0aXNlbWVudERhdGEuTWFudWZhY3R1cmVyRGF0YUVudHJ5UhBtYW51ZmFjdHVyZXJEYXRhEkYKDHNlcnZpY2VfZGF0YRgFIAMoCzIjLkFkdmVydGlzZW1lbnREYXRhLlNlcnZpY2VEYXRhRW50cnlSC3NlcnZpY2VEYXRhEiMKDXNlcnZpY2VfdXVpZHMYBiADKAlSDHNlcnZpY2VVdWlkcxpDChVNYW51ZmFjdHVyZXJEYXRhRW50cnkSEAoDa2V5GAEgASgFUgNrZXkSFAoFdmFsdWUYAiABKAxSBXZhbHVlOgI4ARo+ChBTZXJ2aWNlRGF0YUVudHJ5EhAKA2tleRgBIAEoCVIDa2V5EhQKBXZhbHVlGAIgASgMUgV2YWx1ZToCOAE=');
+final $typed_data.Uint8List advertisementDataDescriptor = $convert.base64Decode('ChFBZHZlcnRpc2VtZW50RGF0YRIdCgpsb2NhbF9uYW1lGAEgASgJUglsb2NhbE5hbWUSMQoOdHhfcG93ZXJfbGV2ZWwYAiABKAsyCy5JbnQzMlZhbHVlUgx0eFBvd2VyTGV2ZWwSIAoLY29ubmVjdGFibGUYAyABKAhSC2Nvbm5lY3RhYmxlElUKEW1hbnVmYWN0dXJlcl9kYXRhGAQgAygLMiguQWR2ZXJ0aXNlbWVudERhdGEuTWFudWZhY3R1cmVyRGF0YUVudHJ5UhBtYW51ZmFjdHVyZXJEYXRhEkYKDHNlcnZpY2VfZGF0YRgFIAMoCzIjLkFkdmVydGlzZW1lbnREYXRhLlNlcnZpY2VEYXRhRW50cnlSC3NlcnZpY2VEYXRhEiMKDXNlcnZpY2VfdXVpZHMYBiADKAlSDHNlcnZpY2VVdWlkcxIaCghleHRlbmRlZBgHIAEoCFIIZXh0ZW5kZWQSHwoLcHJpbWFyeV9waHkYCCABKAVSCnByaW1hcnlQaHkSIwoNc2Vjb25kYXJ5X3BoeRgJIAEoBVIMc2Vjb25kYXJ5UGh5EicKD2FkdmVydGlzaW5nX3NpZBgKIAEoBVIOYWR2ZXJ0aXNpbmdTaWQSQgodcGVyaW9kaWNfYWR2ZXJ0aXNpbmdfaW50ZXJ2YWwYCyABKAVSG3BlcmlvZGljQWR2ZXJ0aXNpbmdJbnRlcnZhbBIfCgtkYXRhX3N0YXR1cxgMIAEoBVIKZGF0YVN0YXR1cxIeCgphcHBlYXJhbmNlGA0gASgFUgphcHBlYXJhbmNlEhAKA3VyaRgOIAEoCVIDdXJpEh0KCnVyaV9zY2hlbWUYDyABKAVSCXVyaVNjaGVtZRI+CgtwYXJzZV9lcnJvchgQIAEoDjIdLkFkdmVydGlzZW1lbnREYXRhLlBhcnNlRXJyb3JSCnBhcnNlRXJyb3IaQwoVTWFudWZhY3R1cmVyRGF0YUVudHJ5EhAKA2tleRgBIAEoBVIDa2V5EhQKBXZhbHVlGAIgASgMUgV2YWx1ZToCOAEaPgoQU2VydmljZURhdGFFbnRyeRIQCgNrZXkYASABKAlSA2tleRIUCgV2YWx1ZRgCIAEoDFIFdmFsdWU6AjgBIjUKClBhcnNlRXJyb3ISCAoETk9ORRAAEg0KCVRSVU5DQVRFRBABEg4KCkJBRF9MRU5HVEgQAg==');
 @$core.Deprecated('Use scanSettingsDescriptor instead')
 const ScanSettings$json = const {
   '1': 'ScanSettings',
@@ -86,11 +107,30 @@ const ScanSettings$json = const {
     const {'1': 'android_scan_mode', '3': 1, '4': 1, '5': 5, '10': 'androidScanMode'},
     const {'1': 'service_uuids', '3': 2, '4': 3, '5': 9, '10': 'serviceUuids'},
     const {'1': 'allow_duplicates', '3': 3, '4': 1, '5': 8, '10': 'allowDuplicates'},
+    const {'1': 'session_id', '3': 4, '4': 1, '5': 13, '10': 'sessionId'},
+    const {'1': 'duty_cycle', '3': 5, '4': 1, '5': 11, '6': '.DutyCycle', '10': 'dutyCycle'},
+    const {'1': 'android_extended', '3': 6, '4': 1, '5': 8, '10': 'androidExtended'},
+    const {'1': 'android_phy', '3': 7, '4': 1, '5': 5, '10': 'androidPhy'},
+    const {'1': 'android_match_mode', '3': 8, '4': 1, '5': 5, '10': 'androidMatchMode'},
+    const {'1': 'android_num_of_matches', '3': 9, '4': 1, '5': 5, '10': 'androidNumOfMatches'},
+    const {'1': 'android_callback_type', '3': 10, '4': 1, '5': 5, '10': 'androidCallbackType'},
   ],
 };
 
 /// Descriptor for `ScanSettings`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List scanSettingsDescriptor = $convert.base64Decode('CgxTY2FuU2V0dGluZ3MSKgoRYW5kcm9pZF9zY2FuX21vZGUYASABKAVSD2FuZHJvaWRTY2FuTW9kZRIjCg1zZXJ2aWNlX3V1aWRzGAIgAygJUgxzZXJ2aWNlVXVpZHMSKQoQYWxsb3dfZHVwbGljYXRlcxgDIAEoCFIPYWxsb3dEdXBsaWNhdGVz');
+final $typed_data.Uint8List scanSettingsDescriptor = $convert.base64Decode('CgxTY2FuU2V0dGluZ3MSKgoRYW5kcm9pZF9zY2FuX21vZGUYASABKAVSD2FuZHJvaWRTY2FuTW9kZRIjCg1zZXJ2aWNlX3V1aWRzGAIgAygJUgxzZXJ2aWNlVXVpZHMSKQoQYWxsb3dfZHVwbGljYXRlcxgDIAEoCFIPYWxsb3dEdXBsaWNhdGVzEh0KCnNlc3Npb25faWQYBCABKA1SCXNlc3Npb25JZBIpCgpkdXR5X2N5Y2xlGAUgASgLMgouRHV0eUN5Y2xlUglkdXR5Q3ljbGUSKQoQYW5kcm9pZF9leHRlbmRlZBgGIAEoCFIPYW5kcm9pZEV4dGVuZGVkEh8KC2FuZHJvaWRfcGh5GAcgASgFUgphbmRyb2lkUGh5EiwKEmFuZHJvaWRfbWF0Y2hfbW9kZRgIIAEoBVIQYW5kcm9pZE1hdGNoTW9kZRIzChZhbmRyb2lkX251bV9vZl9tYXRjaGVzGAkgASgFUhNhbmRyb2lkTnVtT2ZNYXRjaGVzEjIKFWFuZHJvaWRfY2FsbGJhY2tfdHlwZRgKIAEoBVITYW5kcm9pZENhbGxiYWNrVHlwZQ==');
+@$core.Deprecated('Use dutyCycleDescriptor instead')
+const DutyCycle$json = const {
+  '1': 'DutyCycle',
+  '2': const [
+    const {'1': 'scan_ms', '3': 1, '4': 1, '5': 13, '10': 'scanMs'},
+    const {'1': 'min_pause_ms', '3': 2, '4': 1, '5': 13, '10': 'minPauseMs'},
+    const {'1': 'max_pause_ms', '3': 3, '4': 1, '5': 13, '10': 'maxPauseMs'},
+  ],
+};
+
+/// Descriptor for `DutyCycle`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List dutyCycleDescriptor = $convert.base64Decode('CglEdXR5Q3ljbGUSFwoHc2Nhbl9tcxgBIAEoDVIGc2Nhbk1zEiAKDG1pbl9wYXVzZV9tcxgCIAEoDVIKbWluUGF1c2VNcxIgCgxtYXhfcGF1c2VfbXMYAyABKA1SCm1heFBhdXNlTXM=');
 @$core.Deprecated('Use scanResultDescriptor instead')
 const ScanResult$json = const {
   '1': 'ScanResult',
@@ -98,22 +138,40 @@ const ScanResult$json = const {
     const {'1': 'device', '3': 1, '4': 1, '5': 11, '6': '.BluetoothDevice', '10': 'device'},
     const {'1': 'advertisement_data', '3': 2, '4': 1, '5': 11, '6': '.AdvertisementData', '10': 'advertisementData'},
     const {'1': 'rssi', '3': 3, '4': 1, '5': 5, '10': 'rssi'},
+    const {'1': 'session_ids', '3': 4, '4': 3, '5': 13, '10': 'sessionIds'},
+    const {'1': 'android_callback_type', '3': 5, '4': 1, '5': 5, '10': 'androidCallbackType'},
   ],
 };
 
 /// Descriptor for `ScanResult`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List scanResultDescriptor = $convert.base64Decode('CgpTY2FuUmVzdWx0EigKBmRldmljZRgBIAEoCzIQLkJsdWV0b290aERldmljZVIGZGV2aWNlEkEKEmFkdmVydGlzZW1lbnRfZGF0YRgCIAEoCzISLkFkdmVydGlzZW1lbnREYXRhUhFhZHZlcnRpc2VtZW50RGF0YRISCgRyc3NpGAMgASgFUgRyc3Np');
+final $typed_data.Uint8List scanResultDescriptor = $convert.base64Decode('CgpTY2FuUmVzdWx0EigKBmRldmljZRgBIAEoCzIQLkJsdWV0b290aERldmljZVIGZGV2aWNlEkEKEmFkdmVydGlzZW1lbnRfZGF0YRgCIAEoCzISLkFkdmVydGlzZW1lbnREYXRhUhFhZHZlcnRpc2VtZW50RGF0YRISCgRyc3NpGAMgASgFUgRyc3NpEh8KC3Nlc3Npb25faWRzGAQgAygNUgpzZXNzaW9uSWRzEjIKFWFuZHJvaWRfY2FsbGJhY2tfdHlwZRgFIAEoBVITYW5kcm9pZENhbGxiYWNrVHlwZQ==');
 @$core.Deprecated('Use connectRequestDescriptor instead')
 const ConnectRequest$json = const {
   '1': 'ConnectRequest',
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'android_auto_connect', '3': 2, '4': 1, '5': 8, '10': 'androidAutoConnect'},
+    const {'1': 'reconnect', '3': 3, '4': 1, '5': 11, '6': '.ReconnectPolicy', '10': 'reconnect'},
+    const {'1': 'restore_notifications', '3': 4, '4': 1, '5': 8, '10': 'restoreNotifications'},
   ],
 };
 
 /// Descriptor for `ConnectRequest`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List connectRequestDescriptor = $convert.base64Decode('Cg5Db25uZWN0UmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEjAKFGFuZHJvaWRfYXV0b19jb25uZWN0GAIgASgIUhJhbmRyb2lkQXV0b0Nvbm5lY3Q=');
+final $typed_data.Uint8List connectRequestDescriptor = $convert.base64Decode('Cg5Db25uZWN0UmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEjAKFGFuZHJvaWRfYXV0b19jb25uZWN0GAIgASgIUhJhbmRyb2lkQXV0b0Nvbm5lY3QSLgoJcmVjb25uZWN0GAMgASgLMhAuUmVjb25uZWN0UG9saWN5UglyZWNvbm5lY3QSMwoVcmVzdG9yZV9ub3RpZmljYXRpb25zGAQgASgIUhRyZXN0b3JlTm90aWZpY2F0aW9ucw==');
+@$core.Deprecated('Use reconnectPolicyDescriptor instead')
+const ReconnectPolicy$json = const {
+  '1': 'ReconnectPolicy',
+  '2': const [
+    const {'1': 'enabled', '3': 1, '4': 1, '5': 8, '10': 'enabled'},
+    const {'1': 'initial_delay_ms', '3': 2, '4': 1, '5': 13, '10': 'initialDelayMs'},
+    const {'1': 'max_delay_ms', '3': 3, '4': 1, '5': 13, '10': 'maxDelayMs'},
+    const {'1': 'max_attempts', '3': 4, '4': 1, '5': 13, '10': 'maxAttempts'},
+    const {'1': 'auto_connect_after', '3': 5, '4': 1, '5': 13, '10': 'autoConnectAfter'},
+  ],
+};
+
+/// Descriptor for `ReconnectPolicy`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List reconnectPolicyDescriptor = $convert.base64Decode('Cg9SZWNvbm5lY3RQb2xpY3kSGAoHZW5hYmxlZBgBIAEoCFIHZW5hYmxlZBIoChBpbml0aWFsX2RlbGF5X21zGAIgASgNUg5pbml0aWFsRGVsYXlNcxIgCgxtYXhfZGVsYXlfbXMYAyABKA1SCm1heERlbGF5TXMSIQoMbWF4X2F0dGVtcHRzGAQgASgNUgttYXhBdHRlbXB0cxIsChJhdXRvX2Nvbm5lY3RfYWZ0ZXIYBSABKA1SEGF1dG9Db25uZWN0QWZ0ZXI=');
 @$core.Deprecated('Use bluetoothDeviceDescriptor instead')
 const BluetoothDevice$json = const {
   '1': 'BluetoothDevice',
@@ -121,6 +179,7 @@ const BluetoothDevice$json = const {
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'name', '3': 2, '4': 1, '5': 9, '10': 'name'},
     const {'1': 'type', '3': 3, '4': 1, '5': 14, '6': '.BluetoothDevice.Type', '10': 'type'},
+    const {'1': 'remote_address', '3': 4, '4': 1, '5': 6, '10': 'remoteAddress'},
   ],
   '4': const [BluetoothDevice_Type$json],
 };
@@ -137,7 +196,7 @@ const BluetoothDevice_Type$json = const {
 };
 
 /// Descriptor for `BluetoothDevice`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List bluetoothDeviceDescriptor = $convert.base64Decode('Cg9CbHVldG9vdGhEZXZpY2USGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBISCgRuYW1lGAIgASgJUgRuYW1lEikKBHR5cGUYAyABKA4yFS5CbHVldG9vdGhEZXZpY2UuVHlwZVIEdHlwZSIyCgRUeXBlEgsKB1VOS05PV04QABILCgdDTEFTU0lDEAESBgoCTEUQAhIICgREVUFMEAM=');
+final $typed_data.Uint8List bluetoothDeviceDescriptor = $convert.base64Decode('Cg9CbHVldG9vdGhEZXZpY2USGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBISCgRuYW1lGAIgASgJUgRuYW1lEikKBHR5cGUYAyABKA4yFS5CbHVldG9vdGhEZXZpY2UuVHlwZVIEdHlwZRIlCg5yZW1vdGVfYWRkcmVzcxgEIAEoBlINcmVtb3RlQWRkcmVzcyIyCgRUeXBlEgsKB1VOS05PV04QABILCgdDTEFTU0lDEAESBgoCTEUQAhIICgREVUFMEAM=');
 @$core.Deprecated('Use bluetoothServiceDescriptor instead')
 const BluetoothService$json = const {
   '1': 'BluetoothService',
@@ -163,11 +222,12 @@ const BluetoothCharacteristic$json = const {
     const {'1': 'descriptors', '3': 5, '4': 3, '5': 11, '6': '.BluetoothDescriptor', '10': 'descriptors'},
     const {'1': 'properties', '3': 6, '4': 1, '5': 11, '6': '.CharacteristicProperties', '10': 'properties'},
     const {'1': 'value', '3': 7, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'remote_address', '3': 8, '4': 1, '5': 6, '10': 'remoteAddress'},
   ],
 };
 
 /// Descriptor for `BluetoothCharacteristic`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List bluetoothCharacteristicDescriptor = $convert.base64Decode('ChdCbHVldG9vdGhDaGFyYWN0ZXJpc3RpYxISCgR1dWlkGAEgASgJUgR1dWlkEhsKCXJlbW90ZV9pZBgCIAEoCVIIcmVtb3RlSWQSIAoLc2VydmljZVV1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjIKFHNlY29uZGFyeVNlcnZpY2VVdWlkGAQgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBI2CgtkZXNjcmlwdG9ycxgFIAMoCzIULkJsdWV0b290aERlc2NyaXB0b3JSC2Rlc2NyaXB0b3JzEjkKCnByb3BlcnRpZXMYBiABKAsyGS5DaGFyYWN0ZXJpc3RpY1Byb3BlcnRpZXNSCnByb3BlcnRpZXMSFAoFdmFsdWUYByABKAxSBXZhbHVl');
+final $typed_data.Uint8List bluetoothCharacteristicDescriptor = $convert.base64Decode('ChdCbHVldG9vdGhDaGFyYWN0ZXJpc3RpYxISCgR1dWlkGAEgASgJUgR1dWlkEhsKCXJlbW90ZV9pZBgCIAEoCVIIcmVtb3RlSWQSIAoLc2VydmljZVV1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjIKFHNlY29uZGFyeVNlcnZpY2VVdWlkGAQgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBI2CgtkZXNjcmlwdG9ycxgFIAMoCzIULkJsdWV0b290aERlc2NyaXB0b3JSC2Rlc2NyaXB0b3JzEjkKCnByb3BlcnRpZXMYBiABKAsyGS5DaGFyYWN0ZXJpc3RpY1Byb3BlcnRpZXNSCnByb3BlcnRpZXMSFAoFdmFsdWUYByABKAxSBXZhbHVlEiUKDnJlbW90ZV9hZGRyZXNzGAggASgGUg1yZW1vdGVBZGRyZXNz');
 @$core.Deprecated('Use bluetoothDescriptorDescriptor instead')
 const BluetoothDescriptor$json = const {
   '1': 'BluetoothDescriptor',
@@ -177,11 +237,12 @@ const BluetoothDescriptor$json = const {
     const {'1': 'serviceUuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
     const {'1': 'characteristicUuid', '3': 4, '4': 1, '5': 9, '10': 'characteristicUuid'},
     const {'1': 'value', '3': 5, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'remote_address', '3': 6, '4': 1, '5': 6, '10': 'remoteAddress'},
   ],
 };
 
 /// Descriptor for `BluetoothDescriptor`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List bluetoothDescriptorDescriptor = $convert.base64Decode('ChNCbHVldG9vdGhEZXNjcmlwdG9yEhIKBHV1aWQYASABKAlSBHV1aWQSGwoJcmVtb3RlX2lkGAIgASgJUghyZW1vdGVJZBIgCgtzZXJ2aWNlVXVpZBgDIAEoCVILc2VydmljZVV1aWQSLgoSY2hhcmFjdGVyaXN0aWNVdWlkGAQgASgJUhJjaGFyYWN0ZXJpc3RpY1V1aWQSFAoFdmFsdWUYBSABKAxSBXZhbHVl');
+final $typed_data.Uint8List bluetoothDescriptorDescriptor = $convert.base64Decode('ChNCbHVldG9vdGhEZXNjcmlwdG9yEhIKBHV1aWQYASABKAlSBHV1aWQSGwoJcmVtb3RlX2lkGAIgASgJUghyZW1vdGVJZBIgCgtzZXJ2aWNlVXVpZBgDIAEoCVILc2VydmljZVV1aWQSLgoSY2hhcmFjdGVyaXN0aWNVdWlkGAQgASgJUhJjaGFyYWN0ZXJpc3RpY1V1aWQSFAoFdmFsdWUYBSABKAxSBXZhbHVlEiUKDnJlbW90ZV9hZGRyZXNzGAYgASgGUg1yZW1vdGVBZGRyZXNz');
 @$core.Deprecated('Use characteristicPropertiesDescriptor instead')
 const CharacteristicProperties$json = const {
   '1': 'CharacteristicProperties',
@@ -220,11 +281,12 @@ const ReadCharacteristicRequest$json = const {
     const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
     const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
     const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
+    const {'1': 'max_age_ms', '3': 5, '4': 1, '5': 13, '10': 'maxAgeMs'},
   ],
 };
 
 /// Descriptor for `ReadCharacteristicRequest`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List readCharacteristicRequestDescriptor = $convert.base64Decode('ChlSZWFkQ2hhcmFjdGVyaXN0aWNSZXF1ZXN0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSLwoTY2hhcmFjdGVyaXN0aWNfdXVpZBgCIAEoCVISY2hhcmFjdGVyaXN0aWNVdWlkEiEKDHNlcnZpY2VfdXVpZBgDIAEoCVILc2VydmljZVV1aWQSNAoWc2Vjb25kYXJ5X3NlcnZpY2VfdXVpZBgEIAEoCVIUc2Vjb25kYXJ5U2VydmljZVV1aWQ=');
+final $typed_data.Uint8List readCharacteristicRequestDescriptor = $convert.base64Decode('ChlSZWFkQ2hhcmFjdGVyaXN0aWNSZXF1ZXN0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSLwoTY2hhcmFjdGVyaXN0aWNfdXVpZBgCIAEoCVISY2hhcmFjdGVyaXN0aWNVdWlkEiEKDHNlcnZpY2VfdXVpZBgDIAEoCVILc2VydmljZVV1aWQSNAoWc2Vjb25kYXJ5X3NlcnZpY2VfdXVpZBgEIAEoCVIUc2Vjb25kYXJ5U2VydmljZVV1aWQSHAoKbWF4X2FnZV9tcxgFIAEoDVIIbWF4QWdlTXM=');
 @$core.Deprecated('Use readCharacteristicResponseDescriptor instead')
 const ReadCharacteristicResponse$json = const {
   '1': 'ReadCharacteristicResponse',
@@ -271,6 +333,8 @@ const WriteCharacteristicRequest$json = const {
     const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
     const {'1': 'write_type', '3': 5, '4': 1, '5': 14, '6': '.WriteCharacteristicRequest.WriteType', '10': 'writeType'},
     const {'1': 'value', '3': 6, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'coalesce', '3': 7, '4': 1, '5': 8, '10': 'coalesce'},
+    const {'1': 'write_id', '3': 8, '4': 1, '5': 13, '10': 'writeId'},
   ],
   '4': const [WriteCharacteristicRequest_WriteType$json],
 };
@@ -285,18 +349,19 @@ const WriteCharacteristicRequest_WriteType$json = const {
 };
 
 /// Descriptor for `WriteCharacteristicRequest`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List writeCharacteristicRequestDescriptor = $convert.base64Decode('ChpXcml0ZUNoYXJhY3RlcmlzdGljUmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEi8KE2NoYXJhY3RlcmlzdGljX3V1aWQYAiABKAlSEmNoYXJhY3RlcmlzdGljVXVpZBIhCgxzZXJ2aWNlX3V1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjQKFnNlY29uZGFyeV9zZXJ2aWNlX3V1aWQYBCABKAlSFHNlY29uZGFyeVNlcnZpY2VVdWlkEkQKCndyaXRlX3R5cGUYBSABKA4yJS5Xcml0ZUNoYXJhY3RlcmlzdGljUmVxdWVzdC5Xcml0ZVR5cGVSCXdyaXRlVHlwZRIUCgV2YWx1ZRgGIAEoDFIFdmFsdWUiNAoJV3JpdGVUeXBlEhEKDVdJVEhfUkVTUE9OU0UQABIUChBXSVRIT1VUX1JFU1BPTlNFEAE=');
+final $typed_data.Uint8List writeCharacteristicRequestDescriptor = $convert.base64Decode('ChpXcml0ZUNoYXJhY3RlcmlzdGljUmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEi8KE2NoYXJhY3RlcmlzdGljX3V1aWQYAiABKAlSEmNoYXJhY3RlcmlzdGljVXVpZBIhCgxzZXJ2aWNlX3V1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjQKFnNlY29uZGFyeV9zZXJ2aWNlX3V1aWQYBCABKAlSFHNlY29uZGFyeVNlcnZpY2VVdWlkEkQKCndyaXRlX3R5cGUYBSABKA4yJS5Xcml0ZUNoYXJhY3RlcmlzdGljUmVxdWVzdC5Xcml0ZVR5cGVSCXdyaXRlVHlwZRIUCgV2YWx1ZRgGIAEoDFIFdmFsdWUSGgoIY29hbGVzY2UYByABKAhSCGNvYWxlc2NlEhkKCHdyaXRlX2lkGAggASgNUgd3cml0ZUlkIjQKCVdyaXRlVHlwZRIRCg1XSVRIX1JFU1BPTlNFEAASFAoQV0lUSE9VVF9SRVNQT05TRRAB');
 @$core.Deprecated('Use writeCharacteristicResponseDescriptor instead')
 const WriteCharacteristicResponse$json = const {
   '1': 'WriteCharacteristicResponse',
   '2': const [
     const {'1': 'request', '3': 1, '4': 1, '5': 11, '6': '.WriteCharacteristicRequest', '10': 'request'},
     const {'1': 'success', '3': 2, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'superseded', '3': 3, '4': 1, '5': 8, '10': 'superseded'},
   ],
 };
 
 /// Descriptor for `WriteCharacteristicResponse`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List writeCharacteristicResponseDescriptor = $convert.base64Decode('ChtXcml0ZUNoYXJhY3RlcmlzdGljUmVzcG9uc2USNQoHcmVxdWVzdBgBIAEoCzIbLldyaXRlQ2hhcmFjdGVyaXN0aWNSZXF1ZXN0UgdyZXF1ZXN0EhgKB3N1Y2Nlc3MYAiABKAhSB3N1Y2Nlc3M=');
+final $typed_data.Uint8List writeCharacteristicResponseDescriptor = $convert.base64Decode('ChtXcml0ZUNoYXJhY3RlcmlzdGljUmVzcG9uc2USNQoHcmVxdWVzdBgBIAEoCzIbLldyaXRlQ2hhcmFjdGVyaXN0aWNSZXF1ZXN0UgdyZXF1ZXN0EhgKB3N1Y2Nlc3MYAiABKAhSB3N1Y2Nlc3MSHgoKc3VwZXJzZWRlZBgDIAEoCFIKc3VwZXJzZWRlZA==');
 @$core.Deprecated('Use writeDescriptorRequestDescriptor instead')
 const WriteDescriptorRequest$json = const {
   '1': 'WriteDescriptorRequest',
@@ -344,22 +409,37 @@ const SetNotificationResponse$json = const {
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'characteristic', '3': 2, '4': 1, '5': 11, '6': '.BluetoothCharacteristic', '10': 'characteristic'},
     const {'1': 'success', '3': 3, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'subscription_id', '3': 4, '4': 1, '5': 13, '10': 'subscriptionId'},
   ],
 };
 
 /// Descriptor for `SetNotificationResponse`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List setNotificationResponseDescriptor = $convert.base64Decode('ChdTZXROb3RpZmljYXRpb25SZXNwb25zZRIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGljEhgKB3N1Y2Nlc3MYAyABKAhSB3N1Y2Nlc3M=');
+final $typed_data.Uint8List setNotificationResponseDescriptor = $convert.base64Decode('ChdTZXROb3RpZmljYXRpb25SZXNwb25zZRIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGljEhgKB3N1Y2Nlc3MYAyABKAhSB3N1Y2Nlc3MSJwoPc3Vic2NyaXB0aW9uX2lkGAQgASgNUg5zdWJzY3JpcHRpb25JZA==');
+@$core.Deprecated('Use notificationsRestoredDescriptor instead')
+const NotificationsRestored$json = const {
+  '1': 'NotificationsRestored',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'restored', '3': 2, '4': 3, '5': 11, '6': '.BluetoothCharacteristic', '10': 'restored'},
+    const {'1': 'failed', '3': 3, '4': 3, '5': 11, '6': '.SetNotificationRequest', '10': 'failed'},
+  ],
+};
+
+/// Descriptor for `NotificationsRestored`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List notificationsRestoredDescriptor = $convert.base64Decode('ChVOb3RpZmljYXRpb25zUmVzdG9yZWQSGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBI0CghyZXN0b3JlZBgCIAMoCzIYLkJsdWV0b290aENoYXJhY3RlcmlzdGljUghyZXN0b3JlZBIvCgZmYWlsZWQYAyADKAsyFy5TZXROb3RpZmljYXRpb25SZXF1ZXN0UgZmYWlsZWQ=');
 @$core.Deprecated('Use onCharacteristicChangedDescriptor instead')
 const OnCharacteristicChanged$json = const {
   '1': 'OnCharacteristicChanged',
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'characteristic', '3': 2, '4': 1, '5': 11, '6': '.BluetoothCharacteristic', '10': 'characteristic'},
+    const {'1': 'remote_address', '3': 3, '4': 1, '5': 6, '10': 'remoteAddress'},
+    const {'1': 'subscription_id', '3': 4, '4': 1, '5': 13, '10': 'subscriptionId'},
   ],
 };
 
 /// Descriptor for `OnCharacteristicChanged`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List onCharacteristicChangedDescriptor = $convert.base64Decode('ChdPbkNoYXJhY3RlcmlzdGljQ2hhbmdlZBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGlj');
+final $typed_data.Uint8List onCharacteristicChangedDescriptor = $convert.base64Decode('ChdPbkNoYXJhY3RlcmlzdGljQ2hhbmdlZBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGljEiUKDnJlbW90ZV9hZGRyZXNzGAMgASgGUg1yZW1vdGVBZGRyZXNzEicKD3N1YnNjcmlwdGlvbl9pZBgEIAEoDVIOc3Vic2NyaXB0aW9uSWQ=');
 @$core.Deprecated('Use deviceStateResponseDescriptor instead')
 const DeviceStateResponse$json = const {
   '1': 'DeviceStateResponse',
@@ -383,16 +463,53 @@ const DeviceStateResponse_BluetoothDeviceState$json = const {
 
 /// Descriptor for `DeviceStateResponse`. Decode as a `google.protobuf.DescriptorProto`.
 final $typed_data.Uint8List deviceStateResponseDescriptor = $convert.base64Decode('ChNEZXZpY2VTdGF0ZVJlc3BvbnNlEhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSPwoFc3RhdGUYAiABKA4yKS5EZXZpY2VTdGF0ZVJlc3BvbnNlLkJsdWV0b290aERldmljZVN0YXRlUgVzdGF0ZSJaChRCbHVldG9vdGhEZXZpY2VTdGF0ZRIQCgxESVNDT05ORUNURUQQABIOCgpDT05ORUNUSU5HEAESDQoJQ09OTkVDVEVEEAISEQoNRElTQ09OTkVDVElORxAD');
+@$core.Deprecated('Use eventFlowControlDescriptor instead')
+const EventFlowControl$json = const {
+  '1': 'EventFlowControl',
+  '2': const [
+    const {'1': 'stream', '3': 1, '4': 1, '5': 13, '10': 'stream'},
+    const {'1': 'overflow', '3': 2, '4': 1, '5': 14, '6': '.EventFlowControl.Overflow', '10': 'overflow'},
+    const {'1': 'capacity', '3': 3, '4': 1, '5': 13, '10': 'capacity'},
+    const {'1': 'max_bytes', '3': 4, '4': 1, '5': 13, '10': 'maxBytes'},
+  ],
+  '4': const [EventFlowControl_Overflow$json],
+};
+
+@$core.Deprecated('Use eventFlowControlDescriptor instead')
+const EventFlowControl_Overflow$json = const {
+  '1': 'Overflow',
+  '2': const [
+    const {'1': 'DROP_OLDEST', '2': 0},
+    const {'1': 'BUFFER', '2': 1},
+    const {'1': 'CONFLATE', '2': 2},
+  ],
+};
+
+/// Descriptor for `EventFlowControl`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List eventFlowControlDescriptor = $convert.base64Decode('ChBFdmVudEZsb3dDb250cm9sEhYKBnN0cmVhbRgBIAEoDVIGc3RyZWFtEjYKCG92ZXJmbG93GAIgASgOMhouRXZlbnRGbG93Q29udHJvbC5PdmVyZmxvd1IIb3ZlcmZsb3cSGgoIY2FwYWNpdHkYAyABKA1SCGNhcGFjaXR5EhsKCW1heF9ieXRlcxgEIAEoDVIIbWF4Qnl0ZXMiNQoIT3ZlcmZsb3cSDwoLRFJPUF9PTERFU1QQABIKCgZCVUZGRVIQARIMCghDT05GTEFURRAC');
 @$core.Deprecated('Use connectedDevicesResponseDescriptor instead')
 const ConnectedDevicesResponse$json = const {
   '1': 'ConnectedDevicesResponse',
   '2': const [
     const {'1': 'devices', '3': 1, '4': 3, '5': 11, '6': '.BluetoothDevice', '10': 'devices'},
+    const {'1': 'known', '3': 2, '4': 3, '5': 11, '6': '.KnownDevice', '10': 'known'},
   ],
 };
 
 /// Descriptor for `ConnectedDevicesResponse`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List connectedDevicesResponseDescriptor = $convert.base64Decode('ChhDb25uZWN0ZWREZXZpY2VzUmVzcG9uc2USKgoHZGV2aWNlcxgBIAMoCzIQLkJsdWV0b290aERldmljZVIHZGV2aWNlcw==');
+final $typed_data.Uint8List connectedDevicesResponseDescriptor = $convert.base64Decode('ChhDb25uZWN0ZWREZXZpY2VzUmVzcG9uc2USKgoHZGV2aWNlcxgBIAMoCzIQLkJsdWV0b290aERldmljZVIHZGV2aWNlcxIiCgVrbm93bhgCIAMoCzIMLktub3duRGV2aWNlUgVrbm93bg==');
+@$core.Deprecated('Use knownDeviceDescriptor instead')
+const KnownDevice$json = const {
+  '1': 'KnownDevice',
+  '2': const [
+    const {'1': 'last_seen_ms', '3': 1, '4': 1, '5': 3, '10': 'lastSeenMs'},
+    const {'1': 'rssi', '3': 2, '4': 1, '5': 11, '6': '.Int32Value', '10': 'rssi'},
+    const {'1': 'bond_state', '3': 3, '4': 1, '5': 5, '10': 'bondState'},
+  ],
+};
+
+/// Descriptor for `KnownDevice`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List knownDeviceDescriptor = $convert.base64Decode('CgtLbm93bkRldmljZRIgCgxsYXN0X3NlZW5fbXMYASABKANSCmxhc3RTZWVuTXMSHwoEcnNzaRgCIAEoCzILLkludDMyVmFsdWVSBHJzc2kSHQoKYm9uZF9zdGF0ZRgDIAEoBVIJYm9uZFN0YXRl');
 @$core.Deprecated('Use mtuSizeRequestDescriptor instead')
 const MtuSizeRequest$json = const {
   '1': 'MtuSizeRequest',
@@ -426,3 +543,177 @@ const ReadRssiResult$json = const {
 
 /// Descriptor for `ReadRssiResult`. Decode as a `google.protobuf.DescriptorProto`.
 final $typed_data.Uint8List readRssiResultDescriptor = $convert.base64Decode('Cg5SZWFkUnNzaVJlc3VsdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEhIKBHJzc2kYAiABKAVSBHJzc2k=');
+@$core.Deprecated('Use batchRequestDescriptor instead')
+const BatchRequest$json = const {
+  '1': 'BatchRequest',
+  '2': const [
+    const {'1': 'commands', '3': 1, '4': 3, '5': 11, '6': '.BatchCommand', '10': 'commands'},
+    const {'1': 'timeout_ms', '3': 2, '4': 1, '5': 13, '10': 'timeoutMs'},
+  ],
+};
+
+/// Descriptor for `BatchRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List batchRequestDescriptor = $convert.base64Decode('CgxCYXRjaFJlcXVlc3QSKQoIY29tbWFuZHMYASADKAsyDS5CYXRjaENvbW1hbmRSCGNvbW1hbmRzEh0KCnRpbWVvdXRfbXMYAiABKA1SCXRpbWVvdXRNcw==');
+@$core.Deprecated('Use batchCommandDescriptor instead')
+const BatchCommand$json = const {
+  '1': 'BatchCommand',
+  '2': const [
+    const {'1': 'read_characteristic', '3': 1, '4': 1, '5': 11, '6': '.ReadCharacteristicRequest', '9': 0, '10': 'readCharacteristic'},
+    const {'1': 'read_descriptor', '3': 2, '4': 1, '5': 11, '6': '.ReadDescriptorRequest', '9': 0, '10': 'readDescriptor'},
+    const {'1': 'write_characteristic', '3': 3, '4': 1, '5': 11, '6': '.WriteCharacteristicRequest', '9': 0, '10': 'writeCharacteristic'},
+    const {'1': 'write_descriptor', '3': 4, '4': 1, '5': 11, '6': '.WriteDescriptorRequest', '9': 0, '10': 'writeDescriptor'},
+    const {'1': 'set_notification', '3': 5, '4': 1, '5': 11, '6': '.SetNotificationRequest', '9': 0, '10': 'setNotification'},
+    const {'1': 'request_mtu', '3': 6, '4': 1, '5': 11, '6': '.MtuSizeRequest', '9': 0, '10': 'requestMtu'},
+    const {'1': 'discover_services', '3': 7, '4': 1, '5': 9, '9': 0, '10': 'discoverServices'},
+    const {'1': 'read_rssi', '3': 8, '4': 1, '5': 9, '9': 0, '10': 'readRssi'},
+  ],
+  '8': const [
+    const {'1': 'command'},
+  ],
+};
+
+/// Descriptor for `BatchCommand`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List batchCommandDescriptor = $convert.base64Decode('CgxCYXRjaENvbW1hbmQSTQoTcmVhZF9jaGFyYWN0ZXJpc3RpYxgBIAEoCzIaLlJlYWRDaGFyYWN0ZXJpc3RpY1JlcXVlc3RIAFIScmVhZENoYXJhY3RlcmlzdGljEkEKD3JlYWRfZGVzY3JpcHRvchgCIAEoCzIWLlJlYWREZXNjcmlwdG9yUmVxdWVzdEgAUg5yZWFkRGVzY3JpcHRvchJQChR3cml0ZV9jaGFyYWN0ZXJpc3RpYxgDIAEoCzIbLldyaXRlQ2hhcmFjdGVyaXN0aWNSZXF1ZXN0SABSE3dyaXRlQ2hhcmFjdGVyaXN0aWMSRAoQd3JpdGVfZGVzY3JpcHRvchgEIAEoCzIXLldyaXRlRGVzY3JpcHRvclJlcXVlc3RIAFIPd3JpdGVEZXNjcmlwdG9yEkQKEHNldF9ub3RpZmljYXRpb24YBSABKAsyFy5TZXROb3RpZmljYXRpb25SZXF1ZXN0SABSD3NldE5vdGlmaWNhdGlvbhIyCgtyZXF1ZXN0X210dRgGIAEoCzIPLk10dVNpemVSZXF1ZXN0SABSCnJlcXVlc3RNdHUSLQoRZGlzY292ZXJfc2VydmljZXMYByABKAlIAFIQZGlzY292ZXJTZXJ2aWNlcxIdCglyZWFkX3Jzc2kYCCABKAlIAFIIcmVhZFJzc2lCCQoHY29tbWFuZA==');
+@$core.Deprecated('Use batchResponseDescriptor instead')
+const BatchResponse$json = const {
+  '1': 'BatchResponse',
+  '2': const [
+    const {'1': 'results', '3': 1, '4': 3, '5': 11, '6': '.BatchResult', '10': 'results'},
+  ],
+};
+
+/// Descriptor for `BatchResponse`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List batchResponseDescriptor = $convert.base64Decode('Cg1CYXRjaFJlc3BvbnNlEiYKB3Jlc3VsdHMYASADKAsyDC5CYXRjaFJlc3VsdFIHcmVzdWx0cw==');
+@$core.Deprecated('Use batchResultDescriptor instead')
+const BatchResult$json = const {
+  '1': 'BatchResult',
+  '2': const [
+    const {'1': 'success', '3': 1, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'error_code', '3': 2, '4': 1, '5': 9, '10': 'errorCode'},
+    const {'1': 'error_message', '3': 3, '4': 1, '5': 9, '10': 'errorMessage'},
+  ],
+};
+
+/// Descriptor for `BatchResult`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List batchResultDescriptor = $convert.base64Decode('CgtCYXRjaFJlc3VsdBIYCgdzdWNjZXNzGAEgASgIUgdzdWNjZXNzEh0KCmVycm9yX2NvZGUYAiABKAlSCWVycm9yQ29kZRIjCg1lcnJvcl9tZXNzYWdlGAMgASgJUgxlcnJvck1lc3NhZ2U=');
+@$core.Deprecated('Use latencyHistogramDescriptor instead')
+const LatencyHistogram$json = const {
+  '1': 'LatencyHistogram',
+  '2': const [
+    const {'1': 'count', '3': 1, '4': 1, '5': 4, '10': 'count'},
+    const {'1': 'p50_us', '3': 2, '4': 1, '5': 4, '10': 'p50Us'},
+    const {'1': 'p90_us', '3': 3, '4': 1, '5': 4, '10': 'p90Us'},
+    const {'1': 'p99_us', '3': 4, '4': 1, '5': 4, '10': 'p99Us'},
+    const {'1': 'max_us', '3': 5, '4': 1, '5': 4, '10': 'maxUs'},
+    const {'1': 'mean_us', '3': 6, '4': 1, '5': 1, '10': 'meanUs'},
+  ],
+};
+
+/// Descriptor for `LatencyHistogram`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List latencyHistogramDescriptor = $convert.base64Decode('ChBMYXRlbmN5SGlzdG9ncmFtEhQKBWNvdW50GAEgASgEUgVjb3VudBIVCgZwNTBfdXMYAiABKARSBXA1MFVzEhUKBnA5MF91cxgDIAEoBFIFcDkwVXMSFQoGcDk5X3VzGAQgASgEUgVwOTlVcxIVCgZtYXhfdXMYBSABKARSBW1heFVzEhcKB21lYW5fdXMYBiABKAFSBm1lYW5Vcw==');
+@$core.Deprecated('Use gattLatencyDescriptor instead')
+const GattLatency$json = const {
+  '1': 'GattLatency',
+  '2': const [
+    const {'1': 'operation', '3': 1, '4': 1, '5': 9, '10': 'operation'},
+    const {'1': 'latency', '3': 2, '4': 1, '5': 11, '6': '.LatencyHistogram', '10': 'latency'},
+  ],
+};
+
+/// Descriptor for `GattLatency`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List gattLatencyDescriptor = $convert.base64Decode('CgtHYXR0TGF0ZW5jeRIcCglvcGVyYXRpb24YASABKAlSCW9wZXJhdGlvbhIrCgdsYXRlbmN5GAIgASgLMhEuTGF0ZW5jeUhpc3RvZ3JhbVIHbGF0ZW5jeQ==');
+@$core.Deprecated('Use notificationRateDescriptor instead')
+const NotificationRate$json = const {
+  '1': 'NotificationRate',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'count', '3': 3, '4': 1, '5': 4, '10': 'count'},
+    const {'1': 'per_second', '3': 4, '4': 1, '5': 1, '10': 'perSecond'},
+    const {'1': 'service_uuid', '3': 5, '4': 1, '5': 9, '10': 'serviceUuid'},
+  ],
+};
+
+/// Descriptor for `NotificationRate`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List notificationRateDescriptor = $convert.base64Decode('ChBOb3RpZmljYXRpb25SYXRlEhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSLwoTY2hhcmFjdGVyaXN0aWNfdXVpZBgCIAEoCVISY2hhcmFjdGVyaXN0aWNVdWlkEhQKBWNvdW50GAMgASgEUgVjb3VudBIdCgpwZXJfc2Vjb25kGAQgASgBUglwZXJTZWNvbmQSIQoMc2VydmljZV91dWlkGAUgASgJUgtzZXJ2aWNlVXVpZA==');
+@$core.Deprecated('Use metricsSnapshotDescriptor instead')
+const MetricsSnapshot$json = const {
+  '1': 'MetricsSnapshot',
+  '2': const [
+    const {'1': 'uptime_ms', '3': 1, '4': 1, '5': 4, '10': 'uptimeMs'},
+    const {'1': 'interval_ms', '3': 2, '4': 1, '5': 4, '10': 'intervalMs'},
+    const {'1': 'scan_results', '3': 3, '4': 1, '5': 4, '10': 'scanResults'},
+    const {'1': 'scan_results_per_second', '3': 4, '4': 1, '5': 1, '10': 'scanResultsPerSecond'},
+    const {'1': 'scan_results_dropped_duplicate', '3': 5, '4': 1, '5': 4, '10': 'scanResultsDroppedDuplicate'},
+    const {'1': 'scan_results_dropped_filter', '3': 6, '4': 1, '5': 4, '10': 'scanResultsDroppedFilter'},
+    const {'1': 'gatt_latencies', '3': 7, '4': 3, '5': 11, '6': '.GattLatency', '10': 'gattLatencies'},
+    const {'1': 'notification_rates', '3': 8, '4': 3, '5': 11, '6': '.NotificationRate', '10': 'notificationRates'},
+    const {'1': 'dispatch_lag', '3': 9, '4': 1, '5': 11, '6': '.LatencyHistogram', '10': 'dispatchLag'},
+    const {'1': 'channel_messages', '3': 10, '4': 1, '5': 4, '10': 'channelMessages'},
+    const {'1': 'channel_bytes', '3': 11, '4': 1, '5': 4, '10': 'channelBytes'},
+    const {'1': 'event_batches', '3': 12, '4': 1, '5': 4, '10': 'eventBatches'},
+    const {'1': 'events_dropped', '3': 13, '4': 1, '5': 4, '10': 'eventsDropped'},
+    const {'1': 'reconnect_attempts', '3': 14, '4': 1, '5': 4, '10': 'reconnectAttempts'},
+    const {'1': 'reconnects', '3': 15, '4': 1, '5': 4, '10': 'reconnects'},
+    const {'1': 'reconnects_abandoned', '3': 16, '4': 1, '5': 4, '10': 'reconnectsAbandoned'},
+    const {'1': 'reconnect_time', '3': 17, '4': 1, '5': 11, '6': '.LatencyHistogram', '10': 'reconnectTime'},
+    const {'1': 'scan_starts', '3': 18, '4': 1, '5': 4, '10': 'scanStarts'},
+    const {'1': 'scan_starts_deferred', '3': 19, '4': 1, '5': 4, '10': 'scanStartsDeferred'},
+    const {'1': 'gatt_clients', '3': 20, '4': 1, '5': 4, '10': 'gattClients'},
+    const {'1': 'gatt_clients_idle', '3': 21, '4': 1, '5': 4, '10': 'gattClientsIdle'},
+    const {'1': 'gatt_clients_peak', '3': 22, '4': 1, '5': 4, '10': 'gattClientsPeak'},
+    const {'1': 'gatt_clients_evicted', '3': 23, '4': 1, '5': 4, '10': 'gattClientsEvicted'},
+    const {'1': 'events_conflated', '3': 24, '4': 1, '5': 4, '10': 'eventsConflated'},
+    const {'1': 'value_cache_hits', '3': 25, '4': 1, '5': 4, '10': 'valueCacheHits'},
+    const {'1': 'value_cache_misses', '3': 26, '4': 1, '5': 4, '10': 'valueCacheMisses'},
+    const {'1': 'writes_coalesced', '3': 27, '4': 1, '5': 4, '10': 'writesCoalesced'},
+  ],
+};
+
+/// Descriptor for `MetricsSnapshot`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List metricsSnapshotDescriptor = $convert.base64Decode('Cg9NZXRyaWNzU25hcHNob3QSGwoJdXB0aW1lX21zGAEgASgEUgh1cHRpbWVNcxIfCgtpbnRlcnZhbF9tcxgCIAEoBFIKaW50ZXJ2YWxNcxIhCgxzY2FuX3Jlc3VsdHMYAyABKARSC3NjYW5SZXN1bHRzEjUKF3NjYW5fcmVzdWx0c19wZXJfc2Vjb25kGAQgASgBUhRzY2FuUmVzdWx0c1BlclNlY29uZBJDCh5zY2FuX3Jlc3VsdHNfZHJvcHBlZF9kdXBsaWNhdGUYBSABKARSG3NjYW5SZXN1bHRzRHJvcHBlZER1cGxpY2F0ZRI9ChtzY2FuX3Jlc3VsdHNfZHJvcHBlZF9maWx0ZXIYBiABKARSGHNjYW5SZXN1bHRzRHJvcHBlZEZpbHRlchIzCg5nYXR0X2xhdGVuY2llcxgHIAMoCzIMLkdhdHRMYXRlbmN5Ug1nYXR0TGF0ZW5jaWVzEkAKEm5vdGlmaWNhdGlvbl9yYXRlcxgIIAMoCzIRLk5vdGlmaWNhdGlvblJhdGVSEW5vdGlmaWNhdGlvblJhdGVzEjQKDGRpc3BhdGNoX2xhZxgJIAEoCzIRLkxhdGVuY3lIaXN0b2dyYW1SC2Rpc3BhdGNoTGFnEikKEGNoYW5uZWxfbWVzc2FnZXMYCiABKARSD2NoYW5uZWxNZXNzYWdlcxIjCg1jaGFubmVsX2J5dGVzGAsgASgEUgxjaGFubmVsQnl0ZXMSIwoNZXZlbnRfYmF0Y2hlcxgMIAEoBFIMZXZlbnRCYXRjaGVzEiUKDmV2ZW50c19kcm9wcGVkGA0gASgEUg1ldmVudHNEcm9wcGVkEi0KEnJlY29ubmVjdF9hdHRlbXB0cxgOIAEoBFIRcmVjb25uZWN0QXR0ZW1wdHMSHgoKcmVjb25uZWN0cxgPIAEoBFIKcmVjb25uZWN0cxIxChRyZWNvbm5lY3RzX2FiYW5kb25lZBgQIAEoBFITcmVjb25uZWN0c0FiYW5kb25lZBI4Cg5yZWNvbm5lY3RfdGltZRgRIAEoCzIRLkxhdGVuY3lIaXN0b2dyYW1SDXJlY29ubmVjdFRpbWUSHwoLc2Nhbl9zdGFydHMYEiABKARSCnNjYW5TdGFydHMSMAoUc2Nhbl9zdGFydHNfZGVmZXJyZWQYEyABKARSEnNjYW5TdGFydHNEZWZlcnJlZBIhCgxnYXR0X2NsaWVudHMYFCABKARSC2dhdHRDbGllbnRzEioKEWdhdHRfY2xpZW50c19pZGxlGBUgASgEUg9nYXR0Q2xpZW50c0lkbGUSKgoRZ2F0dF9jbGllbnRzX3BlYWsYFiABKARSD2dhdHRDbGllbnRzUGVhaxIwChRnYXR0X2NsaWVudHNfZXZpY3RlZBgXIAEoBFISZ2F0dENsaWVudHNFdmljdGVkEikKEGV2ZW50c19jb25mbGF0ZWQYGCABKARSD2V2ZW50c0NvbmZsYXRlZBIoChB2YWx1ZV9jYWNoZV9oaXRzGBkgASgEUg52YWx1ZUNhY2hlSGl0cxIsChJ2YWx1ZV9jYWNoZV9taXNzZXMYGiABKARSEHZhbHVlQ2FjaGVNaXNzZXMSKQoQd3JpdGVzX2NvYWxlc2NlZBgbIAEoBFIPd3JpdGVzQ29hbGVzY2Vk');
+@$core.Deprecated('Use traceEventDescriptor instead')
+const TraceEvent$json = const {
+  '1': 'TraceEvent',
+  '2': const [
+    const {'1': 'timestamp_ns', '3': 1, '4': 1, '5': 4, '10': 'timestampNs'},
+    const {'1': 'type', '3': 2, '4': 1, '5': 14, '6': '.TraceEvent.Type', '10': 'type'},
+    const {'1': 'remote_id', '3': 3, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'uuid', '3': 4, '4': 1, '5': 9, '10': 'uuid'},
+    const {'1': 'status', '3': 5, '4': 1, '5': 5, '10': 'status'},
+    const {'1': 'value', '3': 6, '4': 1, '5': 5, '10': 'value'},
+  ],
+  '4': const [TraceEvent_Type$json],
+};
+
+@$core.Deprecated('Use traceEventDescriptor instead')
+const TraceEvent_Type$json = const {
+  '1': 'Type',
+  '2': const [
+    const {'1': 'UNKNOWN', '2': 0},
+    const {'1': 'CONNECTION_STATE_CHANGED', '2': 1},
+    const {'1': 'SERVICES_DISCOVERED', '2': 2},
+    const {'1': 'CHARACTERISTIC_READ', '2': 3},
+    const {'1': 'CHARACTERISTIC_WRITE', '2': 4},
+    const {'1': 'CHARACTERISTIC_CHANGED', '2': 5},
+    const {'1': 'DESCRIPTOR_READ', '2': 6},
+    const {'1': 'DESCRIPTOR_WRITE', '2': 7},
+    const {'1': 'RELIABLE_WRITE_COMPLETED', '2': 8},
+    const {'1': 'READ_REMOTE_RSSI', '2': 9},
+    const {'1': 'MTU_CHANGED', '2': 10},
+  ],
+};
+
+/// Descriptor for `TraceEvent`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List traceEventDescriptor = $convert.base64Decode('CgpUcmFjZUV2ZW50EiEKDHRpbWVzdGFtcF9ucxgBIAEoBFILdGltZXN0YW1wTnMSJAoEdHlwZRgCIAEoDjIQLlRyYWNlRXZlbnQuVHlwZVIEdHlwZRIbCglyZW1vdGVfaWQYAyABKAlSCHJlbW90ZUlkEhIKBHV1aWQYBCABKAlSBHV1aWQSFgoGc3RhdHVzGAUgASgFUgZzdGF0dXMSFAoFdmFsdWUYBiABKAVSBXZhbHVlIokCCgRUeXBlEgsKB1VOS05PV04QABIcChhDT05ORUNUSU9OX1NUQVRFX0NIQU5HRUQQARIXChNTRVJWSUNFU19ESVNDT1ZFUkVEEAISFwoTQ0hBUkFDVEVSSVNUSUNfUkVBRBADEhgKFENIQVJBQ1RFUklTVElDX1dSSVRFEAQSGgoWQ0hBUkFDVEVSSVNUSUNfQ0hBTkdFRBAFEhMKD0RFU0NSSVBUT1JfUkVBRBAGEhQKEERFU0NSSVBUT1JfV1JJVEUQBxIcChhSRUxJQUJMRV9XUklURV9DT01QTEVURUQQCBIUChBSRUFEX1JFTU9URV9SU1NJEAkSDwoLTVRVX0NIQU5HRUQQCg==');
+@$core.Deprecated('Use traceDumpDescriptor instead')
+const TraceDump$json = const {
+  '1': 'TraceDump',
+  '2': const [
+    const {'1': 'events', '3': 1, '4': 3, '5': 11, '6': '.TraceEvent', '10': 'events'},
+    const {'1': 'overwritten', '3': 2, '4': 1, '5': 4, '10': 'overwritten'},
+  ],
+};
+
+/// Descriptor for `TraceDump`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List traceDumpDescriptor = $convert.base64Decode('CglUcmFjZUR1bXASIwoGZXZlbnRzGAEgAygLMgsuVHJhY2VFdmVudFIGZXZlbnRzEiAKC292ZXJ3cml0dGVuGAIgASgEUgtvdmVyd3JpdHRlbg==');
@@ -31,7 +31,8 @@ class BluetoothCharacteristic {
 
   BluetoothCharacteristic.fromProto(protos.BluetoothCharacteristic p)
       : uuid = Guid(p.uuid),
-        deviceId = DeviceIdentifier(p.remoteId),
+        deviceId = DeviceIdentifier(
+            _remoteId(p.remoteId, p.remoteAddress.toInt())),
         serviceUuid = Guid(p.serviceUuid),
         secondaryServiceUuid = (p.secondaryServiceUuid.isNotEmpty)
             ? Guid(p.secondaryServiceUuid)
@@ -41,14 +42,13 @@ class BluetoothCharacteristic {
         properties = CharacteristicProperties.fromProto(p.properties),
         _value = BehaviorSubject.seeded(p.value);
 
+  String get _notificationKey => FlutterBluePlus._notificationKey(
+      deviceId.toString(), serviceUuid.toString(), uuid.toString());
+
   Stream<BluetoothCharacteristic> get _onCharacteristicChangedStream =>
-      FlutterBluePlus.instance._methodStream
-          .where((m) => m.method == "OnCharacteristicChanged")
-          .map((m) => m.arguments)
-          .map((buffer) => protos.OnCharacteristicChanged.fromBuffer(buffer))
-          .where((p) => p.remoteId == deviceId.toString())
+      FlutterBluePlus.instance
+          ._notificationsOf(_notificationKey)
           .map((p) => BluetoothCharacteristic.fromProto(p.characteristic))
-          .where((c) => c.uuid == uuid)
           .map((c) {
         // Update the characteristic with the new values
         _updateDescriptors(c.descriptors);
@@ -69,11 +69,16 @@ class BluetoothCharacteristic {
   }
 
   /// Retrieves the value of the characteristic
-  Future<List<int>> read() async {
+  ///
+  /// With [maxAge] the last value read or notified is returned instead if it
+  /// is at most that old, which saves a round trip for a characteristic that
+  /// is also notifying (Android only).
+  Future<List<int>> read({Duration? maxAge}) async {
     var request = protos.ReadCharacteristicRequest.create()
       ..remoteId = deviceId.toString()
       ..characteristicUuid = uuid.toString()
-      ..serviceUuid = serviceUuid.toString();
+      ..serviceUuid = serviceUuid.toString()
+      ..maxAgeMs = maxAge?.inMilliseconds ?? 0;
     FlutterBluePlus.instance._log(LogLevel.info,
         'remoteId: ${deviceId.toString()} characteristicUuid: ${uuid.toString()} serviceUuid: ${serviceUuid.toString()}');
 
@@ -101,7 +106,15 @@ class BluetoothCharacteristic {
   /// guaranteed and will return immediately with success.
   /// [CharacteristicWriteType.withResponse]: the method will return after the
   /// write operation has either passed or failed.
-  Future<Null> write(List<int> value, {bool withoutResponse = false}) async {
+  ///
+  /// With [coalesce], a write made while another coalescing write to the
+  /// device is in flight waits for it, and is replaced if a newer value for
+  /// the characteristic comes in meanwhile, so only the latest value is sent.
+  /// A write completes when its own value is acknowledged, or without
+  /// writing anything once a newer value has replaced it. Meant for state
+  /// like a slider position (Android only).
+  Future<Null> write(List<int> value,
+      {bool withoutResponse = false, bool coalesce = false}) async {
     final type = withoutResponse
         ? CharacteristicWriteType.withoutResponse
         : CharacteristicWriteType.withResponse;
@@ -112,7 +125,14 @@ class BluetoothCharacteristic {
       ..serviceUuid = serviceUuid.toString()
       ..writeType =
           protos.WriteCharacteristicRequest_WriteType.valueOf(type.index)!
-      ..value = value;
+      ..value = value
+      ..coalesce = coalesce;
+
+    // iOS does not coalesce, and its responses carry no write id.
+    if (coalesce && defaultTargetPlatform == TargetPlatform.android) {
+      request.writeId = _nextWriteId++;
+      return _writeCoalesced(request, type);
+    }
 
     var result = await FlutterBluePlus.instance._channel
         .invokeMethod('writeCharacteristic', request.writeToBuffer());
@@ -128,7 +148,8 @@ class BluetoothCharacteristic {
         .where((p) =>
             (p.request.remoteId == request.remoteId) &&
             (p.request.characteristicUuid == request.characteristicUuid) &&
-            (p.request.serviceUuid == request.serviceUuid))
+            (p.request.serviceUuid == request.serviceUuid) &&
+            (p.request.writeId == 0))
         .first
         .then((w) => w.success)
         .then((success) => (!success)
@@ -137,6 +158,41 @@ class BluetoothCharacteristic {
         .then((_) => null);
   }
 
+  static int _nextWriteId = 1;
+
+  /// A coalescing write is matched to its response by write id. It can be
+  /// answered, as superseded, before invokeMethod returns, so the response is
+  /// listened for first.
+  Future<Null> _writeCoalesced(protos.WriteCharacteristicRequest request,
+      CharacteristicWriteType type) async {
+    final response = Completer<protos.WriteCharacteristicResponse>();
+    final subscription = FlutterBluePlus.instance._methodStream
+        .where((m) => m.method == "WriteCharacteristicResponse")
+        .map((m) => protos.WriteCharacteristicResponse.fromBuffer(m.arguments))
+        .where((p) =>
+            (p.request.remoteId == request.remoteId) &&
+            (p.request.writeId == request.writeId))
+        .listen((p) {
+      if (!response.isCompleted) {
+        response.complete(p);
+      }
+    });
+    try {
+      await FlutterBluePlus.instance._channel
+          .invokeMethod('writeCharacteristic', request.writeToBuffer());
+      if (type == CharacteristicWriteType.withoutResponse) {
+        return null;
+      }
+      final p = await response.future;
+      if (!p.success && !p.superseded) {
+        throw Exception('Failed to write the characteristic');
+      }
+      return null;
+    } finally {
+      subscription.cancel();
+    }
+  }
+
   /// Sets notifications or indications for the value of a specified characteristic
   Future<bool> setNotifyValue(bool notify) async {
     var request = protos.SetNotificationRequest.create()
@@ -157,8 +213,16 @@ class BluetoothCharacteristic {
             (p.characteristic.uuid == request.characteristicUuid) &&
             (p.characteristic.serviceUuid == request.serviceUuid))
         .first
-        .then((p) => BluetoothCharacteristic.fromProto(p.characteristic))
-        .then((c) {
+        .then((p) {
+      if (notify && p.subscriptionId != 0) {
+        FlutterBluePlus.instance._subscriptions[p.subscriptionId] =
+            _notificationKey;
+      } else if (!notify) {
+        final key = _notificationKey;
+        FlutterBluePlus.instance._forgetSubscriptions((k) => k == key);
+      }
+      return BluetoothCharacteristic.fromProto(p.characteristic);
+    }).then((c) {
       _updateDescriptors(c.descriptors);
       return (c.isNotifying == notify);
     });
@@ -19,7 +19,8 @@ class BluetoothDescriptor {
 
   BluetoothDescriptor.fromProto(protos.BluetoothDescriptor p)
       : uuid = Guid(p.uuid),
-        deviceId = DeviceIdentifier(p.remoteId),
+        deviceId = DeviceIdentifier(
+            _remoteId(p.remoteId, p.remoteAddress.toInt())),
         serviceUuid = Guid(p.serviceUuid),
         characteristicUuid = Guid(p.characteristicUuid),
         _value = BehaviorSubject.seeded(p.value);
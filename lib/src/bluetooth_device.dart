@@ -10,7 +10,8 @@ class BluetoothDevice {
   final BluetoothDeviceType type;
 
   BluetoothDevice.fromProto(protos.BluetoothDevice p)
-      : id = DeviceIdentifier(p.remoteId),
+      : id = DeviceIdentifier(
+            _remoteId(p.remoteId, p.remoteAddress.toInt())),
         name = p.name,
         type = BluetoothDeviceType.values[p.type.value];
 
@@ -28,14 +29,28 @@ class BluetoothDevice {
   Stream<bool> get isDiscoveringServices => _isDiscoveringServices.stream;
 
   /// Establishes a connection to the Bluetooth Device.
+  ///
+  /// With a [reconnect] policy the plugin reconnects by itself when the link
+  /// drops, and restores the MTU and notifications afterwards (Android only).
+  /// [disconnect] stops it.
+  ///
+  /// With [restoreNotifications], a connect to a device whose link dropped
+  /// without a [disconnect] restores them too, as a policy reconnect would,
+  /// instead of leaving that to the app (Android only).
   Future<void> connect({
     Duration? timeout,
     bool autoConnect = true,
+    ReconnectPolicy? reconnect,
+    bool restoreNotifications = false,
   }) async {
     final completer = Completer<void>();
     var request = protos.ConnectRequest.create()
       ..remoteId = id.toString()
-      ..androidAutoConnect = autoConnect;
+      ..androidAutoConnect = autoConnect
+      ..restoreNotifications = restoreNotifications;
+    if (reconnect != null) {
+      request.reconnect = reconnect._toProto();
+    }
 
     Timer? timer;
     if (timeout != null) {
@@ -59,8 +74,12 @@ class BluetoothDevice {
   }
 
   /// Cancels connection to the Bluetooth Device
-  Future disconnect() => FlutterBluePlus.instance._channel
-      .invokeMethod('disconnect', id.toString());
+  Future disconnect() {
+    final prefix = '$id/';
+    FlutterBluePlus.instance._forgetSubscriptions((k) => k.startsWith(prefix));
+    return FlutterBluePlus.instance._channel
+        .invokeMethod('disconnect', id.toString());
+  }
 
   final BehaviorSubject<List<BluetoothService>> _services =
       BehaviorSubject.seeded([]);
@@ -135,6 +154,21 @@ class BluetoothDevice {
         .map((p) => p.mtu);
   }
 
+  /// Emits once each time the plugin has re-enabled this device's
+  /// notifications and indications after a reconnect (Android only).
+  ///
+  /// Reconnects made by a [ReconnectPolicy] restore them, and so does a
+  /// [connect] with `restoreNotifications: true`; then there is no need to
+  /// call [BluetoothCharacteristic.setNotifyValue] again. After any other
+  /// [connect], the app sets them up itself as before.
+  Stream<NotificationsRestored> get onNotificationsRestored =>
+      FlutterBluePlus.instance._methodStream
+          .where((m) => m.method == "NotificationsRestored")
+          .map((m) => m.arguments)
+          .map((buffer) => protos.NotificationsRestored.fromBuffer(buffer))
+          .where((p) => p.remoteId == id.toString())
+          .map((p) => NotificationsRestored.fromProto(p));
+
   /// Request to change the MTU Size
   /// Throws error if request did not complete successfully
   /// Request to change the MTU Size and returns the response back
@@ -206,6 +240,62 @@ class BluetoothDevice {
   }
 }
 
+/// How the plugin reconnects a device whose link dropped (Android only).
+///
+/// Attempt n waits a random time between half and all of
+/// `min(maxDelay, initialDelay * 2^n)`. The first [autoConnectAfter] attempts
+/// are direct connects, later ones leave it to the controller's background
+/// autoConnect. [maxAttempts] of 0 retries until [BluetoothDevice.disconnect].
+class ReconnectPolicy {
+  final Duration initialDelay;
+  final Duration maxDelay;
+  final int maxAttempts;
+  final int autoConnectAfter;
+
+  const ReconnectPolicy({
+    this.initialDelay = const Duration(seconds: 1),
+    this.maxDelay = const Duration(minutes: 1),
+    this.maxAttempts = 0,
+    this.autoConnectAfter = 3,
+  });
+
+  protos.ReconnectPolicy _toProto() => protos.ReconnectPolicy.create()
+    ..enabled = true
+    ..initialDelayMs = initialDelay.inMilliseconds
+    ..maxDelayMs = maxDelay.inMilliseconds
+    ..maxAttempts = maxAttempts
+    ..autoConnectAfter = autoConnectAfter;
+
+  @override
+  String toString() {
+    return 'ReconnectPolicy{initialDelay: $initialDelay, maxDelay: $maxDelay, maxAttempts: $maxAttempts, autoConnectAfter: $autoConnectAfter}';
+  }
+}
+
+/// Outcome of re-enabling a device's notifications after a reconnect.
+class NotificationsRestored {
+  final DeviceIdentifier deviceId;
+
+  /// The characteristics whose notifications are on again.
+  final List<BluetoothCharacteristic> restored;
+
+  /// The characteristics that could not be found again, or whose CCCD write
+  /// failed.
+  final List<Guid> failed;
+
+  NotificationsRestored.fromProto(protos.NotificationsRestored p)
+      : deviceId = DeviceIdentifier(p.remoteId),
+        restored = p.restored
+            .map((c) => BluetoothCharacteristic.fromProto(c))
+            .toList(),
+        failed = p.failed.map((r) => Guid(r.characteristicUuid)).toList();
+
+  @override
+  String toString() {
+    return 'NotificationsRestored{deviceId: $deviceId, restored: ${restored.map((c) => c.uuid).toList()}, failed: $failed}';
+  }
+}
+
 enum BluetoothDeviceType { unknown, classic, le, dual }
 
 enum BluetoothDeviceState { disconnected, connecting, connected, disconnecting }
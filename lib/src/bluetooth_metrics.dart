@@ -0,0 +1,130 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of flutter_blue_plus;
+
+/// Snapshot of the native plugin's counters (Android only).
+///
+/// Rates are measured over [interval], the time since the previous call to
+/// [FlutterBluePlus.getMetrics].
+class BluetoothMetrics {
+  final Duration uptime;
+  final Duration interval;
+  final int scanResults;
+  final double scanResultsPerSecond;
+  final int scanResultsDroppedDuplicate;
+  final int scanResultsDroppedFilter;
+  final int scanStarts;
+  final int scanStartsDeferred;
+  final Map<String, LatencyHistogram> gattLatencies;
+  final List<NotificationRate> notificationRates;
+  final LatencyHistogram dispatchLag;
+  final int channelMessages;
+  final int channelBytes;
+  final int eventBatches;
+  final int eventsDropped;
+  final int eventsConflated;
+  final int reconnectAttempts;
+  final int reconnects;
+  final int reconnectsAbandoned;
+  final LatencyHistogram reconnectTime;
+
+  /// GATT clients open now, of the about 30 Android allows per app. Idle ones
+  /// belong to disconnected devices and are closed first when slots run short.
+  final int gattClients;
+  final int gattClientsIdle;
+  final int gattClientsPeak;
+  final int gattClientsEvicted;
+
+  /// Reads with a maxAge answered from the native value cache, and those that
+  /// went to the peripheral.
+  final int valueCacheHits;
+  final int valueCacheMisses;
+
+  /// Coalescing writes replaced by a newer value before they were sent, see
+  /// [BluetoothCharacteristic.write].
+  final int writesCoalesced;
+
+  BluetoothMetrics.fromProto(protos.MetricsSnapshot p)
+      : uptime = Duration(milliseconds: p.uptimeMs.toInt()),
+        interval = Duration(milliseconds: p.intervalMs.toInt()),
+        scanResults = p.scanResults.toInt(),
+        scanResultsPerSecond = p.scanResultsPerSecond,
+        scanResultsDroppedDuplicate = p.scanResultsDroppedDuplicate.toInt(),
+        scanResultsDroppedFilter = p.scanResultsDroppedFilter.toInt(),
+        scanStarts = p.scanStarts.toInt(),
+        scanStartsDeferred = p.scanStartsDeferred.toInt(),
+        gattLatencies = {
+          for (var l in p.gattLatencies)
+            l.operation: LatencyHistogram.fromProto(l.latency)
+        },
+        notificationRates = p.notificationRates
+            .map((n) => NotificationRate.fromProto(n))
+            .toList(),
+        dispatchLag = LatencyHistogram.fromProto(p.dispatchLag),
+        channelMessages = p.channelMessages.toInt(),
+        channelBytes = p.channelBytes.toInt(),
+        eventBatches = p.eventBatches.toInt(),
+        eventsDropped = p.eventsDropped.toInt(),
+        eventsConflated = p.eventsConflated.toInt(),
+        reconnectAttempts = p.reconnectAttempts.toInt(),
+        reconnects = p.reconnects.toInt(),
+        reconnectsAbandoned = p.reconnectsAbandoned.toInt(),
+        reconnectTime = LatencyHistogram.fromProto(p.reconnectTime),
+        gattClients = p.gattClients.toInt(),
+        gattClientsIdle = p.gattClientsIdle.toInt(),
+        gattClientsPeak = p.gattClientsPeak.toInt(),
+        gattClientsEvicted = p.gattClientsEvicted.toInt(),
+        valueCacheHits = p.valueCacheHits.toInt(),
+        valueCacheMisses = p.valueCacheMisses.toInt(),
+        writesCoalesced = p.writesCoalesced.toInt();
+
+  @override
+  String toString() {
+    return 'BluetoothMetrics{uptime: $uptime, interval: $interval, scanResults: $scanResults, scanResultsPerSecond: $scanResultsPerSecond, scanResultsDroppedDuplicate: $scanResultsDroppedDuplicate, scanResultsDroppedFilter: $scanResultsDroppedFilter, scanStarts: $scanStarts, scanStartsDeferred: $scanStartsDeferred, gattLatencies: $gattLatencies, notificationRates: $notificationRates, dispatchLag: $dispatchLag, channelMessages: $channelMessages, channelBytes: $channelBytes, eventBatches: $eventBatches, eventsDropped: $eventsDropped, eventsConflated: $eventsConflated, reconnectAttempts: $reconnectAttempts, reconnects: $reconnects, reconnectsAbandoned: $reconnectsAbandoned, reconnectTime: $reconnectTime, gattClients: $gattClients, gattClientsIdle: $gattClientsIdle, gattClientsPeak: $gattClientsPeak, gattClientsEvicted: $gattClientsEvicted, valueCacheHits: $valueCacheHits, valueCacheMisses: $valueCacheMisses, writesCoalesced: $writesCoalesced}';
+  }
+}
+
+/// Latency distribution; percentiles are accurate to about 6%.
+class LatencyHistogram {
+  final int count;
+  final Duration p50;
+  final Duration p90;
+  final Duration p99;
+  final Duration max;
+  final double meanMicros;
+
+  LatencyHistogram.fromProto(protos.LatencyHistogram p)
+      : count = p.count.toInt(),
+        p50 = Duration(microseconds: p.p50Us.toInt()),
+        p90 = Duration(microseconds: p.p90Us.toInt()),
+        p99 = Duration(microseconds: p.p99Us.toInt()),
+        max = Duration(microseconds: p.maxUs.toInt()),
+        meanMicros = p.meanUs;
+
+  @override
+  String toString() {
+    return 'LatencyHistogram{count: $count, p50: $p50, p90: $p90, p99: $p99, max: $max, meanMicros: $meanMicros}';
+  }
+}
+
+class NotificationRate {
+  final DeviceIdentifier deviceId;
+  final Guid serviceUuid;
+  final Guid characteristicUuid;
+  final int count;
+  final double perSecond;
+
+  NotificationRate.fromProto(protos.NotificationRate p)
+      : deviceId = DeviceIdentifier(p.remoteId),
+        serviceUuid = Guid(p.serviceUuid),
+        characteristicUuid = Guid(p.characteristicUuid),
+        count = p.count.toInt(),
+        perSecond = p.perSecond;
+
+  @override
+  String toString() {
+    return 'NotificationRate{deviceId: $deviceId, serviceUuid: $serviceUuid, characteristicUuid: $characteristicUuid, count: $count, perSecond: $perSecond}';
+  }
+}
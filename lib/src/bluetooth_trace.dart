@@ -0,0 +1,47 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of flutter_blue_plus;
+
+/// Kinds of native callback recorded by the trace log.
+enum TraceEventType {
+  unknown,
+  connectionStateChanged,
+  servicesDiscovered,
+  characteristicRead,
+  characteristicWrite,
+  characteristicChanged,
+  descriptorRead,
+  descriptorWrite,
+  reliableWriteCompleted,
+  readRemoteRssi,
+  mtuChanged,
+}
+
+/// One entry of the native trace log (Android only).
+///
+/// [value] depends on [type]: the new state for [TraceEventType.connectionStateChanged],
+/// the payload length for [TraceEventType.characteristicChanged], the rssi for
+/// [TraceEventType.readRemoteRssi] and the mtu for [TraceEventType.mtuChanged].
+class TraceEvent {
+  final Duration timestamp;
+  final TraceEventType type;
+  final DeviceIdentifier deviceId;
+  final Guid? uuid;
+  final int status;
+  final int value;
+
+  TraceEvent.fromProto(protos.TraceEvent p)
+      : timestamp = Duration(microseconds: p.timestampNs.toInt() ~/ 1000),
+        type = TraceEventType.values[p.type.value],
+        deviceId = DeviceIdentifier(p.remoteId),
+        uuid = p.uuid.isNotEmpty ? Guid(p.uuid) : null,
+        status = p.status,
+        value = p.value;
+
+  @override
+  String toString() {
+    return 'TraceEvent{timestamp: $timestamp, type: $type, deviceId: $deviceId, uuid: $uuid, status: $status, value: $value}';
+  }
+}
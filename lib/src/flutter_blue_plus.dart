@@ -9,20 +9,138 @@ class FlutterBluePlus {
       const MethodChannel('flutter_blue_plus/methods');
   final EventChannel _stateChannel =
       const EventChannel('flutter_blue_plus/state');
+  final BasicMessageChannel<ByteData?> _eventChannel =
+      const BasicMessageChannel('flutter_blue_plus/events', BinaryCodec());
   final StreamController<MethodCall> _methodStreamController =
       StreamController.broadcast(); // ignore: close_sinks
   Stream<MethodCall> get _methodStream => _methodStreamController
       .stream; // Used internally to dispatch methods from platform.
 
+  /// Notifications by characteristic, see [_routeNotification]. Only the
+  /// characteristics someone listens to have a controller.
+  final Map<String, StreamController<protos.OnCharacteristicChanged>>
+      _notifications = {};
+
+  /// Subscription ids from SetNotificationResponse, to their notification key.
+  final Map<int, String> _subscriptions = {};
+
   /// Singleton boilerplate
   FlutterBluePlus._() {
     _channel.setMethodCallHandler((MethodCall call) async {
-      _methodStreamController.add(call);
+      _dispatch(call);
     });
+    _pullEvents();
 
     setLogLevel(logLevel);
   }
 
+  static const List<String> _eventMethods = [
+    'ScanResult',
+    'OnCharacteristicChanged',
+  ];
+
+  /// Per [EventStream], see [setEventFlowControl]. 0 means no limit.
+  final List<int> _eventBatchLimits = [0, 0];
+
+  /// Pulls batches of scan results and notifications from the platform's
+  /// bulk event channel and dispatches them like method calls.
+  ///
+  /// Each pull sends the platform [_eventBatchLimits], the most events per
+  /// stream it may put in the batch. Each batch is a sequence of
+  /// [u8 type][u32 little-endian length][payload] records. Platforms without the channel reply with null, which ends the
+  /// loop; their events keep arriving on the method channel.
+  ///
+  /// A failed pull is logged and retried after a short pause, and an event
+  /// that fails to dispatch is logged and skipped, so one bad message does
+  /// not stop the events for good.
+  Future<void> _pullEvents() async {
+    while (true) {
+      final limits = ByteData(4 * _eventBatchLimits.length);
+      for (var i = 0; i < _eventBatchLimits.length; i++) {
+        limits.setUint32(4 * i, _eventBatchLimits[i], Endian.little);
+      }
+      ByteData? batch;
+      try {
+        batch = await _eventChannel.send(limits);
+      } catch (e) {
+        _log(LogLevel.error, 'bulk event pull failed: $e');
+        await Future.delayed(const Duration(milliseconds: 100));
+        continue;
+      }
+      if (batch == null) {
+        return;
+      }
+      var offset = 0;
+      while (offset + 5 <= batch.lengthInBytes) {
+        final type = batch.getUint8(offset);
+        final length = batch.getUint32(offset + 1, Endian.little);
+        if (offset + 5 + length > batch.lengthInBytes) {
+          _log(LogLevel.error,
+              'bulk event batch truncated at $offset of ${batch.lengthInBytes} bytes');
+          break;
+        }
+        final payload = batch.buffer
+            .asUint8List(batch.offsetInBytes + offset + 5, length);
+        offset += 5 + length;
+        if (type < _eventMethods.length) {
+          try {
+            _dispatch(MethodCall(_eventMethods[type], payload));
+          } catch (e) {
+            _log(LogLevel.error, 'dropped ${_eventMethods[type]} event: $e');
+          }
+        }
+      }
+    }
+  }
+
+  void _dispatch(MethodCall call) {
+    if (call.method == 'OnCharacteristicChanged') {
+      _routeNotification(call.arguments);
+    } else {
+      _methodStreamController.add(call);
+    }
+  }
+
+  static String _notificationKey(
+          String remoteId, String serviceUuid, String characteristicUuid) =>
+      '$remoteId/$serviceUuid/$characteristicUuid';
+
+  /// The controller is made by the first listener and dropped with the last,
+  /// so [_notifications] does not keep one for every characteristic ever
+  /// asked for.
+  Stream<protos.OnCharacteristicChanged> _notificationsOf(String key) =>
+      Rx.defer(
+          () => _notifications.putIfAbsent(key, () {
+                late final StreamController<protos.OnCharacteristicChanged>
+                    controller;
+                controller = StreamController.broadcast(onCancel: () {
+                  if (_notifications[key] == controller) {
+                    _notifications.remove(key);
+                  }
+                  controller.close();
+                });
+                return controller;
+              }).stream,
+          reusable: true);
+
+  /// Drops the subscription ids whose notification key matches [test], once
+  /// their notifications are turned off or their device disconnected.
+  void _forgetSubscriptions(bool Function(String key) test) =>
+      _subscriptions.removeWhere((_, key) => test(key));
+
+  /// Decodes a notification once and hands it to the listeners of its
+  /// characteristic only. Android tags it with the subscription id
+  /// setNotification assigned; untagged ones are matched by their ids.
+  void _routeNotification(Uint8List buffer) {
+    final p = protos.OnCharacteristicChanged.fromBuffer(buffer);
+    final key = _subscriptions[p.subscriptionId] ??
+        _notificationKey(
+            _remoteId(p.remoteId, p.remoteAddress.toInt()),
+            Guid(p.characteristic.serviceUuid).toString(),
+            Guid(p.characteristic.uuid).toString());
+    _notifications[key]?.add(p);
+  }
+
   static final FlutterBluePlus _instance = FlutterBluePlus._();
   static FlutterBluePlus get instance => _instance;
 
@@ -76,6 +194,11 @@ class FlutterBluePlus {
 
   final PublishSubject _stopScanPill = PublishSubject();
 
+  // Scan sessions that have not finished yet. On Android they share one
+  // hardware scan, and each result names the sessions it is for.
+  final Set<int> _scanSessions = {};
+  int _nextScanSession = 1;
+
   /// Gets the current state of the Bluetooth module
   Stream<BluetoothState> get state async* {
     yield await _channel
@@ -107,6 +230,20 @@ class FlutterBluePlus {
         .then((p) => p.map((d) => BluetoothDevice.fromProto(d)).toList());
   }
 
+  /// Every device seen in a scan or connected to since the plugin started,
+  /// most recently seen first, with when that was (Android only)
+  ///
+  /// The plugin remembers the 1024 most recently seen devices.
+  Future<List<KnownDevice>> get knownDeviceDetails {
+    return _channel
+        .invokeMethod('getKnownDevices')
+        .then((buffer) => protos.ConnectedDevicesResponse.fromBuffer(buffer))
+        .then((p) => [
+              for (var i = 0; i < p.known.length; i++)
+                KnownDevice.fromProto(p.devices[i], p.known[i])
+            ]);
+  }
+
   /// Retrieve a list of bonded devices (Android only)
   Future<List<BluetoothDevice>> get bondedDevices {
     return _channel
@@ -116,39 +253,167 @@ class FlutterBluePlus {
         .then((p) => p.map((d) => BluetoothDevice.fromProto(d)).toList());
   }
 
+  /// Bounds what the platform queues for [stream] while Dart is busy
+  /// (Android only).
+  ///
+  /// At most [capacity] events, of at most [maxBytes] in all, are queued;
+  /// past that [overflow] decides which go. Each batch Dart takes holds at
+  /// most [maxBatch] of the stream's events, 0 for all queued, which bounds
+  /// the work of a single batch; the rest wait for the next one. Dropped and
+  /// conflated events are counted in [BluetoothMetrics].
+  Future<void> setEventFlowControl(
+    EventStream stream, {
+    EventOverflow overflow = EventOverflow.dropOldest,
+    int capacity = 8192,
+    int maxBytes = 1 << 20,
+    int maxBatch = 0,
+  }) async {
+    _eventBatchLimits[stream.index] = maxBatch;
+    var request = protos.EventFlowControl.create()
+      ..stream = stream.index
+      ..overflow = protos.EventFlowControl_Overflow.valueOf(overflow.index)!
+      ..capacity = capacity
+      ..maxBytes = maxBytes;
+    await _channel.invokeMethod('setEventFlowControl', request.writeToBuffer());
+  }
+
+  /// Issues [commands] in one platform call (Android only).
+  ///
+  /// The commands of a device run in the given order, each once the one
+  /// before has completed; those of different devices run side by side. The
+  /// results say whether each command could be issued, in the order given.
+  /// Values read by the batch update the characteristics and descriptors
+  /// as [BluetoothCharacteristic.read] does, before the returned future
+  /// completes; other outcomes arrive as they do for the single calls.
+  ///
+  /// A command whose operation has not completed within [timeout] (10
+  /// seconds by default) fails, and so do the later commands of its device.
+  Future<List<BatchResult>> executeBatch(List<BatchCommand> commands,
+      {Duration? timeout}) async {
+    // The reads' responses can arrive ahead of the reply, so listen from the start
+    final reads = [
+      for (var c in commands)
+        if (c._characteristic != null || c._descriptor != null) c
+    ];
+    final sub = _methodStream.listen((m) {
+      if (m.method == "ReadCharacteristicResponse") {
+        final p = protos.ReadCharacteristicResponse.fromBuffer(m.arguments);
+        final r = p.characteristic;
+        for (var c in reads) {
+          final req = c._proto.readCharacteristic;
+          if (c._characteristic != null &&
+              !c._read.isCompleted &&
+              p.remoteId == req.remoteId &&
+              r.uuid == req.characteristicUuid &&
+              r.serviceUuid == req.serviceUuid) {
+            c._characteristic!._value.add(r.value);
+            c._read.complete();
+            break;
+          }
+        }
+      } else if (m.method == "ReadDescriptorResponse") {
+        final p = protos.ReadDescriptorResponse.fromBuffer(m.arguments);
+        final r = p.request;
+        for (var c in reads) {
+          final req = c._proto.readDescriptor;
+          if (c._descriptor != null &&
+              !c._read.isCompleted &&
+              r.remoteId == req.remoteId &&
+              r.descriptorUuid == req.descriptorUuid &&
+              r.characteristicUuid == req.characteristicUuid &&
+              r.serviceUuid == req.serviceUuid) {
+            c._descriptor!._value.add(p.value);
+            c._read.complete();
+            break;
+          }
+        }
+      }
+    });
+    try {
+      var request = protos.BatchRequest.create()
+        ..commands.addAll(commands.map((c) => c._proto))
+        ..timeoutMs = timeout?.inMilliseconds ?? 0;
+      final results = await _channel
+          .invokeMethod('executeBatch', request.writeToBuffer())
+          .then((buffer) => protos.BatchResponse.fromBuffer(buffer))
+          .then((p) => p.results.map((r) => BatchResult._fromProto(r)).toList());
+      await Future.wait([
+        for (var i = 0; i < commands.length; i++)
+          if (results[i].success && reads.contains(commands[i]))
+            commands[i]._read.future
+      ]);
+      return results;
+    } finally {
+      await sub.cancel();
+    }
+  }
+
+  /// Reads the native plugin's counters and latency histograms (Android only)
+  Future<BluetoothMetrics> getMetrics() {
+    return _channel
+        .invokeMethod('getMetrics')
+        .then((buffer) => protos.MetricsSnapshot.fromBuffer(buffer))
+        .then((p) => BluetoothMetrics.fromProto(p));
+  }
+
   /// Starts a scan for Bluetooth Low Energy devices and returns a stream
   /// of the [ScanResult] results as they are received.
   ///
   /// timeout calls stopStream after a specified [Duration].
   /// You can also get a list of ongoing results in the [scanResults] stream.
-  /// If scanning is already in progress, this will throw an [Exception].
+  ///
+  /// On Android scans can overlap: each one gets the results matching its own
+  /// [withServices] and [allowDuplicates], and the plugin runs a single
+  /// hardware scan for all of them, restarting it no more often than Android
+  /// allows. Elsewhere, if scanning is already in progress, this will throw
+  /// an [Exception].
+  ///
+  /// A [dutyCycle] scans in windows with pauses in between, to save power on
+  /// long running scans (Android only). [androidOptions] enables extended
+  /// advertising and the controller's own match filtering.
   Stream<ScanResult> scan({
     ScanMode scanMode = ScanMode.lowLatency,
     List<Guid> withServices = const [],
     List<Guid> withDevices = const [],
     Duration? timeout,
     bool allowDuplicates = false,
+    DutyCycle? dutyCycle,
+    AndroidScanOptions androidOptions = const AndroidScanOptions(),
   }) async* {
+    final session = _nextScanSession++;
     var settings = protos.ScanSettings.create()
       ..androidScanMode = scanMode.value
       ..allowDuplicates = allowDuplicates
-      ..serviceUuids.addAll(withServices.map((g) => g.toString()).toList());
+      ..serviceUuids.addAll(withServices.map((g) => g.toString()).toList())
+      ..sessionId = session
+      ..androidExtended = !androidOptions.legacy
+      ..androidPhy = androidOptions.phy.value
+      ..androidMatchMode = androidOptions.matchMode.value
+      ..androidNumOfMatches = androidOptions.numOfMatches.value
+      ..androidCallbackType = androidOptions.callbackType.value;
+    if (dutyCycle != null) {
+      settings.dutyCycle = dutyCycle._toProto();
+    }
 
-    if (_isScanning.value == true) {
+    if (_isScanning.value == true &&
+        defaultTargetPlatform != TargetPlatform.android) {
       throw Exception('Another scan is already in progress.');
     }
 
-    // Emit to isScanning
-    _isScanning.add(true);
-
     final killStreams = <Stream>[];
     killStreams.add(_stopScanPill);
     if (timeout != null) {
       killStreams.add(Rx.timer(null, timeout));
     }
 
-    // Clear scan results list
-    _scanResults.add(<ScanResult>[]);
+    // Clear scan results list, unless other scans are still filling it
+    if (_scanSessions.isEmpty) {
+      _scanResults.add(<ScanResult>[]);
+    }
+
+    // Emit to isScanning
+    _scanSessions.add(session);
+    _isScanning.add(true);
 
     try {
       await _channel.invokeMethod('startScan', settings.writeToBuffer());
@@ -156,8 +421,7 @@ class FlutterBluePlus {
       if (kDebugMode) {
         print('Error starting scan.');
       }
-      _stopScanPill.add(null);
-      _isScanning.add(false);
+      _endScanSession(session);
       rethrow;
     }
 
@@ -165,8 +429,9 @@ class FlutterBluePlus {
         .where((m) => m.method == "ScanResult")
         .map((m) => m.arguments)
         .takeUntil(Rx.merge(killStreams))
-        .doOnDone(stopScan)
+        .doOnDone(() => _stopScanSession(session))
         .map((buffer) => protos.ScanResult.fromBuffer(buffer))
+        .where((p) => p.sessionIds.isEmpty || p.sessionIds.contains(session))
         .map((p) {
       final result = ScanResult.fromProto(p);
       final list = _scanResults.value;
@@ -195,24 +460,44 @@ class FlutterBluePlus {
     List<Guid> withDevices = const [],
     Duration? timeout,
     bool allowDuplicates = false,
+    DutyCycle? dutyCycle,
+    AndroidScanOptions androidOptions = const AndroidScanOptions(),
   }) async {
     await scan(
             scanMode: scanMode,
             withServices: withServices,
             withDevices: withDevices,
             timeout: timeout,
-            allowDuplicates: allowDuplicates)
+            allowDuplicates: allowDuplicates,
+            dutyCycle: dutyCycle,
+            androidOptions: androidOptions)
         .drain();
     return _scanResults.value;
   }
 
-  /// Stops a scan for Bluetooth Low Energy devices
+  /// Stops all scans for Bluetooth Low Energy devices
   Future stopScan() async {
     await _channel.invokeMethod('stopScan');
     _stopScanPill.add(null);
+    _scanSessions.clear();
     _isScanning.add(false);
   }
 
+  Future _stopScanSession(int session) async {
+    if (!_scanSessions.contains(session)) {
+      return;
+    }
+    _endScanSession(session);
+    await _channel.invokeMethod('stopScan', session);
+  }
+
+  void _endScanSession(int session) {
+    _scanSessions.remove(session);
+    if (_scanSessions.isEmpty) {
+      _isScanning.add(false);
+    }
+  }
+
   /// The list of connected peripherals can include those that are connected
   /// by other apps and that will need to be connected locally using the
   /// device.connect() method before they can be used.
@@ -229,6 +514,34 @@ class FlutterBluePlus {
     _logLevel = level;
   }
 
+  /// Turns native tracing on or off (Android only).
+  ///
+  /// While enabled, the most recent GATT callbacks are kept in a fixed-size
+  /// ring buffer that can be read with [dumpTrace], and operations are
+  /// timestamped for [exportTrace]. Turning it off discards both buffers.
+  Future<void> setTraceEnabled(bool enabled) async {
+    await _channel.invokeMethod('setTraceEnabled', enabled);
+  }
+
+  /// Returns the recent operation timings as Chrome trace-event JSON
+  /// (Android only), ready to open in chrome://tracing or ui.perfetto.dev.
+  ///
+  /// Each operation is split into the time spent issuing the request, in the
+  /// Android Bluetooth stack, encoding the result and waiting for the
+  /// platform thread to send it over the channel.
+  Future<String> exportTrace() {
+    return _channel.invokeMethod('exportTrace').then<String>((d) => d);
+  }
+
+  /// Returns the events currently held by the native trace log, oldest first
+  /// (Android only).
+  Future<List<TraceEvent>> dumpTrace() {
+    return _channel
+        .invokeMethod('dumpTrace')
+        .then((buffer) => protos.TraceDump.fromBuffer(buffer))
+        .then((p) => p.events.map((e) => TraceEvent.fromProto(e)).toList());
+  }
+
   void _log(LogLevel level, String message) {
     if (level.index <= _logLevel.index) {
       if (kDebugMode) {
@@ -270,6 +583,115 @@ class ScanMode {
   final int value;
 }
 
+/// Advanced Android scan settings, see android.bluetooth.le.ScanSettings.
+///
+/// Setting [legacy] to false also reports Bluetooth 5 extended advertisements,
+/// which carry up to 255 bytes, on Android 8+ where the controller supports
+/// them; [phy] then picks the PHYs to scan on. [matchMode], [numOfMatches] and
+/// [callbackType] (Android 6+) let the controller filter before results reach
+/// the app. [ScanCallbackType.firstMatch] and [ScanCallbackType.matchLost]
+/// need `withServices`; a lost device arrives as a result with
+/// [ScanResult.callbackType] set, so use them with `allowDuplicates`.
+class AndroidScanOptions {
+  final bool legacy;
+  final ScanPhy phy;
+  final MatchMode matchMode;
+  final NumOfMatches numOfMatches;
+  final ScanCallbackType callbackType;
+
+  const AndroidScanOptions({
+    this.legacy = true,
+    this.phy = ScanPhy.allSupported,
+    this.matchMode = MatchMode.aggressive,
+    this.numOfMatches = NumOfMatches.max,
+    this.callbackType = ScanCallbackType.allMatches,
+  });
+}
+
+// 0 leaves the Android default, which each class's default constant maps to.
+class ScanPhy {
+  const ScanPhy(this.value);
+  static const allSupported = ScanPhy(0);
+  static const le1m = ScanPhy(1);
+  static const leCoded = ScanPhy(3);
+  final int value;
+}
+
+class MatchMode {
+  const MatchMode(this.value);
+  static const aggressive = MatchMode(0);
+  static const sticky = MatchMode(2);
+  final int value;
+}
+
+class NumOfMatches {
+  const NumOfMatches(this.value);
+  static const one = NumOfMatches(1);
+  static const few = NumOfMatches(2);
+  static const max = NumOfMatches(0);
+  final int value;
+}
+
+class ScanCallbackType {
+  const ScanCallbackType(this.value);
+  static const allMatches = ScanCallbackType(0);
+  static const firstMatch = ScanCallbackType(2);
+  static const matchLost = ScanCallbackType(4);
+  static const firstMatchAndLost = ScanCallbackType(6);
+  final int value;
+}
+
+/// Scans for [scan], then pauses (Android only).
+///
+/// The pause adapts between [minPause] and [maxPause]: it halves after a
+/// window that found new devices and grows after a quiet one, so a device is
+/// found at most about [maxPause] + [scan] after it starts advertising. A
+/// full cycle takes at least 6 seconds, as Android allows no more than 5 scan
+/// starts per 30 seconds. If scans overlap, the duty cycle only applies while
+/// every one of them has one.
+class DutyCycle {
+  final Duration scan;
+  final Duration minPause;
+  final Duration maxPause;
+
+  const DutyCycle({
+    this.scan = const Duration(seconds: 4),
+    this.minPause = const Duration(seconds: 2),
+    this.maxPause = const Duration(seconds: 30),
+  });
+
+  protos.DutyCycle _toProto() => protos.DutyCycle.create()
+    ..scanMs = scan.inMilliseconds
+    ..minPauseMs = minPause.inMilliseconds
+    ..maxPauseMs = maxPause.inMilliseconds;
+
+  @override
+  String toString() {
+    return 'DutyCycle{scan: $scan, minPause: $minPause, maxPause: $maxPause}';
+  }
+}
+
+// Android sends scan results, notifications and the characteristics and
+// descriptors in them with the address packed into remote_address instead of
+// the remote_id string. Formats it back, the same way Android does.
+final Map<int, String> _remoteIds = {};
+
+String _remoteId(String remoteId, int remoteAddress) {
+  if (remoteId.isNotEmpty || remoteAddress == 0) {
+    return remoteId;
+  }
+  var id = _remoteIds[remoteAddress];
+  if (id == null) {
+    if (_remoteIds.length >= 1024) {
+      _remoteIds.clear();
+    }
+    final hex = remoteAddress.toRadixString(16).padLeft(12, '0').toUpperCase();
+    id = [for (var i = 0; i < 12; i += 2) hex.substring(i, i + 2)].join(':');
+    _remoteIds[remoteAddress] = id;
+  }
+  return id;
+}
+
 class DeviceIdentifier {
   final String id;
   const DeviceIdentifier(this.id);
@@ -285,16 +707,168 @@ class DeviceIdentifier {
       other is DeviceIdentifier && compareAsciiLowerCase(id, other.id) == 0;
 }
 
+/// The high volume event streams, see [FlutterBluePlus.setEventFlowControl].
+enum EventStream { scanResults, notifications }
+
+enum EventOverflow {
+  /// Drops the oldest queued event.
+  dropOldest,
+
+  /// Drops the new event.
+  buffer,
+
+  /// Keeps only the latest event per device (scan results) or characteristic
+  /// (notifications).
+  conflate,
+}
+
+enum BluetoothBondState { none, bonding, bonded }
+
+class KnownDevice {
+  final BluetoothDevice device;
+  final DateTime lastSeen;
+
+  /// Of the last scan result or readRssi, null if the device was only
+  /// connected to.
+  final int? rssi;
+  final BluetoothBondState bondState;
+
+  KnownDevice.fromProto(protos.BluetoothDevice d, protos.KnownDevice p)
+      : device = BluetoothDevice.fromProto(d),
+        lastSeen = DateTime.fromMillisecondsSinceEpoch(p.lastSeenMs.toInt()),
+        rssi = p.hasRssi() ? p.rssi.value : null,
+        bondState = _bondState(p.bondState);
+
+  // android.bluetooth.BluetoothDevice.BOND_NONE, BOND_BONDING and BOND_BONDED
+  static BluetoothBondState _bondState(int state) {
+    switch (state) {
+      case 11:
+        return BluetoothBondState.bonding;
+      case 12:
+        return BluetoothBondState.bonded;
+      default:
+        return BluetoothBondState.none;
+    }
+  }
+
+  @override
+  String toString() {
+    return 'KnownDevice{device: $device, lastSeen: $lastSeen, rssi: $rssi, bondState: $bondState}';
+  }
+}
+
+/// One operation of [FlutterBluePlus.executeBatch]. A command is for one
+/// batch; build a new one to issue it again.
+class BatchCommand {
+  final protos.BatchCommand _proto;
+  final BluetoothCharacteristic? _characteristic;
+  final BluetoothDescriptor? _descriptor;
+  final Completer<void> _read = Completer();
+
+  BatchCommand._(this._proto, [this._characteristic, this._descriptor]);
+
+  /// See [BluetoothCharacteristic.read] for [maxAge].
+  BatchCommand.read(BluetoothCharacteristic c, {Duration? maxAge})
+      : this._(
+            protos.BatchCommand(
+                readCharacteristic: protos.ReadCharacteristicRequest(
+                    remoteId: c.deviceId.toString(),
+                    characteristicUuid: c.uuid.toString(),
+                    serviceUuid: c.serviceUuid.toString(),
+                    maxAgeMs: maxAge?.inMilliseconds ?? 0)),
+            c);
+
+  BatchCommand.write(BluetoothCharacteristic c, List<int> value,
+      {bool withoutResponse = false})
+      : this._(protos.BatchCommand(
+            writeCharacteristic: protos.WriteCharacteristicRequest(
+                remoteId: c.deviceId.toString(),
+                characteristicUuid: c.uuid.toString(),
+                serviceUuid: c.serviceUuid.toString(),
+                writeType: withoutResponse
+                    ? protos.WriteCharacteristicRequest_WriteType.WITHOUT_RESPONSE
+                    : protos.WriteCharacteristicRequest_WriteType.WITH_RESPONSE,
+                value: value)));
+
+  BatchCommand.setNotifyValue(BluetoothCharacteristic c, bool notify)
+      : this._(protos.BatchCommand(
+            setNotification: protos.SetNotificationRequest(
+                remoteId: c.deviceId.toString(),
+                serviceUuid: c.serviceUuid.toString(),
+                characteristicUuid: c.uuid.toString(),
+                enable: notify)));
+
+  BatchCommand.readDescriptor(BluetoothDescriptor d)
+      : this._(
+            protos.BatchCommand(
+                readDescriptor: protos.ReadDescriptorRequest(
+                    remoteId: d.deviceId.toString(),
+                    descriptorUuid: d.uuid.toString(),
+                    characteristicUuid: d.characteristicUuid.toString(),
+                    serviceUuid: d.serviceUuid.toString())),
+            null,
+            d);
+
+  BatchCommand.writeDescriptor(BluetoothDescriptor d, List<int> value)
+      : this._(protos.BatchCommand(
+            writeDescriptor: protos.WriteDescriptorRequest(
+                remoteId: d.deviceId.toString(),
+                descriptorUuid: d.uuid.toString(),
+                characteristicUuid: d.characteristicUuid.toString(),
+                serviceUuid: d.serviceUuid.toString(),
+                value: value)));
+
+  BatchCommand.requestMtu(BluetoothDevice device, int mtu)
+      : this._(protos.BatchCommand(
+            requestMtu:
+                protos.MtuSizeRequest(remoteId: device.id.toString(), mtu: mtu)));
+
+  BatchCommand.discoverServices(BluetoothDevice device)
+      : this._(protos.BatchCommand(discoverServices: device.id.toString()));
+
+  BatchCommand.readRssi(BluetoothDevice device)
+      : this._(protos.BatchCommand(readRssi: device.id.toString()));
+
+  @override
+  String toString() {
+    return 'BatchCommand{${_proto.whichCommand()}}';
+  }
+}
+
+class BatchResult {
+  final bool success;
+
+  /// What the single call would have failed with, empty on success.
+  final String errorCode;
+  final String errorMessage;
+
+  BatchResult._fromProto(protos.BatchResult p)
+      : success = p.success,
+        errorCode = p.errorCode,
+        errorMessage = p.errorMessage;
+
+  @override
+  String toString() {
+    return 'BatchResult{success: $success, errorCode: $errorCode, errorMessage: $errorMessage}';
+  }
+}
+
 class ScanResult {
   ScanResult.fromProto(protos.ScanResult p)
       : device = BluetoothDevice.fromProto(p.device),
         advertisementData = AdvertisementData.fromProto(p.advertisementData),
-        rssi = p.rssi;
+        rssi = p.rssi,
+        callbackType = p.androidCallbackType != 0
+            ? ScanCallbackType(p.androidCallbackType)
+            : ScanCallbackType.allMatches;
 
   final BluetoothDevice device;
   final AdvertisementData advertisementData;
   final int rssi;
 
+  /// Why Android reported the result, see [AndroidScanOptions.callbackType].
+  final ScanCallbackType callbackType;
+
   @override
   bool operator ==(Object other) =>
       identical(this, other) ||
@@ -307,10 +881,12 @@ class ScanResult {
 
   @override
   String toString() {
-    return 'ScanResult{device: $device, advertisementData: $advertisementData, rssi: $rssi}';
+    return 'ScanResult{device: $device, advertisementData: $advertisementData, rssi: $rssi, callbackType: ${callbackType.value}}';
   }
 }
 
+enum AdvertisementParseError { none, truncated, badLength }
+
 class AdvertisementData {
   final String localName;
   final int? txPowerLevel;
@@ -319,6 +895,29 @@ class AdvertisementData {
   final Map<String, List<int>> serviceData;
   final List<String> serviceUuids;
 
+  /// Whether this was a Bluetooth 5 extended advertisement (Android 8+). The
+  /// fields below are only set for those.
+  final bool extended;
+  final int primaryPhy;
+  final int secondaryPhy;
+  final int advertisingSid;
+  final int periodicAdvertisingInterval;
+
+  /// True if the controller could not receive the whole advertisement.
+  final bool truncated;
+
+  /// GAP appearance value, 0 if not advertised.
+  final int appearance;
+
+  /// Advertised URI. The scheme is expanded for http and https; for the others
+  /// [uriScheme] holds the code from the Bluetooth URI scheme table.
+  final String uri;
+  final int uriScheme;
+
+  /// Set when the packet was malformed. The fields above hold what was parsed
+  /// before the bad structure.
+  final AdvertisementParseError parseError;
+
   AdvertisementData.fromProto(protos.AdvertisementData p)
       : localName = p.localName,
         txPowerLevel =
@@ -326,10 +925,20 @@ class AdvertisementData {
         connectable = p.connectable,
         manufacturerData = p.manufacturerData,
         serviceData = p.serviceData,
-        serviceUuids = p.serviceUuids;
+        serviceUuids = p.serviceUuids,
+        extended = p.extended,
+        primaryPhy = p.primaryPhy,
+        secondaryPhy = p.secondaryPhy,
+        advertisingSid = p.advertisingSid,
+        periodicAdvertisingInterval = p.periodicAdvertisingInterval,
+        truncated = p.dataStatus == 1,
+        appearance = p.appearance,
+        uri = p.uri,
+        uriScheme = p.uriScheme,
+        parseError = AdvertisementParseError.values[p.parseError.value];
 
   @override
   String toString() {
-    return 'AdvertisementData{localName: $localName, txPowerLevel: $txPowerLevel, connectable: $connectable, manufacturerData: $manufacturerData, serviceData: $serviceData, serviceUuids: $serviceUuids}';
+    return 'AdvertisementData{localName: $localName, txPowerLevel: $txPowerLevel, connectable: $connectable, manufacturerData: $manufacturerData, serviceData: $serviceData, serviceUuids: $serviceUuids, extended: $extended, primaryPhy: $primaryPhy, secondaryPhy: $secondaryPhy, advertisingSid: $advertisingSid, periodicAdvertisingInterval: $periodicAdvertisingInterval, truncated: $truncated, appearance: $appearance, uri: $uri, parseError: $parseError}';
   }
 }